@@ -3,6 +3,7 @@ package com.jayfella.jme.vehicle;
 import com.jayfella.jme.vehicle.part.Gear;
 import com.jayfella.jme.vehicle.part.GearBox;
 import com.jayfella.jme.vehicle.part.Wheel;
+import com.jayfella.jme.vehicle.profiling.Subsystem;
 import com.jme3.app.Application;
 import com.jme3.app.state.BaseAppState;
 import com.jme3.math.FastMath;
@@ -48,24 +49,29 @@ public class AutomaticGearboxState extends BaseAppState {
     @Override
     public void update(float tpf) {
 
+        // the revs of a parked car don't change, so there is nothing to do while it sleeps.
+        if (vehicle.isSleeping()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+
         // gearboxes speeds are in km/h.
 
         // limit the reported speed to the max speed.
         // if we don't do this and exceed the max speed of the gearbox, the revs return to zero.
         float speed = Math.min(vehicle.getSpeed(Vehicle.SpeedUnit.KMH), vehicle.getGearBox().getMaxSpeed(Vehicle.SpeedUnit.KMH));
 
-        float revs = 0;
-
-        for (int i = 0; i < gearBox.getGearCount(); i++) {
-            Gear gear = gearBox.getGear(i);
+        // the schedule is a table lookup with hysteresis, so the gear doesn't hunt at the edge of a band.
+        float throttle = Math.abs(vehicle.getAccelerationForce());
+        int gearNum = gearBox.getShiftSchedule().getGear(gearBox.getActiveGearNum(), speed, throttle);
+        gearBox.setActiveGearNum(gearNum);
 
-            if ( speed > gear.getStart() && speed <= gear.getEnd() ) {
-                gearBox.setActiveGearNum(i);
-
-                revs = unInterpolateLinear(speed, gear.getStart(), gear.getEnd());
-                break;
-            }
-        }
+        // the gear can be held below the start of its band, so the revs start from where it is held down to.
+        // measuring from the band start would read below zero revs there and cut the power and the engine sound.
+        Gear gear = gearBox.getGear(gearNum);
+        float lowestSpeed = gearBox.getShiftSchedule().getLowestSpeed(gearNum);
+        float revs = unInterpolateLinear(speed, lowestSpeed, gear.getEnd());
 
         // this should be "if has wheels" or something.
         // we need to calculate "slip" at the same time we calculate the revs.
@@ -73,6 +79,10 @@ public class AutomaticGearboxState extends BaseAppState {
         if (isCar) {
 
             float revIncrease = 0;
+            float drivenWheels = 0;
+
+            // the acceleration force of the accelerator pedal in 0-1 range.
+            float acceleration = car.getAccelerationForce();
 
             for (int i = 0; i < wheelCount; i++) {
 
@@ -84,36 +94,25 @@ public class AutomaticGearboxState extends BaseAppState {
                 // the acceleration force being applied to this wheel in 0-1 range.
                 float wheelforce = wheel.getAccelerationForce();
 
-                // the acceleration force of the accelerator pedal in 0-1 range.
-                float acceleration = car.getAccelerationForce();
-
                 // the amount of force being applied to this wheel as a result of acceleration.
                 float totalForce = acceleration * wheelforce;
 
                 // if the wheel is accelerating and slipping, increase the revs.
-                // find the range of the current revs vs the max revs.
-                float revsLeft = 1.0f - car.getEngine().getRevs();
-
-                // float revRange = unInterpolateLinear((totalForce * skid), revsLeft, 1.0f);
-                revIncrease = (totalForce * skid);
-
-                // if (revRange > revIncrease) {
-                    // revIncrease = revRange;
-                // }
-
+                revIncrease += (totalForce * skid);
+                drivenWheels += wheelforce;
             }
 
-            revs += revIncrease;
-
-            // System.out.println("revs: " + revs + " / " + revIncrease);
-            // we should probably figure out why it's exceeding 1.0 than clamp it.
-            revs = FastMath.clamp(revs, 0, 1);
-            vehicle.getEngine().setRevs(revs);
-
+            // average the increase over the driven wheels, so one wheel spinning raises the revs less than all of them.
+            if (drivenWheels > 0) {
+                revs += revIncrease / drivenWheels;
+            }
         }
 
+        // we should probably figure out why it's exceeding 1.0 than clamp it.
+        revs = FastMath.clamp(revs, 0, 1);
+        vehicle.getEngine().setRevs(revs);
 
-
+        vehicle.getProfiler().record(Subsystem.GEARBOX, start);
     }
 
     private float unInterpolateLinear(float value, float min, float max) {
@@ -157,7 +157,7 @@ public class BasicVehicleInputState extends BaseAppState implements StateFunctio
         if (turningLeft) {
             steeringForce = Math.min(steeringForce + (tpf * turnSpeed), maxSteerForce);
             // vehicle.getVehicleControl().steer(steeringValue);
-            vehicle.steer(steeringForce);
+            vehicle.getCommandQueue().steer(steeringForce);
         }
         else if (turningRight) {
             steeringForce = Math.max(steeringForce - (tpf * turnSpeed), -maxSteerForce);
@@ -177,7 +177,7 @@ public class BasicVehicleInputState extends BaseAppState implements StateFunctio
         }
         */
 
-        vehicle.steer(steeringForce);
+        vehicle.getCommandQueue().steer(steeringForce);
     }
 
 
@@ -186,38 +186,38 @@ public class BasicVehicleInputState extends BaseAppState implements StateFunctio
 
         // do braking first so it doesn't override engineBraking.
         if (braking) {
-            vehicle.brake(1);
+            vehicle.getCommandQueue().brake(1);
         }
         else {
-            vehicle.brake(0);
+            vehicle.getCommandQueue().brake(0);
         }
 
         if (accelerating) {
 
-            vehicle.removeEngineBraking();
+            vehicle.getCommandQueue().removeEngineBraking();
 
             if (vehicle.getSpeed(Vehicle.SpeedUnit.KMH) < vehicle.getGearBox().getMaxSpeed(Vehicle.SpeedUnit.KMH)) {
-                vehicle.accelerate(1);
+                vehicle.getCommandQueue().accelerate(1);
             }
             else {
-                vehicle.accelerate(0);
+                vehicle.getCommandQueue().accelerate(0);
             }
         }
         else {
             if (!braking) {
-                vehicle.applyEngineBraking();
+                vehicle.getCommandQueue().applyEngineBraking();
             }
 
-            vehicle.accelerate(0);
+            vehicle.getCommandQueue().accelerate(0);
         }
 
         if (reversing) {
 
             if (vehicle.getSpeed(Vehicle.SpeedUnit.KMH) > -40) {
-                vehicle.accelerate(-1);
+                vehicle.getCommandQueue().accelerate(-1);
             }
             else {
-                vehicle.accelerate(0);
+                vehicle.getCommandQueue().accelerate(0);
             }
 
         }
@@ -274,7 +274,7 @@ public class BasicVehicleInputState extends BaseAppState implements StateFunctio
                 // vehicle.setParkingBrakeApplied(!vehicle.isParkingBrakeApplied());
             // }
             // vehicle.setParkingBrakeApplied(pressed);
-            vehicle.handbrake(pressed ? 1 : 0);
+            vehicle.getCommandQueue().handbrake(pressed ? 1 : 0);
 
         }
 
@@ -1,8 +1,12 @@
 package com.jayfella.jme.vehicle;
 
+import com.jayfella.jme.vehicle.event.WheelEventMonitor;
 import com.jayfella.jme.vehicle.part.Brake;
+import com.jayfella.jme.vehicle.part.Drivetrain;
 import com.jayfella.jme.vehicle.part.Suspension;
 import com.jayfella.jme.vehicle.part.Wheel;
+import com.jayfella.jme.vehicle.part.WheelIntegrator;
+import com.jayfella.jme.vehicle.part.WheelLoadSensor;
 import com.jme3.app.Application;
 import com.jme3.bounding.BoundingBox;
 import com.jme3.bullet.objects.VehicleWheel;
@@ -20,6 +24,10 @@ public class Car extends Vehicle {
     private VehicleSkidMarks skidmarks;
     private WheelSpinState wheelSpinState;
     private MagicFormulaState magicFormulaState;
+    private WheelLoadSensor wheelLoadSensor;
+    private WheelIntegrator wheelIntegrator;
+    private Drivetrain drivetrain;
+    private WheelEventMonitor wheelEventMonitor;
 
     public Car(Application app, String name) {
         super(app, name);
@@ -33,6 +41,39 @@ public class Car extends Vehicle {
         return wheels.get(index);
     }
 
+    /**
+     * Measures the normal load on each wheel every physics tick.
+     * @return the wheel load sensor, or null if the car hasn't been built.
+     */
+    public WheelLoadSensor getWheelLoadSensor() {
+        return wheelLoadSensor;
+    }
+
+    /**
+     * The smoothed normal load on a wheel, measured from its suspension.
+     * @param index the index of the wheel.
+     * @return the load in newtons.
+     */
+    public float getWheelLoad(int index) {
+        return wheelLoadSensor.getLoad(index);
+    }
+
+    /**
+     * Delivers the engine output to the wheels every physics tick.
+     * @return the drivetrain, or null if the car hasn't been built.
+     */
+    public Drivetrain getDrivetrain() {
+        return drivetrain;
+    }
+
+    /**
+     * Publishes wheel contact and skid events to the event bus of this car.
+     * @return the wheel event monitor, or null if the car hasn't been built.
+     */
+    public WheelEventMonitor getWheelEventMonitor() {
+        return wheelEventMonitor;
+    }
+
     public Wheel addWheel(Spatial model, Vector3f connectionPoint, boolean isSteering, boolean steeringFlipped, Brake brake) {
 
         Vector3f direction = new Vector3f(0, -1, 0);
@@ -70,33 +111,6 @@ public class Car extends Vehicle {
         this.wheels.remove(index);
     }
 
-    @Override
-    public void accelerate(float strength) {
-        super.accelerate(strength);
-
-        if (getEngine().isStarted()) {
-            for (Wheel wheel : wheels) {
-                if (wheel.getAccelerationForce() > 0) {
-
-                    float power = (getEngine().getPowerOutputAtRevs() * strength);
-
-                    // so the faster we go, the less force the vehicle can apply.
-                    // this simulates making it harder to accelerate at higher speeds
-                    // realistically this makes it difficult to achieve the max speed.
-                    float speedRatio = 1.0f - (getSpeed(SpeedUnit.KMH) / getGearBox().getMaxSpeed(SpeedUnit.KMH));
-                    speedRatio = Math.max(0.25f, speedRatio);
-
-                    wheel.accelerate(power * speedRatio);
-                }
-                else {
-
-                    // we always set this because the wheel could be "broken down" over time.
-                    wheel.accelerate(0);
-                }
-            }
-        }
-    }
-
     @Override
     public void brake(float strength) {
 
@@ -119,6 +133,14 @@ public class Car extends Vehicle {
         }
     }
 
+    public TyreSmokeEmitter getSmokeEmitter() {
+        return smokeEmitter;
+    }
+
+    public VehicleSkidMarks getSkidMarks() {
+        return skidmarks;
+    }
+
     public void setTyreSmokeEnabled(boolean enabled) {
         this.smokeEmitter.setEnabled(enabled);
     }
@@ -156,6 +178,20 @@ public class Car extends Vehicle {
 
         this.magicFormulaState = new MagicFormulaState(this);
         this.wheelSpinState = new WheelSpinState(this);
+
+        // the wheels have all been added by now.
+        this.wheelLoadSensor = new WheelLoadSensor(getVehicleControl());
+        addTickListener(wheelLoadSensor);
+
+        // the throttle is applied by the drivetrain once per tick rather than every time it changes.
+        this.drivetrain = new Drivetrain(this);
+        addTickListener(drivetrain);
+
+        this.wheelIntegrator = new WheelIntegrator(wheels);
+        addTickListener(wheelIntegrator);
+
+        this.wheelEventMonitor = new WheelEventMonitor(getVehicleControl(), getEventBus());
+        addTickListener(wheelEventMonitor);
     }
 
     @Override
@@ -166,6 +202,13 @@ public class Car extends Vehicle {
         getApplication().getStateManager().attach(skidmarks);
         getApplication().getStateManager().attach(magicFormulaState);
         getApplication().getStateManager().attach(wheelSpinState);
+
+        WheelInstancingState instancingState = getApplication().getStateManager().getState(WheelInstancingState.class);
+        if (instancingState != null) {
+            for (Wheel wheel : wheels) {
+                instancingState.addWheel(wheel.getVehicleWheel().getWheelSpatial());
+            }
+        }
     }
 
     @Override
@@ -176,6 +219,33 @@ public class Car extends Vehicle {
         getApplication().getStateManager().detach(skidmarks);
         getApplication().getStateManager().detach(magicFormulaState);
         getApplication().getStateManager().detach(wheelSpinState);
+
+        WheelInstancingState instancingState = getApplication().getStateManager().getState(WheelInstancingState.class);
+        if (instancingState != null) {
+            for (Wheel wheel : wheels) {
+                instancingState.removeWheel(wheel.getVehicleWheel().getWheelSpatial());
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+
+        wheelLoadSensor.reset();
+        wheelIntegrator.reset();
+
+        // the skids end first so the skid marks and smoke see every wheel stop skidding.
+        wheelEventMonitor.reset();
+        skidmarks.clear();
+        smokeEmitter.clear();
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+
+        smokeEmitter.dispose();
     }
 
     @Override
@@ -191,15 +261,15 @@ public class Car extends Vehicle {
             float brakingForce = getEngine().getBraking() * wheel.getAccelerationForce();
             // System.out.println(brakingForce);
             // wheel.brake(brakingForce);
-            getVehicleControl().brake(i, brakingForce);
+            wheel.setBrakeForce(brakingForce);
         }
 
     }
 
     @Override
     public void removeEngineBraking() {
-        for (int i = 0; i < getNumWheels(); i++) {
-            getVehicleControl().brake(i, 0);
+        for (Wheel wheel : wheels) {
+            wheel.setBrakeForce(0);
         }
     }
 
@@ -1,12 +1,17 @@
 package com.jayfella.jme.vehicle;
 
 import com.jayfella.jme.vehicle.debug.DebugTabState;
+import com.jayfella.jme.vehicle.debug.DeterminismState;
 import com.jayfella.jme.vehicle.debug.EnginePowerGraphState;
 import com.jayfella.jme.vehicle.debug.TyreDataState;
 import com.jayfella.jme.vehicle.debug.VehicleEditorState;
 import com.jayfella.jme.vehicle.examples.cars.*;
-import com.jayfella.jme.vehicle.gui.LoadingState;
 import com.jayfella.jme.vehicle.input.XBoxJoystickVehicleInputState;
+import com.jayfella.jme.vehicle.prefab.VehicleLoader;
+import com.jayfella.jme.vehicle.prefab.VehiclePool;
+import com.jayfella.jme.vehicle.scheduler.DeferredWorkState;
+import com.jayfella.jme.vehicle.scheduler.WorkPriority;
+import com.jayfella.jme.vehicle.telemetry.TelemetryRecorderState;
 import com.jme3.app.Application;
 import com.jme3.app.SimpleApplication;
 import com.jme3.app.state.BaseAppState;
@@ -17,10 +22,6 @@ import com.jme3.scene.Node;
 import com.simsilica.lemur.Button;
 import com.simsilica.lemur.Container;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.concurrent.CompletableFuture;
-
 public class CarSelectorState extends BaseAppState {
 
     private final Node scene;
@@ -28,6 +29,12 @@ public class CarSelectorState extends BaseAppState {
 
     private Container container;
     private Car vehicle = null;
+    private Class<? extends Car> vehicleType = null;
+
+    // a vehicle can come back from the pool, so deferred work checks this rather than the vehicle itself.
+    private int vehicleGeneration;
+
+    private VehicleLoader vehicleLoader;
 
     public CarSelectorState(Node scene, PhysicsSpace physicsSpace) {
         this.scene = scene;
@@ -38,23 +45,22 @@ public class CarSelectorState extends BaseAppState {
     protected void initialize(Application app) {
 
         this.container = new Container();
+        this.vehicleLoader = new VehicleLoader(app);
 
         Button gtTourer = container.addChild(new Button("Grand Tourer"));
-        gtTourer.addClickCommands(source -> setVehicle(new GrandTourer(getApplication())));
-        // gtTourer.addClickCommands(source -> setVehicleAsync(GrandTourer.class));
+        gtTourer.addClickCommands(source -> setVehicleAsync(GrandTourer.class));
 
         Button gtrNismo = container.addChild(new Button("GTR Nismo"));
-        gtrNismo.addClickCommands(source -> setVehicle(new GTRNismo(getApplication())));
+        gtrNismo.addClickCommands(source -> setVehicleAsync(GTRNismo.class));
 
         Button pickup = container.addChild(new Button("Pickup Truck"));
-        pickup.addClickCommands(source -> setVehicle(new PickupTruck(getApplication())));
-        // pickup.addClickCommands(source -> setVehicleAsync(PickupTruck.class));
+        pickup.addClickCommands(source -> setVehicleAsync(PickupTruck.class));
 
         Button hatchback = container.addChild(new Button("Hatchback"));
-        hatchback.addClickCommands(source -> setVehicle(new HatchBack(getApplication())));
+        hatchback.addClickCommands(source -> setVehicleAsync(HatchBack.class));
 
         Button dunebuggy = container.addChild(new Button("Dune Buggy"));
-        dunebuggy.addClickCommands(source -> setVehicle(new DuneBuggy(getApplication())));
+        dunebuggy.addClickCommands(source -> setVehicleAsync(DuneBuggy.class));
 
         container.setLocalTranslation(
                 (getApplication().getCamera().getWidth() * 0.5f) - (container.getPreferredSize().x * 0.5f),
@@ -65,18 +71,38 @@ public class CarSelectorState extends BaseAppState {
     public void addVehicle(Car newVehicle) {
 
         vehicle = newVehicle;
+        final int generation = ++vehicleGeneration;
 
-        vehicle.showSpeedo(Vehicle.SpeedUnit.MPH);
-        vehicle.showTacho();
+        // get the vehicle into the world and drivable first. The rest is spread over the next few frames.
         vehicle.attachToScene(scene, physicsSpace);
 
         vehicle.getVehicleControl().setPhysicsLocation(new Vector3f(0, 6, 0));
+        vehicle.getNode().setShadowMode(RenderQueue.ShadowMode.CastAndReceive);
 
         // add some controls
         // KeyboardVehicleInputState inputState = new KeyboardVehicleInputState(vehicle);
         XBoxJoystickVehicleInputState inputState = new XBoxJoystickVehicleInputState(vehicle);
         getStateManager().attach(inputState);
 
+        DeferredWorkState deferredWorkState = getState(DeferredWorkState.class);
+
+        // the vehicle may have been replaced before the deferred work runs.
+        deferredWorkState.submit(WorkPriority.HIGH, () -> {
+            if (vehicleGeneration == generation) {
+                newVehicle.showSpeedo(Vehicle.SpeedUnit.MPH);
+                newVehicle.showTacho();
+            }
+        });
+
+        deferredWorkState.submit(WorkPriority.LOW, () -> {
+            if (vehicleGeneration == generation) {
+                addDebugStates(newVehicle);
+            }
+        });
+    }
+
+    private void addDebugStates(Car vehicle) {
+
         // engine graph GUI for viewing torqe/power @ revs
         EnginePowerGraphState enginePowerGraphState = new EnginePowerGraphState(vehicle);
         enginePowerGraphState.setEnabled(false);
@@ -87,18 +113,23 @@ public class CarSelectorState extends BaseAppState {
         tyreDataState.setEnabled(false);
         getStateManager().attach(tyreDataState);
 
+        // hashes the physics state every tick so two runs can be compared for determinism.
+        DeterminismState determinismState = new DeterminismState(vehicle);
+        determinismState.setEnabled(false);
+        getStateManager().attach(determinismState);
+
+        // records the vehicle telemetry every tick to a memory-mapped file.
+        TelemetryRecorderState telemetryRecorderState = new TelemetryRecorderState(vehicle);
+        telemetryRecorderState.setEnabled(false);
+        getStateManager().attach(telemetryRecorderState);
+
         // the main vehicle editor to modify all areas of the vehicle real-time.
         VehicleEditorState vehicleEditorState = new VehicleEditorState(vehicle);
         getStateManager().attach(vehicleEditorState);
 
         // vehicle debug add-on to enable/disable debug screens.
-        DebugTabState debugTabState = new DebugTabState();
+        DebugTabState debugTabState = new DebugTabState(vehicle);
         getStateManager().attach(debugTabState);
-
-
-
-        vehicle.getNode().setShadowMode(RenderQueue.ShadowMode.CastAndReceive);
-
     }
 
     public void removeCurrentVehicle() {
@@ -120,6 +151,16 @@ public class CarSelectorState extends BaseAppState {
                 getStateManager().detach(tyreDataState);
             }
 
+            DeterminismState determinismState = getState(DeterminismState.class);
+            if (determinismState != null) {
+                getStateManager().detach(determinismState);
+            }
+
+            TelemetryRecorderState telemetryRecorderState = getState(TelemetryRecorderState.class);
+            if (telemetryRecorderState != null) {
+                getStateManager().detach(telemetryRecorderState);
+            }
+
             VehicleEditorState vehicleEditorState = getState(VehicleEditorState.class);
             if (vehicleEditorState != null) {
                 getStateManager().detach(vehicleEditorState);
@@ -133,57 +174,53 @@ public class CarSelectorState extends BaseAppState {
             vehicle.removeTacho();
             vehicle.removeSpeedo();
             vehicle.detachFromScene();
+
+            // a vehicle we don't know the type of can't be reused.
+            if (vehicleType != null) {
+                VehiclePool.getInstance().park(vehicleType, vehicle);
+            }
+            else {
+                vehicle.dispose();
+            }
+
+            vehicle = null;
+            vehicleType = null;
+            vehicleGeneration++;
         }
     }
 
+    /**
+     * Loads a vehicle in the background and replaces the current vehicle when it's ready.
+     * Selecting another vehicle while one is loading cancels the first. The current vehicle is parked so it can be reused.
+     * @param clazz the type of vehicle to load.
+     */
     public void setVehicleAsync(Class<? extends Car> clazz) {
 
-        getApplication().getStateManager().getState(LoadingState.class).setEnabled(true);
-        removeCurrentVehicle();
-
-        CompletableFuture
-                .supplyAsync(() -> {
-
-                    try {
-
-                        Constructor constructor = null;
-
-                        if (clazz.isAssignableFrom(GrandTourer.class)) {
-                            constructor = GrandTourer.class.getConstructor(Application.class);
-                        }
-                        else if (clazz.isAssignableFrom(PickupTruck.class)) {
-                            constructor = PickupTruck.class.getConstructor(Application.class);
-                        }
-
-                        Car car = (Car) constructor.newInstance(getApplication());
-                        return car;
-                    } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
-                        e.printStackTrace();
-                    }
-
-                    return null;
-                })
-                .whenComplete((car, ex) -> {
-                    if (car != null) {
-                        getApplication().enqueue(() -> {
-                            addVehicle(car);
-                            getApplication().getStateManager().getState(LoadingState.class).setEnabled(false);
-                        });
-
-                    }
-                });
-
+        // a parked vehicle of the same type can be used straight away.
+        Car parked = VehiclePool.getInstance().obtain(clazz);
 
+        if (parked != null) {
+            setVehicle(clazz, parked);
+        }
+        else {
+            vehicleLoader.load(clazz, car -> setVehicle(clazz, car));
+        }
     }
 
     public void setVehicle(Car newVehicle) {
+        setVehicle(null, newVehicle);
+    }
+
+    private void setVehicle(Class<? extends Car> type, Car newVehicle) {
+        vehicleLoader.cancel();
         removeCurrentVehicle();
+        vehicleType = type;
         addVehicle(newVehicle);
     }
 
     @Override
     protected void cleanup(Application app) {
-
+        vehicleLoader.shutdown();
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.jayfella.jme.vehicle;
 
 import com.jayfella.jme.vehicle.part.Wheel;
+import com.jayfella.jme.vehicle.profiling.Subsystem;
 import com.jme3.app.Application;
 import com.jme3.app.SimpleApplication;
 import com.jme3.app.state.BaseAppState;
@@ -8,7 +9,6 @@ import com.jme3.bounding.BoundingBox;
 import com.jme3.material.Material;
 import com.jme3.math.ColorRGBA;
 import com.jme3.math.FastMath;
-import com.jme3.math.Quaternion;
 import com.jme3.math.Vector3f;
 import com.jme3.scene.Geometry;
 import com.jme3.scene.Node;
@@ -206,93 +206,26 @@ public class MagicFormulaState extends BaseAppState {
 
     private float[] maxLoad;
 
-    // LATERAL
-    // the slip angle is the angle between the direction in which a wheel is pointing
-    // and the direction in which the vehicle is traveling.
-    private float calculateLateralSlipAngle(Wheel wheel) {
+    private final Vector3f tempGravity = new Vector3f();
 
-        Quaternion wheelRot = vehicle.getRotation().mult(
-                new Quaternion().fromAngles(new float[]{0, wheel.getSteeringAngle(), 0}));
-
-        Vector3f wheelDir = wheelRot.getRotationColumn(2);
-
-        Vector3f vehicleTravel;
-
-        if (vehicle.getSpeed(Vehicle.SpeedUnit.KMH) < 5) {
-            vehicleTravel = vehicle.getVehicleControl().getPhysicsRotation().getRotationColumn(2);
-        }
-        else {
-            vehicleTravel = vehicle.getVehicleControl().getLinearVelocity().normalizeLocal();
-            vehicleTravel.setY(0);
-        }
-
-        float angle = wheelDir.angleBetween(vehicleTravel);
-        // System.out.println(wheel.getVehicleWheel().getWheelSpatial().getName() + ": " + angle * FastMath.RAD_TO_DEG);
-
-        angle = Math.max(0.1f, angle);
-
-        return angle;
-
-    }
-
-    // calculate the amount of weight on the wheel.
-    // this would be great, but it doesn't remove world rotation. We only need the rotation of the chassis
-    private float calculateWheelLoad(int i) {
-
-        float[] chassisAngles = new float[3];
-        vehicle.getChassis().getWorldRotation().toAngles(chassisAngles);
-
-        // negative angle = weight on back wheels.
-        // positive angle = weight on front wheels.
-        float xAngle = chassisAngles[0];
-
-        // negative angle = left side.
-        // positive angle = right side.
-        float zAngle = chassisAngles[2];
-
-        // the load starts by sharing it with each wheel. One quarter per wheel.
-        int wheelCount = vehicle.getNumWheels();
-        float load = vehicle.getVehicleControl().getMass() / wheelCount;// * 0.25f;
-
-        // front-back
-
-        // so the angle is in radians. at 90 degrees it should take full load.
+    @Override
+    public void update(float tpf) {
 
-        if (i < 2) { // if it's the front wheels
-            if (xAngle > 0) {
-                load += (vehicle.getVehicleControl().getMass()) * (xAngle / FastMath.QUARTER_PI);
-            }
-        }
-        else {
-            if (xAngle < 0) {
-                load += (vehicle.getVehicleControl().getMass()) * (-xAngle / FastMath.QUARTER_PI);
-            }
+        if (vehicle.isSleeping()) {
+            return;
         }
 
-        // left-right
-        if ((i + 1) % 2 == 0) {
-            if (zAngle > 0) {
-                // load += (vehicle.getVehicleControl().getMass() * 1.25) * -zAngle;
-                load += (vehicle.getVehicleControl().getMass()) * (-zAngle / FastMath.QUARTER_PI);
-            }
-        }
-        else {
-            if (zAngle < 0) {
-                //load += (vehicle.getVehicleControl().getMass() * 1.25) * zAngle;
-                load += (vehicle.getVehicleControl().getMass()) * (zAngle / FastMath.QUARTER_PI);
-            }
-        }
-
-        return load;
-    }
-
-    @Override
-    public void update(float tpf) {
+        long start = System.nanoTime();
 
         //if (isCenterOfGravityEnabled()) {
             updateCenterOfGravityControl();
         //}
 
+        // the tyre forces are measured against the load each wheel carries at rest, so a wheel carrying more than its
+        // share of the weight grips harder and one carrying less grips less.
+        float gravity = vehicle.getVehicleControl().getGravity(tempGravity).length();
+        float staticLoad = vehicle.getVehicleControl().getMass() * gravity / vehicle.getNumWheels();
+
         //if (isVehicleDataEnabled()) {
             for (int i = 0; i < vehicle.getNumWheels(); i++) {
 
@@ -301,13 +234,12 @@ public class MagicFormulaState extends BaseAppState {
                 // the angle between the dir of the wheel and the dir the vehicle is travelling.
                 float lateralSlip = wheel.calculateLateralSlipAngle();
 
-                float load = 10000; // * (wheel.getAccelerationForce() * vehicle.getAccelerationForce());
-                // float load = calculateWheelLoad(i);
+                // measured from the suspension every physics tick.
+                float load = vehicle.getWheelLoad(i);
 
                 wheel.getTireModel().setLoad(load);
 
                 // returns the amount of force in N on the tyre.
-                // this model allows max 10,000 (this is determined by the tyre).
                 float lateral = wheel.getTireModel().calcLateralTireForce(lateralSlip);
 
                 // the slip angle for this is how much force is being applied to the tyre (acceleration force).
@@ -322,7 +254,7 @@ public class MagicFormulaState extends BaseAppState {
                 // float friction = 1.0f - ((lateral / 120000) - (longitudinal / 120000));
                 // wheel.setFriction(friction);
 
-                float friction = 1.0f - ((lateral / 10000) - (longitudinal / 10000));
+                float friction = 1.0f - ((lateral / staticLoad) - (longitudinal / staticLoad));
                 friction *= 2.0;
                 friction = wheel.getGrip() * friction;
                 wheel.setFriction(friction);
@@ -332,12 +264,12 @@ public class MagicFormulaState extends BaseAppState {
                 // wheel.setFriction(friction / 3000);
 
                 // String format = "Weight: %.2f\nLat: %.2f\nLong: %.2f\nFriction: %.2f\nSlip: %.2f";
-                String format = "Lat: %.2f\nLong: %.2f\nFriction: %.2f\nSlip: %.2f\nWheelspin: %.2f";
+                String format = "Load: %.0f\nLat: %.2f\nLong: %.2f\nFriction: %.2f\nSlip: %.2f\nWheelspin: %.2f";
 
                 tyreWeightLabels[i].setText(String.format(format,
-                        // wheel.getTireModel().getLoad(),
-                        lateral / 10000,
-                        longitudinal / 10000,
+                        load,
+                        lateral / staticLoad,
+                        longitudinal / staticLoad,
                         wheel.getFriction(),
                         1.0f - wheel.getVehicleWheel().getSkidInfo(),
                         wheel.getRotationDelta()
@@ -346,6 +278,7 @@ public class MagicFormulaState extends BaseAppState {
             }
         //}
 
+        vehicle.getProfiler().record(Subsystem.TYRE_MODEL, start);
     }
 
 }
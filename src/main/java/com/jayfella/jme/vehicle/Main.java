@@ -2,6 +2,18 @@ package com.jayfella.jme.vehicle;
 
 import com.jayfella.jme.vehicle.gui.LoadingState;
 import com.jayfella.jme.vehicle.gui.MainMenuState;
+import com.jayfella.jme.vehicle.loading.AssetLoadingService;
+import com.jayfella.jme.vehicle.loading.LoadPriority;
+import com.jayfella.jme.vehicle.loading.LoadTask;
+import com.jayfella.jme.vehicle.mesh.BinaryMesh;
+import com.jayfella.jme.vehicle.mesh.BinaryMeshLoader;
+import com.jayfella.jme.vehicle.metrics.AssetLoadRecorder;
+import com.jayfella.jme.vehicle.metrics.PhysicsTickRecorder;
+import com.jayfella.jme.vehicle.metrics.VehicleEvents;
+import com.jayfella.jme.vehicle.metrics.VehicleMetricsState;
+import com.jayfella.jme.vehicle.scheduler.DeferredWorkState;
+import com.jayfella.jme.vehicle.track.BakedTrack;
+import com.jayfella.jme.vehicle.track.TrackCache;
 import com.jme3.app.SimpleApplication;
 import com.jme3.app.StatsAppState;
 import com.jme3.asset.AssetEventListener;
@@ -10,7 +22,6 @@ import com.jme3.asset.TextureKey;
 import com.jme3.audio.AudioListenerState;
 import com.jme3.bullet.BulletAppState;
 import com.jme3.bullet.control.RigidBodyControl;
-import com.jme3.bullet.util.CollisionShapeFactory;
 import com.jme3.input.Joystick;
 import com.jme3.input.JoystickConnectionListener;
 import com.jme3.light.DirectionalLight;
@@ -30,7 +41,8 @@ import com.simsilica.lemur.GuiGlobals;
 import com.simsilica.lemur.focus.FocusNavigationState;
 import com.simsilica.lemur.style.BaseStyles;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 
 public class Main extends SimpleApplication {
 
@@ -53,8 +65,14 @@ public class Main extends SimpleApplication {
         main.start();
     }
 
+    private AssetLoadingService assetLoadingService;
+
     private Main() {
-        super(new StatsAppState(), new AudioListenerState(), new LoadingState());
+        super(new StatsAppState(), new AudioListenerState(), new LoadingState(), new DeferredWorkState());
+    }
+
+    public AssetLoadingService getAssetLoadingService() {
+        return assetLoadingService;
     }
 
     private void setAnistropy() {
@@ -85,6 +103,22 @@ public class Main extends SimpleApplication {
     public void simpleInitApp() {
 
         setAnistropy();
+
+        // binary meshes are mapped straight into vertex buffers when they are files on disk.
+        assetManager.registerLoader(BinaryMeshLoader.class, BinaryMesh.EXTENSION);
+
+        // flight recorder events for asset loads and JMX gauges for long sessions.
+        if (VehicleEvents.isAvailable()) {
+            assetManager.addAssetEventListener(new AssetLoadRecorder());
+        }
+
+        getStateManager().attach(new VehicleMetricsState());
+
+        // wheels are drawn normally until instancing is turned on in the debug tab.
+        WheelInstancingState wheelInstancingState = new WheelInstancingState(rootNode);
+        wheelInstancingState.setEnabled(false);
+        getStateManager().attach(wheelInstancingState);
+
         getInputManager().addJoystickConnectionListener(new JoystickConnectionListener() {
             @Override
             public void onConnected(Joystick joystick) {
@@ -121,36 +155,60 @@ public class Main extends SimpleApplication {
         bulletAppState.setDebugEnabled(false);
         getStateManager().attach(bulletAppState);
 
-        // load the sky async.
-        CompletableFuture
-                .supplyAsync(() -> {
-                    Spatial sky = SkyFactory.createSky(assetManager, "Textures/Sky/quarry_03_4k.jpg", SkyFactory.EnvMapType.EquirectMap);
-                    sky.setQueueBucket(RenderQueue.Bucket.Sky);
-                    sky.setShadowMode(RenderQueue.ShadowMode.Off);
-                    return sky;
-                })
-                .whenComplete((spatial, ex) -> {
-                    enqueue( () -> rootNode.attachChild(spatial) );
-                });
-
-        // load the playground async.
-        CompletableFuture
-                .supplyAsync(() -> {
-                    Node node =  (Node) loadPlayground();
-                    RigidBodyControl rigidBodyControl = new RigidBodyControl(CollisionShapeFactory.createMeshShape(node), 0);
-                    node.addControl(rigidBodyControl);
-                    return node;
-                })
-                .whenComplete((node, ex) -> {
-                    enqueue( () -> {
-                        rootNode.attachChild(node);
-                        RigidBodyControl rigidBodyControl = node.getControl(RigidBodyControl.class);
-                        bulletAppState.getPhysicsSpace().add(rigidBodyControl);
-
-                        getStateManager().getState(LoadingState.class).setEnabled(false);
-                        getStateManager().attach(new MainMenuState());
-                    });
-                });
+        // the step is the same for every vehicle, so it is recorded once for the space.
+        if (VehicleEvents.isAvailable()) {
+            bulletAppState.getPhysicsSpace().addTickListener(new PhysicsTickRecorder());
+        }
+
+        assetLoadingService = new AssetLoadingService(this);
+
+        LoadingState loadingState = getStateManager().getState(LoadingState.class);
+
+        assetLoadingService.addListener((priority, name, completed, total) -> {
+            if (priority == LoadPriority.CRITICAL && completed < total && loadingState.isInitialized()) {
+                loadingState.setText("Loading " + name + " (" + (completed + 1) + "/" + total + ")...");
+            }
+        });
+
+        // the playground is batched and its collision shape built once, then loaded from the cache.
+        LoadTask<Node> playgroundTask = assetLoadingService.submit("Playground", LoadPriority.CRITICAL, () -> {
+            BakedTrack track = TrackCache.getInstance().getTrack(assetManager, "vehicle-playground", this::loadPlayground);
+            Node node = track.getScene();
+            RigidBodyControl rigidBodyControl = new RigidBodyControl(track.getCollisionShape(), 0);
+            node.addControl(rigidBodyControl);
+            return node;
+        });
+
+        // the sky is only cosmetic, so the menu doesn't wait for it.
+        LoadTask<Spatial> skyTask = assetLoadingService.submit("Sky", LoadPriority.COSMETIC, () -> {
+            Spatial sky = SkyFactory.createSky(assetManager, "Textures/Sky/quarry_03_4k.jpg", SkyFactory.EnvMapType.EquirectMap);
+            sky.setQueueBucket(RenderQueue.Bucket.Sky);
+            sky.setShadowMode(RenderQueue.ShadowMode.Off);
+            return sky;
+        });
+
+        skyTask.getFuture().thenAccept(sky -> enqueue(() -> rootNode.attachChild(sky)));
+
+        assetLoadingService.whenLoaded(LoadPriority.CRITICAL, () -> {
+
+            Node node;
+
+            try {
+                node = playgroundTask.getFuture().join();
+            } catch (CompletionException | CancellationException e) {
+                // there's nothing to drive on without the playground, so the failure is shown instead of the menu.
+                loadingState.setText("Unable to load the playground.");
+                handleError("Unable to load the playground", e.getCause() != null ? e.getCause() : e);
+                return;
+            }
+
+            rootNode.attachChild(node);
+            RigidBodyControl rigidBodyControl = node.getControl(RigidBodyControl.class);
+            bulletAppState.getPhysicsSpace().add(rigidBodyControl);
+
+            loadingState.setEnabled(false);
+            getStateManager().attach(new MainMenuState());
+        });
 
         cam.setLocation(new Vector3f(-200, 50, -200));
         cam.lookAt(new Vector3f(100, 10, 150), Vector3f.UNIT_Y);
@@ -162,6 +220,16 @@ public class Main extends SimpleApplication {
         stateManager.getState(FocusNavigationState.class).setEnabled(false);
     }
 
+    @Override
+    public void destroy() {
+
+        if (assetLoadingService != null) {
+            assetLoadingService.shutdown();
+        }
+
+        super.destroy();
+    }
+
     private Spatial loadPlayground() {
 
         Material material = new Material(assetManager, "Common/MatDefs/Light/PBRLighting.j3md");
@@ -206,9 +274,7 @@ public class Main extends SimpleApplication {
         // playground.addControl(rigidBodyControl);
         // physicsSpace.add(rigidBodyControl);
 
-        // playground.setShadowMode(RenderQueue.ShadowMode.CastAndReceive);
-        Node p = (Node) playground;
-        p.breadthFirstTraversal(spatial -> spatial.setShadowMode(RenderQueue.ShadowMode.CastAndReceive));
+        // the shadow mode is set when the playground is baked.
 
 
         // rootNode.attachChild(playground);
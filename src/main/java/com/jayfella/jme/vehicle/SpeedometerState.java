@@ -1,5 +1,10 @@
 package com.jayfella.jme.vehicle;
 
+import com.jayfella.jme.vehicle.event.VehicleEvent;
+import com.jayfella.jme.vehicle.event.VehicleEventListener;
+import com.jayfella.jme.vehicle.profiling.Subsystem;
+import com.jayfella.jme.vehicle.scheduler.DeferredWorkState;
+import com.jayfella.jme.vehicle.scheduler.WorkPriority;
 import com.jme3.app.Application;
 import com.jme3.app.SimpleApplication;
 import com.jme3.app.state.BaseAppState;
@@ -34,6 +39,12 @@ public class SpeedometerState extends BaseAppState {
 
     private Label gearLabel;
 
+    // the numbers are rendered once to a texture. The view is released as soon as it has been rendered.
+    private ViewPort impostorViewPort;
+    private FrameBuffer impostorFrameBuffer;
+    private Texture2D impostorTexture;
+    private int impostorFrames;
+
     private final Vehicle.SpeedUnit outputType;
 
     public SpeedometerState(Vehicle vehicle, Vehicle.SpeedUnit outputType) {
@@ -84,7 +95,10 @@ public class SpeedometerState extends BaseAppState {
 
         vp.attachScene(scene);
 
-        getApplication().getRenderManager().removeMainView(vp);
+        impostorViewPort = vp;
+        impostorFrameBuffer = offBuffer;
+        impostorTexture = offTex;
+        impostorFrames = 0;
 
         return offTex;
 
@@ -171,6 +185,7 @@ public class SpeedometerState extends BaseAppState {
     protected void initialize(Application app) {
 
         this.guiNode = ((SimpleApplication)app).getGuiNode();
+        this.deferredWorkState = getState(DeferredWorkState.class);
 
         Geometry speedoGeometry = createSpeedoGeom(app.getAssetManager());
 
@@ -224,30 +239,76 @@ public class SpeedometerState extends BaseAppState {
 
 
 
+    private void releaseImpostorView() {
+
+        // this is a pre-view, so removeMainView would leave it rendering every frame.
+        getApplication().getRenderManager().removePreView(impostorViewPort);
+        getApplication().getRenderer().deleteFrameBuffer(impostorFrameBuffer);
+
+        impostorViewPort = null;
+        impostorFrameBuffer = null;
+    }
+
     @Override
     protected void cleanup(Application app) {
 
+        if (impostorViewPort != null) {
+            releaseImpostorView();
+        }
+
+        if (impostorTexture != null) {
+            app.getRenderer().deleteImage(impostorTexture.getImage());
+            impostorTexture = null;
+        }
     }
 
     @Override
     protected void onEnable() {
         guiNode.attachChild(node);
+
+        gear = vehicle.getGearBox().getActiveGearNum() + 1;
+        vehicle.getEventBus().subscribe(VehicleEvent.GEAR_CHANGED, gearListener);
     }
 
     @Override
     protected void onDisable() {
         node.removeFromParent();
+
+        vehicle.getEventBus().unsubscribe(VehicleEvent.GEAR_CHANGED, gearListener);
     }
 
     private final Quaternion speedoRot = new Quaternion();
     private float[] speedoAngles = new float[3];
 
 
-    private String speedFormatMph = "%03.0f";
+    private String speedFormatMph = "%03d";
+
+    // the text is only updated when the displayed value changes, and is deferred because it re-creates the label mesh.
+    private DeferredWorkState deferredWorkState;
+    private int displayedSpeed = -1;
+    private int displayedGear = -1;
+    private boolean textUpdatePending;
+
+    // the gear only changes when the vehicle tells us, so we don't need to ask every frame.
+    private int gear;
+    private final VehicleEventListener gearListener = (event, index, value) -> gear = index + 1;
+
+    private final Runnable textUpdateTask = () -> {
+        textUpdatePending = false;
+        speedLabel.setText(String.format(speedFormatMph, displayedSpeed));
+        gearLabel.setText("" + displayedGear);
+    };
 
     @Override
     public void update(float tpf) {
 
+        long start = System.nanoTime();
+
+        // the view is rendered after the frame it was created in, so we release it on the frame after that.
+        if (impostorViewPort != null && ++impostorFrames > 1) {
+            releaseImpostorView();
+        }
+
         float startStopAngle = 155;
 
         // if we just deal with speed based on a positive integer from the start, everything works the same if we are reversing.
@@ -262,9 +323,25 @@ public class SpeedometerState extends BaseAppState {
         speedoAngles[2] = rot;
         speedoRot.fromAngles(speedoAngles);
         speedoNeedleNode.setLocalRotation(speedoRot);
-        speedLabel.setText(String.format(speedFormatMph, speed));
-        gearLabel.setText( "" + (vehicle.getGearBox().getActiveGearNum() + 1) );
 
+        int roundedSpeed = Math.round(speed);
+
+        if ((roundedSpeed != displayedSpeed || gear != displayedGear) && !textUpdatePending) {
+
+            displayedSpeed = roundedSpeed;
+            displayedGear = gear;
+
+            if (deferredWorkState != null) {
+                textUpdatePending = true;
+                deferredWorkState.submit(WorkPriority.NORMAL, textUpdateTask);
+            }
+            else {
+                textUpdateTask.run();
+            }
+        }
+
+        // the tachometer adds to this, so the HUD is one sample per frame.
+        vehicle.getProfiler().accumulate(Subsystem.HUD, start);
     }
 
 }
@@ -1,5 +1,8 @@
 package com.jayfella.jme.vehicle;
 
+import com.jayfella.jme.vehicle.profiling.Subsystem;
+import com.jayfella.jme.vehicle.scheduler.DeferredWorkState;
+import com.jayfella.jme.vehicle.scheduler.WorkPriority;
 import com.jme3.app.Application;
 import com.jme3.app.SimpleApplication;
 import com.jme3.app.state.BaseAppState;
@@ -32,6 +35,12 @@ public class TachometerState extends BaseAppState {
     private final Node needleNode = new Node("Needle");
     private Label revsLabel;
 
+    // the numbers are rendered once to a texture. The view is released as soon as it has been rendered.
+    private ViewPort impostorViewPort;
+    private FrameBuffer impostorFrameBuffer;
+    private Texture2D impostorTexture;
+    private int impostorFrames;
+
     public TachometerState(Vehicle vehicle) {
         this.vehicle = vehicle;
 
@@ -79,7 +88,10 @@ public class TachometerState extends BaseAppState {
 
         vp.attachScene(scene);
 
-        getApplication().getRenderManager().removeMainView(vp);
+        impostorViewPort = vp;
+        impostorFrameBuffer = offBuffer;
+        impostorTexture = offTex;
+        impostorFrames = 0;
 
         return offTex;
 
@@ -167,6 +179,7 @@ public class TachometerState extends BaseAppState {
     protected void initialize(Application app) {
 
         this.guiNode = ((SimpleApplication)app).getGuiNode();
+        this.deferredWorkState = getState(DeferredWorkState.class);
 
         Geometry speedoGeometry = createSpeedoGeom(app.getAssetManager());
         node.attachChild(speedoGeometry);
@@ -208,9 +221,27 @@ public class TachometerState extends BaseAppState {
 
     }
 
+    private void releaseImpostorView() {
+
+        // this is a pre-view, so removeMainView would leave it rendering every frame.
+        getApplication().getRenderManager().removePreView(impostorViewPort);
+        getApplication().getRenderer().deleteFrameBuffer(impostorFrameBuffer);
+
+        impostorViewPort = null;
+        impostorFrameBuffer = null;
+    }
+
     @Override
     protected void cleanup(Application app) {
 
+        if (impostorViewPort != null) {
+            releaseImpostorView();
+        }
+
+        if (impostorTexture != null) {
+            app.getRenderer().deleteImage(impostorTexture.getImage());
+            impostorTexture = null;
+        }
     }
 
     @Override
@@ -225,11 +256,28 @@ public class TachometerState extends BaseAppState {
 
     private final Quaternion speedoRot = new Quaternion();
     private float[] speedoAngles = new float[3];
-    private final String revsFormat = "%.0f";
+    private final String revsFormat = "%d";
+
+    // the text is only updated when the displayed value changes, and is deferred because it re-creates the label mesh.
+    private DeferredWorkState deferredWorkState;
+    private int displayedRevs = -1;
+    private boolean textUpdatePending;
+
+    private final Runnable textUpdateTask = () -> {
+        textUpdatePending = false;
+        revsLabel.setText(String.format(revsFormat, displayedRevs));
+    };
 
     @Override
     public void update(float tpf) {
 
+        long start = System.nanoTime();
+
+        // the view is rendered after the frame it was created in, so we release it on the frame after that.
+        if (impostorViewPort != null && ++impostorFrames > 1) {
+            releaseImpostorView();
+        }
+
         float startStopAngle = 155;
 
         float speedUnit = vehicle.getEngine().getRevs();
@@ -246,8 +294,24 @@ public class TachometerState extends BaseAppState {
 
 
         needleNode.setLocalRotation(speedoRot);
-        revsLabel.setText(String.format(revsFormat, speedUnit * vehicle.getEngine().getMaxRevs()));
 
+        int revs = Math.round(speedUnit * vehicle.getEngine().getMaxRevs());
+
+        if (revs != displayedRevs && !textUpdatePending) {
+
+            displayedRevs = revs;
+
+            if (deferredWorkState != null) {
+                textUpdatePending = true;
+                deferredWorkState.submit(WorkPriority.NORMAL, textUpdateTask);
+            }
+            else {
+                textUpdateTask.run();
+            }
+        }
+
+        // added to the speedometer time, so the HUD is one sample per frame.
+        vehicle.getProfiler().accumulate(Subsystem.HUD, start);
     }
 
 }
@@ -1,1496 +1,53 @@
 package com.jayfella.jme.vehicle;
 
-import com.jme3.math.Vector3f;
+import com.jayfella.jme.vehicle.mesh.BinaryMesh;
 import com.jme3.scene.Mesh;
 import com.jme3.scene.VertexBuffer;
-import com.jme3.util.BufferUtils;
 
-import java.nio.FloatBuffer;
-import java.nio.IntBuffer;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
 
 public class TestTerrain extends Mesh {
 
+    private static final String RESOURCE = "Models/TestTerrain/test-terrain." + BinaryMesh.EXTENSION;
+
     public TestTerrain() {
+        setBuffers(readResource());
+    }
 
-        FloatBuffer pb = BufferUtils.createFloatBuffer(vertData);
-        setBuffer(VertexBuffer.Type.Position, 3, pb);
+    /**
+     * Maps the terrain from a mesh file on disk instead of the bundled resource.
+     * @param file the mesh file.
+     * @throws IOException if the file could not be read.
+     */
+    public TestTerrain(File file) throws IOException {
+        setBuffers(BinaryMesh.map(file));
+    }
 
-        FloatBuffer nb = BufferUtils.createFloatBuffer(normalData);
-        setBuffer(VertexBuffer.Type.Normal, 3, nb);
+    private void setBuffers(Mesh source) {
 
-        IntBuffer ib = BufferUtils.createIntBuffer(indices);
-        setBuffer(VertexBuffer.Type.Index, 3, ib);
+        for (VertexBuffer vertexBuffer : source.getBufferList()) {
+            setBuffer(vertexBuffer);
+        }
 
         updateBound();
-
     }
 
-    private static final Vector3f[] vertData = {
-            new Vector3f( 0.0000f, 1.6210f, 4.0000f ),
-            new Vector3f( 0.0000f, 1.6362f, 5.0000f ),
-            new Vector3f( 0.0000f, 1.8738f, 6.0000f ),
-            new Vector3f( 0.0000f, 1.8300f, 8.0000f ),
-            new Vector3f( 0.0000f, 2.4000f, 0.0000f ),
-            new Vector3f( 0.0000f, 2.4179f, 1.0000f ),
-            new Vector3f( 0.0000f, 2.6422f, 3.0000f ),
-            new Vector3f( 0.0000f, 2.0000f, 3.5474f ),
-            new Vector3f( 0.2422f, 2.0000f, 4.0000f ),
-            new Vector3f( 0.6216f, 2.0000f, 5.0000f ),
-            new Vector3f( 0.1776f, 2.0000f, 6.0000f ),
-            new Vector3f( 0.0000f, 2.0000f, 6.7016f ),
-            new Vector3f( 0.0000f, 2.0876f, 7.0000f ),
-            new Vector3f( 0.0000f, 2.0000f, 7.2465f ),
-            new Vector3f( 0.1688f, 2.0000f, 8.0000f ),
-            new Vector3f( 0.0000f, 2.0000f, 8.8152f ),
-            new Vector3f( 0.0000f, 2.0464f, 9.0000f ),
-            new Vector3f( 0.0000f, 2.6553f, 10.0000f ),
-            new Vector3f( 0.4555f, 3.0000f, 0.0000f ),
-            new Vector3f( 0.3216f, 3.0000f, 1.0000f ),
-            new Vector3f( 0.0000f, 3.0000f, 1.4335f ),
-            new Vector3f( 0.0000f, 3.4850f, 2.0000f ),
-            new Vector3f( 0.0000f, 3.0000f, 2.6457f ),
-            new Vector3f( 0.1397f, 3.0000f, 3.0000f ),
-            new Vector3f( 0.4516f, 3.0000f, 4.0000f ),
-            new Vector3f( 0.8776f, 3.0000f, 9.0000f ),
-            new Vector3f( 0.3295f, 3.0000f, 10.0000f ),
-            new Vector3f( 0.0000f, 3.0000f, 10.6728f ),
-            new Vector3f( 0.0000f, 3.0746f, 11.0000f ),
-            new Vector3f( 0.0000f, 3.2379f, 12.0000f ),
-            new Vector3f( 0.0000f, 3.6570f, 13.0000f ),
-            new Vector3f( 0.0000f, 3.8425f, 16.0000f ),
-            new Vector3f( 0.0000f, 3.1858f, 17.0000f ),
-            new Vector3f( 0.0000f, 3.0063f, 18.0000f ),
-            new Vector3f( 0.0000f, 3.0832f, 19.0000f ),
-            new Vector3f( 0.8958f, 4.0000f, 1.0000f ),
-            new Vector3f( 0.8811f, 4.0000f, 3.0000f ),
-            new Vector3f( 0.9364f, 4.0000f, 4.0000f ),
-            new Vector3f( 0.4716f, 4.0000f, 13.0000f ),
-            new Vector3f( 0.0000f, 4.0000f, 13.9116f ),
-            new Vector3f( 0.0000f, 4.0607f, 14.0000f ),
-            new Vector3f( 0.0000f, 4.5297f, 15.0000f ),
-            new Vector3f( 0.0000f, 4.0000f, 15.7148f ),
-            new Vector3f( 0.1826f, 4.0000f, 16.0000f ),
-            new Vector3f( 0.6566f, 4.0000f, 17.0000f ),
-            new Vector3f( 0.3873f, 4.0000f, 18.0000f ),
-            new Vector3f( 0.6225f, 4.0000f, 19.0000f ),
-            new Vector3f( 1.0000f, 2.8473f, 5.0000f ),
-            new Vector3f( 1.0000f, 2.9452f, 6.0000f ),
-            new Vector3f( 1.0000f, 2.7632f, 7.0000f ),
-            new Vector3f( 1.0000f, 2.8983f, 8.0000f ),
-            new Vector3f( 1.0000f, 3.8726f, 0.0000f ),
-            new Vector3f( 1.0000f, 3.9912f, 2.0000f ),
-            new Vector3f( 1.0000f, 3.0000f, 4.9312f ),
-            new Vector3f( 1.0470f, 3.0000f, 5.0000f ),
-            new Vector3f( 1.0685f, 3.0000f, 6.0000f ),
-            new Vector3f( 1.2648f, 3.0000f, 7.0000f ),
-            new Vector3f( 1.1602f, 3.0000f, 8.0000f ),
-            new Vector3f( 1.0000f, 3.0000f, 8.4618f ),
-            new Vector3f( 1.0000f, 3.1115f, 9.0000f ),
-            new Vector3f( 1.0000f, 3.2732f, 10.0000f ),
-            new Vector3f( 1.0000f, 3.6346f, 11.0000f ),
-            new Vector3f( 1.0000f, 3.9334f, 12.0000f ),
-            new Vector3f( 1.1618f, 4.0000f, 0.0000f ),
-            new Vector3f( 1.0000f, 4.0000f, 0.5526f ),
-            new Vector3f( 1.0000f, 4.0907f, 1.0000f ),
-            new Vector3f( 1.0000f, 4.0000f, 1.9149f ),
-            new Vector3f( 1.0091f, 4.0000f, 2.0000f ),
-            new Vector3f( 1.0000f, 4.0000f, 2.0585f ),
-            new Vector3f( 1.0000f, 4.0871f, 3.0000f ),
-            new Vector3f( 1.0000f, 4.0664f, 4.0000f ),
-            new Vector3f( 1.0000f, 4.0000f, 4.1709f ),
-            new Vector3f( 1.3071f, 4.0000f, 12.0000f ),
-            new Vector3f( 1.0000f, 4.0000f, 12.2016f ),
-            new Vector3f( 1.0000f, 4.4047f, 13.0000f ),
-            new Vector3f( 1.0000f, 4.6798f, 14.0000f ),
-            new Vector3f( 1.0000f, 4.9849f, 15.0000f ),
-            new Vector3f( 1.0000f, 4.6418f, 16.0000f ),
-            new Vector3f( 1.0000f, 4.3257f, 17.0000f ),
-            new Vector3f( 1.0000f, 4.6373f, 18.0000f ),
-            new Vector3f( 1.0000f, 4.5053f, 19.0000f ),
-            new Vector3f( 1.9484f, 5.0000f, 0.0000f ),
-            new Vector3f( 1.7379f, 5.0000f, 2.0000f ),
-            new Vector3f( 1.7457f, 5.0000f, 14.0000f ),
-            new Vector3f( 1.0190f, 5.0000f, 15.0000f ),
-            new Vector3f( 1.3999f, 5.0000f, 16.0000f ),
-            new Vector3f( 1.6065f, 5.0000f, 17.0000f ),
-            new Vector3f( 1.4012f, 5.0000f, 18.0000f ),
-            new Vector3f( 1.4046f, 5.0000f, 19.0000f ),
-            new Vector3f( 2.0000f, 3.9389f, 5.0000f ),
-            new Vector3f( 2.0000f, 3.6110f, 6.0000f ),
-            new Vector3f( 2.0000f, 3.5185f, 7.0000f ),
-            new Vector3f( 2.0000f, 3.4759f, 8.0000f ),
-            new Vector3f( 2.0000f, 3.5439f, 9.0000f ),
-            new Vector3f( 2.0000f, 3.8375f, 10.0000f ),
-            new Vector3f( 2.0000f, 3.9921f, 11.0000f ),
-            new Vector3f( 2.0000f, 4.9455f, 1.0000f ),
-            new Vector3f( 2.0000f, 4.9982f, 3.0000f ),
-            new Vector3f( 2.0000f, 4.9515f, 4.0000f ),
-            new Vector3f( 2.0000f, 4.0000f, 4.8886f ),
-            new Vector3f( 2.3089f, 4.0000f, 5.0000f ),
-            new Vector3f( 2.4914f, 4.0000f, 6.0000f ),
-            new Vector3f( 2.6015f, 4.0000f, 7.0000f ),
-            new Vector3f( 2.9951f, 4.0000f, 8.0000f ),
-            new Vector3f( 2.6409f, 4.0000f, 10.0000f ),
-            new Vector3f( 2.0498f, 4.0000f, 11.0000f ),
-            new Vector3f( 2.0000f, 4.0000f, 11.0725f ),
-            new Vector3f( 2.0000f, 4.1429f, 12.0000f ),
-            new Vector3f( 2.0000f, 4.6657f, 13.0000f ),
-            new Vector3f( 2.0000f, 5.0421f, 0.0000f ),
-            new Vector3f( 2.0000f, 5.0000f, 0.3852f ),
-            new Vector3f( 2.0699f, 5.0000f, 1.0000f ),
-            new Vector3f( 2.0000f, 5.0000f, 1.1888f ),
-            new Vector3f( 2.0000f, 5.1832f, 2.0000f ),
-            new Vector3f( 2.0000f, 5.0000f, 2.9948f ),
-            new Vector3f( 2.0013f, 5.0000f, 3.0000f ),
-            new Vector3f( 2.1002f, 5.0000f, 4.0000f ),
-            new Vector3f( 2.0000f, 5.0000f, 13.8398f ),
-            new Vector3f( 2.0000f, 5.0667f, 14.0000f ),
-            new Vector3f( 2.6051f, 5.0000f, 14.0000f ),
-            new Vector3f( 2.0000f, 5.4913f, 15.0000f ),
-            new Vector3f( 2.0000f, 5.6066f, 16.0000f ),
-            new Vector3f( 2.0000f, 5.4634f, 17.0000f ),
-            new Vector3f( 2.0000f, 5.5720f, 18.0000f ),
-            new Vector3f( 2.0000f, 5.6349f, 19.0000f ),
-            new Vector3f( 2.8108f, 6.0000f, 2.0000f ),
-            new Vector3f( 2.7130f, 6.0000f, 3.0000f ),
-            new Vector3f( 2.9378f, 6.0000f, 4.0000f ),
-            new Vector3f( 2.9544f, 6.0000f, 17.0000f ),
-            new Vector3f( 2.5689f, 6.0000f, 18.0000f ),
-            new Vector3f( 2.4340f, 6.0000f, 19.0000f ),
-            new Vector3f( 3.0000f, 3.9041f, 9.0000f ),
-            new Vector3f( 3.0000f, 4.3670f, 5.0000f ),
-            new Vector3f( 3.0000f, 4.8167f, 6.0000f ),
-            new Vector3f( 3.0000f, 4.5985f, 7.0000f ),
-            new Vector3f( 3.0000f, 4.0049f, 8.0000f ),
-            new Vector3f( 3.0000f, 4.0000f, 8.0237f ),
-            new Vector3f( 3.5993f, 4.0000f, 9.0000f ),
-            new Vector3f( 3.0000f, 4.0000f, 9.5184f ),
-            new Vector3f( 3.0000f, 4.0831f, 10.0000f ),
-            new Vector3f( 3.0000f, 4.2372f, 11.0000f ),
-            new Vector3f( 3.0000f, 4.1257f, 12.0000f ),
-            new Vector3f( 3.0000f, 4.4966f, 13.0000f ),
-            new Vector3f( 3.0000f, 4.9508f, 14.0000f ),
-            new Vector3f( 3.0000f, 5.7020f, 0.0000f ),
-            new Vector3f( 3.0000f, 5.6065f, 1.0000f ),
-            new Vector3f( 3.0000f, 5.0000f, 4.4864f ),
-            new Vector3f( 3.2027f, 5.0000f, 6.0000f ),
-            new Vector3f( 3.5625f, 5.0000f, 7.0000f ),
-            new Vector3f( 3.2828f, 5.0000f, 14.0000f ),
-            new Vector3f( 3.0000f, 5.0000f, 14.0918f ),
-            new Vector3f( 3.0000f, 5.7344f, 15.0000f ),
-            new Vector3f( 3.0000f, 5.8994f, 16.0000f ),
-            new Vector3f( 3.6704f, 6.0000f, 0.0000f ),
-            new Vector3f( 3.0000f, 6.0000f, 1.6589f ),
-            new Vector3f( 3.0000f, 6.3305f, 2.0000f ),
-            new Vector3f( 3.0000f, 6.3658f, 3.0000f ),
-            new Vector3f( 3.0000f, 6.1432f, 4.0000f ),
-            new Vector3f( 3.3107f, 6.0000f, 4.0000f ),
-            new Vector3f( 3.0000f, 6.0000f, 4.0679f ),
-            new Vector3f( 3.9779f, 6.0000f, 7.0000f ),
-            new Vector3f( 3.3954f, 6.0000f, 15.0000f ),
-            new Vector3f( 3.2432f, 6.0000f, 16.0000f ),
-            new Vector3f( 3.0000f, 6.0000f, 16.7899f ),
-            new Vector3f( 3.0000f, 6.0431f, 17.0000f ),
-            new Vector3f( 3.0000f, 6.3180f, 18.0000f ),
-            new Vector3f( 3.0000f, 6.4191f, 19.0000f ),
-            new Vector3f( 3.7027f, 7.0000f, 7.0000f ),
-            new Vector3f( 3.9405f, 7.0000f, 8.0000f ),
-            new Vector3f( 3.9083f, 7.0000f, 19.0000f ),
-            new Vector3f( 4.0000f, 4.8145f, 5.0000f ),
-            new Vector3f( 4.0000f, 4.9159f, 8.0000f ),
-            new Vector3f( 4.0000f, 4.1231f, 9.0000f ),
-            new Vector3f( 4.0000f, 4.4519f, 10.0000f ),
-            new Vector3f( 4.0000f, 4.7562f, 11.0000f ),
-            new Vector3f( 4.0000f, 4.6342f, 12.0000f ),
-            new Vector3f( 4.0000f, 4.6112f, 13.0000f ),
-            new Vector3f( 4.0000f, 5.9250f, 1.0000f ),
-            new Vector3f( 4.0000f, 5.5055f, 4.0000f ),
-            new Vector3f( 4.0000f, 5.0000f, 4.4187f ),
-            new Vector3f( 4.2692f, 5.0000f, 5.0000f ),
-            new Vector3f( 4.0000f, 5.0000f, 5.3001f ),
-            new Vector3f( 4.0000f, 5.7607f, 6.0000f ),
-            new Vector3f( 4.0000f, 5.0000f, 7.8600f ),
-            new Vector3f( 4.2504f, 5.0000f, 8.0000f ),
-            new Vector3f( 4.0000f, 5.0000f, 13.6762f ),
-            new Vector3f( 4.0000f, 5.2901f, 14.0000f ),
-            new Vector3f( 4.0000f, 6.1988f, 0.0000f ),
-            new Vector3f( 4.0000f, 6.0000f, 0.6227f ),
-            new Vector3f( 4.5470f, 6.0000f, 1.0000f ),
-            new Vector3f( 4.0000f, 6.0000f, 1.1471f ),
-            new Vector3f( 4.0000f, 6.6572f, 2.0000f ),
-            new Vector3f( 4.0000f, 6.5502f, 3.0000f ),
-            new Vector3f( 4.9539f, 6.0000f, 3.0000f ),
-            new Vector3f( 4.0000f, 6.0000f, 3.8107f ),
-            new Vector3f( 4.0000f, 6.0000f, 6.8834f ),
-            new Vector3f( 4.0000f, 6.0000f, 7.0349f ),
-            new Vector3f( 4.0000f, 6.8742f, 8.0000f ),
-            new Vector3f( 4.9997f, 6.0000f, 8.0000f ),
-            new Vector3f( 4.0000f, 6.0000f, 14.5313f ),
-            new Vector3f( 4.0000f, 6.8396f, 15.0000f ),
-            new Vector3f( 4.0000f, 6.4720f, 16.0000f ),
-            new Vector3f( 4.0000f, 6.3579f, 17.0000f ),
-            new Vector3f( 4.0000f, 6.8008f, 18.0000f ),
-            new Vector3f( 4.7093f, 7.0000f, 3.0000f ),
-            new Vector3f( 4.1581f, 7.0000f, 6.0000f ),
-            new Vector3f( 4.0000f, 7.0000f, 6.1146f ),
-            new Vector3f( 4.0000f, 7.6013f, 7.0000f ),
-            new Vector3f( 4.0000f, 7.1803f, 8.0000f ),
-            new Vector3f( 4.0000f, 7.0000f, 8.0717f ),
-            new Vector3f( 4.3549f, 7.0000f, 18.0000f ),
-            new Vector3f( 4.0000f, 7.0000f, 18.7305f ),
-            new Vector3f( 4.0000f, 7.0521f, 19.0000f ),
-            new Vector3f( 5.0000f, 4.6830f, 9.0000f ),
-            new Vector3f( 5.0000f, 4.8818f, 10.0000f ),
-            new Vector3f( 5.0000f, 4.7699f, 11.0000f ),
-            new Vector3f( 5.0000f, 4.4133f, 12.0000f ),
-            new Vector3f( 5.0000f, 4.8676f, 13.0000f ),
-            new Vector3f( 5.0000f, 5.9649f, 3.0000f ),
-            new Vector3f( 5.0000f, 5.5190f, 4.0000f ),
-            new Vector3f( 5.0000f, 5.6292f, 5.0000f ),
-            new Vector3f( 5.0000f, 5.9871f, 6.0000f ),
-            new Vector3f( 5.0000f, 5.0000f, 8.3521f ),
-            new Vector3f( 5.0000f, 5.0000f, 13.1286f ),
-            new Vector3f( 5.0000f, 5.5732f, 14.0000f ),
-            new Vector3f( 5.0000f, 6.4462f, 0.0000f ),
-            new Vector3f( 5.0000f, 6.0717f, 1.0000f ),
-            new Vector3f( 5.3865f, 6.0000f, 1.0000f ),
-            new Vector3f( 5.0000f, 6.5888f, 2.0000f ),
-            new Vector3f( 5.0000f, 6.0000f, 2.9289f ),
-            new Vector3f( 5.0000f, 6.1261f, 3.0000f ),
-            new Vector3f( 5.0489f, 6.0000f, 3.0000f ),
-            new Vector3f( 5.9182f, 6.0000f, 4.0000f ),
-            new Vector3f( 5.0000f, 6.0458f, 6.0000f ),
-            new Vector3f( 5.0000f, 6.0000f, 6.0281f ),
-            new Vector3f( 5.4858f, 6.0000f, 7.0000f ),
-            new Vector3f( 5.0180f, 6.0000f, 8.0000f ),
-            new Vector3f( 5.0000f, 6.0000f, 8.0004f ),
-            new Vector3f( 5.7696f, 6.0000f, 14.0000f ),
-            new Vector3f( 5.0000f, 6.0000f, 14.5420f ),
-            new Vector3f( 5.0000f, 6.6507f, 15.0000f ),
-            new Vector3f( 5.0000f, 6.7714f, 16.0000f ),
-            new Vector3f( 5.0000f, 6.7355f, 17.0000f ),
-            new Vector3f( 5.0000f, 7.0000f, 2.5683f ),
-            new Vector3f( 5.0000f, 7.3769f, 3.0000f ),
-            new Vector3f( 5.2185f, 7.0000f, 3.0000f ),
-            new Vector3f( 5.0000f, 7.0000f, 3.1843f ),
-            new Vector3f( 5.0000f, 7.0000f, 5.5025f ),
-            new Vector3f( 5.0000f, 7.3538f, 6.0000f ),
-            new Vector3f( 5.3858f, 7.0000f, 6.0000f ),
-            new Vector3f( 5.0000f, 7.7206f, 7.0000f ),
-            new Vector3f( 5.3133f, 7.0000f, 7.0000f ),
-            new Vector3f( 5.0000f, 7.1778f, 8.0000f ),
-            new Vector3f( 5.3520f, 7.0000f, 8.0000f ),
-            new Vector3f( 5.0000f, 7.0000f, 8.1621f ),
-            new Vector3f( 5.3985f, 7.0000f, 16.0000f ),
-            new Vector3f( 5.4705f, 7.0000f, 17.0000f ),
-            new Vector3f( 5.0000f, 7.0000f, 17.4381f ),
-            new Vector3f( 5.0000f, 7.3206f, 18.0000f ),
-            new Vector3f( 5.0000f, 7.8800f, 19.0000f ),
-            new Vector3f( 6.0000f, 4.8664f, 9.0000f ),
-            new Vector3f( 6.0000f, 4.4720f, 10.0000f ),
-            new Vector3f( 6.0000f, 4.6879f, 11.0000f ),
-            new Vector3f( 6.0000f, 4.6779f, 12.0000f ),
-            new Vector3f( 6.0000f, 4.5737f, 13.0000f ),
-            new Vector3f( 6.0000f, 5.9019f, 1.0000f ),
-            new Vector3f( 6.0000f, 5.2568f, 5.0000f ),
-            new Vector3f( 6.0000f, 5.1662f, 6.0000f ),
-            new Vector3f( 6.4529f, 5.0000f, 6.0000f ),
-            new Vector3f( 6.0000f, 5.3190f, 7.0000f ),
-            new Vector3f( 6.0000f, 5.9407f, 8.0000f ),
-            new Vector3f( 6.0000f, 5.0000f, 8.5876f ),
-            new Vector3f( 6.0000f, 5.0000f, 13.1466f ),
-            new Vector3f( 6.9292f, 5.0000f, 14.0000f ),
-            new Vector3f( 6.0000f, 6.5388f, 0.0000f ),
-            new Vector3f( 6.0000f, 6.0000f, 0.8483f ),
-            new Vector3f( 6.0000f, 6.0000f, 1.9217f ),
-            new Vector3f( 6.0000f, 6.0119f, 2.0000f ),
-            new Vector3f( 6.0205f, 6.0000f, 2.0000f ),
-            new Vector3f( 6.0000f, 6.4397f, 3.0000f ),
-            new Vector3f( 6.8637f, 6.0000f, 3.0000f ),
-            new Vector3f( 6.0000f, 6.0494f, 4.0000f ),
-            new Vector3f( 6.0688f, 6.0000f, 4.0000f ),
-            new Vector3f( 6.0000f, 6.0000f, 4.0923f ),
-            new Vector3f( 6.0000f, 6.0000f, 13.6844f ),
-            new Vector3f( 6.0000f, 6.2504f, 14.0000f ),
-            new Vector3f( 6.1267f, 6.0000f, 14.0000f ),
-            new Vector3f( 6.0000f, 6.7055f, 15.0000f ),
-            new Vector3f( 6.8708f, 7.0000f, 0.0000f ),
-            new Vector3f( 6.0000f, 7.0000f, 15.4082f ),
-            new Vector3f( 6.0000f, 7.2461f, 16.0000f ),
-            new Vector3f( 6.7589f, 7.0000f, 16.0000f ),
-            new Vector3f( 6.0000f, 7.3072f, 17.0000f ),
-            new Vector3f( 6.4377f, 7.0000f, 17.0000f ),
-            new Vector3f( 6.0000f, 7.4889f, 18.0000f ),
-            new Vector3f( 6.0000f, 7.8557f, 19.0000f ),
-            new Vector3f( 7.0000f, 4.8555f, 6.0000f ),
-            new Vector3f( 7.0000f, 4.9292f, 9.0000f ),
-            new Vector3f( 7.0000f, 4.3704f, 10.0000f ),
-            new Vector3f( 7.0000f, 4.2520f, 11.0000f ),
-            new Vector3f( 7.0000f, 4.1168f, 12.0000f ),
-            new Vector3f( 7.2771f, 4.0000f, 12.0000f ),
-            new Vector3f( 7.0000f, 4.5287f, 13.0000f ),
-            new Vector3f( 7.4796f, 4.0000f, 13.0000f ),
-            new Vector3f( 7.0000f, 4.8883f, 14.0000f ),
-            new Vector3f( 7.0000f, 5.9287f, 1.0000f ),
-            new Vector3f( 7.0000f, 5.6935f, 2.0000f ),
-            new Vector3f( 7.0000f, 5.9014f, 3.0000f ),
-            new Vector3f( 7.0000f, 5.5912f, 4.0000f ),
-            new Vector3f( 7.0000f, 5.1408f, 5.0000f ),
-            new Vector3f( 7.5383f, 5.0000f, 5.0000f ),
-            new Vector3f( 7.0000f, 5.0000f, 5.5849f ),
-            new Vector3f( 7.0000f, 5.0000f, 6.3265f ),
-            new Vector3f( 7.0000f, 5.2099f, 7.0000f ),
-            new Vector3f( 7.5168f, 5.0000f, 7.0000f ),
-            new Vector3f( 7.0000f, 5.7968f, 8.0000f ),
-            new Vector3f( 7.0000f, 5.0000f, 8.9244f ),
-            new Vector3f( 7.0000f, 5.0000f, 14.0353f ),
-            new Vector3f( 7.0000f, 6.0000f, 0.9399f ),
-            new Vector3f( 7.1669f, 6.0000f, 1.0000f ),
-            new Vector3f( 7.0000f, 6.0000f, 14.5974f ),
-            new Vector3f( 7.0000f, 6.5407f, 15.0000f ),
-            new Vector3f( 7.0000f, 6.6887f, 16.0000f ),
-            new Vector3f( 7.0000f, 6.5531f, 17.0000f ),
-            new Vector3f( 7.0000f, 7.0535f, 0.0000f ),
-            new Vector3f( 7.0000f, 7.0000f, 0.0842f ),
-            new Vector3f( 7.0000f, 7.0000f, 17.6438f ),
-            new Vector3f( 7.0000f, 7.2715f, 18.0000f ),
-            new Vector3f( 7.3191f, 7.0000f, 18.0000f ),
-            new Vector3f( 7.0000f, 7.4678f, 19.0000f ),
-            new Vector3f( 7.6979f, 7.0000f, 19.0000f ),
-            new Vector3f( 8.0000f, 3.5432f, 12.0000f ),
-            new Vector3f( 8.0000f, 3.7375f, 13.0000f ),
-            new Vector3f( 8.0000f, 4.7849f, 5.0000f ),
-            new Vector3f( 8.0000f, 4.3389f, 6.0000f ),
-            new Vector3f( 8.0000f, 4.7214f, 7.0000f ),
-            new Vector3f( 8.0000f, 4.6014f, 9.0000f ),
-            new Vector3f( 8.0000f, 4.2693f, 10.0000f ),
-            new Vector3f( 8.7837f, 4.0000f, 10.0000f ),
-            new Vector3f( 8.0000f, 4.1634f, 11.0000f ),
-            new Vector3f( 8.2007f, 4.0000f, 11.0000f ),
-            new Vector3f( 8.0000f, 4.0000f, 11.3621f ),
-            new Vector3f( 8.0000f, 4.0000f, 13.9797f ),
-            new Vector3f( 8.0000f, 4.0163f, 14.0000f ),
-            new Vector3f( 8.0000f, 5.4795f, 2.0000f ),
-            new Vector3f( 8.0000f, 5.3071f, 3.0000f ),
-            new Vector3f( 8.0000f, 5.3815f, 4.0000f ),
-            new Vector3f( 8.0000f, 5.0000f, 4.6785f ),
-            new Vector3f( 8.0000f, 5.0000f, 7.5268f ),
-            new Vector3f( 8.0000f, 5.1550f, 8.0000f ),
-            new Vector3f( 8.2390f, 5.0000f, 8.0000f ),
-            new Vector3f( 8.0000f, 5.0000f, 8.3132f ),
-            new Vector3f( 8.0000f, 5.0000f, 14.6252f ),
-            new Vector3f( 8.5580f, 5.0000f, 15.0000f ),
-            new Vector3f( 8.0000f, 6.3560f, 1.0000f ),
-            new Vector3f( 8.0000f, 6.0000f, 1.4011f ),
-            new Vector3f( 8.0000f, 6.0000f, 14.6912f ),
-            new Vector3f( 8.0000f, 6.4525f, 15.0000f ),
-            new Vector3f( 8.7145f, 6.0000f, 15.0000f ),
-            new Vector3f( 8.0000f, 6.6451f, 16.0000f ),
-            new Vector3f( 8.7329f, 6.0000f, 16.0000f ),
-            new Vector3f( 8.0000f, 6.1591f, 17.0000f ),
-            new Vector3f( 8.3456f, 6.0000f, 17.0000f ),
-            new Vector3f( 8.0000f, 6.1095f, 18.0000f ),
-            new Vector3f( 8.1396f, 6.0000f, 18.0000f ),
-            new Vector3f( 8.0000f, 6.6421f, 19.0000f ),
-            new Vector3f( 8.0000f, 7.3114f, 0.0000f ),
-            new Vector3f( 8.0000f, 7.0000f, 0.3966f ),
-            new Vector3f( 9.0000f, 3.8583f, 10.0000f ),
-            new Vector3f( 9.0000f, 3.3926f, 11.0000f ),
-            new Vector3f( 9.0000f, 3.4459f, 12.0000f ),
-            new Vector3f( 9.9874f, 3.0000f, 12.0000f ),
-            new Vector3f( 9.0000f, 3.9613f, 13.0000f ),
-            new Vector3f( 9.0000f, 4.5873f, 5.0000f ),
-            new Vector3f( 9.0000f, 4.5575f, 6.0000f ),
-            new Vector3f( 9.0000f, 4.5201f, 7.0000f ),
-            new Vector3f( 9.0000f, 4.4163f, 8.0000f ),
-            new Vector3f( 9.0000f, 4.0470f, 9.0000f ),
-            new Vector3f( 9.1272f, 4.0000f, 9.0000f ),
-            new Vector3f( 9.0000f, 4.0000f, 9.3804f ),
-            new Vector3f( 9.0000f, 4.0000f, 13.0632f ),
-            new Vector3f( 9.0000f, 4.3917f, 14.0000f ),
-            new Vector3f( 9.0000f, 4.7468f, 15.0000f ),
-            new Vector3f( 9.0000f, 5.2429f, 2.0000f ),
-            new Vector3f( 9.0000f, 5.2040f, 3.0000f ),
-            new Vector3f( 9.0000f, 5.2014f, 4.0000f ),
-            new Vector3f( 9.0000f, 5.0000f, 4.4317f ),
-            new Vector3f( 9.6492f, 5.0000f, 5.0000f ),
-            new Vector3f( 9.9025f, 5.0000f, 6.0000f ),
-            new Vector3f( 9.0000f, 5.0000f, 15.5732f ),
-            new Vector3f( 9.0000f, 5.4473f, 16.0000f ),
-            new Vector3f( 9.3077f, 5.0000f, 16.0000f ),
-            new Vector3f( 9.0000f, 5.5576f, 17.0000f ),
-            new Vector3f( 9.0000f, 5.6709f, 18.0000f ),
-            new Vector3f( 9.0000f, 6.0568f, 1.0000f ),
-            new Vector3f( 9.0869f, 6.0000f, 1.0000f ),
-            new Vector3f( 9.0000f, 6.0000f, 1.0654f ),
-            new Vector3f( 9.6258f, 6.0000f, 18.0000f ),
-            new Vector3f( 9.0000f, 6.0000f, 18.7940f ),
-            new Vector3f( 9.0000f, 6.1568f, 19.0000f ),
-            new Vector3f( 9.0000f, 7.1721f, 0.0000f ),
-            new Vector3f( 9.4383f, 7.0000f, 0.0000f ),
-            new Vector3f( 9.0000f, 7.0000f, 0.1308f ),
-            new Vector3f( 10.0000f, 2.9954f, 12.0000f ),
-            new Vector3f( 10.0000f, 3.6117f, 9.0000f ),
-            new Vector3f( 10.0000f, 3.4547f, 10.0000f ),
-            new Vector3f( 10.0000f, 3.0953f, 11.0000f ),
-            new Vector3f( 10.0000f, 3.0000f, 11.9341f ),
-            new Vector3f( 10.0510f, 3.0000f, 12.0000f ),
-            new Vector3f( 10.0000f, 3.0000f, 12.0067f ),
-            new Vector3f( 10.0000f, 3.9516f, 13.0000f ),
-            new Vector3f( 10.0000f, 4.5218f, 7.0000f ),
-            new Vector3f( 10.0000f, 4.0572f, 8.0000f ),
-            new Vector3f( 10.0000f, 4.0000f, 8.1116f ),
-            new Vector3f( 10.4719f, 4.0000f, 9.0000f ),
-            new Vector3f( 10.7106f, 4.0000f, 10.0000f ),
-            new Vector3f( 10.0000f, 4.0000f, 13.0755f ),
-            new Vector3f( 10.0000f, 4.4798f, 14.0000f ),
-            new Vector3f( 10.8129f, 4.0000f, 14.0000f ),
-            new Vector3f( 10.0000f, 4.4333f, 15.0000f ),
-            new Vector3f( 10.6145f, 4.0000f, 15.0000f ),
-            new Vector3f( 10.0000f, 4.7229f, 16.0000f ),
-            new Vector3f( 10.0000f, 5.5881f, 1.0000f ),
-            new Vector3f( 10.0000f, 5.2862f, 2.0000f ),
-            new Vector3f( 10.0000f, 5.2770f, 3.0000f ),
-            new Vector3f( 10.0000f, 5.1055f, 4.0000f ),
-            new Vector3f( 10.0000f, 5.1723f, 5.0000f ),
-            new Vector3f( 10.0000f, 5.0464f, 6.0000f ),
-            new Vector3f( 10.0000f, 5.0000f, 6.0602f ),
-            new Vector3f( 10.8183f, 5.0000f, 7.0000f ),
-            new Vector3f( 10.0000f, 5.0000f, 16.5095f ),
-            new Vector3f( 10.0000f, 5.7351f, 17.0000f ),
-            new Vector3f( 10.0000f, 6.8123f, 0.0000f ),
-            new Vector3f( 10.0000f, 6.0000f, 0.5687f ),
-            new Vector3f( 10.0000f, 6.0000f, 17.3713f ),
-            new Vector3f( 10.0000f, 6.1830f, 18.0000f ),
-            new Vector3f( 10.0000f, 6.2081f, 19.0000f ),
-            new Vector3f( 11.0000f, 3.7681f, 11.0000f ),
-            new Vector3f( 11.0000f, 3.1354f, 12.0000f ),
-            new Vector3f( 11.0000f, 3.4853f, 13.0000f ),
-            new Vector3f( 11.0000f, 3.8531f, 14.0000f ),
-            new Vector3f( 11.0000f, 3.7938f, 15.0000f ),
-            new Vector3f( 11.0000f, 4.6308f, 8.0000f ),
-            new Vector3f( 11.0000f, 4.3149f, 9.0000f ),
-            new Vector3f( 11.0000f, 4.1372f, 10.0000f ),
-            new Vector3f( 11.0000f, 4.0000f, 10.5331f ),
-            new Vector3f( 11.4134f, 4.0000f, 11.0000f ),
-            new Vector3f( 11.0000f, 4.0000f, 15.3471f ),
-            new Vector3f( 11.0000f, 4.5876f, 16.0000f ),
-            new Vector3f( 11.9755f, 4.0000f, 16.0000f ),
-            new Vector3f( 11.0000f, 5.6460f, 1.0000f ),
-            new Vector3f( 11.0000f, 5.5502f, 2.0000f ),
-            new Vector3f( 11.0000f, 5.1556f, 3.0000f ),
-            new Vector3f( 11.0000f, 5.0468f, 4.0000f ),
-            new Vector3f( 11.0000f, 5.2864f, 5.0000f ),
-            new Vector3f( 11.0000f, 5.7299f, 6.0000f ),
-            new Vector3f( 11.0000f, 5.1172f, 7.0000f ),
-            new Vector3f( 11.0000f, 5.0000f, 7.2538f ),
-            new Vector3f( 11.0000f, 5.0000f, 16.2593f ),
-            new Vector3f( 11.0000f, 5.9015f, 17.0000f ),
-            new Vector3f( 11.9094f, 5.0000f, 18.0000f ),
-            new Vector3f( 11.9599f, 5.0000f, 19.0000f ),
-            new Vector3f( 11.0000f, 6.9438f, 0.0000f ),
-            new Vector3f( 11.0000f, 6.0000f, 0.4645f ),
-            new Vector3f( 11.9565f, 6.0000f, 1.0000f ),
-            new Vector3f( 11.0000f, 6.0000f, 17.4915f ),
-            new Vector3f( 11.0000f, 6.0675f, 18.0000f ),
-            new Vector3f( 11.1958f, 6.0000f, 18.0000f ),
-            new Vector3f( 11.0000f, 6.3658f, 19.0000f ),
-            new Vector3f( 11.5099f, 6.0000f, 19.0000f ),
-            new Vector3f( 11.5640f, 7.0000f, 0.0000f ),
-            new Vector3f( 12.0000f, 3.5615f, 12.0000f ),
-            new Vector3f( 12.0000f, 3.4044f, 13.0000f ),
-            new Vector3f( 12.0000f, 3.6407f, 14.0000f ),
-            new Vector3f( 12.0000f, 3.7060f, 15.0000f ),
-            new Vector3f( 12.0000f, 3.9903f, 16.0000f ),
-            new Vector3f( 12.0000f, 4.9484f, 8.0000f ),
-            new Vector3f( 12.0000f, 4.7344f, 9.0000f ),
-            new Vector3f( 12.0000f, 4.6514f, 10.0000f ),
-            new Vector3f( 12.0000f, 4.2110f, 11.0000f ),
-            new Vector3f( 12.0000f, 4.0000f, 11.2764f ),
-            new Vector3f( 12.0671f, 4.0000f, 16.0000f ),
-            new Vector3f( 12.0000f, 4.0000f, 16.0416f ),
-            new Vector3f( 12.5316f, 4.0000f, 17.0000f ),
-            new Vector3f( 12.0000f, 4.8920f, 18.0000f ),
-            new Vector3f( 12.0000f, 4.9539f, 19.0000f ),
-            new Vector3f( 12.0000f, 5.6273f, 2.0000f ),
-            new Vector3f( 12.0000f, 5.3948f, 3.0000f ),
-            new Vector3f( 12.0000f, 5.6725f, 4.0000f ),
-            new Vector3f( 12.0000f, 5.5921f, 5.0000f ),
-            new Vector3f( 12.0000f, 5.7978f, 6.0000f ),
-            new Vector3f( 12.0000f, 5.3719f, 7.0000f ),
-            new Vector3f( 12.0000f, 5.0000f, 7.8961f ),
-            new Vector3f( 12.0708f, 5.0000f, 8.0000f ),
-            new Vector3f( 12.7216f, 5.0000f, 9.0000f ),
-            new Vector3f( 12.0000f, 5.0000f, 16.7463f ),
-            new Vector3f( 12.0000f, 5.1938f, 17.0000f ),
-            new Vector3f( 12.2717f, 5.0000f, 17.0000f ),
-            new Vector3f( 12.0000f, 5.0000f, 17.6209f ),
-            new Vector3f( 12.0000f, 6.0261f, 1.0000f ),
-            new Vector3f( 12.0000f, 6.0000f, 1.0463f ),
-            new Vector3f( 12.0000f, 7.0341f, 0.0000f ),
-            new Vector3f( 12.1341f, 7.0000f, 0.0000f ),
-            new Vector3f( 12.0000f, 7.0000f, 0.0230f ),
-            new Vector3f( 13.0000f, 3.7821f, 12.0000f ),
-            new Vector3f( 13.0000f, 3.5681f, 13.0000f ),
-            new Vector3f( 13.0000f, 3.5800f, 14.0000f ),
-            new Vector3f( 13.0000f, 3.7608f, 15.0000f ),
-            new Vector3f( 13.0000f, 3.6756f, 17.0000f ),
-            new Vector3f( 13.0000f, 4.8658f, 10.0000f ),
-            new Vector3f( 13.0000f, 4.3266f, 11.0000f ),
-            new Vector3f( 13.0000f, 4.0000f, 11.5894f ),
-            new Vector3f( 13.4171f, 4.0000f, 12.0000f ),
-            new Vector3f( 13.7076f, 4.0000f, 15.0000f ),
-            new Vector3f( 13.0000f, 4.0000f, 15.6631f ),
-            new Vector3f( 13.0000f, 4.2098f, 16.0000f ),
-            new Vector3f( 13.0000f, 4.0000f, 16.4066f ),
-            new Vector3f( 13.0000f, 4.0000f, 17.7763f ),
-            new Vector3f( 13.0000f, 4.1213f, 18.0000f ),
-            new Vector3f( 13.6607f, 4.0000f, 18.0000f ),
-            new Vector3f( 13.0000f, 4.4645f, 19.0000f ),
-            new Vector3f( 13.0000f, 5.9868f, 2.0000f ),
-            new Vector3f( 13.0000f, 5.7496f, 3.0000f ),
-            new Vector3f( 13.0000f, 5.8043f, 4.0000f ),
-            new Vector3f( 13.0000f, 5.9621f, 5.0000f ),
-            new Vector3f( 13.0000f, 5.7177f, 6.0000f ),
-            new Vector3f( 13.0000f, 5.5649f, 7.0000f ),
-            new Vector3f( 13.0000f, 5.4330f, 8.0000f ),
-            new Vector3f( 13.0000f, 5.0840f, 9.0000f ),
-            new Vector3f( 13.0000f, 5.0000f, 9.3950f ),
-            new Vector3f( 13.7452f, 5.0000f, 15.0000f ),
-            new Vector3f( 13.0000f, 6.7934f, 0.0000f ),
-            new Vector3f( 13.0000f, 6.1990f, 1.0000f ),
-            new Vector3f( 13.0000f, 6.0000f, 1.9459f ),
-            new Vector3f( 13.0461f, 6.0000f, 2.0000f ),
-            new Vector3f( 13.8994f, 6.0000f, 3.0000f ),
-            new Vector3f( 13.6393f, 6.0000f, 4.0000f ),
-            new Vector3f( 13.3848f, 6.0000f, 5.0000f ),
-            new Vector3f( 14.0000f, 3.7889f, 13.0000f ),
-            new Vector3f( 14.0000f, 3.6976f, 14.0000f ),
-            new Vector3f( 14.0000f, 3.6265f, 17.0000f ),
-            new Vector3f( 14.0000f, 3.7884f, 18.0000f ),
-            new Vector3f( 14.0000f, 4.7707f, 10.0000f ),
-            new Vector3f( 14.0000f, 4.6531f, 11.0000f ),
-            new Vector3f( 14.0000f, 4.3728f, 12.0000f ),
-            new Vector3f( 14.0000f, 4.0000f, 12.5635f ),
-            new Vector3f( 14.3172f, 4.0000f, 13.0000f ),
-            new Vector3f( 14.2930f, 4.0000f, 14.0000f ),
-            new Vector3f( 14.0000f, 4.0000f, 14.7367f ),
-            new Vector3f( 14.0000f, 4.4936f, 16.0000f ),
-            new Vector3f( 14.0000f, 4.0000f, 16.3467f ),
-            new Vector3f( 14.0000f, 4.0000f, 18.2780f ),
-            new Vector3f( 14.0000f, 4.1239f, 19.0000f ),
-            new Vector3f( 14.6336f, 4.0000f, 19.0000f ),
-            new Vector3f( 14.0000f, 5.8031f, 6.0000f ),
-            new Vector3f( 14.0000f, 5.9334f, 7.0000f ),
-            new Vector3f( 14.0000f, 5.6400f, 8.0000f ),
-            new Vector3f( 14.0000f, 5.2614f, 9.0000f ),
-            new Vector3f( 14.0000f, 5.0000f, 9.5320f ),
-            new Vector3f( 14.5782f, 5.0000f, 14.0000f ),
-            new Vector3f( 14.0000f, 5.0000f, 14.6899f ),
-            new Vector3f( 14.0000f, 5.2947f, 15.0000f ),
-            new Vector3f( 14.0000f, 5.0000f, 15.4543f ),
-            new Vector3f( 14.0000f, 6.6419f, 0.0000f ),
-            new Vector3f( 14.0000f, 6.4638f, 1.0000f ),
-            new Vector3f( 14.0000f, 6.2441f, 2.0000f ),
-            new Vector3f( 14.0000f, 6.0466f, 3.0000f ),
-            new Vector3f( 14.6273f, 6.0000f, 3.0000f ),
-            new Vector3f( 14.0000f, 6.1574f, 4.0000f ),
-            new Vector3f( 14.0000f, 6.0819f, 5.0000f ),
-            new Vector3f( 14.0000f, 6.0000f, 5.2752f ),
-            new Vector3f( 15.0000f, 3.5297f, 17.0000f ),
-            new Vector3f( 15.0000f, 3.9006f, 18.0000f ),
-            new Vector3f( 15.0000f, 3.9323f, 19.0000f ),
-            new Vector3f( 15.0000f, 4.9553f, 10.0000f ),
-            new Vector3f( 15.0000f, 4.9704f, 11.0000f ),
-            new Vector3f( 15.0000f, 4.6806f, 12.0000f ),
-            new Vector3f( 15.0000f, 4.8825f, 13.0000f ),
-            new Vector3f( 15.0000f, 4.2067f, 16.0000f ),
-            new Vector3f( 15.0000f, 4.0000f, 16.2755f ),
-            new Vector3f( 15.9517f, 4.0000f, 17.0000f ),
-            new Vector3f( 15.0000f, 5.9765f, 3.0000f ),
-            new Vector3f( 15.0000f, 5.5966f, 6.0000f ),
-            new Vector3f( 15.0000f, 5.7557f, 7.0000f ),
-            new Vector3f( 15.0000f, 5.4378f, 8.0000f ),
-            new Vector3f( 15.0000f, 5.3534f, 9.0000f ),
-            new Vector3f( 15.0000f, 5.0000f, 9.8694f ),
-            new Vector3f( 15.7574f, 5.0000f, 10.0000f ),
-            new Vector3f( 15.8555f, 5.0000f, 12.0000f ),
-            new Vector3f( 15.2980f, 5.0000f, 13.0000f ),
-            new Vector3f( 15.0000f, 5.0000f, 13.2486f ),
-            new Vector3f( 15.0000f, 5.3711f, 14.0000f ),
-            new Vector3f( 15.0000f, 5.0787f, 15.0000f ),
-            new Vector3f( 15.0000f, 5.0000f, 15.0338f ),
-            new Vector3f( 15.0000f, 6.1157f, 0.0000f ),
-            new Vector3f( 15.1817f, 6.0000f, 0.0000f ),
-            new Vector3f( 15.0000f, 6.4579f, 1.0000f ),
-            new Vector3f( 15.7234f, 6.0000f, 1.0000f ),
-            new Vector3f( 15.0000f, 6.2704f, 2.0000f ),
-            new Vector3f( 15.4450f, 6.0000f, 2.0000f ),
-            new Vector3f( 15.0000f, 6.0000f, 2.9131f ),
-            new Vector3f( 15.0000f, 6.0000f, 3.1551f ),
-            new Vector3f( 15.0000f, 6.1528f, 4.0000f ),
-            new Vector3f( 15.5620f, 6.0000f, 4.0000f ),
-            new Vector3f( 15.0000f, 6.0294f, 5.0000f ),
-            new Vector3f( 15.0000f, 6.0000f, 5.0813f ),
-            new Vector3f( 16.0000f, 3.8275f, 18.0000f ),
-            new Vector3f( 16.0000f, 3.7915f, 19.0000f ),
-            new Vector3f( 16.0000f, 4.9788f, 11.0000f ),
-            new Vector3f( 16.0000f, 4.3842f, 16.0000f ),
-            new Vector3f( 16.0000f, 4.0242f, 17.0000f ),
-            new Vector3f( 16.0000f, 4.0000f, 17.0920f ),
-            new Vector3f( 16.0000f, 5.2922f, 0.0000f ),
-            new Vector3f( 16.2737f, 5.0000f, 0.0000f ),
-            new Vector3f( 16.0000f, 5.6999f, 1.0000f ),
-            new Vector3f( 16.6679f, 5.0000f, 1.0000f ),
-            new Vector3f( 16.0000f, 5.4748f, 2.0000f ),
-            new Vector3f( 16.4603f, 5.0000f, 2.0000f ),
-            new Vector3f( 16.0000f, 5.3785f, 3.0000f ),
-            new Vector3f( 16.6029f, 5.0000f, 3.0000f ),
-            new Vector3f( 16.0000f, 5.8159f, 4.0000f ),
-            new Vector3f( 16.0000f, 5.6337f, 6.0000f ),
-            new Vector3f( 16.0000f, 5.5724f, 7.0000f ),
-            new Vector3f( 16.0000f, 5.5175f, 8.0000f ),
-            new Vector3f( 16.0000f, 5.4204f, 9.0000f ),
-            new Vector3f( 16.0000f, 5.0200f, 10.0000f ),
-            new Vector3f( 16.0000f, 5.0000f, 10.4311f ),
-            new Vector3f( 16.0000f, 5.0000f, 11.3410f ),
-            new Vector3f( 16.0000f, 5.0383f, 12.0000f ),
-            new Vector3f( 16.1421f, 5.0000f, 12.0000f ),
-            new Vector3f( 16.0000f, 5.1766f, 13.0000f ),
-            new Vector3f( 16.0000f, 5.6008f, 14.0000f ),
-            new Vector3f( 16.0000f, 5.2767f, 15.0000f ),
-            new Vector3f( 16.0000f, 5.0000f, 15.2474f ),
-            new Vector3f( 16.0000f, 6.0000f, 4.7400f ),
-            new Vector3f( 16.0000f, 6.0390f, 5.0000f ),
-            new Vector3f( 16.1572f, 6.0000f, 5.0000f ),
-            new Vector3f( 16.0000f, 6.0000f, 5.0763f ),
-            new Vector3f( 17.0000f, 3.9907f, 18.0000f ),
-            new Vector3f( 17.0000f, 3.8408f, 19.0000f ),
-            new Vector3f( 17.0000f, 4.4170f, 0.0000f ),
-            new Vector3f( 17.0000f, 4.5509f, 1.0000f ),
-            new Vector3f( 17.0000f, 4.5655f, 2.0000f ),
-            new Vector3f( 17.0000f, 4.8750f, 3.0000f ),
-            new Vector3f( 17.0000f, 4.9017f, 11.0000f ),
-            new Vector3f( 17.0000f, 4.8190f, 12.0000f ),
-            new Vector3f( 17.0000f, 4.5650f, 16.0000f ),
-            new Vector3f( 17.0000f, 4.1685f, 17.0000f ),
-            new Vector3f( 17.0000f, 4.0000f, 17.9405f ),
-            new Vector3f( 17.5204f, 4.0000f, 18.0000f ),
-            new Vector3f( 17.6465f, 4.0000f, 19.0000f ),
-            new Vector3f( 17.0000f, 5.0000f, 3.1797f ),
-            new Vector3f( 17.0000f, 5.4838f, 4.0000f ),
-            new Vector3f( 17.0000f, 5.7335f, 5.0000f ),
-            new Vector3f( 17.0000f, 5.5651f, 6.0000f ),
-            new Vector3f( 17.0000f, 5.4514f, 7.0000f ),
-            new Vector3f( 17.7782f, 5.0000f, 7.0000f ),
-            new Vector3f( 17.0000f, 5.1194f, 8.0000f ),
-            new Vector3f( 17.3777f, 5.0000f, 8.0000f ),
-            new Vector3f( 17.0000f, 5.3014f, 9.0000f ),
-            new Vector3f( 17.0000f, 5.0717f, 10.0000f ),
-            new Vector3f( 17.0000f, 5.0000f, 10.4654f ),
-            new Vector3f( 17.3956f, 5.0000f, 12.0000f ),
-            new Vector3f( 17.0000f, 5.0000f, 12.4785f ),
-            new Vector3f( 17.0000f, 5.3984f, 13.0000f ),
-            new Vector3f( 17.0000f, 5.9370f, 14.0000f ),
-            new Vector3f( 17.0000f, 5.2826f, 15.0000f ),
-            new Vector3f( 17.0000f, 5.0000f, 15.3423f ),
-            new Vector3f( 17.8622f, 6.0000f, 13.0000f ),
-            new Vector3f( 17.3917f, 6.0000f, 14.0000f ),
-            new Vector3f( 18.0000f, 4.3906f, 0.0000f ),
-            new Vector3f( 18.0000f, 4.6259f, 1.0000f ),
-            new Vector3f( 18.0000f, 4.5362f, 2.0000f ),
-            new Vector3f( 18.0000f, 4.8011f, 3.0000f ),
-            new Vector3f( 18.0000f, 4.8502f, 7.0000f ),
-            new Vector3f( 18.0000f, 4.7476f, 8.0000f ),
-            new Vector3f( 18.0000f, 4.9869f, 11.0000f ),
-            new Vector3f( 18.0000f, 4.6045f, 16.0000f ),
-            new Vector3f( 18.0000f, 4.2348f, 17.0000f ),
-            new Vector3f( 18.0000f, 4.0105f, 18.0000f ),
-            new Vector3f( 18.0000f, 4.0990f, 19.0000f ),
-            new Vector3f( 18.0000f, 5.0000f, 3.6667f ),
-            new Vector3f( 18.0000f, 5.1048f, 4.0000f ),
-            new Vector3f( 18.7416f, 5.0000f, 4.0000f ),
-            new Vector3f( 18.0000f, 5.0399f, 5.0000f ),
-            new Vector3f( 18.0000f, 5.2488f, 6.0000f ),
-            new Vector3f( 18.0000f, 5.0000f, 6.6717f ),
-            new Vector3f( 18.0000f, 5.0000f, 8.4416f ),
-            new Vector3f( 18.0000f, 5.2392f, 9.0000f ),
-            new Vector3f( 18.0000f, 5.0173f, 10.0000f ),
-            new Vector3f( 18.0000f, 5.0000f, 10.4892f ),
-            new Vector3f( 18.0146f, 5.0000f, 11.0000f ),
-            new Vector3f( 18.0000f, 5.0000f, 11.0331f ),
-            new Vector3f( 18.0000f, 5.6006f, 12.0000f ),
-            new Vector3f( 18.0000f, 5.2984f, 15.0000f ),
-            new Vector3f( 18.0000f, 5.0000f, 15.4357f ),
-            new Vector3f( 18.9427f, 6.0000f, 10.0000f ),
-            new Vector3f( 18.8895f, 6.0000f, 11.0000f ),
-            new Vector3f( 18.4748f, 6.0000f, 12.0000f ),
-            new Vector3f( 18.0000f, 6.0000f, 12.7943f ),
-            new Vector3f( 18.0000f, 6.0952f, 13.0000f ),
-            new Vector3f( 18.0000f, 6.0933f, 14.0000f ),
-            new Vector3f( 18.0000f, 6.0000f, 14.1225f ),
-            new Vector3f( 19.0000f, 4.7704f, 0.0000f ),
-            new Vector3f( 19.0000f, 4.7249f, 1.0000f ),
-            new Vector3f( 19.0000f, 4.5791f, 2.0000f ),
-            new Vector3f( 19.0000f, 4.7856f, 3.0000f ),
-            new Vector3f( 19.0000f, 4.9662f, 4.0000f ),
-            new Vector3f( 19.0000f, 4.8835f, 7.0000f ),
-            new Vector3f( 19.0000f, 4.8264f, 8.0000f ),
-            new Vector3f( 19.0000f, 4.5545f, 16.0000f ),
-            new Vector3f( 19.0000f, 4.3276f, 17.0000f ),
-            new Vector3f( 19.0000f, 4.0845f, 18.0000f ),
-            new Vector3f( 19.0000f, 4.1743f, 19.0000f ),
-            new Vector3f( 19.0000f, 5.0000f, 4.1070f ),
-            new Vector3f( 19.0000f, 5.3840f, 5.0000f ),
-            new Vector3f( 19.0000f, 5.0917f, 6.0000f ),
-            new Vector3f( 19.0000f, 5.0000f, 6.3602f ),
-            new Vector3f( 19.0000f, 5.0000f, 8.4080f ),
-            new Vector3f( 19.0000f, 5.3644f, 9.0000f ),
-            new Vector3f( 19.0000f, 5.4970f, 15.0000f ),
-            new Vector3f( 19.0000f, 5.0000f, 15.6911f ),
-            new Vector3f( 19.0000f, 6.0000f, 9.9078f ),
-            new Vector3f( 19.0000f, 6.0516f, 10.0000f ),
-            new Vector3f( 19.0000f, 6.0990f, 11.0000f ),
-            new Vector3f( 19.0000f, 6.3556f, 12.0000f ),
-            new Vector3f( 19.0000f, 6.4153f, 13.0000f ),
-            new Vector3f( 19.0000f, 6.1246f, 14.0000f ),
-            new Vector3f( 19.0000f, 6.0000f, 14.1889f )
-    };
+    // the resource is mapped when it is a file on disk, and only copied when it is inside a jar.
+    private static Mesh readResource() {
+
+        URL url = TestTerrain.class.getClassLoader().getResource(RESOURCE);
 
-    private static final Vector3f[] normalData = {
-            new Vector3f( -0.7915f, 0.5437f, 0.2790f ),
-            new Vector3f( -0.6070f, 0.7798f, -0.1529f ),
-            new Vector3f( -0.4904f, 0.8327f, -0.2572f ),
-            new Vector3f( -0.6291f, 0.7738f, 0.0732f ),
-            new Vector3f( -0.8573f, 0.5114f, 0.0585f ),
-            new Vector3f( -0.8637f, 0.4952f, -0.0934f ),
-            new Vector3f( -0.9397f, 0.2524f, 0.2308f ),
-            new Vector3f( -0.9564f, 0.1903f, 0.2214f ),
-            new Vector3f( -0.8711f, 0.3807f, 0.3103f ),
-            new Vector3f( -0.7116f, 0.7022f, -0.0240f ),
-            new Vector3f( -0.6298f, 0.7676f, -0.1189f ),
-            new Vector3f( -0.5714f, 0.8156f, -0.0911f ),
-            new Vector3f( -0.6234f, 0.7818f, -0.0122f ),
-            new Vector3f( -0.5730f, 0.8151f, 0.0852f ),
-            new Vector3f( -0.6554f, 0.7550f, -0.0203f ),
-            new Vector3f( -0.7056f, 0.6798f, -0.2001f ),
-            new Vector3f( -0.6698f, 0.6954f, -0.2601f ),
-            new Vector3f( -0.6663f, 0.6217f, -0.4117f ),
-            new Vector3f( -0.9088f, 0.4033f, 0.1065f ),
-            new Vector3f( -0.7859f, 0.5514f, -0.2798f ),
-            new Vector3f( -0.8815f, 0.3382f, -0.3296f ),
-            new Vector3f( -0.8260f, 0.5619f, -0.0441f ),
-            new Vector3f( -0.9472f, 0.2790f, 0.1580f ),
-            new Vector3f( -0.8922f, 0.3642f, 0.2669f ),
-            new Vector3f( -0.8921f, 0.2380f, 0.3841f ),
-            new Vector3f( -0.5984f, 0.7632f, -0.2438f ),
-            new Vector3f( -0.5235f, 0.7761f, -0.3516f ),
-            new Vector3f( -0.5855f, 0.7813f, -0.2162f ),
-            new Vector3f( -0.6157f, 0.7726f, -0.1548f ),
-            new Vector3f( -0.7086f, 0.6762f, -0.2015f ),
-            new Vector3f( -0.7204f, 0.6463f, -0.2515f ),
-            new Vector3f( -0.4466f, 0.7683f, 0.4585f ),
-            new Vector3f( -0.4759f, 0.8107f, 0.3410f ),
-            new Vector3f( -0.8170f, 0.5725f, 0.0688f ),
-            new Vector3f( -0.7500f, 0.6458f, 0.1430f ),
-            new Vector3f( -0.8010f, 0.5961f, 0.0559f ),
-            new Vector3f( -0.5586f, 0.8281f, -0.0476f ),
-            new Vector3f( -0.6805f, 0.7083f, 0.1876f ),
-            new Vector3f( -0.6401f, 0.7220f, -0.2627f ),
-            new Vector3f( -0.5969f, 0.5891f, -0.5446f ),
-            new Vector3f( -0.5903f, 0.5970f, -0.5433f ),
-            new Vector3f( -0.5127f, 0.8338f, 0.2049f ),
-            new Vector3f( -0.4700f, 0.7718f, 0.4284f ),
-            new Vector3f( -0.5033f, 0.7460f, 0.4361f ),
-            new Vector3f( -0.7183f, 0.6951f, -0.0313f ),
-            new Vector3f( -0.7602f, 0.6496f, 0.0089f ),
-            new Vector3f( -0.8549f, 0.4637f, 0.2327f ),
-            new Vector3f( -0.9308f, 0.2361f, 0.2792f ),
-            new Vector3f( -0.6852f, 0.7209f, 0.1038f ),
-            new Vector3f( -0.6221f, 0.7830f, 0.0034f ),
-            new Vector3f( -0.5682f, 0.8131f, -0.1266f ),
-            new Vector3f( -0.7532f, 0.6464f, 0.1222f ),
-            new Vector3f( -0.6266f, 0.7790f, -0.0216f ),
-            new Vector3f( -0.8871f, 0.2949f, 0.3550f ),
-            new Vector3f( -0.8789f, 0.3129f, 0.3600f ),
-            new Vector3f( -0.6663f, 0.7386f, 0.1027f ),
-            new Vector3f( -0.5594f, 0.8282f, -0.0348f ),
-            new Vector3f( -0.5486f, 0.8279f, -0.1165f ),
-            new Vector3f( -0.6309f, 0.7442f, -0.2195f ),
-            new Vector3f( -0.5807f, 0.7876f, -0.2061f ),
-            new Vector3f( -0.3817f, 0.9024f, -0.2001f ),
-            new Vector3f( -0.4213f, 0.8530f, -0.3080f ),
-            new Vector3f( -0.3533f, 0.8755f, -0.3297f ),
-            new Vector3f( -0.6161f, 0.7876f, -0.0078f ),
-            new Vector3f( -0.7353f, 0.6777f, -0.0064f ),
-            new Vector3f( -0.7683f, 0.6373f, -0.0593f ),
-            new Vector3f( -0.6548f, 0.7558f, -0.0011f ),
-            new Vector3f( -0.6317f, 0.7751f, -0.0111f ),
-            new Vector3f( -0.6081f, 0.7932f, -0.0332f ),
-            new Vector3f( -0.5261f, 0.8503f, -0.0166f ),
-            new Vector3f( -0.6546f, 0.7293f, 0.1989f ),
-            new Vector3f( -0.6562f, 0.6993f, 0.2834f ),
-            new Vector3f( -0.2494f, 0.8681f, -0.4292f ),
-            new Vector3f( -0.4021f, 0.8564f, -0.3237f ),
-            new Vector3f( -0.4377f, 0.8259f, -0.3554f ),
-            new Vector3f( -0.3084f, 0.9199f, -0.2423f ),
-            new Vector3f( -0.4216f, 0.9025f, 0.0876f ),
-            new Vector3f( -0.6210f, 0.7405f, 0.2569f ),
-            new Vector3f( -0.7384f, 0.6739f, 0.0238f ),
-            new Vector3f( -0.7534f, 0.6424f, -0.1407f ),
-            new Vector3f( -0.8094f, 0.5758f, 0.1157f ),
-            new Vector3f( -0.6653f, 0.6986f, 0.2634f ),
-            new Vector3f( -0.6891f, 0.7245f, -0.0169f ),
-            new Vector3f( -0.1030f, 0.8955f, -0.4329f ),
-            new Vector3f( -0.4115f, 0.9082f, 0.0768f ),
-            new Vector3f( -0.5441f, 0.8180f, 0.1868f ),
-            new Vector3f( -0.6957f, 0.7182f, -0.0146f ),
-            new Vector3f( -0.7473f, 0.6490f, -0.1425f ),
-            new Vector3f( -0.7554f, 0.6509f, 0.0753f ),
-            new Vector3f( -0.2602f, 0.8110f, 0.5240f ),
-            new Vector3f( -0.5487f, 0.7996f, 0.2440f ),
-            new Vector3f( -0.6487f, 0.7565f, 0.0829f ),
-            new Vector3f( -0.4580f, 0.8855f, -0.0786f ),
-            new Vector3f( -0.4027f, 0.8978f, -0.1783f ),
-            new Vector3f( -0.4480f, 0.8628f, -0.2343f ),
-            new Vector3f( -0.2670f, 0.9550f, -0.1296f ),
-            new Vector3f( -0.5921f, 0.7993f, -0.1028f ),
-            new Vector3f( -0.7849f, 0.6118f, 0.0986f ),
-            new Vector3f( -0.5969f, 0.7607f, 0.2550f ),
-            new Vector3f( -0.2671f, 0.7717f, 0.5771f ),
-            new Vector3f( -0.6045f, 0.6681f, 0.4338f ),
-            new Vector3f( -0.7610f, 0.6458f, 0.0610f ),
-            new Vector3f( -0.7266f, 0.6594f, 0.1930f ),
-            new Vector3f( -0.4931f, 0.8275f, 0.2686f ),
-            new Vector3f( -0.3802f, 0.9162f, -0.1266f ),
-            new Vector3f( -0.2659f, 0.9557f, -0.1263f ),
-            new Vector3f( -0.2657f, 0.9533f, -0.1434f ),
-            new Vector3f( -0.1031f, 0.9404f, -0.3240f ),
-            new Vector3f( 0.0591f, 0.9080f, -0.4148f ),
-            new Vector3f( -0.6869f, 0.6556f, 0.3136f ),
-            new Vector3f( -0.7537f, 0.6519f, 0.0832f ),
-            new Vector3f( -0.6071f, 0.7899f, -0.0861f ),
-            new Vector3f( -0.5197f, 0.8518f, -0.0663f ),
-            new Vector3f( -0.6270f, 0.7779f, -0.0429f ),
-            new Vector3f( -0.7844f, 0.6120f, 0.1008f ),
-            new Vector3f( -0.7855f, 0.6110f, 0.0987f ),
-            new Vector3f( -0.6407f, 0.7289f, 0.2413f ),
-            new Vector3f( -0.0962f, 0.8902f, -0.4453f ),
-            new Vector3f( -0.0883f, 0.8771f, -0.4721f ),
-            new Vector3f( -0.0699f, 0.8494f, -0.5232f ),
-            new Vector3f( -0.3248f, 0.9388f, -0.1149f ),
-            new Vector3f( -0.5284f, 0.8474f, 0.0529f ),
-            new Vector3f( -0.5891f, 0.8080f, -0.0082f ),
-            new Vector3f( -0.6689f, 0.7382f, -0.0879f ),
-            new Vector3f( -0.6812f, 0.7127f, -0.1678f ),
-            new Vector3f( -0.7537f, 0.5844f, -0.3006f ),
-            new Vector3f( -0.8529f, 0.5188f, 0.0590f ),
-            new Vector3f( -0.5671f, 0.3647f, 0.7385f ),
-            new Vector3f( -0.5100f, 0.8252f, -0.2428f ),
-            new Vector3f( -0.6043f, 0.7759f, -0.1813f ),
-            new Vector3f( -0.6307f, 0.7114f, -0.3101f ),
-            new Vector3f( -0.2699f, 0.9610f, -0.0602f ),
-            new Vector3f( -0.4136f, 0.9083f, 0.0621f ),
-            new Vector3f( -0.7366f, 0.6747f, 0.0475f ),
-            new Vector3f( -0.6040f, 0.7344f, 0.3097f ),
-            new Vector3f( -0.4942f, 0.8257f, 0.2719f ),
-            new Vector3f( -0.4875f, 0.8311f, 0.2675f ),
-            new Vector3f( -0.2209f, 0.9667f, -0.1294f ),
-            new Vector3f( -0.1951f, 0.9799f, -0.0407f ),
-            new Vector3f( -0.2376f, 0.9645f, -0.1150f ),
-            new Vector3f( -0.2598f, 0.9617f, -0.0873f ),
-            new Vector3f( -0.0828f, 0.9820f, -0.1698f ),
-            new Vector3f( 0.0571f, 0.9374f, -0.3437f ),
-            new Vector3f( -0.0291f, 0.8357f, -0.5484f ),
-            new Vector3f( -0.4932f, 0.7542f, 0.4334f ),
-            new Vector3f( -0.4355f, 0.8884f, -0.1452f ),
-            new Vector3f( 0.1098f, 0.6263f, 0.7718f ),
-            new Vector3f( -0.6716f, 0.7408f, 0.0163f ),
-            new Vector3f( -0.6697f, 0.6960f, 0.2592f ),
-            new Vector3f( -0.0789f, 0.7723f, -0.6304f ),
-            new Vector3f( -0.0052f, 0.7979f, -0.6027f ),
-            new Vector3f( -0.3765f, 0.8225f, -0.4264f ),
-            new Vector3f( -0.4255f, 0.9001f, -0.0936f ),
-            new Vector3f( -0.4029f, 0.7523f, 0.5213f ),
-            new Vector3f( -0.6112f, 0.7464f, -0.2631f ),
-            new Vector3f( -0.7662f, 0.5785f, -0.2798f ),
-            new Vector3f( -0.7859f, 0.5933f, 0.1742f ),
-            new Vector3f( -0.4310f, 0.5230f, 0.7353f ),
-            new Vector3f( -0.1976f, 0.5973f, 0.7773f ),
-            new Vector3f( -0.4956f, 0.3603f, 0.7903f ),
-            new Vector3f( -0.9564f, 0.0202f, 0.2913f ),
-            new Vector3f( -0.4048f, 0.8045f, -0.4347f ),
-            new Vector3f( -0.4549f, 0.8635f, -0.2178f ),
-            new Vector3f( -0.5483f, 0.8232f, -0.1470f ),
-            new Vector3f( -0.5316f, 0.8107f, -0.2453f ),
-            new Vector3f( -0.4737f, 0.8578f, -0.1992f ),
-            new Vector3f( -0.5650f, 0.7475f, -0.3493f ),
-            new Vector3f( -0.9884f, 0.1230f, -0.0891f ),
-            new Vector3f( -0.7592f, -0.0886f, 0.6448f ),
-            new Vector3f( -0.4969f, 0.8389f, -0.2220f ),
-            new Vector3f( -0.5197f, 0.8468f, -0.1133f ),
-            new Vector3f( -0.5192f, 0.6172f, 0.5911f ),
-            new Vector3f( -0.3722f, 0.9281f, 0.0047f ),
-            new Vector3f( -0.2770f, 0.9252f, -0.2594f ),
-            new Vector3f( -0.2043f, 0.9713f, -0.1221f ),
-            new Vector3f( -0.1093f, 0.9937f, 0.0244f ),
-            new Vector3f( -0.1554f, 0.9010f, -0.4050f ),
-            new Vector3f( -0.2997f, 0.9404f, -0.1605f ),
-            new Vector3f( 0.0122f, 0.8049f, 0.5932f ),
-            new Vector3f( -0.3816f, 0.8502f, 0.3627f ),
-            new Vector3f( -0.3960f, 0.8050f, -0.4417f ),
-            new Vector3f( -0.5462f, 0.7377f, -0.3968f ),
-            new Vector3f( -0.7215f, 0.5022f, -0.4767f ),
-            new Vector3f( -0.5417f, 0.5522f, 0.6338f ),
-            new Vector3f( -0.4765f, 0.6012f, 0.6415f ),
-            new Vector3f( -0.2138f, 0.7945f, -0.5684f ),
-            new Vector3f( -0.2884f, 0.7282f, -0.6217f ),
-            new Vector3f( -0.3010f, 0.8336f, 0.4632f ),
-            new Vector3f( -0.2127f, 0.9347f, 0.2846f ),
-            new Vector3f( -0.0777f, 0.9951f, 0.0616f ),
-            new Vector3f( -0.2351f, 0.9165f, -0.3238f ),
-            new Vector3f( -0.0481f, 0.9822f, -0.1816f ),
-            new Vector3f( -0.1905f, 0.7660f, 0.6140f ),
-            new Vector3f( 0.0763f, 0.5598f, 0.8251f ),
-            new Vector3f( 0.3397f, 0.6653f, 0.6648f ),
-            new Vector3f( -0.9629f, 0.1982f, 0.1832f ),
-            new Vector3f( -0.9430f, -0.0623f, 0.3270f ),
-            new Vector3f( -0.7153f, -0.1628f, 0.6796f ),
-            new Vector3f( -0.4983f, -0.0401f, 0.8661f ),
-            new Vector3f( -0.2100f, 0.3318f, -0.9197f ),
-            new Vector3f( -0.5702f, 0.8020f, 0.1778f ),
-            new Vector3f( -0.4302f, 0.8958f, 0.1116f ),
-            new Vector3f( -0.4305f, 0.8524f, -0.2970f ),
-            new Vector3f( -0.4898f, 0.8282f, -0.2724f ),
-            new Vector3f( -0.1244f, 0.4818f, 0.8674f ),
-            new Vector3f( -0.6300f, 0.4529f, -0.6309f ),
-            new Vector3f( -0.5966f, 0.5340f, -0.5991f ),
-            new Vector3f( -0.8012f, 0.5810f, -0.1432f ),
-            new Vector3f( -0.7106f, -0.0098f, 0.7035f ),
-            new Vector3f( -0.6793f, -0.0796f, 0.7296f ),
-            new Vector3f( -0.4535f, 0.8082f, -0.3757f ),
-            new Vector3f( -0.4200f, 0.8752f, -0.2401f ),
-            new Vector3f( -0.4826f, 0.8432f, -0.2371f ),
-            new Vector3f( -0.5713f, 0.8169f, 0.0792f ),
-            new Vector3f( -0.0861f, 0.9958f, -0.0305f ),
-            new Vector3f( -0.0786f, 0.9497f, 0.3033f ),
-            new Vector3f( -0.1423f, 0.9723f, 0.1856f ),
-            new Vector3f( -0.1331f, 0.5417f, -0.8300f ),
-            new Vector3f( 0.0192f, 0.5840f, 0.8115f ),
-            new Vector3f( -0.2483f, 0.9314f, 0.2660f ),
-            new Vector3f( -0.0420f, 0.9839f, -0.1735f ),
-            new Vector3f( 0.4281f, 0.6066f, -0.6699f ),
-            new Vector3f( -0.1694f, 0.5640f, 0.8082f ),
-            new Vector3f( -0.1087f, 0.5259f, -0.8436f ),
-            new Vector3f( -0.5191f, 0.7901f, -0.3261f ),
-            new Vector3f( -0.0457f, 0.9088f, 0.4146f ),
-            new Vector3f( 0.0689f, 0.9964f, 0.0496f ),
-            new Vector3f( 0.0218f, 0.9990f, 0.0378f ),
-            new Vector3f( 0.3486f, 0.8327f, -0.4301f ),
-            new Vector3f( 0.0586f, 0.6067f, 0.7927f ),
-            new Vector3f( 0.0542f, 0.5171f, 0.8542f ),
-            new Vector3f( -0.0304f, 0.5690f, 0.8218f ),
-            new Vector3f( -0.0147f, 0.8994f, 0.4370f ),
-            new Vector3f( 0.4285f, 0.5824f, -0.6908f ),
-            new Vector3f( 0.4536f, 0.6004f, -0.6587f ),
-            new Vector3f( 0.9103f, 0.3186f, -0.2644f ),
-            new Vector3f( -0.5036f, -0.0329f, 0.8633f ),
-            new Vector3f( -0.4985f, -0.0398f, 0.8660f ),
-            new Vector3f( -0.0229f, 0.8635f, -0.5039f ),
-            new Vector3f( -0.3043f, 0.6910f, -0.6557f ),
-            new Vector3f( 0.1250f, 0.9115f, -0.3919f ),
-            new Vector3f( -0.3993f, 0.9168f, -0.0059f ),
-            new Vector3f( -0.3528f, 0.8885f, -0.2935f ),
-            new Vector3f( 0.5074f, 0.8590f, -0.0677f ),
-            new Vector3f( 0.4623f, 0.6903f, 0.5566f ),
-            new Vector3f( 0.7193f, 0.5446f, 0.4314f ),
-            new Vector3f( 0.1295f, 0.5192f, 0.8448f ),
-            new Vector3f( 0.1632f, 0.4114f, -0.8967f ),
-            new Vector3f( 0.2702f, 0.7245f, -0.6341f ),
-            new Vector3f( 0.8932f, 0.3630f, -0.2654f ),
-            new Vector3f( 0.5186f, 0.7356f, 0.4358f ),
-            new Vector3f( 0.9590f, 0.2593f, 0.1145f ),
-            new Vector3f( 0.3154f, 0.6285f, 0.7110f ),
-            new Vector3f( 0.5589f, 0.5816f, 0.5912f ),
-            new Vector3f( 0.2377f, 0.6396f, 0.7310f ),
-            new Vector3f( -0.2337f, 0.9712f, -0.0465f ),
-            new Vector3f( -0.2806f, 0.9231f, -0.2629f ),
-            new Vector3f( -0.4457f, 0.8090f, -0.3832f ),
-            new Vector3f( -0.3831f, 0.8185f, -0.4281f ),
-            new Vector3f( -0.4829f, 0.8324f, -0.2718f ),
-            new Vector3f( -0.1327f, 0.9254f, 0.3549f ),
-            new Vector3f( 0.0826f, 0.9884f, 0.1271f ),
-            new Vector3f( 0.2743f, 0.9349f, -0.2251f ),
-            new Vector3f( 0.1917f, 0.9562f, 0.2210f ),
-            new Vector3f( 0.1482f, 0.8341f, -0.5313f ),
-            new Vector3f( 0.0334f, 0.9712f, 0.2359f ),
-            new Vector3f( 0.2247f, 0.9005f, 0.3723f ),
-            new Vector3f( 0.5220f, 0.8427f, -0.1318f ),
-            new Vector3f( 0.3813f, 0.9240f, 0.0271f ),
-            new Vector3f( 0.2348f, 0.9674f, -0.0953f ),
-            new Vector3f( 0.2418f, 0.9360f, 0.2557f ),
-            new Vector3f( -0.4669f, 0.7022f, 0.5376f ),
-            new Vector3f( 0.3449f, 0.3232f, -0.8812f ),
-            new Vector3f( 0.4967f, 0.4626f, -0.7344f ),
-            new Vector3f( -0.3249f, 0.7556f, 0.5688f ),
-            new Vector3f( -0.0200f, 0.9669f, 0.2543f ),
-            new Vector3f( 0.3431f, 0.8888f, -0.3037f ),
-            new Vector3f( 0.3693f, 0.8775f, -0.3060f ),
-            new Vector3f( 0.3714f, 0.8760f, -0.3076f ),
-            new Vector3f( 0.3549f, 0.9272f, 0.1199f ),
-            new Vector3f( 0.3944f, 0.9190f, -0.0022f ),
-            new Vector3f( 0.0678f, 0.8918f, 0.4473f ),
-            new Vector3f( 0.0892f, 0.8654f, 0.4932f ),
-            new Vector3f( 0.0343f, 0.8688f, 0.4940f ),
-            new Vector3f( 0.4671f, 0.5392f, -0.7007f ),
-            new Vector3f( 0.4218f, 0.6834f, -0.5958f ),
-            new Vector3f( 0.3486f, 0.6492f, -0.6760f ),
-            new Vector3f( 0.0876f, 0.9438f, -0.3188f ),
-            new Vector3f( -0.3188f, 0.8701f, 0.3760f ),
-            new Vector3f( -0.0289f, 0.9817f, -0.1883f ),
-            new Vector3f( -0.0884f, 0.9463f, -0.3109f ),
-            new Vector3f( 0.4131f, 0.9071f, -0.0807f ),
-            new Vector3f( 0.0754f, 0.9713f, -0.2256f ),
-            new Vector3f( 0.4501f, 0.8726f, -0.1895f ),
-            new Vector3f( 0.1364f, 0.9650f, -0.2238f ),
-            new Vector3f( 0.2106f, 0.9685f, -0.1328f ),
-            new Vector3f( 0.3447f, 0.9387f, -0.0118f ),
-            new Vector3f( 0.1815f, 0.8000f, 0.5719f ),
-            new Vector3f( 0.1607f, 0.9460f, 0.2814f ),
-            new Vector3f( 0.3921f, 0.8499f, 0.3519f ),
-            new Vector3f( 0.4841f, 0.8663f, -0.1231f ),
-            new Vector3f( 0.4628f, 0.8861f, -0.0261f ),
-            new Vector3f( 0.2924f, 0.9100f, -0.2940f ),
-            new Vector3f( 0.3536f, 0.9257f, -0.1347f ),
-            new Vector3f( 0.4878f, 0.5122f, -0.7069f ),
-            new Vector3f( -0.1834f, 0.7091f, 0.6808f ),
-            new Vector3f( 0.2531f, 0.9662f, 0.0500f ),
-            new Vector3f( 0.3813f, 0.9233f, 0.0465f ),
-            new Vector3f( 0.1943f, 0.9315f, 0.3075f ),
-            new Vector3f( 0.1165f, 0.9213f, 0.3710f ),
-            new Vector3f( 0.1569f, 0.8667f, 0.4735f ),
-            new Vector3f( 0.4328f, 0.8775f, 0.2066f ),
-            new Vector3f( 0.3066f, 0.9017f, -0.3049f ),
-            new Vector3f( 0.3198f, 0.8229f, -0.4696f ),
-            new Vector3f( 0.3428f, 0.8135f, -0.4697f ),
-            new Vector3f( 0.4197f, 0.8980f, 0.1322f ),
-            new Vector3f( 0.1476f, 0.7985f, 0.5836f ),
-            new Vector3f( 0.4978f, 0.4804f, -0.7221f ),
-            new Vector3f( -0.2102f, 0.7141f, 0.6678f ),
-            new Vector3f( -0.2285f, 0.7120f, 0.6640f ),
-            new Vector3f( 0.2292f, 0.6397f, -0.7337f ),
-            new Vector3f( 0.2160f, 0.7960f, -0.5655f ),
-            new Vector3f( 0.2456f, 0.9689f, 0.0296f ),
-            new Vector3f( 0.5459f, 0.8174f, -0.1839f ),
-            new Vector3f( -0.3292f, 0.8735f, 0.3585f ),
-            new Vector3f( -0.3428f, 0.8604f, 0.3769f ),
-            new Vector3f( 0.4640f, 0.7102f, -0.5294f ),
-            new Vector3f( 0.5658f, 0.6845f, -0.4597f ),
-            new Vector3f( 0.5435f, 0.6767f, -0.4967f ),
-            new Vector3f( 0.5795f, 0.7745f, -0.2536f ),
-            new Vector3f( 0.5453f, 0.7630f, -0.3471f ),
-            new Vector3f( 0.1567f, 0.9872f, 0.0285f ),
-            new Vector3f( 0.1282f, 0.9633f, -0.2360f ),
-            new Vector3f( 0.3251f, 0.8358f, 0.4425f ),
-            new Vector3f( 0.1000f, 0.9907f, -0.0921f ),
-            new Vector3f( 0.4646f, 0.7825f, -0.4145f ),
-            new Vector3f( 0.3262f, 0.8523f, 0.4090f ),
-            new Vector3f( 0.2227f, 0.9538f, 0.2015f ),
-            new Vector3f( 0.3649f, 0.8313f, 0.4193f ),
-            new Vector3f( 0.5076f, 0.7930f, 0.3368f ),
-            new Vector3f( 0.4637f, 0.8380f, 0.2877f ),
-            new Vector3f( 0.6858f, 0.6682f, 0.2884f ),
-            new Vector3f( -0.0602f, 0.7896f, -0.6107f ),
-            new Vector3f( -0.0642f, 0.7786f, -0.6242f ),
-            new Vector3f( 0.1894f, 0.9361f, 0.2964f ),
-            new Vector3f( 0.3763f, 0.9200f, 0.1096f ),
-            new Vector3f( 0.2265f, 0.9267f, 0.2998f ),
-            new Vector3f( 0.2930f, 0.8353f, 0.4652f ),
-            new Vector3f( 0.6059f, 0.7797f, -0.1577f ),
-            new Vector3f( 0.5550f, 0.8301f, 0.0537f ),
-            new Vector3f( 0.5108f, 0.8589f, 0.0380f ),
-            new Vector3f( 0.5073f, 0.8469f, 0.1597f ),
-            new Vector3f( 0.6412f, 0.4845f, -0.5951f ),
-            new Vector3f( 0.5932f, 0.4632f, -0.6585f ),
-            new Vector3f( -0.0307f, 0.6562f, 0.7540f ),
-            new Vector3f( -0.0331f, 0.7922f, 0.6094f ),
-            new Vector3f( 0.2250f, 0.3367f, -0.9143f ),
-            new Vector3f( 0.3093f, 0.5754f, -0.7571f ),
-            new Vector3f( 0.5375f, 0.3892f, -0.7481f ),
-            new Vector3f( 0.3231f, 0.9315f, 0.1670f ),
-            new Vector3f( 0.6021f, 0.7936f, 0.0874f ),
-            new Vector3f( 0.4660f, 0.8371f, 0.2866f ),
-            new Vector3f( 0.3891f, 0.8717f, 0.2980f ),
-            new Vector3f( 0.5640f, 0.8198f, -0.0994f ),
-            new Vector3f( 0.4999f, 0.8641f, -0.0585f ),
-            new Vector3f( 0.5088f, 0.8058f, -0.3030f ),
-            new Vector3f( -0.0531f, 0.8621f, 0.5039f ),
-            new Vector3f( -0.0967f, 0.8370f, 0.5386f ),
-            new Vector3f( 0.3862f, 0.8415f, 0.3778f ),
-            new Vector3f( 0.2815f, 0.9595f, 0.0099f ),
-            new Vector3f( 0.1086f, 0.9811f, -0.1604f ),
-            new Vector3f( 0.1605f, 0.9154f, -0.3691f ),
-            new Vector3f( -0.1410f, 0.8738f, -0.4655f ),
-            new Vector3f( -0.1414f, 0.9506f, 0.2765f ),
-            new Vector3f( -0.2376f, 0.9687f, 0.0719f ),
-            new Vector3f( 0.0683f, 0.9910f, 0.1156f ),
-            new Vector3f( 0.4631f, 0.8743f, 0.1452f ),
-            new Vector3f( 0.4714f, 0.8505f, 0.2331f ),
-            new Vector3f( 0.4630f, 0.8476f, 0.2592f ),
-            new Vector3f( 0.5467f, 0.7797f, 0.3053f ),
-            new Vector3f( -0.1658f, 0.8648f, -0.4739f ),
-            new Vector3f( -0.1224f, 0.9177f, -0.3778f ),
-            new Vector3f( 0.5270f, 0.6098f, -0.5920f ),
-            new Vector3f( 0.1508f, 0.9614f, 0.2303f ),
-            new Vector3f( -0.0353f, 0.9985f, 0.0418f ),
-            new Vector3f( 0.1106f, 0.9634f, 0.2441f ),
-            new Vector3f( 0.0770f, 0.9643f, 0.2534f ),
-            new Vector3f( -0.1727f, 0.9624f, 0.2094f ),
-            new Vector3f( -0.4944f, 0.7978f, 0.3451f ),
-            new Vector3f( 0.5750f, 0.6917f, -0.4369f ),
-            new Vector3f( 0.6151f, 0.7868f, -0.0514f ),
-            new Vector3f( 0.3582f, 0.8393f, -0.4090f ),
-            new Vector3f( 0.2642f, 0.9563f, -0.1252f ),
-            new Vector3f( 0.0349f, 0.9194f, -0.3917f ),
-            new Vector3f( 0.3474f, 0.5771f, 0.7391f ),
-            new Vector3f( 0.3753f, 0.5720f, 0.7294f ),
-            new Vector3f( 0.3493f, 0.6021f, 0.7179f ),
-            new Vector3f( -0.2462f, 0.9316f, -0.2674f ),
-            new Vector3f( 0.0615f, 0.8652f, -0.4977f ),
-            new Vector3f( 0.0588f, 0.8556f, -0.5143f ),
-            new Vector3f( 0.1863f, 0.6855f, 0.7038f ),
-            new Vector3f( 0.3106f, 0.5810f, 0.7523f ),
-            new Vector3f( 0.2164f, 0.6438f, 0.7340f ),
-            new Vector3f( 0.1646f, 0.9164f, -0.3650f ),
-            new Vector3f( -0.1886f, 0.9511f, 0.2447f ),
-            new Vector3f( -0.2384f, 0.9344f, 0.2646f ),
-            new Vector3f( -0.0525f, 0.9895f, 0.1347f ),
-            new Vector3f( 0.1600f, 0.9284f, -0.3352f ),
-            new Vector3f( 0.1714f, 0.9196f, -0.3534f ),
-            new Vector3f( 0.1639f, 0.9148f, -0.3691f ),
-            new Vector3f( 0.2354f, 0.8323f, -0.5019f ),
-            new Vector3f( -0.3002f, 0.8909f, 0.3410f ),
-            new Vector3f( -0.1356f, 0.8660f, 0.4813f ),
-            new Vector3f( -0.0846f, 0.8713f, 0.4834f ),
-            new Vector3f( -0.3818f, 0.9164f, 0.1197f ),
-            new Vector3f( -0.4871f, 0.8666f, 0.1086f ),
-            new Vector3f( 0.2631f, 0.8306f, -0.4908f ),
-            new Vector3f( 0.4347f, 0.8903f, -0.1358f ),
-            new Vector3f( 0.5184f, 0.8339f, -0.1891f ),
-            new Vector3f( 0.4156f, 0.8988f, -0.1392f ),
-            new Vector3f( 0.3831f, 0.9041f, -0.1896f ),
-            new Vector3f( 0.2841f, 0.8388f, -0.4645f ),
-            new Vector3f( 0.0486f, 0.8263f, 0.5612f ),
-            new Vector3f( -0.2017f, 0.9710f, 0.1279f ),
-            new Vector3f( 0.0581f, 0.9982f, 0.0121f ),
-            new Vector3f( 0.0968f, 0.9900f, 0.1029f ),
-            new Vector3f( -0.3343f, 0.9355f, 0.1139f ),
-            new Vector3f( -0.4961f, 0.7919f, 0.3560f ),
-            new Vector3f( -0.4859f, 0.8023f, 0.3466f ),
-            new Vector3f( -0.4154f, 0.7844f, 0.4607f ),
-            new Vector3f( -0.0387f, 0.8443f, -0.5345f ),
-            new Vector3f( -0.2118f, 0.8193f, -0.5328f ),
-            new Vector3f( 0.1653f, 0.4887f, 0.8567f ),
-            new Vector3f( 0.3116f, 0.6064f, 0.7316f ),
-            new Vector3f( -0.2823f, 0.8530f, -0.4390f ),
-            new Vector3f( -0.1695f, 0.9805f, -0.0996f ),
-            new Vector3f( -0.1937f, 0.9554f, -0.2231f ),
-            new Vector3f( -0.4665f, 0.7515f, 0.4664f ),
-            new Vector3f( -0.2584f, 0.9654f, -0.0338f ),
-            new Vector3f( 0.1796f, 0.9319f, -0.3151f ),
-            new Vector3f( 0.3556f, 0.9224f, -0.1508f ),
-            new Vector3f( 0.3675f, 0.8917f, -0.2643f ),
-            new Vector3f( -0.3063f, 0.8715f, 0.3830f ),
-            new Vector3f( -0.5108f, 0.8336f, 0.2101f ),
-            new Vector3f( -0.5085f, 0.8366f, 0.2037f ),
-            new Vector3f( -0.4625f, 0.8299f, 0.3120f ),
-            new Vector3f( -0.3771f, 0.7801f, 0.4992f ),
-            new Vector3f( 0.2649f, 0.8872f, -0.3778f ),
-            new Vector3f( 0.1193f, 0.6702f, -0.7325f ),
-            new Vector3f( 0.1882f, 0.9173f, -0.3509f ),
-            new Vector3f( -0.1796f, 0.9222f, 0.3425f ),
-            new Vector3f( -0.1301f, 0.9694f, 0.2082f ),
-            new Vector3f( -0.0718f, 0.9392f, 0.3357f ),
-            new Vector3f( -0.1663f, 0.9854f, -0.0374f ),
-            new Vector3f( -0.1852f, 0.8924f, -0.4116f ),
-            new Vector3f( -0.3691f, 0.9102f, 0.1879f ),
-            new Vector3f( -0.4266f, 0.7808f, 0.4564f ),
-            new Vector3f( -0.3711f, 0.7762f, 0.5097f ),
-            new Vector3f( 0.0276f, 0.5419f, -0.8400f ),
-            new Vector3f( 0.0946f, 0.9037f, -0.4175f ),
-            new Vector3f( 0.7409f, 0.6664f, 0.0838f ),
-            new Vector3f( 0.6748f, 0.6548f, -0.3403f ),
-            new Vector3f( -0.0688f, 0.3961f, 0.9156f ),
-            new Vector3f( -0.0873f, 0.7331f, 0.6745f ),
-            new Vector3f( -0.3186f, 0.8122f, 0.4887f ),
-            new Vector3f( 0.1832f, 0.9537f, -0.2385f ),
-            new Vector3f( 0.2881f, 0.9286f, -0.2339f ),
-            new Vector3f( 0.2953f, 0.9381f, -0.1809f ),
-            new Vector3f( 0.2694f, 0.9506f, 0.1544f ),
-            new Vector3f( 0.5568f, 0.8149f, 0.1609f ),
-            new Vector3f( -0.1356f, 0.4681f, 0.8732f ),
-            new Vector3f( -0.3639f, 0.8683f, 0.3370f ),
-            new Vector3f( -0.1019f, 0.9825f, -0.1562f ),
-            new Vector3f( 0.1644f, 0.9809f, -0.1041f ),
-            new Vector3f( 0.0263f, 0.9854f, -0.1682f ),
-            new Vector3f( 0.1838f, 0.9221f, -0.3405f ),
-            new Vector3f( -0.4027f, 0.8774f, 0.2607f ),
-            new Vector3f( -0.3495f, 0.9261f, 0.1422f ),
-            new Vector3f( -0.3494f, 0.9071f, 0.2346f ),
-            new Vector3f( -0.1325f, 0.8103f, 0.5708f ),
-            new Vector3f( -0.1859f, 0.7816f, 0.5954f ),
-            new Vector3f( 0.1687f, 0.9211f, -0.3509f ),
-            new Vector3f( 0.2070f, 0.9048f, -0.3721f ),
-            new Vector3f( 0.6516f, 0.7546f, -0.0775f ),
-            new Vector3f( 0.7449f, 0.6602f, 0.0960f ),
-            new Vector3f( 0.6665f, 0.6463f, -0.3716f ),
-            new Vector3f( -0.1622f, 0.9431f, 0.2902f ),
-            new Vector3f( -0.3429f, 0.9390f, -0.0276f ),
-            new Vector3f( -0.3466f, 0.9204f, -0.1810f ),
-            new Vector3f( -0.3099f, 0.9505f, 0.0226f ),
-            new Vector3f( 0.0286f, 0.9993f, 0.0224f ),
-            new Vector3f( -0.2576f, 0.9068f, 0.3336f ),
-            new Vector3f( -0.3967f, 0.8621f, 0.3152f ),
-            new Vector3f( -0.3875f, 0.8860f, 0.2545f ),
-            new Vector3f( -0.3224f, 0.9119f, 0.2539f ),
-            new Vector3f( 0.7932f, 0.4975f, -0.3513f ),
-            new Vector3f( 0.7328f, 0.6775f, -0.0632f ),
-            new Vector3f( 0.8014f, 0.5889f, -0.1050f ),
-            new Vector3f( 0.7936f, 0.6051f, -0.0636f ),
-            new Vector3f( -0.2990f, 0.8132f, 0.4993f ),
-            new Vector3f( -0.2823f, 0.8248f, 0.4899f ),
-            new Vector3f( 0.0552f, 0.5499f, 0.8334f ),
-            new Vector3f( 0.0761f, 0.5638f, 0.8224f ),
-            new Vector3f( 0.0378f, 0.5622f, 0.8261f ),
-            new Vector3f( -0.3557f, 0.8382f, 0.4135f ),
-            new Vector3f( -0.1875f, 0.9672f, 0.1713f ),
-            new Vector3f( 0.0860f, 0.9941f, -0.0668f ),
-            new Vector3f( -0.2655f, 0.8908f, -0.3687f ),
-            new Vector3f( 0.4584f, 0.8715f, 0.1742f ),
-            new Vector3f( -0.0374f, 0.9470f, 0.3192f ),
-            new Vector3f( -0.1326f, 0.8144f, 0.5649f ),
-            new Vector3f( -0.3329f, 0.7540f, 0.5663f ),
-            new Vector3f( -0.3817f, 0.8226f, 0.4215f ),
-            new Vector3f( -0.4869f, 0.7615f, -0.4279f ),
-            new Vector3f( -0.3149f, 0.9289f, -0.1949f ),
-            new Vector3f( -0.0823f, 0.9672f, -0.2402f ),
-            new Vector3f( 0.0722f, 0.9947f, 0.0735f ),
-            new Vector3f( 0.6510f, 0.7391f, -0.1733f ),
-            new Vector3f( 0.4915f, 0.8226f, -0.2858f ),
-            new Vector3f( 0.3404f, 0.8957f, -0.2859f ),
-            new Vector3f( 0.3971f, 0.9178f, 0.0056f ),
-            new Vector3f( -0.3337f, 0.9084f, 0.2519f ),
-            new Vector3f( -0.3023f, 0.9384f, 0.1676f ),
-            new Vector3f( -0.1079f, 0.9872f, -0.1176f ),
-            new Vector3f( -0.2377f, 0.9701f, 0.0484f ),
-            new Vector3f( -0.0174f, 0.9903f, 0.1377f ),
-            new Vector3f( -0.1446f, 0.9820f, 0.1212f ),
-            new Vector3f( -0.2917f, 0.8939f, 0.3404f ),
-            new Vector3f( -0.2564f, 0.9108f, 0.3235f ),
-            new Vector3f( -0.0933f, 0.9516f, 0.2929f ),
-            new Vector3f( -0.7727f, 0.5779f, -0.2626f ),
-            new Vector3f( 0.1344f, 0.7624f, 0.6330f ),
-            new Vector3f( -0.1939f, 0.9202f, 0.3402f ),
-            new Vector3f( -0.3293f, 0.9060f, 0.2661f ),
-            new Vector3f( -0.3275f, 0.9154f, 0.2340f ),
-            new Vector3f( -0.1866f, 0.9813f, 0.0471f ),
-            new Vector3f( -0.1753f, 0.9844f, -0.0118f ),
-            new Vector3f( -0.1090f, 0.9741f, 0.1980f ),
-            new Vector3f( -0.4574f, 0.8151f, 0.3555f ),
-            new Vector3f( -0.5736f, 0.8060f, -0.1462f ),
-            new Vector3f( -0.1272f, 0.9848f, 0.1180f ),
-            new Vector3f( -0.0601f, 0.8608f, -0.5054f ),
-            new Vector3f( 0.0114f, 0.9334f, 0.3586f ),
-            new Vector3f( -0.3560f, 0.9101f, 0.2118f ),
-            new Vector3f( -0.3985f, 0.8696f, 0.2914f ),
-            new Vector3f( -0.4617f, 0.8045f, 0.3737f ),
-            new Vector3f( -0.6436f, 0.7362f, 0.2092f ),
-            new Vector3f( -0.8023f, 0.5648f, -0.1934f ),
-            new Vector3f( -0.6103f, 0.7005f, -0.3698f ),
-            new Vector3f( 0.2984f, 0.7670f, 0.5680f ),
-            new Vector3f( 0.0269f, 0.8022f, 0.5965f ),
-            new Vector3f( 0.1357f, 0.9016f, -0.4108f ),
-            new Vector3f( 0.2531f, 0.9006f, -0.3533f ),
-            new Vector3f( 0.2312f, 0.9029f, -0.3624f ),
-            new Vector3f( -0.0213f, 0.9932f, 0.1142f ),
-            new Vector3f( -0.1012f, 0.9904f, 0.0942f ),
-            new Vector3f( -0.0389f, 0.9241f, 0.3802f ),
-            new Vector3f( -0.1862f, 0.8971f, 0.4006f ),
-            new Vector3f( 0.0262f, 0.9282f, 0.3713f ),
-            new Vector3f( -0.7238f, 0.6463f, -0.2417f ),
-            new Vector3f( -0.8698f, 0.2016f, -0.4504f ),
-            new Vector3f( -0.4828f, 0.8719f, 0.0812f ),
-            new Vector3f( -0.2158f, 0.9059f, 0.3645f ),
-            new Vector3f( 0.3464f, 0.9270f, 0.1441f ),
-            new Vector3f( -0.1679f, 0.9601f, 0.2238f ),
-            new Vector3f( -0.1045f, 0.9697f, 0.2206f ),
-            new Vector3f( -0.1943f, 0.9800f, 0.0429f ),
-            new Vector3f( 0.1297f, 0.9838f, 0.1241f ),
-            new Vector3f( -0.1534f, 0.9879f, 0.0206f ),
-            new Vector3f( -0.0127f, 0.9831f, 0.1827f ),
-            new Vector3f( -0.0033f, 0.9759f, 0.2184f ),
-            new Vector3f( -0.3642f, 0.9134f, 0.1815f ),
-            new Vector3f( 0.0624f, 0.9745f, -0.2157f ),
-            new Vector3f( 0.2624f, 0.9500f, -0.1690f ),
-            new Vector3f( -0.1357f, 0.9770f, 0.1643f ),
-            new Vector3f( -0.1973f, 0.9750f, 0.1022f ),
-            new Vector3f( -0.4250f, 0.9019f, 0.0770f ),
-            new Vector3f( -0.4253f, 0.8597f, -0.2830f ),
-            new Vector3f( -0.0063f, 0.8130f, 0.5822f ),
-            new Vector3f( -0.1287f, 0.8704f, 0.4752f ),
-            new Vector3f( -0.3051f, 0.9227f, 0.2358f ),
-            new Vector3f( 0.1586f, 0.9842f, 0.0785f ),
-            new Vector3f( 0.0929f, 0.9672f, 0.2363f ),
-            new Vector3f( 0.1346f, 0.9731f, 0.1871f ),
-            new Vector3f( -0.0313f, 0.9889f, 0.1454f ),
-            new Vector3f( -0.0623f, 0.9875f, 0.1445f ),
-            new Vector3f( -0.1151f, 0.9846f, 0.1314f ),
-            new Vector3f( -0.0825f, 0.9798f, 0.1822f ),
-            new Vector3f( -0.0635f, 0.9955f, -0.0698f ),
-            new Vector3f( -0.2634f, 0.9193f, -0.2925f ),
-            new Vector3f( -0.4918f, 0.8052f, -0.3313f ),
-            new Vector3f( -0.4809f, 0.7619f, -0.4339f ),
-            new Vector3f( -0.0006f, 0.6705f, 0.7419f ),
-            new Vector3f( 0.0109f, 0.6263f, 0.7795f ),
-            new Vector3f( 0.4488f, 0.8865f, -0.1125f ),
-            new Vector3f( 0.5271f, 0.8474f, -0.0631f ),
-            new Vector3f( 0.4681f, 0.8835f, -0.0195f ),
-            new Vector3f( 0.5241f, 0.8446f, -0.1092f ),
-            new Vector3f( 0.3100f, 0.9174f, 0.2496f ),
-            new Vector3f( 0.3919f, 0.9016f, 0.1830f ),
-            new Vector3f( 0.1431f, 0.9864f, 0.0802f ),
-            new Vector3f( 0.2195f, 0.9737f, 0.0604f ),
-            new Vector3f( 0.1362f, 0.9905f, 0.0178f ),
-            new Vector3f( 0.2356f, 0.9502f, -0.2040f ),
-            new Vector3f( 0.0047f, 0.9727f, 0.2318f ),
-            new Vector3f( 0.0220f, 0.9763f, 0.2151f ),
-            new Vector3f( -0.0592f, 0.9932f, 0.0998f ),
-            new Vector3f( 0.0645f, 0.9979f, -0.0067f ),
-            new Vector3f( 0.0317f, 0.9994f, -0.0143f ),
-            new Vector3f( -0.3283f, 0.7149f, 0.6173f ),
-            new Vector3f( -0.2995f, 0.9215f, 0.2473f ),
-            new Vector3f( -0.2840f, 0.9305f, 0.2313f ),
-            new Vector3f( 0.6975f, 0.6853f, -0.2095f ),
-            new Vector3f( 0.7558f, 0.6514f, -0.0675f ),
-            new Vector3f( 0.5612f, 0.8103f, -0.1687f ),
-            new Vector3f( 0.7810f, 0.6188f, -0.0844f ),
-            new Vector3f( 0.6844f, 0.7207f, 0.1102f ),
-            new Vector3f( 0.6854f, 0.7281f, -0.0049f ),
-            new Vector3f( 0.6867f, 0.7265f, 0.0255f ),
-            new Vector3f( 0.2687f, 0.8798f, -0.3921f ),
-            new Vector3f( 0.3962f, 0.9018f, -0.1725f ),
-            new Vector3f( 0.1296f, 0.9872f, 0.0932f ),
-            new Vector3f( 0.1537f, 0.9881f, -0.0084f ),
-            new Vector3f( 0.1384f, 0.9661f, 0.2177f ),
-            new Vector3f( 0.0737f, 0.9530f, 0.2940f ),
-            new Vector3f( -0.0583f, 0.9655f, 0.2538f ),
-            new Vector3f( 0.0103f, 0.9852f, 0.1714f ),
-            new Vector3f( -0.0268f, 0.9993f, -0.0256f ),
-            new Vector3f( 0.0026f, 0.9974f, -0.0726f ),
-            new Vector3f( 0.0272f, 0.9963f, -0.0815f ),
-            new Vector3f( -0.1761f, 0.9317f, -0.3176f ),
-            new Vector3f( -0.2378f, 0.9127f, -0.3324f ),
-            new Vector3f( 0.0423f, 0.8650f, 0.5000f ),
-            new Vector3f( -0.0823f, 0.7905f, 0.6069f ),
-            new Vector3f( 0.2524f, 0.9624f, 0.1006f ),
-            new Vector3f( 0.1438f, 0.9670f, 0.2104f ),
-            new Vector3f( 0.2491f, 0.9406f, 0.2309f ),
-            new Vector3f( 0.1305f, 0.9628f, 0.2368f ),
-            new Vector3f( -0.0860f, 0.9826f, 0.1647f ),
-            new Vector3f( -0.2006f, 0.9788f, 0.0419f ),
-            new Vector3f( 0.3213f, 0.9461f, 0.0418f ),
-            new Vector3f( 0.4198f, 0.9058f, -0.0566f ),
-            new Vector3f( 0.3086f, 0.9157f, -0.2575f ),
-            new Vector3f( 0.1683f, 0.8945f, -0.4141f ),
-            new Vector3f( -0.0290f, 0.9708f, 0.2382f ),
-            new Vector3f( -0.1086f, 0.9785f, -0.1755f ),
-            new Vector3f( -0.1706f, 0.8079f, 0.5640f ),
-            new Vector3f( -0.0887f, 0.9650f, 0.2467f ),
-            new Vector3f( -0.0929f, 0.9830f, 0.1584f ),
-            new Vector3f( -0.1156f, 0.9913f, 0.0636f ),
-            new Vector3f( -0.2117f, 0.9636f, -0.1632f ),
-            new Vector3f( 0.1736f, 0.8890f, -0.4238f ),
-            new Vector3f( 0.3063f, 0.8600f, -0.4080f ),
-            new Vector3f( 0.3832f, 0.9229f, 0.0387f ),
-            new Vector3f( 0.2087f, 0.9611f, 0.1807f ),
-            new Vector3f( 0.3155f, 0.9168f, 0.2450f ),
-            new Vector3f( 0.3450f, 0.8883f, 0.3033f ),
-            new Vector3f( 0.4194f, 0.9072f, 0.0336f ),
-            new Vector3f( 0.4053f, 0.9132f, 0.0435f ),
-            new Vector3f( 0.0936f, 0.9940f, 0.0564f ),
-            new Vector3f( -0.0089f, 0.9775f, 0.2109f ),
-            new Vector3f( -0.0357f, 0.9637f, 0.2646f ),
-            new Vector3f( -0.3755f, 0.8862f, -0.2712f ),
-            new Vector3f( -0.3977f, 0.8601f, -0.3193f ),
-            new Vector3f( -0.4596f, 0.7212f, -0.5182f ),
-            new Vector3f( -0.1997f, 0.9774f, 0.0699f ),
-            new Vector3f( 0.0271f, 0.8503f, 0.5255f ),
-            new Vector3f( -0.0616f, 0.7588f, 0.6484f ),
-            new Vector3f( -0.5773f, 0.7899f, -0.2068f ),
-            new Vector3f( -0.2149f, 0.9457f, 0.2437f ),
-            new Vector3f( -0.1218f, 0.9581f, -0.2594f ),
-            new Vector3f( -0.1246f, 0.9870f, -0.1010f ),
-            new Vector3f( -0.0419f, 0.9803f, -0.1930f ),
-            new Vector3f( 0.0548f, 0.9391f, -0.3393f ),
-            new Vector3f( 0.3419f, 0.8845f, 0.3175f ),
-            new Vector3f( 0.2561f, 0.9493f, -0.1821f ),
-            new Vector3f( -0.4678f, 0.8663f, -0.1750f ),
-            new Vector3f( -0.0012f, 0.8392f, 0.5438f ),
-            new Vector3f( -0.0826f, 0.9647f, 0.2501f ),
-            new Vector3f( -0.0522f, 0.9965f, 0.0659f ),
-            new Vector3f( -0.1255f, 0.9773f, -0.1705f ),
-            new Vector3f( 0.2077f, 0.9535f, -0.2185f ),
-            new Vector3f( 0.2334f, 0.9659f, -0.1124f ),
-            new Vector3f( 0.1996f, 0.9542f, -0.2227f ),
-            new Vector3f( 0.0918f, 0.9927f, -0.0776f ),
-            new Vector3f( 0.3109f, 0.9453f, 0.0985f ),
-            new Vector3f( 0.2571f, 0.9522f, 0.1651f ),
-            new Vector3f( 0.1237f, 0.9718f, -0.2008f ),
-            new Vector3f( 0.0290f, 0.9901f, -0.1373f ),
-            new Vector3f( -0.2827f, 0.9490f, 0.1396f ),
-            new Vector3f( -0.4021f, 0.9049f, 0.1395f ),
-            new Vector3f( -0.4714f, 0.8627f, -0.1833f ),
-            new Vector3f( -0.4685f, 0.8600f, -0.2024f ),
-            new Vector3f( -0.5865f, 0.6968f, -0.4129f ),
-            new Vector3f( -0.1008f, 0.8375f, 0.5370f ),
-            new Vector3f( -0.1170f, 0.7923f, 0.5988f ),
-            new Vector3f( -0.4746f, 0.8389f, -0.2664f ),
-            new Vector3f( -0.5399f, 0.8349f, -0.1070f ),
-            new Vector3f( -0.5819f, 0.6557f, -0.4811f ),
-            new Vector3f( -0.5117f, 0.8232f, -0.2459f ),
-            new Vector3f( -0.4403f, 0.8730f, -0.2099f ),
-            new Vector3f( -0.0585f, 0.9292f, 0.3649f ),
-            new Vector3f( -0.0709f, 0.8943f, 0.4419f ),
-            new Vector3f( -0.4090f, 0.9000f, 0.1509f ),
-            new Vector3f( -0.3087f, 0.9410f, 0.1388f ),
-            new Vector3f( -0.1093f, 0.9939f, -0.0170f ),
-            new Vector3f( 0.1236f, 0.9658f, -0.2279f ),
-            new Vector3f( 0.1154f, 0.9516f, -0.2848f ),
-            new Vector3f( -0.0300f, 0.9765f, 0.2136f ),
-            new Vector3f( -0.2187f, 0.9447f, -0.2442f ),
-            new Vector3f( -0.0673f, 0.8924f, 0.4461f ),
-            new Vector3f( 0.1194f, 0.9903f, 0.0709f ),
-            new Vector3f( 0.0486f, 0.9961f, 0.0731f ),
-            new Vector3f( -0.0362f, 0.9896f, -0.1394f ),
-            new Vector3f( 0.1227f, 0.9509f, -0.2842f ),
-            new Vector3f( 0.0088f, 0.9761f, -0.2173f ),
-            new Vector3f( -0.0157f, 0.9827f, 0.1846f ),
-            new Vector3f( 0.0319f, 0.9630f, 0.2675f ),
-            new Vector3f( -0.1655f, 0.8275f, -0.5365f ),
-            new Vector3f( -0.2795f, 0.9047f, -0.3215f ),
-            new Vector3f( -0.0058f, 0.7719f, 0.6357f ),
-            new Vector3f( 0.0231f, 0.8089f, 0.5875f ),
-            new Vector3f( -0.4003f, 0.8609f, -0.3141f ),
-            new Vector3f( -0.4441f, 0.8335f, -0.3287f ),
-            new Vector3f( -0.4640f, 0.8789f, -0.1107f ),
-            new Vector3f( -0.1474f, 0.9862f, -0.0748f ),
-            new Vector3f( -0.0395f, 0.9792f, 0.1989f ),
-            new Vector3f( 0.1000f, 0.9016f, 0.4208f ),
-            new Vector3f( 0.1223f, 0.8518f, 0.5094f )
-    };
+        if (url == null) {
+            throw new IllegalStateException("Cannot find " + RESOURCE);
+        }
 
-    private static final int[] indices = {
-            7, 0, 8, 0, 1, 9, 8, 0, 9, 1, 2, 10, 9, 1, 10, 2, 11, 10, 13, 3, 14, 3, 15, 14, 4, 5, 19, 18, 4, 19, 5, 20, 19, 22, 6, 23, 6, 7, 8, 6, 8, 23, 23, 8, 24, 53, 9, 47, 53, 24, 9, 24, 8, 9, 10, 47, 9, 48, 47, 10, 11, 48, 10, 11, 12, 48, 12, 49, 48, 14, 12, 13, 14, 50, 12, 50, 49, 12, 50, 25, 58, 14, 25, 50, 14, 16, 25, 14, 15, 16, 16, 17, 26, 25, 16, 26, 17, 27, 26, 51, 35, 64, 51, 18, 35, 18, 19, 35, 20, 35, 19, 20, 52, 35, 20, 21, 52, 52, 66, 35, 22, 52, 21, 22, 36, 52, 22, 23, 36, 68, 52, 36, 36, 23, 37, 23, 24, 37, 24, 71, 37, 53, 71, 24, 25, 59, 58, 26, 59, 25, 60, 59, 26, 27, 60, 26, 27, 28, 60, 28, 61, 60, 28, 29, 61, 29, 62, 61, 38, 73, 62, 38, 62, 30, 30, 62, 29, 30, 39, 38, 42, 31, 43, 31, 32, 44, 43, 31, 44, 32, 33, 45, 44, 32, 45, 33, 34, 46, 45, 33, 46, 35, 65, 64, 35, 66, 65, 36, 69, 68, 37, 69, 36, 70, 69, 37, 37, 71, 70, 38, 74, 73, 39, 74, 38, 39, 40, 74, 40, 75, 74, 40, 41, 75, 41, 76, 75, 43, 41, 42, 43, 77, 41, 77, 76, 41, 44, 77, 43, 78, 77, 44, 45, 78, 44, 79, 78, 45, 46, 79, 45, 80, 79, 46, 53, 47, 54, 47, 48, 55, 54, 47, 55, 48, 49, 56, 55, 48, 56, 49, 50, 57, 56, 49, 57, 50, 58, 57, 51, 64, 63, 66, 52, 67, 52, 68, 67, 54, 89, 99, 54, 99, 53, 53, 99, 71, 55, 89, 54, 90, 89, 55, 56, 90, 55, 91, 90, 56, 57, 91, 56, 92, 91, 57, 58, 92, 57, 58, 59, 92, 59, 93, 92, 59, 60, 93, 60, 94, 93, 60, 61, 94, 61, 95, 94, 72, 106, 95, 72, 95, 62, 62, 95, 61, 62, 73, 72, 64, 81, 63, 64, 96, 81, 64, 65, 96, 96, 110, 81, 66, 96, 65, 66, 82, 96, 66, 67, 82, 112, 96, 82, 68, 82, 67, 68, 97, 82, 68, 69, 97, 97, 114, 82, 69, 70, 97, 70, 98, 97, 70, 99, 98, 71, 99, 70, 72, 107, 106, 73, 107, 72, 73, 74, 107, 74, 108, 107, 83, 117, 108, 83, 108, 75, 75, 108, 74, 75, 76, 84, 83, 75, 84, 76, 77, 85, 84, 76, 85, 77, 78, 86, 85, 77, 86, 78, 79, 87, 86, 78, 87, 79, 80, 88, 87, 79, 88, 81, 110, 109, 82, 113, 112, 82, 114, 113, 83, 118, 117, 84, 118, 83, 120, 118, 84, 85, 120, 84, 121, 120, 85, 86, 121, 85, 122, 121, 86, 87, 122, 86, 123, 122, 87, 88, 123, 87, 124, 123, 88, 99, 89, 100, 89, 90, 101, 100, 89, 101, 90, 91, 102, 101, 90, 102, 91, 92, 103, 102, 91, 103, 136, 103, 92, 136, 92, 131, 131, 92, 93, 104, 138, 131, 104, 131, 94, 94, 131, 93, 94, 95, 105, 104, 94, 105, 95, 106, 105, 110, 96, 111, 96, 112, 111, 114, 97, 115, 97, 98, 116, 115, 97, 116, 146, 100, 132, 116, 100, 146, 116, 99, 100, 116, 98, 99, 101, 132, 100, 133, 132, 101, 102, 133, 101, 134, 133, 102, 103, 134, 102, 135, 134, 103, 103, 136, 135, 104, 139, 138, 105, 139, 104, 140, 139, 105, 106, 140, 105, 106, 107, 140, 107, 141, 140, 107, 108, 141, 108, 142, 141, 117, 119, 143, 117, 143, 108, 108, 143, 142, 119, 150, 143, 111, 109, 110, 111, 145, 109, 145, 144, 109, 145, 125, 154, 111, 125, 145, 111, 113, 125, 111, 112, 113, 113, 114, 115, 113, 115, 125, 125, 115, 126, 126, 115, 127, 115, 116, 127, 116, 159, 127, 146, 159, 116, 118, 119, 117, 119, 151, 150, 119, 118, 151, 118, 120, 151, 120, 121, 151, 121, 152, 151, 128, 163, 152, 128, 152, 122, 122, 152, 121, 122, 123, 129, 128, 122, 129, 123, 124, 130, 129, 123, 130, 125, 155, 154, 126, 155, 125, 156, 155, 126, 127, 156, 126, 157, 156, 127, 127, 159, 157, 128, 164, 163, 129, 164, 128, 165, 164, 129, 130, 165, 129, 166, 165, 130, 136, 131, 137, 131, 138, 137, 179, 146, 132, 170, 179, 132, 147, 181, 170, 147, 170, 133, 133, 170, 132, 133, 134, 148, 147, 133, 148, 183, 148, 134, 183, 134, 171, 171, 134, 135, 137, 135, 136, 137, 172, 135, 172, 171, 135, 138, 172, 137, 138, 139, 172, 139, 173, 172, 139, 140, 173, 140, 174, 173, 140, 141, 174, 141, 175, 174, 141, 142, 175, 142, 176, 175, 149, 185, 176, 149, 176, 143, 143, 176, 142, 143, 150, 149, 188, 153, 144, 188, 144, 177, 177, 144, 145, 154, 190, 177, 145, 154, 177, 194, 158, 178, 158, 179, 178, 158, 159, 179, 159, 146, 179, 147, 182, 181, 182, 160, 195, 182, 147, 160, 147, 148, 160, 148, 196, 160, 183, 196, 148, 149, 186, 185, 186, 161, 199, 149, 161, 186, 149, 151, 161, 149, 150, 151, 151, 152, 162, 161, 151, 162, 152, 163, 162, 153, 188, 187, 191, 154, 155, 190, 154, 191, 155, 156, 191, 156, 192, 191, 194, 157, 158, 194, 192, 157, 192, 156, 157, 157, 159, 158, 195, 167, 206, 160, 167, 195, 197, 160, 196, 197, 168, 160, 168, 167, 160, 168, 197, 209, 161, 200, 199, 162, 200, 161, 201, 200, 162, 163, 201, 162, 163, 164, 201, 164, 202, 201, 164, 165, 202, 165, 203, 202, 169, 211, 203, 169, 203, 166, 166, 203, 165, 167, 207, 206, 168, 207, 167, 208, 207, 168, 168, 209, 208, 169, 212, 211, 179, 170, 180, 170, 181, 180, 183, 171, 184, 222, 184, 171, 222, 171, 213, 213, 171, 172, 172, 173, 213, 173, 214, 213, 173, 174, 214, 174, 215, 214, 174, 175, 215, 175, 216, 215, 175, 176, 216, 176, 217, 216, 185, 223, 217, 176, 185, 217, 188, 177, 189, 177, 190, 189, 229, 193, 218, 193, 194, 178, 193, 178, 218, 218, 178, 219, 180, 178, 179, 180, 220, 178, 220, 219, 178, 181, 220, 180, 181, 182, 220, 182, 221, 220, 195, 234, 221, 182, 195, 221, 196, 183, 184, 198, 196, 184, 184, 237, 198, 222, 237, 184, 224, 185, 186, 223, 185, 224, 199, 239, 224, 186, 199, 224, 189, 187, 188, 189, 226, 187, 226, 225, 187, 190, 226, 189, 190, 191, 226, 191, 228, 226, 204, 243, 230, 192, 193, 228, 192, 228, 191, 228, 193, 229, 192, 194, 193, 204, 230, 246, 247, 233, 205, 205, 233, 234, 205, 234, 206, 206, 234, 195, 197, 196, 198, 198, 209, 197, 198, 237, 209, 237, 254, 209, 240, 199, 200, 239, 199, 240, 200, 201, 240, 201, 241, 240, 201, 202, 241, 202, 242, 241, 210, 257, 242, 210, 242, 203, 203, 242, 202, 203, 211, 210, 204, 244, 243, 204, 246, 244, 205, 248, 247, 206, 248, 205, 206, 207, 248, 207, 250, 248, 207, 208, 250, 208, 252, 250, 208, 254, 252, 209, 254, 208, 210, 258, 257, 211, 258, 210, 211, 212, 258, 212, 259, 258, 271, 222, 213, 260, 271, 213, 213, 214, 260, 214, 261, 260, 214, 215, 261, 215, 262, 261, 215, 216, 262, 216, 263, 262, 216, 217, 263, 217, 264, 263, 223, 272, 264, 217, 223, 264, 275, 227, 265, 227, 276, 265, 229, 218, 231, 218, 219, 232, 231, 218, 232, 283, 232, 219, 283, 219, 266, 266, 219, 220, 220, 221, 266, 221, 267, 266, 234, 235, 269, 234, 269, 221, 221, 269, 267, 235, 236, 270, 269, 235, 270, 236, 271, 270, 236, 237, 271, 237, 222, 271, 238, 223, 224, 238, 284, 223, 284, 272, 223, 224, 239, 238, 275, 226, 227, 275, 274, 226, 274, 225, 226, 227, 277, 276, 227, 226, 277, 226, 228, 277, 243, 245, 230, 228, 229, 279, 228, 279, 277, 279, 229, 231, 279, 232, 281, 279, 231, 232, 230, 245, 246, 232, 283, 281, 247, 249, 233, 233, 235, 234, 233, 249, 235, 249, 251, 235, 251, 253, 235, 235, 253, 236, 253, 237, 236, 254, 237, 253, 238, 285, 284, 239, 285, 238, 239, 240, 285, 240, 287, 285, 255, 289, 287, 255, 287, 241, 241, 287, 240, 241, 242, 256, 255, 241, 256, 242, 257, 256, 244, 245, 243, 244, 246, 245, 248, 249, 247, 250, 249, 248, 251, 249, 250, 252, 251, 250, 253, 251, 252, 252, 254, 253, 255, 290, 289, 256, 290, 255, 292, 290, 256, 257, 292, 256, 257, 258, 292, 258, 294, 292, 258, 259, 294, 259, 295, 294, 311, 268, 296, 268, 312, 296, 316, 271, 260, 297, 316, 260, 260, 261, 297, 261, 298, 297, 261, 262, 298, 262, 299, 298, 262, 263, 299, 263, 300, 299, 263, 264, 300, 264, 302, 300, 272, 273, 304, 272, 304, 264, 264, 304, 302, 273, 317, 304, 318, 275, 265, 305, 318, 265, 276, 278, 306, 276, 306, 265, 265, 306, 305, 278, 280, 307, 306, 278, 307, 280, 282, 308, 307, 280, 308, 282, 283, 266, 282, 266, 308, 308, 266, 309, 311, 267, 268, 311, 309, 267, 309, 266, 267, 268, 313, 312, 268, 267, 313, 267, 269, 313, 269, 270, 313, 270, 315, 313, 270, 316, 315, 271, 316, 270, 284, 273, 272, 286, 273, 284, 273, 286, 320, 317, 273, 320, 274, 325, 288, 274, 275, 325, 275, 318, 325, 277, 278, 276, 279, 278, 277, 280, 278, 279, 281, 280, 279, 282, 280, 281, 281, 283, 282, 285, 286, 284, 286, 321, 320, 286, 285, 321, 285, 287, 321, 289, 291, 322, 289, 322, 287, 287, 322, 321, 291, 293, 323, 322, 291, 323, 293, 326, 323, 288, 325, 324, 290, 291, 289, 292, 291, 290, 293, 291, 292, 293, 327, 326, 293, 292, 327, 292, 294, 327, 294, 295, 327, 295, 329, 327, 341, 301, 331, 301, 303, 332, 331, 301, 332, 303, 342, 332, 347, 310, 333, 310, 311, 296, 310, 296, 333, 333, 296, 334, 312, 314, 335, 312, 335, 296, 296, 335, 334, 314, 348, 335, 351, 316, 297, 336, 351, 297, 297, 298, 336, 298, 337, 336, 298, 299, 337, 299, 339, 337, 341, 300, 301, 341, 339, 300, 339, 299, 300, 302, 301, 300, 303, 301, 302, 303, 343, 342, 303, 302, 343, 302, 304, 343, 317, 352, 343, 304, 317, 343, 318, 305, 319, 355, 319, 305, 355, 305, 344, 344, 305, 306, 306, 307, 344, 307, 345, 344, 307, 308, 345, 308, 346, 345, 347, 309, 310, 347, 346, 309, 346, 308, 309, 309, 311, 310, 313, 314, 312, 314, 349, 348, 314, 313, 349, 313, 315, 349, 315, 351, 349, 316, 351, 315, 320, 356, 317, 356, 352, 317, 319, 354, 367, 319, 367, 318, 318, 367, 325, 319, 355, 354, 357, 320, 321, 356, 320, 357, 321, 322, 357, 322, 359, 357, 322, 323, 359, 323, 361, 359, 326, 328, 363, 326, 363, 323, 323, 363, 361, 328, 330, 365, 363, 328, 365, 324, 367, 366, 325, 367, 324, 327, 328, 326, 329, 328, 327, 330, 328, 329, 379, 338, 368, 338, 340, 369, 368, 338, 369, 340, 341, 331, 340, 331, 369, 369, 331, 370, 331, 332, 370, 332, 372, 370, 342, 380, 372, 332, 342, 372, 386, 347, 333, 373, 386, 333, 333, 334, 373, 334, 374, 373, 334, 335, 374, 335, 375, 374, 348, 350, 376, 348, 376, 335, 335, 376, 375, 350, 351, 336, 350, 336, 376, 376, 336, 377, 379, 337, 338, 379, 377, 337, 377, 336, 337, 339, 338, 337, 340, 338, 339, 339, 341, 340, 381, 342, 343, 380, 342, 381, 352, 353, 382, 352, 382, 343, 343, 382, 381, 353, 389, 382, 396, 355, 344, 383, 396, 344, 344, 345, 383, 345, 384, 383, 345, 346, 384, 346, 385, 384, 346, 386, 385, 347, 386, 346, 349, 350, 348, 349, 351, 350, 356, 353, 352, 358, 353, 356, 390, 389, 353, 390, 353, 360, 360, 353, 358, 360, 362, 392, 390, 360, 392, 362, 364, 393, 392, 362, 393, 364, 398, 393, 402, 367, 354, 394, 402, 354, 354, 396, 394, 355, 396, 354, 357, 358, 356, 359, 358, 357, 360, 358, 359, 361, 360, 359, 362, 360, 361, 363, 362, 361, 364, 362, 363, 364, 399, 398, 364, 363, 399, 363, 365, 399, 366, 402, 400, 367, 402, 366, 407, 371, 403, 371, 409, 403, 413, 378, 404, 378, 379, 368, 378, 368, 404, 404, 368, 405, 368, 369, 405, 369, 406, 405, 407, 370, 371, 407, 406, 370, 406, 369, 370, 371, 410, 409, 371, 370, 410, 370, 372, 410, 380, 416, 410, 372, 380, 410, 386, 373, 387, 373, 374, 388, 387, 373, 388, 428, 388, 374, 428, 374, 411, 411, 374, 375, 375, 376, 411, 376, 412, 411, 413, 377, 378, 413, 412, 377, 412, 376, 377, 377, 379, 378, 417, 380, 381, 416, 380, 417, 381, 382, 417, 382, 419, 417, 389, 391, 421, 389, 421, 382, 382, 421, 419, 391, 430, 421, 433, 395, 422, 395, 396, 383, 395, 383, 422, 422, 383, 423, 383, 384, 423, 384, 424, 423, 384, 385, 424, 385, 425, 424, 387, 385, 386, 387, 426, 385, 426, 425, 385, 388, 426, 387, 427, 426, 388, 388, 428, 427, 390, 391, 389, 391, 431, 430, 391, 390, 431, 390, 392, 431, 397, 434, 431, 397, 431, 393, 393, 431, 392, 393, 398, 397, 394, 395, 433, 402, 394, 433, 402, 433, 432, 402, 432, 401, 394, 396, 395, 397, 435, 434, 398, 435, 397, 398, 399, 435, 399, 436, 435, 400, 402, 401, 407, 403, 408, 403, 409, 408, 413, 404, 414, 404, 405, 415, 414, 404, 415, 445, 415, 405, 445, 405, 437, 437, 405, 406, 408, 406, 407, 408, 438, 406, 438, 437, 406, 409, 438, 408, 409, 410, 438, 410, 439, 438, 416, 418, 440, 416, 440, 410, 410, 440, 439, 418, 420, 441, 440, 418, 441, 420, 447, 441, 428, 411, 429, 457, 429, 411, 457, 411, 442, 442, 411, 412, 414, 412, 413, 414, 443, 412, 443, 442, 412, 415, 443, 414, 444, 443, 415, 415, 445, 444, 417, 418, 416, 419, 418, 417, 420, 418, 419, 420, 448, 447, 420, 419, 448, 419, 421, 448, 430, 458, 448, 421, 430, 448, 463, 433, 422, 450, 463, 422, 422, 423, 450, 423, 451, 450, 423, 424, 451, 424, 452, 451, 424, 425, 452, 425, 453, 452, 425, 426, 453, 426, 454, 453, 426, 427, 454, 427, 455, 454, 429, 427, 428, 429, 456, 427, 456, 455, 427, 429, 457, 456, 459, 430, 431, 458, 430, 459, 434, 465, 459, 431, 434, 459, 432, 463, 462, 433, 463, 432, 466, 434, 435, 465, 434, 466, 435, 436, 466, 436, 468, 466, 445, 437, 446, 480, 446, 437, 480, 437, 471, 471, 437, 438, 438, 439, 471, 439, 472, 471, 439, 440, 472, 440, 473, 472, 440, 441, 473, 441, 474, 473, 447, 449, 475, 447, 475, 441, 441, 475, 474, 449, 482, 475, 492, 457, 442, 476, 492, 442, 442, 443, 476, 443, 477, 476, 443, 444, 477, 444, 478, 477, 446, 444, 445, 446, 479, 444, 479, 478, 444, 446, 480, 479, 448, 449, 447, 449, 448, 458, 449, 458, 482, 482, 458, 495, 498, 460, 484, 460, 461, 485, 484, 460, 485, 463, 450, 464, 500, 464, 450, 500, 450, 486, 486, 450, 451, 451, 452, 486, 452, 487, 486, 452, 453, 487, 453, 488, 487, 453, 454, 488, 454, 489, 488, 454, 455, 489, 455, 490, 489, 455, 456, 490, 456, 491, 490, 456, 492, 491, 457, 492, 456, 496, 458, 459, 495, 458, 496, 465, 467, 460, 465, 460, 496, 465, 496, 459, 496, 460, 498, 467, 469, 460, 460, 469, 461, 503, 464, 499, 470, 464, 503, 470, 463, 464, 470, 462, 463, 464, 500, 499, 466, 467, 465, 468, 467, 466, 469, 467, 468, 470, 503, 501, 511, 480, 471, 504, 511, 471, 471, 472, 504, 472, 505, 504, 472, 473, 505, 473, 506, 505, 473, 474, 506, 474, 507, 506, 481, 514, 507, 481, 507, 475, 475, 507, 474, 516, 481, 475, 516, 475, 508, 482, 483, 475, 483, 508, 475, 483, 517, 508, 492, 476, 493, 476, 477, 494, 493, 476, 494, 529, 494, 477, 529, 477, 509, 509, 477, 478, 478, 479, 509, 479, 510, 509, 479, 511, 510, 480, 511, 479, 481, 515, 514, 483, 495, 497, 483, 482, 495, 481, 516, 515, 498, 484, 518, 498, 518, 483, 498, 483, 497, 517, 483, 518, 484, 485, 518, 485, 520, 518, 533, 500, 486, 521, 533, 486, 486, 487, 521, 487, 522, 521, 487, 488, 522, 488, 523, 522, 488, 489, 523, 489, 524, 523, 489, 490, 524, 490, 525, 524, 490, 491, 525, 491, 526, 525, 493, 491, 492, 493, 527, 491, 527, 526, 491, 494, 527, 493, 528, 527, 494, 494, 529, 528, 496, 497, 495, 496, 498, 497, 502, 503, 499, 502, 499, 531, 531, 499, 532, 499, 533, 532, 500, 533, 499, 501, 503, 502, 511, 504, 512, 545, 512, 504, 545, 504, 538, 538, 504, 505, 505, 506, 538, 506, 539, 538, 513, 548, 539, 513, 539, 507, 507, 539, 506, 507, 514, 513, 550, 516, 508, 540, 550, 508, 517, 519, 541, 517, 541, 508, 508, 541, 540, 519, 551, 541, 558, 529, 509, 542, 558, 509, 509, 510, 542, 510, 543, 542, 512, 510, 511, 512, 544, 510, 544, 543, 510, 512, 545, 544, 548, 530, 560, 513, 530, 548, 514, 530, 513, 514, 549, 530, 514, 515, 549, 549, 562, 530, 515, 550, 549, 516, 550, 515, 518, 519, 517, 519, 552, 551, 519, 518, 552, 518, 520, 552, 533, 521, 534, 521, 522, 535, 534, 521, 535, 522, 523, 536, 535, 522, 536, 523, 524, 537, 536, 523, 537, 570, 537, 524, 570, 524, 554, 554, 524, 525, 525, 526, 554, 526, 555, 554, 526, 527, 555, 527, 556, 555, 527, 528, 556, 528, 557, 556, 528, 558, 557, 529, 558, 528, 530, 561, 560, 530, 562, 561, 531, 532, 563, 532, 564, 563, 534, 532, 533, 534, 565, 532, 565, 564, 532, 535, 565, 534, 566, 565, 535, 536, 566, 535, 568, 566, 536, 537, 568, 536, 569, 568, 537, 537, 570, 569, 545, 538, 546, 538, 539, 547, 546, 538, 547, 539, 548, 547, 579, 550, 540, 571, 579, 540, 540, 541, 571, 541, 572, 571, 551, 553, 573, 551, 573, 541, 541, 573, 572, 586, 558, 542, 574, 586, 542, 542, 543, 574, 543, 575, 574, 543, 544, 575, 544, 576, 575, 546, 544, 545, 546, 577, 544, 577, 576, 544, 577, 559, 590, 577, 546, 559, 546, 547, 559, 559, 547, 548, 560, 559, 548, 593, 562, 549, 578, 593, 549, 549, 579, 578, 550, 579, 549, 552, 553, 551, 600, 567, 581, 567, 601, 581, 605, 570, 554, 582, 605, 554, 554, 555, 582, 555, 583, 582, 555, 556, 583, 556, 584, 583, 556, 557, 584, 557, 585, 584, 557, 586, 585, 558, 586, 557, 559, 591, 590, 560, 591, 559, 560, 561, 591, 561, 592, 591, 561, 593, 592, 562, 593, 561, 563, 564, 594, 564, 596, 594, 564, 565, 596, 565, 598, 596, 600, 566, 567, 600, 598, 566, 598, 565, 566, 567, 602, 601, 567, 566, 602, 566, 568, 602, 568, 569, 602, 569, 604, 602, 569, 605, 604, 570, 605, 569, 579, 571, 580, 611, 580, 571, 611, 571, 606, 606, 571, 572, 572, 573, 606, 573, 607, 606, 586, 574, 587, 626, 587, 574, 626, 574, 608, 608, 574, 575, 588, 627, 608, 588, 608, 576, 576, 608, 575, 576, 577, 589, 588, 576, 589, 577, 590, 589, 633, 593, 578, 609, 633, 578, 580, 578, 579, 580, 610, 578, 610, 609, 578, 580, 611, 610, 595, 597, 614, 612, 595, 614, 597, 599, 616, 614, 597, 616, 599, 600, 581, 599, 581, 616, 616, 581, 618, 601, 603, 620, 601, 620, 581, 581, 620, 618, 603, 634, 620, 637, 605, 582, 621, 637, 582, 582, 583, 621, 583, 622, 621, 583, 584, 622, 584, 623, 622, 584, 585, 623, 585, 624, 623, 587, 585, 586, 587, 625, 585, 625, 624, 585, 587, 626, 625, 588, 628, 627, 589, 628, 588, 630, 628, 589, 590, 630, 589, 590, 591, 630, 591, 631, 630, 591, 592, 631, 592, 632, 631, 592, 633, 632, 593, 633, 592, 596, 595, 594, 597, 595, 596, 598, 597, 596, 599, 597, 598, 598, 600, 599, 602, 603, 601, 603, 635, 634, 603, 602, 635, 602, 604, 635, 604, 637, 635, 605, 637, 604, 648, 611, 606, 638, 648, 606, 606, 607, 638, 607, 639, 638, 613, 615, 641, 640, 613, 641, 615, 617, 642, 641, 615, 642, 617, 619, 643, 642, 617, 643, 619, 651, 643, 661, 626, 608, 644, 661, 608, 627, 629, 645, 627, 645, 608, 608, 645, 644, 629, 663, 645, 667, 633, 609, 646, 667, 609, 609, 610, 646, 610, 647, 646, 610, 648, 647, 611, 648, 610, 614, 613, 612, 615, 613, 614, 616, 615, 614, 617, 615, 616, 618, 617, 616, 619, 617, 618, 619, 652, 651, 619, 618, 652, 618, 620, 652, 634, 636, 653, 634, 653, 620, 620, 653, 652, 636, 637, 621, 636, 621, 653, 653, 621, 654, 621, 622, 654, 622, 655, 654, 622, 623, 655, 623, 657, 655, 623, 624, 657, 624, 659, 657, 624, 625, 659, 625, 660, 659, 625, 661, 660, 626, 661, 625, 628, 629, 627, 629, 664, 663, 629, 628, 664, 628, 630, 664, 630, 631, 664, 631, 665, 664, 631, 632, 665, 632, 666, 665, 632, 667, 666, 633, 667, 632, 635, 636, 634, 635, 637, 636, 648, 638, 649, 638, 639, 650, 649, 638, 650, 640, 641, 670, 641, 671, 670, 641, 642, 671, 642, 672, 671, 642, 643, 672, 643, 673, 672, 651, 681, 673, 643, 651, 673, 686, 656, 674, 656, 658, 675, 674, 656, 675, 658, 687, 675, 690, 661, 644, 676, 690, 644, 662, 692, 676, 662, 676, 645, 645, 676, 644, 645, 663, 662, 695, 667, 646, 677, 695, 646, 646, 647, 677, 647, 678, 677, 649, 647, 648, 649, 679, 647, 679, 678, 647, 650, 679, 649, 680, 679, 650, 682, 651, 652, 681, 651, 682, 652, 653, 682, 653, 684, 682, 653, 654, 684, 654, 685, 684, 686, 655, 656, 686, 685, 655, 685, 654, 655, 657, 656, 655, 658, 656, 657, 658, 688, 687, 658, 657, 688, 657, 659, 688, 659, 660, 688, 660, 689, 688, 660, 690, 689, 661, 690, 660, 662, 693, 692, 693, 668, 699, 662, 668, 693, 662, 664, 668, 662, 663, 664, 664, 665, 669, 668, 664, 669, 702, 669, 665, 702, 665, 694, 694, 665, 666, 666, 695, 694, 667, 695, 666, 668, 700, 699, 669, 700, 668, 701, 700, 669, 669, 702, 701, 670, 671, 703, 671, 704, 703, 671, 672, 704, 672, 705, 704, 672, 673, 705, 673, 706, 705, 681, 683, 707, 681, 707, 673, 673, 707, 706, 683, 714, 707, 717, 686, 674, 708, 717, 674, 674, 675, 708, 675, 709, 708, 687, 718, 709, 675, 687, 709, 690, 676, 691, 676, 692, 691, 721, 695, 677, 710, 721, 677, 677, 678, 710, 678, 711, 710, 678, 679, 711, 679, 712, 711, 679, 680, 712, 680, 713, 712, 682, 683, 681, 683, 715, 714, 683, 682, 715, 682, 684, 715, 684, 685, 715, 685, 716, 715, 685, 717, 716, 686, 717, 685, 719, 687, 688, 718, 687, 719, 696, 722, 719, 696, 719, 689, 689, 719, 688, 689, 690, 691, 689, 691, 696, 696, 691, 697, 692, 693, 698, 692, 698, 691, 691, 698, 697, 693, 699, 698, 728, 702, 694, 720, 728, 694, 694, 721, 720, 695, 721, 694, 696, 723, 722, 697, 723, 696, 724, 723, 697, 698, 724, 697, 725, 724, 698, 699, 725, 698, 699, 700, 725, 700, 726, 725, 700, 701, 726, 701, 727, 726, 701, 728, 727, 702, 728, 701, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0
-    };
+        try {
+            return BinaryMesh.load(url);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read " + RESOURCE, e);
+        }
+    }
 
 }
@@ -0,0 +1,148 @@
+package com.jayfella.jme.vehicle;
+
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.PhysicsTickListener;
+import com.jme3.bullet.objects.PhysicsRigidBody;
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import com.jme3.renderer.RenderManager;
+import com.jme3.renderer.ViewPort;
+import com.jme3.scene.control.AbstractControl;
+
+/**
+ * Moves a spatial smoothly between the last two physics states of a rigid body.
+ *
+ * Physics runs at a fixed rate, so when it doesn't match the frame rate a spatial that shows the latest state moves
+ * in uneven steps. This control remembers the previous and current state and blends between them by how far the
+ * frame is into the next physics tick, so the spatial is drawn up to one tick behind but always moves smoothly.
+ *
+ * It must be added after the physics control so it overrides the transform that control applies. Anything attached
+ * to the spatial, such as wheels and a camera node, follows the interpolated transform. The physics space is
+ * expected to be stepped on the render thread.
+ */
+public class TransformInterpolationControl extends AbstractControl implements PhysicsTickListener {
+
+    private final PhysicsRigidBody body;
+
+    private final Vector3f previousLocation = new Vector3f();
+    private final Vector3f currentLocation = new Vector3f();
+    private final Quaternion previousRotation = new Quaternion();
+    private final Quaternion currentRotation = new Quaternion();
+
+    private final Vector3f tempLocation = new Vector3f();
+    private final Quaternion tempRotation = new Quaternion();
+
+    // the time that has passed since the latest physics tick.
+    private float accumulator;
+    private float timeStep = 1f / 60f;
+
+    private boolean hasState;
+
+    public TransformInterpolationControl(PhysicsRigidBody body) {
+        this.body = body;
+    }
+
+    /**
+     * How far the next frame is between the previous and current physics state.
+     * @return a value between 0, the previous state, and 1, the current state.
+     */
+    public float getAlpha() {
+        return Math.min(accumulator / timeStep, 1f);
+    }
+
+    /**
+     * Gets the location the spatial is drawn at in this frame.
+     * @param store where to store the location, or null to create a new vector.
+     * @return the interpolated location.
+     */
+    public Vector3f getLocation(Vector3f store) {
+
+        if (store == null) {
+            store = new Vector3f();
+        }
+
+        if (!hasState) {
+            return body.getPhysicsLocation(store);
+        }
+
+        return store.interpolateLocal(previousLocation, currentLocation, getAlpha());
+    }
+
+    /**
+     * Gets the rotation the spatial is drawn with in this frame.
+     * @param store where to store the rotation, or null to create a new quaternion.
+     * @return the interpolated rotation.
+     */
+    public Quaternion getRotation(Quaternion store) {
+
+        if (store == null) {
+            store = new Quaternion();
+        }
+
+        if (!hasState) {
+            return body.getPhysicsRotation(store);
+        }
+
+        store.set(previousRotation);
+        store.nlerp(currentRotation, getAlpha());
+        return store;
+    }
+
+    /**
+     * Forgets the previous state so the spatial jumps straight to the body. Used when the body is teleported.
+     */
+    public void snap() {
+
+        body.getPhysicsLocation(currentLocation);
+        body.getPhysicsRotation(currentRotation);
+
+        previousLocation.set(currentLocation);
+        previousRotation.set(currentRotation);
+
+        accumulator = 0;
+        hasState = true;
+    }
+
+    @Override
+    public void prePhysicsTick(PhysicsSpace space, float timeStep) {
+
+    }
+
+    @Override
+    public void physicsTick(PhysicsSpace space, float timeStep) {
+
+        this.timeStep = timeStep;
+
+        if (!hasState) {
+            snap();
+            return;
+        }
+
+        previousLocation.set(currentLocation);
+        previousRotation.set(currentRotation);
+
+        body.getPhysicsLocation(currentLocation);
+        body.getPhysicsRotation(currentRotation);
+
+        accumulator = Math.max(0, accumulator - timeStep);
+    }
+
+    @Override
+    protected void controlUpdate(float tpf) {
+
+        if (hasState) {
+            spatial.setLocalTranslation(getLocation(tempLocation));
+            spatial.setLocalRotation(getRotation(tempRotation));
+        }
+
+        // the physics space steps after the scene is updated, so this frame's time is counted towards the next tick.
+        // if physics falls behind, the spatial waits at the current state instead of running ahead of it.
+        accumulator = Math.min(accumulator + tpf, timeStep * 2);
+    }
+
+    @Override
+    protected void controlRender(RenderManager rm, ViewPort vp) {
+
+    }
+
+}
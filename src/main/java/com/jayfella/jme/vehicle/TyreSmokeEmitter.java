@@ -1,6 +1,10 @@
 package com.jayfella.jme.vehicle;
 
+import com.jayfella.jme.vehicle.event.VehicleEvent;
+import com.jayfella.jme.vehicle.event.VehicleEventListener;
+import com.jayfella.jme.vehicle.metrics.MeshMemory;
 import com.jayfella.jme.vehicle.part.Wheel;
+import com.jayfella.jme.vehicle.profiling.Subsystem;
 import com.jme3.app.Application;
 import com.jme3.app.SimpleApplication;
 import com.jme3.app.state.BaseAppState;
@@ -25,6 +29,15 @@ public class TyreSmokeEmitter extends BaseAppState {
     private int wheelCount;
     private ParticleEmitter[] emitters;
 
+    // we only need to update while a wheel is skidding, plus one frame after to stop the smoke.
+    private int skiddingWheels;
+    private boolean settled;
+
+    private final VehicleEventListener skidListener = (event, index, value) -> {
+        skiddingWheels += event == VehicleEvent.SKID_STARTED ? 1 : -1;
+        settled = false;
+    };
+
     public TyreSmokeEmitter(Vehicle vehicle) {
         this.vehicle = vehicle;
 
@@ -79,17 +92,78 @@ public class TyreSmokeEmitter extends BaseAppState {
 
     }
 
+    public int getParticlesAlive() {
+
+        int particles = 0;
+
+        for (int i = 0; i < wheelCount; i++) {
+            particles += emitters[i].getNumVisibleParticles();
+        }
+
+        return particles;
+    }
+
+    public long getDirectMemoryBytes() {
+
+        long size = 0;
+
+        for (int i = 0; i < wheelCount; i++) {
+            size += MeshMemory.sizeOf(emitters[i].getMesh());
+        }
+
+        return size;
+    }
+
     @Override protected void cleanup(Application app) { }
 
+    /**
+     * Removes all of the smoke, such as when the vehicle is reset.
+     */
+    public void clear() {
+
+        if (emitters == null) {
+            return;
+        }
+
+        for (int i = 0; i < emitters.length; i++) {
+            emitters[i].killAllParticles();
+            emitters[i].setParticlesPerSec(0);
+        }
+    }
+
+    /**
+     * Frees the particle meshes. The emitter can't be used afterwards.
+     * Must be called from the render thread after the emitter has been detached.
+     */
+    public void dispose() {
+
+        if (emitters == null) {
+            return;
+        }
+
+        for (int i = 0; i < emitters.length; i++) {
+            emitters[i].removeFromParent();
+            MeshMemory.release(emitters[i].getMesh(), vehicle.getApplication().getRenderer());
+        }
+
+        emitters = null;
+    }
+
     @Override protected void onEnable() {
 
         for (int i = 0; i < emitters.length; i++) {
             rootNode.attachChild(emitters[i]);
         }
+
+        skiddingWheels = ((Car) vehicle).getWheelEventMonitor().getSkiddingCount();
+        settled = false;
+        vehicle.getEventBus().subscribe(skidListener, VehicleEvent.SKID_STARTED, VehicleEvent.SKID_ENDED);
     }
 
     @Override protected void onDisable() {
 
+        vehicle.getEventBus().unsubscribe(skidListener);
+
         for (int i = 0; i < emitters.length; i++) {
             emitters[i].removeFromParent();
         }
@@ -101,6 +175,21 @@ public class TyreSmokeEmitter extends BaseAppState {
     @Override
     public void update(float tpf) {
 
+        if (vehicle.isSleeping()) {
+            return;
+        }
+
+        if (skiddingWheels == 0) {
+
+            if (settled) {
+                return;
+            }
+
+            settled = true;
+        }
+
+        long start = System.nanoTime();
+
         for (int i = 0; i < wheelCount; i++) {
 
             VehicleWheel wheel = vehicle.getVehicleControl().getWheel(i);
@@ -126,10 +215,7 @@ public class TyreSmokeEmitter extends BaseAppState {
 
         }
 
-
-
-
-
+        vehicle.getProfiler().record(Subsystem.SMOKE, start);
     }
 
 }
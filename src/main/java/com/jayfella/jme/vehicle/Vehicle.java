@@ -1,21 +1,37 @@
 package com.jayfella.jme.vehicle;
 
 import com.jayfella.jme.vehicle.engine.Engine;
+import com.jayfella.jme.vehicle.event.VehicleEvent;
+import com.jayfella.jme.vehicle.event.VehicleEventBus;
+import com.jayfella.jme.vehicle.input.VehicleCommandDispatcher;
+import com.jayfella.jme.vehicle.input.VehicleCommandQueue;
+import com.jayfella.jme.vehicle.metrics.VehicleEvents;
+import com.jayfella.jme.vehicle.metrics.VehicleMetricsState;
 import com.jayfella.jme.vehicle.part.GearBox;
+import com.jayfella.jme.vehicle.part.GearChangeListener;
+import com.jayfella.jme.vehicle.profiling.ProfilerFrameControl;
+import com.jayfella.jme.vehicle.profiling.Subsystem;
+import com.jayfella.jme.vehicle.profiling.VehicleProfiler;
+import com.jayfella.jme.vehicle.shape.ChassisShapeCache;
+import com.jayfella.jme.vehicle.shape.ChassisShapeStrategy;
 import com.jme3.app.Application;
 import com.jme3.asset.AssetManager;
 import com.jme3.audio.AudioData;
 import com.jme3.audio.AudioNode;
+import com.jme3.audio.AudioSource;
 import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.PhysicsTickListener;
 import com.jme3.bullet.collision.shapes.CollisionShape;
 //import com.jme3.bullet.control.VehicleControl;
 import com.jme3.bullet.control.VehicleControl;
-import com.jme3.bullet.util.CollisionShapeFactory;
 import com.jme3.math.Quaternion;
 import com.jme3.math.Vector3f;
 import com.jme3.scene.Node;
 import com.jme3.scene.Spatial;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A vehicle that may contain wheels and other propellants.
  */
@@ -30,6 +46,7 @@ public abstract class Vehicle {
 
     private final Node node;
     private VehicleControl vehicleControl;
+    private TransformInterpolationControl interpolationControl;
 
     private String name;
 
@@ -45,13 +62,57 @@ public abstract class Vehicle {
     private final Vector3f hoodCamLoc = new Vector3f();
 
     private AudioNode hornAudio;
+    private String hornAudioPath;
 
     private boolean parkingBrakeApplied;
 
+    private final VehicleProfiler profiler = new VehicleProfiler();
+    private final VehicleEventBus eventBus = new VehicleEventBus();
+
+    private final GearChangeListener gearChangeListener = (gearBox, fromGear, toGear)
+            -> eventBus.publish(VehicleEvent.GEAR_CHANGED, toGear, fromGear);
+    private final VehicleCommandDispatcher commandDispatcher = new VehicleCommandDispatcher(this);
+
+    // tick listeners of the vehicle parts. They are run by partTicks, which is added to the physics space with the
+    // vehicle, so the profiler times the work of this vehicle rather than the whole physics step.
+    private final List<PhysicsTickListener> tickListeners = new ArrayList<>();
+    private final PhysicsTickListener partTicks = new PhysicsTickListener() {
+
+        private long preTickNanos;
+
+        @Override
+        public void prePhysicsTick(PhysicsSpace space, float timeStep) {
+
+            long start = System.nanoTime();
+
+            for (int i = 0; i < tickListeners.size(); i++) {
+                tickListeners.get(i).prePhysicsTick(space, timeStep);
+            }
+
+            preTickNanos = System.nanoTime() - start;
+        }
+
+        @Override
+        public void physicsTick(PhysicsSpace space, float timeStep) {
+
+            long start = System.nanoTime();
+
+            for (int i = 0; i < tickListeners.size(); i++) {
+                tickListeners.get(i).physicsTick(space, timeStep);
+            }
+
+            profiler.recordNanos(Subsystem.PHYSICS_TICK, preTickNanos + System.nanoTime() - start);
+        }
+    };
+
+    private final VehicleSleepMonitor sleepMonitor = new VehicleSleepMonitor(this);
+    private boolean sleeping;
+
     public Vehicle(Application app, String name) {
         this.app = app;
         this.name = name;
         this.node = new Node("Vehicle: " + name);
+        this.node.addControl(new ProfilerFrameControl(profiler));
     }
 
     public Application getApplication() {
@@ -71,7 +132,12 @@ public abstract class Vehicle {
         return hornAudio;
     }
 
+    public String getHornAudioPath() {
+        return hornAudioPath;
+    }
+
     public void setHornAudio(AssetManager assetManager, String audioFile) {
+        this.hornAudioPath = audioFile;
         this.hornAudio = new AudioNode(assetManager, audioFile, AudioData.DataType.Stream);
         this.hornAudio.setLooping(false);
         this.hornAudio.setPositional(true);
@@ -79,19 +145,108 @@ public abstract class Vehicle {
         this.node.attachChild(this.hornAudio);
     }
 
+    /**
+     * The number of audio sources of this vehicle that are currently playing.
+     * @return the number of audio voices in use.
+     */
+    public int getPlayingAudioCount() {
+
+        int count = 0;
+
+        if (engine != null && engine.getEngineAudio().getStatus() == AudioSource.Status.Playing) {
+            count++;
+        }
+
+        if (hornAudio != null && hornAudio.getStatus() == AudioSource.Status.Playing) {
+            count++;
+        }
+
+        return count;
+    }
+
     public void pressHorn() {
         vehicleAudioState.playHornSound();
+        eventBus.publish(VehicleEvent.HORN_PRESSED);
+    }
+
+    /**
+     * Publishes changes to this vehicle and its parts, so they can be reacted to instead of checked every frame.
+     * @return the event bus of this vehicle.
+     */
+    public VehicleEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * The profiler that records how long each subsystem of this vehicle takes.
+     * @return the profiler of this vehicle.
+     */
+    public VehicleProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * The queue the input states use to control this vehicle. Commands are applied before the next physics step.
+     * Must only be used from the render thread. Other threads should use their own queue from the dispatcher.
+     * @return the input command queue.
+     */
+    public VehicleCommandQueue getCommandQueue() {
+        return commandDispatcher.getInputQueue();
+    }
+
+    public VehicleCommandDispatcher getCommandDispatcher() {
+        return commandDispatcher;
+    }
+
+    /**
+     * Adds a listener that is called every physics tick while the vehicle is in the scene.
+     * @param listener the listener to add.
+     */
+    public void addTickListener(PhysicsTickListener listener) {
+        tickListeners.add(listener);
+    }
+
+    public void removeTickListener(PhysicsTickListener listener) {
+        tickListeners.remove(listener);
     }
 
     public Spatial getChassis() {
         return chassis;
     }
 
+    /**
+     * Sets the chassis using a hull around every geometry of the model, which is how the shape has always been built.
+     * Simpler shapes collide more quickly but change how the vehicle handles, so they have to be chosen explicitly.
+     * @param chassis the chassis model, with its scale already set.
+     * @param mass    the mass of the vehicle.
+     */
     public void setChassis(Spatial chassis, float mass) {
+        setChassis(chassis, mass, ChassisShapeStrategy.DYNAMIC_MESH);
+    }
+
+    /**
+     * Sets the chassis using a collision shape built with the given strategy.
+     * The shape is cached, so every vehicle using the same model shares it.
+     * @param chassis  the chassis model, with its scale already set.
+     * @param mass     the mass of the vehicle.
+     * @param strategy how the collision shape is built from the model.
+     */
+    public void setChassis(Spatial chassis, float mass, ChassisShapeStrategy strategy) {
+        setChassis(chassis, mass, ChassisShapeCache.getInstance().getShape(app.getAssetManager(), chassis, strategy));
+    }
+
+    public void setChassis(Spatial chassis, float mass, CollisionShape chassisCollisionShape) {
         this.chassis = chassis;
-        CollisionShape chassisCollisionShape = CollisionShapeFactory.createDynamicMeshShape(chassis);
         this.vehicleControl = new VehicleControl(chassisCollisionShape, mass);
         this.node.addControl(this.vehicleControl);
+
+        // lets anything that finds the body in the physics space get back to the vehicle.
+        this.vehicleControl.setUserObject(this);
+
+        // added after the vehicle control so it overrides the transform the vehicle control applies.
+        this.interpolationControl = new TransformInterpolationControl(this.vehicleControl);
+        this.node.addControl(this.interpolationControl);
+
         node.attachChild(chassis);
     }
 
@@ -117,6 +272,7 @@ public abstract class Vehicle {
         if (!engine.isStarted()) {
             engine.setStarted(true);
             vehicleAudioState.playEngineSound();
+            eventBus.publish(VehicleEvent.ENGINE_STARTED);
         }
     }
 
@@ -124,6 +280,7 @@ public abstract class Vehicle {
         if (engine.isStarted()) {
             engine.setStarted(false);
             vehicleAudioState.stopEngineSound();
+            eventBus.publish(VehicleEvent.ENGINE_STOPPED);
         }
     }
 
@@ -132,7 +289,13 @@ public abstract class Vehicle {
     }
 
     public void setGearBox(GearBox gearBox) {
+
+        if (this.gearBox != null) {
+            this.gearBox.removeGearChangeListener(gearChangeListener);
+        }
+
         this.gearBox = gearBox;
+        this.gearBox.addGearChangeListener(gearChangeListener);
     }
 
     private float accelerationForce;
@@ -164,7 +327,10 @@ public abstract class Vehicle {
     }
 
     public void setLocation(Vector3f loc) {
+        // a teleported vehicle needs to settle again.
+        wake();
         vehicleControl.setPhysicsLocation(loc);
+        interpolationControl.snap();
     }
 
     public Quaternion getRotation() {
@@ -172,7 +338,9 @@ public abstract class Vehicle {
     }
 
     public void setRotation(Quaternion rotation) {
+        wake();
         vehicleControl.setPhysicsRotation(rotation);
+        interpolationControl.snap();
     }
 
     public Node getNode() {
@@ -183,6 +351,27 @@ public abstract class Vehicle {
         return vehicleControl;
     }
 
+    /**
+     * The control that draws the vehicle between its last two physics states.
+     * @return the interpolation control.
+     */
+    public TransformInterpolationControl getInterpolationControl() {
+        return interpolationControl;
+    }
+
+    public boolean isInterpolationEnabled() {
+        return interpolationControl.isEnabled();
+    }
+
+    /**
+     * Sets whether the vehicle is drawn between physics states or at the latest one.
+     * @param enabled whether to interpolate the vehicle.
+     */
+    public void setInterpolationEnabled(boolean enabled) {
+        interpolationControl.setEnabled(enabled);
+        interpolationControl.snap();
+    }
+
 
     public float getSpeed(SpeedUnit speedUnit) {
         switch (speedUnit) {
@@ -225,7 +414,7 @@ public abstract class Vehicle {
         return this.hoodCamLoc;
     }
 
-    protected void setHoodCamLocation(Vector3f loc) {
+    public void setHoodCamLocation(Vector3f loc) {
         this.hoodCamLoc.set(loc);
     }
 
@@ -234,32 +423,181 @@ public abstract class Vehicle {
     }
 
     public void setParkingBrakeApplied(boolean applied) {
-        this.parkingBrakeApplied = applied;
+
+        if (applied != this.parkingBrakeApplied) {
+            this.parkingBrakeApplied = applied;
+            eventBus.publish(applied ? VehicleEvent.PARKING_BRAKE_APPLIED : VehicleEvent.PARKING_BRAKE_RELEASED);
+        }
+    }
+
+    /**
+     * Whether the vehicle is asleep. A sleeping vehicle has come to rest with no input, and skips all of its
+     * per-frame and per-tick work until it is woken by input, a collision or a call to wake.
+     * @return true if the vehicle is asleep.
+     */
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    /**
+     * Puts the vehicle to sleep. Its tick listeners are removed from the physics space and its states stop updating.
+     * This is usually done by the sleep monitor once the chassis has been at rest with no input for a while.
+     */
+    public void sleep() {
+
+        if (sleeping || !isAttachedToScene()) {
+            return;
+        }
+
+        sleeping = true;
+
+        PhysicsSpace physicsSpace = vehicleControl.getPhysicsSpace();
+        physicsSpace.removeTickListener(interpolationControl);
+        physicsSpace.removeTickListener(partTicks);
+
+        // the vehicle stays where it is drawn until it wakes.
+        interpolationControl.snap();
+
+        eventBus.publish(VehicleEvent.FELL_ASLEEP);
+    }
+
+    /**
+     * Wakes the vehicle up if it is asleep, and activates its physics body.
+     */
+    public void wake() {
+
+        if (!sleeping) {
+            return;
+        }
+
+        sleeping = false;
+
+        PhysicsSpace physicsSpace = vehicleControl.getPhysicsSpace();
+        physicsSpace.addTickListener(interpolationControl);
+        physicsSpace.addTickListener(partTicks);
+
+        vehicleControl.activate();
+        interpolationControl.snap();
+
+        eventBus.publish(VehicleEvent.WOKE_UP);
     }
 
     public void attachToScene(Node parent, PhysicsSpace physicsSpace) {
         enable();
 
+        sleeping = false;
+
         parent.attachChild(node);
         physicsSpace.add(vehicleControl);
+        physicsSpace.addTickListener(interpolationControl);
+        physicsSpace.addTickListener(commandDispatcher);
+        physicsSpace.addTickListener(partTicks);
+        physicsSpace.addTickListener(sleepMonitor);
+        interpolationControl.snap();
+
+        VehicleMetricsState metricsState = app.getStateManager().getState(VehicleMetricsState.class);
+        if (metricsState != null) {
+            metricsState.addVehicle(this);
+        }
+
+        VehicleEvents.vehicleSpawned(name, true);
     }
 
     public void detachFromScene() {
         disable();
 
         node.removeFromParent();
+        vehicleControl.getPhysicsSpace().removeTickListener(commandDispatcher);
+        vehicleControl.getPhysicsSpace().removeTickListener(sleepMonitor);
+
+        // a sleeping vehicle has already removed the rest of its listeners.
+        if (!sleeping) {
+            vehicleControl.getPhysicsSpace().removeTickListener(interpolationControl);
+            vehicleControl.getPhysicsSpace().removeTickListener(partTicks);
+        }
+
+        sleeping = false;
+
         vehicleControl.getPhysicsSpace().remove(vehicleControl);
+
+        VehicleMetricsState metricsState = app.getStateManager().getState(VehicleMetricsState.class);
+        if (metricsState != null) {
+            metricsState.removeVehicle(this);
+        }
+
+        VehicleEvents.vehicleSpawned(name, false);
+    }
+
+    public boolean isAttachedToScene() {
+        return vehicleControl.getPhysicsSpace() != null;
+    }
+
+    /**
+     * Puts a vehicle that has been removed from the scene back to how it was built so it can be used again.
+     * The vehicle is moved back to the origin, so it should be placed before it is added to the scene.
+     */
+    public void reset() {
+
+        engine.setStarted(false);
+        engine.setRevs(0);
+        gearBox.setActiveGearNum(0);
+
+        setParkingBrakeApplied(false);
+        accelerate(0);
+        brake(0);
+        steer(0);
+
+        vehicleControl.clearForces();
+        vehicleControl.setLinearVelocity(Vector3f.ZERO);
+        vehicleControl.setAngularVelocity(Vector3f.ZERO);
+        vehicleControl.setPhysicsLocation(Vector3f.ZERO);
+        vehicleControl.setPhysicsRotation(Quaternion.IDENTITY);
+        interpolationControl.snap();
+    }
+
+    /**
+     * Releases everything this vehicle owns. The vehicle can't be used afterwards.
+     * Anything shared with other vehicles - models, materials, the collision shape and buffered audio - is left to the
+     * asset manager and the caches that created it.
+     */
+    public void dispose() {
+
+        // detaching removes the body and the tick listeners from the physics space.
+        if (isAttachedToScene()) {
+            detachFromScene();
+        }
+
+        removeTacho();
+        removeSpeedo();
+
+        // buffered audio is shared through the asset cache, so we only stop it. The horn is streamed and is ours alone.
+        if (engine != null) {
+            engine.getEngineAudio().stop();
+            engine.getEngineAudio().removeFromParent();
+        }
+
+        if (hornAudio != null) {
+            hornAudio.stop();
+            hornAudio.removeFromParent();
+            app.getAudioRenderer().deleteAudioData(hornAudio.getAudioData());
+            hornAudio = null;
+        }
+
+        // this version of Minie has no call to free a body. the native body, vehicle and raycaster are freed when the
+        // control is collected, so the scene graph must not hold on to it.
+        node.removeControl(interpolationControl);
+        node.removeControl(vehicleControl);
+        node.detachAllChildren();
     }
 
     /**
      * Should be called last when all vehicle parts have been built and added.
      */
-    protected void build() {
+    public void build() {
+        // the states are attached when the vehicle is added to the scene.
+        // a vehicle that is only built to create a prefab never attaches anything.
         this.gearboxState = new AutomaticGearboxState(this);
         this.vehicleAudioState = new VehicleAudioState(this);
-
-        app.getStateManager().attach(gearboxState);
-        app.getStateManager().attach(vehicleAudioState);
     }
 
     protected void enable() {
@@ -1,6 +1,8 @@
 package com.jayfella.jme.vehicle;
 
-import com.jayfella.jme.vehicle.part.Gear;
+import com.jayfella.jme.vehicle.event.VehicleEvent;
+import com.jayfella.jme.vehicle.event.VehicleEventListener;
+import com.jayfella.jme.vehicle.profiling.Subsystem;
 import com.jme3.app.Application;
 import com.jme3.app.state.BaseAppState;
 import com.jme3.math.FastMath;
@@ -9,6 +11,10 @@ public class VehicleAudioState extends BaseAppState {
 
     private final Vehicle vehicle;
 
+    // the engine sound is only pitched while the engine is running.
+    private boolean engineRunning;
+    private final VehicleEventListener engineListener = (event, index, value) -> engineRunning = event == VehicleEvent.ENGINE_STARTED;
+
     public VehicleAudioState(Vehicle vehicle) {
         this.vehicle = vehicle;
     }
@@ -40,10 +46,13 @@ public class VehicleAudioState extends BaseAppState {
     @Override
     protected void onEnable() {
         // vehicle.getEngine().getEngineAudio().play();
+        engineRunning = vehicle.getEngine().isStarted();
+        vehicle.getEventBus().subscribe(engineListener, VehicleEvent.ENGINE_STARTED, VehicleEvent.ENGINE_STOPPED);
     }
 
     @Override
     protected void onDisable() {
+        vehicle.getEventBus().unsubscribe(engineListener);
         stopEngineSound();
     }
 
@@ -52,10 +61,12 @@ public class VehicleAudioState extends BaseAppState {
     @Override
     public void update(float tpf) {
 
-        float speed = vehicle.getSpeed(Vehicle.SpeedUnit.KMH);
-        Gear gear = vehicle.getGearBox().getActiveGear();
+        if (!engineRunning || vehicle.isSleeping()) {
+            return;
+        }
+
+        long start = System.nanoTime();
 
-        // float value = unInterpolateLinear(speed, gear.getStart(), gear.getEnd());
         float value = vehicle.getEngine().getRevs();
 
         // add a bit of interpolation for when we change gears.
@@ -67,6 +78,8 @@ public class VehicleAudioState extends BaseAppState {
         vehicle.getEngine().getEngineAudio().setPitch(pitch);
 
         lastValue = value;
+
+        vehicle.getProfiler().record(Subsystem.AUDIO, start);
     }
 
     private float unInterpolateLinear(float value, float min, float max) {
@@ -1,5 +1,12 @@
 package com.jayfella.jme.vehicle;
 
+import com.jayfella.jme.vehicle.event.VehicleEvent;
+import com.jayfella.jme.vehicle.event.VehicleEventListener;
+import com.jayfella.jme.vehicle.profiling.Subsystem;
+import com.jayfella.jme.vehicle.metrics.MeshMemory;
+import com.jayfella.jme.vehicle.scheduler.DeferredWorkState;
+import com.jayfella.jme.vehicle.scheduler.WorkPriority;
+import com.jayfella.jme.vehicle.skid.SkidMarkManager;
 import com.jayfella.jme.vehicle.skid.WheelSkid;
 import com.jme3.app.Application;
 import com.jme3.app.SimpleApplication;
@@ -10,11 +17,25 @@ public class VehicleSkidMarks extends BaseAppState {
     private Car vehicle;
 
     private WheelSkid[] skids;
+
+    // the mesh uploads are deferred so several wheels skidding at once don't all upload in the same frame.
+    private DeferredWorkState deferredWorkState;
+    private Runnable[] uploadTasks;
+    private boolean[] uploadPending;
     private int numWheels;
 
     private final int maxDistance;
     private final float tyreWidth;
 
+    // we only need to update while a wheel is skidding, plus one frame after to finish the marks.
+    private int skiddingWheels;
+    private boolean settled;
+
+    private final VehicleEventListener skidListener = (event, index, value) -> {
+        skiddingWheels += event == VehicleEvent.SKID_STARTED ? 1 : -1;
+        settled = false;
+    };
+
     public VehicleSkidMarks(Car vehicle, int maxDistance, float tyreWidth) {
         this.vehicle = vehicle;
 
@@ -32,21 +53,51 @@ public class VehicleSkidMarks extends BaseAppState {
             skids[i] = new WheelSkid(vehicle.getWheel(i).getVehicleWheel(), app.getAssetManager(), maxDistance, tyreWidth);
         }
 
+        deferredWorkState = getState(DeferredWorkState.class);
+        uploadTasks = new Runnable[numWheels];
+        uploadPending = new boolean[numWheels];
+
+        for (int i = 0; i < numWheels; i++) {
+            final int index = i;
+
+            uploadTasks[i] = () -> {
+                uploadPending[index] = false;
+
+                // the skid marks may have been released before the upload ran.
+                if (isInitialized()) {
+                    skids[index].updateMesh();
+
+                    // the geometry may have been created by the upload and still needs attaching.
+                    settled = false;
+                }
+            };
+        }
+
     }
 
     @Override
     protected void cleanup(Application app) {
 
+        // the skid marks are rebuilt if we are attached again, so free the buffers now rather than leaving them to the GC.
+        for (int i = 0; i < numWheels; i++) {
+            MeshMemory.release(skids[i].getManager().getMesh(), app.getRenderer());
+        }
+
+        skids = null;
     }
 
     @Override
     protected void onEnable() {
-
+        skiddingWheels = vehicle.getWheelEventMonitor().getSkiddingCount();
+        settled = false;
+        vehicle.getEventBus().subscribe(skidListener, VehicleEvent.SKID_STARTED, VehicleEvent.SKID_ENDED);
     }
 
     @Override
     protected void onDisable() {
 
+        vehicle.getEventBus().unsubscribe(skidListener);
+
         for (int i = 0; i < numWheels; i++) {
 
             WheelSkid skid = skids[i];
@@ -61,6 +112,21 @@ public class VehicleSkidMarks extends BaseAppState {
     @Override
     public void update(float tpf) {
 
+        if (vehicle.isSleeping()) {
+            return;
+        }
+
+        if (skiddingWheels == 0) {
+
+            if (settled) {
+                return;
+            }
+
+            settled = true;
+        }
+
+        long start = System.nanoTime();
+
         for (int i = 0; i < numWheels; i++) {
 
             WheelSkid skid = skids[i];
@@ -75,8 +141,70 @@ public class VehicleSkidMarks extends BaseAppState {
                 skid.update(tpf);
             }
 
+            if (skid.isMeshUpdateNeeded() && !uploadPending[i]) {
+
+                if (deferredWorkState != null) {
+                    uploadPending[i] = true;
+                    deferredWorkState.submit(WorkPriority.NORMAL, uploadTasks[i]);
+                }
+                else {
+                    skid.updateMesh();
+                }
+            }
+
+        }
+
+        vehicle.getProfiler().record(Subsystem.SKID_MARKS, start);
+    }
+
+    /**
+     * Removes all of the skid marks, such as when the vehicle is reset.
+     */
+    public void clear() {
+
+        if (skids == null) {
+            return;
+        }
+
+        for (int i = 0; i < numWheels; i++) {
+
+            SkidMarkManager manager = skids[i].getManager();
+
+            if (manager.getGeometry() != null) {
+                manager.getGeometry().removeFromParent();
+            }
+
+            MeshMemory.release(manager.getMesh(), getApplication().getRenderer());
+            skids[i] = new WheelSkid(vehicle.getWheel(i).getVehicleWheel(), getApplication().getAssetManager(), maxDistance, tyreWidth);
+        }
+
+        settled = false;
+    }
+
+    public int getSectionsInUse() {
+
+        int sections = 0;
+
+        for (int i = 0; i < numWheels; i++) {
+            sections += skids[i].getManager().getSectionsInUse();
+        }
+
+        return sections;
+    }
+
+    /**
+     * The amount of direct memory held by the skid mark meshes.
+     * @return the size in bytes.
+     */
+    public long getDirectMemoryBytes() {
+
+        long size = 0;
+
+        for (int i = 0; i < numWheels; i++) {
+            size += MeshMemory.sizeOf(skids[i].getManager().getMesh());
         }
 
+        return size;
     }
 
     private boolean skidmarkEnabled = true;
@@ -0,0 +1,107 @@
+package com.jayfella.jme.vehicle;
+
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.PhysicsTickListener;
+import com.jme3.bullet.control.VehicleControl;
+import com.jme3.math.Vector3f;
+
+/**
+ * Puts a vehicle to sleep once it has been at rest with no input for a while, and wakes it when it starts moving
+ * again, such as when something collides with it.
+ *
+ * Raycast vehicle bodies are never deactivated by bullet, so the monitor keeps its own timer on the velocity of the
+ * chassis. The command dispatcher and this monitor are the only listeners left on a sleeping vehicle, so a parked car
+ * costs a couple of checks per physics tick.
+ */
+public class VehicleSleepMonitor implements PhysicsTickListener {
+
+    private final Vehicle vehicle;
+
+    // the chassis is at rest below these speeds, in meters and radians per second.
+    private float linearThreshold = 0.1f;
+    private float angularThreshold = 0.1f;
+
+    // how long the vehicle must be at rest before it sleeps, in seconds.
+    private float sleepDelay = 2.0f;
+    private float restTime;
+
+    private final Vector3f tempVelocity = new Vector3f();
+
+    public VehicleSleepMonitor(Vehicle vehicle) {
+        this.vehicle = vehicle;
+    }
+
+    public float getSleepDelay() {
+        return sleepDelay;
+    }
+
+    /**
+     * Sets how long the vehicle must be at rest with no input before it sleeps.
+     * @param sleepDelay the time in seconds.
+     */
+    public void setSleepDelay(float sleepDelay) {
+        this.sleepDelay = Math.max(0, sleepDelay);
+    }
+
+    /**
+     * Sets the speeds below which the chassis counts as at rest. Moving faster than this also wakes the vehicle.
+     * @param linearThreshold  the linear speed in meters per second.
+     * @param angularThreshold the angular speed in radians per second.
+     */
+    public void setThresholds(float linearThreshold, float angularThreshold) {
+        this.linearThreshold = linearThreshold;
+        this.angularThreshold = angularThreshold;
+    }
+
+    @Override
+    public void prePhysicsTick(PhysicsSpace space, float timeStep) {
+
+    }
+
+    @Override
+    public void physicsTick(PhysicsSpace space, float timeStep) {
+
+        boolean atRest = isAtRest(vehicle.getVehicleControl());
+
+        if (vehicle.isSleeping()) {
+
+            // the chassis is still simulated, so a collision gets it moving.
+            if (!atRest) {
+                restTime = 0;
+                vehicle.wake();
+            }
+
+            return;
+        }
+
+        if (atRest && isIdle()) {
+
+            restTime += timeStep;
+
+            if (restTime >= sleepDelay) {
+                vehicle.sleep();
+            }
+        }
+        else {
+            restTime = 0;
+        }
+    }
+
+    private boolean isAtRest(VehicleControl vehicleControl) {
+
+        float linear = vehicleControl.getLinearVelocity(tempVelocity).lengthSquared();
+        float angular = vehicleControl.getAngularVelocity(tempVelocity).lengthSquared();
+
+        return linear < linearThreshold * linearThreshold && angular < angularThreshold * angularThreshold;
+    }
+
+    private boolean isIdle() {
+
+        // input applied this tick means someone is still driving, even if the body hasn't moved yet.
+        long lastInputTick = vehicle.getCommandDispatcher().getLastInputTick();
+        long tick = vehicle.getCommandDispatcher().getTick();
+
+        return vehicle.getAccelerationForce() == 0 && lastInputTick < tick - 1;
+    }
+
+}
@@ -0,0 +1,179 @@
+package com.jayfella.jme.vehicle;
+
+import com.jme3.app.Application;
+import com.jme3.app.state.BaseAppState;
+import com.jme3.material.Material;
+import com.jme3.renderer.RenderManager;
+import com.jme3.renderer.queue.RenderQueue;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+import com.jme3.scene.instancing.InstancedGeometry;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders every wheel that shares a mesh and material as a single instanced draw call.
+ *
+ * The wheels stay where they are in the scene so the physics can move them as normal. They are hidden while this
+ * state is enabled and their transforms are copied into the instanced geometry every frame.
+ * Only materials that support instancing can be drawn this way. Any other wheel is rendered as normal.
+ */
+public class WheelInstancingState extends BaseAppState {
+
+    private final Node parent;
+    private final Node instancedNode = new Node("Instanced Wheels");
+
+    private final List<Geometry> wheelGeometries = new ArrayList<>();
+    private final Map<Mesh, Map<Material, InstancedGeometry>> groups = new IdentityHashMap<>();
+
+    public WheelInstancingState(Node parent) {
+        this.parent = parent;
+
+        // the instanced geometry ignores its transform, so its bounds don't match what it draws.
+        instancedNode.setCullHint(Spatial.CullHint.Never);
+        instancedNode.setShadowMode(RenderQueue.ShadowMode.CastAndReceive);
+    }
+
+    /**
+     * Adds the geometries of a wheel to the instanced geometries.
+     * @param wheel the wheel model.
+     */
+    public void addWheel(Spatial wheel) {
+        wheel.depthFirstTraversal(spatial -> {
+            if (spatial instanceof Geometry) {
+                addGeometry((Geometry) spatial);
+            }
+        });
+    }
+
+    public void removeWheel(Spatial wheel) {
+        wheel.depthFirstTraversal(spatial -> {
+            if (spatial instanceof Geometry) {
+                removeGeometry((Geometry) spatial);
+            }
+        });
+    }
+
+    public int getInstancedGeometryCount() {
+        return wheelGeometries.size();
+    }
+
+    public int getDrawGroupCount() {
+
+        int count = 0;
+
+        for (Map<Material, InstancedGeometry> materials : groups.values()) {
+            count += materials.size();
+        }
+
+        return count;
+    }
+
+    private void addGeometry(Geometry geometry) {
+
+        Material material = geometry.getMaterial();
+
+        if (material.getMaterialDef().getMaterialParam("UseInstancing") == null) {
+            return;
+        }
+
+        InstancedGeometry instancedGeometry = groups
+                .computeIfAbsent(geometry.getMesh(), k -> new IdentityHashMap<>())
+                .computeIfAbsent(material, k -> createInstancedGeometry(geometry));
+
+        if (instancedGeometry.getActualNumInstances() >= instancedGeometry.getMaxNumInstances()) {
+            instancedGeometry.setMaxNumInstances(instancedGeometry.getMaxNumInstances() * 2);
+        }
+
+        instancedGeometry.addInstance(geometry);
+        wheelGeometries.add(geometry);
+
+        if (isEnabled()) {
+            geometry.setCullHint(Spatial.CullHint.Always);
+        }
+    }
+
+    private void removeGeometry(Geometry geometry) {
+
+        if (!wheelGeometries.remove(geometry)) {
+            return;
+        }
+
+        Map<Material, InstancedGeometry> materials = groups.get(geometry.getMesh());
+        InstancedGeometry instancedGeometry = materials.get(geometry.getMaterial());
+
+        instancedGeometry.deleteInstance(geometry);
+        geometry.setCullHint(Spatial.CullHint.Inherit);
+
+        if (instancedGeometry.getActualNumInstances() == 0) {
+            instancedGeometry.removeFromParent();
+            materials.remove(geometry.getMaterial());
+
+            if (materials.isEmpty()) {
+                groups.remove(geometry.getMesh());
+            }
+        }
+    }
+
+    private InstancedGeometry createInstancedGeometry(Geometry geometry) {
+
+        Material material = geometry.getMaterial().clone();
+        material.setBoolean("UseInstancing", true);
+
+        InstancedGeometry instancedGeometry = new InstancedGeometry("Instanced " + geometry.getName());
+        instancedGeometry.setMaxNumInstances(8);
+        instancedGeometry.setMesh(geometry.getMesh());
+        instancedGeometry.setMaterial(material);
+
+        instancedNode.attachChild(instancedGeometry);
+
+        return instancedGeometry;
+    }
+
+    @Override
+    protected void initialize(Application app) {
+
+    }
+
+    @Override
+    protected void cleanup(Application app) {
+
+    }
+
+    @Override
+    protected void onEnable() {
+
+        parent.attachChild(instancedNode);
+
+        for (Geometry geometry : wheelGeometries) {
+            geometry.setCullHint(Spatial.CullHint.Always);
+        }
+    }
+
+    @Override
+    protected void onDisable() {
+
+        instancedNode.removeFromParent();
+
+        for (Geometry geometry : wheelGeometries) {
+            geometry.setCullHint(Spatial.CullHint.Inherit);
+        }
+    }
+
+    @Override
+    public void render(RenderManager rm) {
+
+        // the wheels have their world transforms by now, so the instances match where they are this frame.
+        for (Map<Material, InstancedGeometry> materials : groups.values()) {
+            for (InstancedGeometry instancedGeometry : materials.values()) {
+                instancedGeometry.updateInstances();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.jayfella.jme.vehicle.cache;
+
+import com.jme3.asset.AssetManager;
+import com.jme3.export.Savable;
+import com.jme3.export.binary.BinaryExporter;
+import com.jme3.export.binary.BinaryImporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stores Savable objects in a directory using jME's binary format.
+ * Entries are named after a hash of their key so any string can be used as a key.
+ */
+public class DiskCache {
+
+    private static final Logger LOGGER = Logger.getLogger(DiskCache.class.getName());
+
+    private final File directory;
+
+    public DiskCache(File directory) {
+        this.directory = directory;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the file an entry is stored in. The file may not exist.
+     * @param key the key of the entry.
+     * @return the file the entry is stored in.
+     */
+    public File getFile(String key) {
+        return new File(directory, hash(key) + ".j3o");
+    }
+
+    public boolean contains(String key) {
+        return getFile(key).isFile();
+    }
+
+    /**
+     * Loads an entry from the cache.
+     * @param key          the key of the entry.
+     * @param assetManager the asset manager used to resolve any assets the entry refers to.
+     * @return the entry, or null if it doesn't exist or could not be read.
+     */
+    public Savable load(String key, AssetManager assetManager) {
+
+        File file = getFile(key);
+
+        if (!file.isFile()) {
+            return null;
+        }
+
+        BinaryImporter importer = BinaryImporter.getInstance();
+        importer.setAssetManager(assetManager);
+
+        try {
+            return importer.load(file);
+        } catch (IOException e) {
+            // a corrupt or outdated entry is treated as a miss.
+            LOGGER.log(Level.WARNING, "Unable to read cache entry: " + file, e);
+            file.delete();
+            return null;
+        }
+    }
+
+    /**
+     * Saves an entry to the cache, replacing any existing entry with the same key.
+     * @param key     the key of the entry.
+     * @param savable the object to save.
+     */
+    public void save(String key, Savable savable) {
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            LOGGER.warning("Unable to create cache directory: " + directory);
+            return;
+        }
+
+        try {
+            BinaryExporter.getInstance().save(savable, getFile(key));
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Unable to write cache entry: " + getFile(key), e);
+        }
+    }
+
+    private static String hash(String key) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] bytes = digest.digest(key.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder builder = new StringBuilder(bytes.length * 2);
+
+            for (byte b : bytes) {
+                builder.append(Character.forDigit((b >> 4) & 0xf, 16));
+                builder.append(Character.forDigit(b & 0xf, 16));
+            }
+
+            return builder.toString();
+
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM is required to support SHA-1.
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
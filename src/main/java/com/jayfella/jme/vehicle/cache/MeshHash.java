@@ -0,0 +1,88 @@
+package com.jayfella.jme.vehicle.cache;
+
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Spatial;
+import com.jme3.scene.VertexBuffer;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * Hashes the meshes of a model so a cache key changes when the model is edited on disk.
+ */
+public final class MeshHash {
+
+    private MeshHash() {
+
+    }
+
+    /**
+     * Hashes the vertex positions, indices and local transforms of every geometry in a model.
+     * These are what collision shapes are built from, so two models with the same hash build the same shape.
+     * @param model the model to hash.
+     * @return the hash.
+     */
+    public static int hash(Spatial model) {
+
+        int[] hash = { 1 };
+
+        model.depthFirstTraversal(spatial -> {
+
+            if (!(spatial instanceof Geometry)) {
+                return;
+            }
+
+            Geometry geometry = (Geometry) spatial;
+            hash[0] = 31 * hash[0] + geometry.getLocalTranslation().hashCode();
+            hash[0] = 31 * hash[0] + geometry.getLocalRotation().hashCode();
+            hash[0] = 31 * hash[0] + geometry.getLocalScale().hashCode();
+
+            hash[0] = 31 * hash[0] + hashBuffer(geometry.getMesh().getBuffer(VertexBuffer.Type.Position));
+            hash[0] = 31 * hash[0] + hashBuffer(geometry.getMesh().getBuffer(VertexBuffer.Type.Index));
+        });
+
+        return hash[0];
+    }
+
+    private static int hashBuffer(VertexBuffer vertexBuffer) {
+
+        if (vertexBuffer == null) {
+            return 0;
+        }
+
+        Buffer data = vertexBuffer.getData();
+        int hash = 1;
+
+        // reading by index leaves the position of the buffer alone.
+        if (data instanceof FloatBuffer) {
+            FloatBuffer buffer = (FloatBuffer) data;
+            for (int i = 0; i < buffer.limit(); i++) {
+                hash = 31 * hash + Float.floatToIntBits(buffer.get(i));
+            }
+        }
+        else if (data instanceof IntBuffer) {
+            IntBuffer buffer = (IntBuffer) data;
+            for (int i = 0; i < buffer.limit(); i++) {
+                hash = 31 * hash + buffer.get(i);
+            }
+        }
+        else if (data instanceof ShortBuffer) {
+            ShortBuffer buffer = (ShortBuffer) data;
+            for (int i = 0; i < buffer.limit(); i++) {
+                hash = 31 * hash + buffer.get(i);
+            }
+        }
+        else if (data instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) data;
+            for (int i = 0; i < buffer.limit(); i++) {
+                hash = 31 * hash + buffer.get(i);
+            }
+        }
+
+        return hash;
+    }
+
+}
@@ -1,18 +1,35 @@
 package com.jayfella.jme.vehicle.debug;
 
 import com.jayfella.jme.vehicle.MagicFormulaState;
+import com.jayfella.jme.vehicle.Vehicle;
+import com.jayfella.jme.vehicle.WheelInstancingState;
+import com.jayfella.jme.vehicle.profiling.Subsystem;
+import com.jayfella.jme.vehicle.profiling.TimingHistogram;
+import com.jayfella.jme.vehicle.profiling.VehicleProfiler;
+import com.jayfella.jme.vehicle.scheduler.DeferredWorkState;
+import com.jayfella.jme.vehicle.telemetry.TelemetryRecorderState;
 import com.jme3.app.Application;
 import com.jme3.app.StatsAppState;
 import com.jme3.app.state.BaseAppState;
 import com.jme3.bullet.BulletAppState;
+import com.simsilica.lemur.Button;
 import com.simsilica.lemur.Container;
+import com.simsilica.lemur.Label;
 import com.simsilica.lemur.TabbedPanel;
 import com.simsilica.lemur.props.PropertyPanel;
 
+import java.io.File;
+
 public class DebugTabState extends BaseAppState {
 
-    public DebugTabState() {
+    private final Vehicle vehicle;
+
+    private Label[][] performanceLabels;
+    private Label deferredWorkLabel;
+    private float performanceRefreshTime;
 
+    public DebugTabState(Vehicle vehicle) {
+        this.vehicle = vehicle;
     }
 
     @Override
@@ -27,8 +44,11 @@ public class DebugTabState extends BaseAppState {
 
         EnginePowerGraphState enginePowerGraphState = getState(EnginePowerGraphState.class);
         TyreDataState tyreDataState = getState(TyreDataState.class);
+        DeterminismState determinismState = getState(DeterminismState.class);
+        TelemetryRecorderState telemetryRecorderState = getState(TelemetryRecorderState.class);
 
         MagicFormulaState magicFormulaState = getState(MagicFormulaState.class);
+        WheelInstancingState wheelInstancingState = getState(WheelInstancingState.class);
 
         // CarSelectorState carSelectorState = getState(CarSelectorState.class);
 
@@ -40,9 +60,17 @@ public class DebugTabState extends BaseAppState {
         propertyPanel.addBooleanProperty("Tyre Graph", tyreDataState, "enabled");
         propertyPanel.addBooleanProperty("Tyre Data", magicFormulaState, "vehicleDataEnabled");
         propertyPanel.addBooleanProperty("Center of Gravity", magicFormulaState, "centerOfGravityEnabled");
+        propertyPanel.addBooleanProperty("Determinism Log", determinismState, "enabled");
+        propertyPanel.addBooleanProperty("Telemetry", telemetryRecorderState, "enabled");
+        propertyPanel.addBooleanProperty("Wheel Instancing", wheelInstancingState, "enabled");
         // propertyPanel.addBooleanProperty("Show Vehicle Selector", carSelectorState, "showVehicleSelector");
 
+        Button exportTelemetryButton = container.addChild(new Button("Export Telemetry CSV"));
+        exportTelemetryButton.addClickCommands(source -> telemetryRecorderState.exportCsv(
+                new File("telemetry-" + System.currentTimeMillis() + ".csv")));
+
         tabbedPanel.addTab("Debug", container);
+        tabbedPanel.addTab("Performance", createPerformanceContainer());
 
         tabbedPanel.setLocalTranslation(
                 app.getCamera().getWidth() - 420,
@@ -51,6 +79,82 @@ public class DebugTabState extends BaseAppState {
         );
     }
 
+    private Container createPerformanceContainer() {
+
+        Container container = new Container();
+
+        container.addChild(new Label("Subsystem"), 0, 0);
+        container.addChild(new Label("p50 ms"), 0, 1);
+        container.addChild(new Label("p99 ms"), 0, 2);
+        container.addChild(new Label("max ms"), 0, 3);
+
+        Subsystem[] subsystems = Subsystem.values();
+
+        // the last row is the deferred work, which isn't owned by the vehicle.
+        performanceLabels = new Label[subsystems.length + 1][3];
+
+        for (int i = 0; i < performanceLabels.length; i++) {
+
+            String name = i < subsystems.length ? subsystems[i].getDisplayName() : "Deferred Work";
+            container.addChild(new Label(name), i + 1, 0);
+
+            for (int j = 0; j < 3; j++) {
+                performanceLabels[i][j] = container.addChild(new Label("-"), i + 1, j + 1);
+            }
+        }
+
+        deferredWorkLabel = container.addChild(new Label(""), performanceLabels.length + 1, 0);
+
+        Button resetButton = container.addChild(new Button("Reset"), performanceLabels.length + 2, 0);
+        resetButton.addClickCommands(source -> vehicle.getProfiler().reset());
+
+        return container;
+    }
+
+    private final String timingFormat = "%.3f";
+
+    @Override
+    public void update(float tpf) {
+
+        // the histograms are cheap to read, but there's no point updating the labels every frame.
+        performanceRefreshTime += tpf;
+
+        if (performanceRefreshTime < 0.5f) {
+            return;
+        }
+
+        performanceRefreshTime = 0;
+
+        VehicleProfiler profiler = vehicle.getProfiler();
+        Subsystem[] subsystems = Subsystem.values();
+
+        for (int i = 0; i < subsystems.length; i++) {
+            setTimingLabels(performanceLabels[i], profiler.getHistogram(subsystems[i]));
+        }
+
+        DeferredWorkState deferredWorkState = getState(DeferredWorkState.class);
+
+        if (deferredWorkState != null) {
+            setTimingLabels(performanceLabels[subsystems.length], deferredWorkState.getFrameTimes());
+
+            deferredWorkLabel.setText(String.format("Deferred: %d pending, %d starved, longest wait %d frames",
+                    deferredWorkState.getPendingCount(),
+                    deferredWorkState.getStarvedCount(),
+                    deferredWorkState.getMaxWaitFrames()));
+        }
+    }
+
+    private void setTimingLabels(Label[] labels, TimingHistogram histogram) {
+
+        if (histogram.getCount() == 0) {
+            return;
+        }
+
+        labels[0].setText(String.format(timingFormat, histogram.getPercentile(50) / 1_000_000.0));
+        labels[1].setText(String.format(timingFormat, histogram.getPercentile(99) / 1_000_000.0));
+        labels[2].setText(String.format(timingFormat, histogram.getMax() / 1_000_000.0));
+    }
+
     private boolean displayFps = false;
     private boolean displayStats = false;
 
@@ -0,0 +1,97 @@
+package com.jayfella.jme.vehicle.debug;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+
+/**
+ * Compares two logs written by the DeterminismState and reports the first tick and field that diverged.
+ *
+ * Usage: DeterminismLogComparator first.log second.log
+ */
+public class DeterminismLogComparator {
+
+    public static void main(String... args) throws IOException {
+
+        if (args.length != 2) {
+            System.out.println("Usage: DeterminismLogComparator <first.log> <second.log>");
+            return;
+        }
+
+        System.out.println(compare(new File(args[0]), new File(args[1])));
+    }
+
+    /**
+     * Compares two determinism logs.
+     * @param first  the log of the first run.
+     * @param second the log of the second run.
+     * @return a description of the first divergence, or that the runs are identical.
+     * @throws IOException if either log could not be read.
+     */
+    public static String compare(File first, File second) throws IOException {
+
+        try (BufferedReader a = new BufferedReader(new FileReader(first));
+             BufferedReader b = new BufferedReader(new FileReader(second))) {
+
+            String headerA = readLine(a);
+            String headerB = readLine(b);
+
+            if (headerA == null || headerB == null) {
+                return "One of the logs is empty.";
+            }
+
+            if (!headerA.equals(headerB)) {
+                return "The logs record different fields and cannot be compared:\n" + headerA + "\n" + headerB;
+            }
+
+            String[] fieldNames = headerA.split(",");
+
+            while (true) {
+
+                String lineA = readLine(a);
+                String lineB = readLine(b);
+
+                if (lineA == null && lineB == null) {
+                    return "The runs are identical.";
+                }
+                else if (lineA == null) {
+                    return "The first run ended before tick " + lineB.split(",")[0] + ".";
+                }
+                else if (lineB == null) {
+                    return "The second run ended before tick " + lineA.split(",")[0] + ".";
+                }
+
+                if (lineA.equals(lineB)) {
+                    continue;
+                }
+
+                String[] valuesA = lineA.split(",");
+                String[] valuesB = lineB.split(",");
+
+                // the first two values are the tick and the rolling hash.
+                for (int i = 2; i < fieldNames.length; i++) {
+                    if (!valuesA[i].equals(valuesB[i])) {
+                        return "The runs diverged at tick " + valuesA[0] + " in field " + fieldNames[i] + ".";
+                    }
+                }
+
+                return "The runs diverged at tick " + valuesA[0] + ".";
+            }
+        }
+
+    }
+
+    private static String readLine(BufferedReader reader) throws IOException {
+
+        String line = reader.readLine();
+
+        // skip any comments.
+        while (line != null && line.startsWith("#")) {
+            line = reader.readLine();
+        }
+
+        return line;
+    }
+
+}
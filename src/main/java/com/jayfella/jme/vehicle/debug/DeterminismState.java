@@ -0,0 +1,356 @@
+package com.jayfella.jme.vehicle.debug;
+
+import com.jayfella.jme.vehicle.Car;
+import com.jayfella.jme.vehicle.part.Wheel;
+import com.jme3.app.Application;
+import com.jme3.app.state.BaseAppState;
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.PhysicsTickListener;
+import com.jme3.bullet.control.VehicleControl;
+import com.jme3.bullet.objects.PhysicsVehicle;
+import com.jme3.bullet.objects.VehicleWheel;
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Hashes the physics state of every vehicle in the physics space each physics tick and writes the hashes to a log file.
+ * The log of two runs can be compared using the DeterminismLogComparator to find the first tick and field that diverged.
+ *
+ * Each car in the space when the log starts gets its own fields. Vehicles added after that are covered by the
+ * space.vehicles field, which hashes the body of every vehicle in the space.
+ */
+public class DeterminismState extends BaseAppState implements PhysicsTickListener {
+
+    // FNV-1a 64 bit.
+    private static final long HASH_OFFSET = 0xcbf29ce484222325L;
+    private static final long HASH_PRIME = 0x100000001b3L;
+
+    private final Car vehicle;
+    private final File logFile;
+
+    private PhysicsSpace physicsSpace;
+    private BufferedWriter writer;
+
+    private final List<Car> cars = new ArrayList<>();
+    private long[] vehicleHashes = new long[0];
+
+    private String[] fieldNames;
+    private long[] fieldHashes;
+
+    private long tick;
+    private long rollingHash;
+
+    private final Vector3f tempVec = new Vector3f();
+    private final Quaternion tempRot = new Quaternion();
+
+    public DeterminismState(Car vehicle) {
+        this(vehicle, new File("determinism-" + System.currentTimeMillis() + ".log"));
+    }
+
+    public DeterminismState(Car vehicle, File logFile) {
+        this.vehicle = vehicle;
+        this.logFile = logFile;
+    }
+
+    public File getLogFile() {
+        return logFile;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public long getRollingHash() {
+        return rollingHash;
+    }
+
+    @Override
+    protected void initialize(Application app) {
+
+    }
+
+    @Override
+    protected void cleanup(Application app) {
+
+    }
+
+    @Override
+    protected void onEnable() {
+
+        // every time we are enabled we start a new run.
+        tick = 0;
+        rollingHash = HASH_OFFSET;
+
+        physicsSpace = vehicle.getVehicleControl().getPhysicsSpace();
+        findCars();
+        createFields();
+
+        try {
+            writer = new BufferedWriter(new FileWriter(logFile));
+            writer.write("# vehicle: " + vehicle.getName());
+            writer.newLine();
+            writer.write("tick,rolling");
+
+            for (String fieldName : fieldNames) {
+                writer.write(',');
+                writer.write(fieldName);
+            }
+
+            writer.newLine();
+
+        } catch (IOException e) {
+            e.printStackTrace();
+            writer = null;
+            physicsSpace = null;
+            return;
+        }
+
+        if (physicsSpace != null) {
+            physicsSpace.addTickListener(this);
+        }
+    }
+
+    @Override
+    protected void onDisable() {
+
+        if (physicsSpace != null) {
+            physicsSpace.removeTickListener(this);
+            physicsSpace = null;
+        }
+
+        cars.clear();
+
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+
+            writer = null;
+        }
+    }
+
+    @Override
+    public void prePhysicsTick(PhysicsSpace space, float timeStep) {
+
+    }
+
+    @Override
+    public void physicsTick(PhysicsSpace space, float timeStep) {
+
+        if (writer == null) {
+            return;
+        }
+
+        hashState();
+
+        for (long fieldHash : fieldHashes) {
+            rollingHash = hash(rollingHash, fieldHash);
+        }
+
+        try {
+            writer.write(Long.toString(tick));
+            writer.write(',');
+            writer.write(Long.toHexString(rollingHash));
+
+            for (long fieldHash : fieldHashes) {
+                writer.write(',');
+                writer.write(Long.toHexString(fieldHash));
+            }
+
+            writer.newLine();
+
+        } catch (IOException e) {
+            e.printStackTrace();
+            setEnabled(false);
+        }
+
+        tick++;
+    }
+
+    /**
+     * Finds the cars in the physics space, in an order that is the same every run.
+     */
+    private void findCars() {
+
+        cars.clear();
+        cars.add(vehicle);
+
+        if (physicsSpace == null) {
+            return;
+        }
+
+        List<Car> others = new ArrayList<>();
+
+        for (PhysicsVehicle physicsVehicle : physicsSpace.getVehicleList()) {
+            if (physicsVehicle.getUserObject() instanceof Car && physicsVehicle.getUserObject() != vehicle) {
+                others.add((Car) physicsVehicle.getUserObject());
+            }
+        }
+
+        // the space keeps its vehicles in no particular order, so sort them by name and then where they are.
+        others.sort(Comparator.comparing(Car::getName)
+                .thenComparing(car -> car.getVehicleControl().getPhysicsLocation(null).x)
+                .thenComparing(car -> car.getVehicleControl().getPhysicsLocation(null).y)
+                .thenComparing(car -> car.getVehicleControl().getPhysicsLocation(null).z));
+
+        cars.addAll(others);
+    }
+
+    private void createFields() {
+
+        List<String> names = new ArrayList<>();
+
+        for (int c = 0; c < cars.size(); c++) {
+
+            Car car = cars.get(c);
+            String prefix = "vehicle[" + c + "].";
+
+            names.add(prefix + "chassis.location");
+            names.add(prefix + "chassis.rotation");
+            names.add(prefix + "chassis.linearVelocity");
+            names.add(prefix + "chassis.angularVelocity");
+
+            for (int i = 0; i < car.getNumWheels(); i++) {
+                names.add(prefix + "wheel[" + i + "].suspension");
+                names.add(prefix + "wheel[" + i + "].contact");
+                names.add(prefix + "wheel[" + i + "].rotation");
+            }
+
+            names.add(prefix + "engine.revs");
+            names.add(prefix + "gearbox.activeGear");
+        }
+
+        names.add("space.vehicles");
+
+        fieldNames = names.toArray(new String[0]);
+        fieldHashes = new long[fieldNames.length];
+    }
+
+    private void hashState() {
+
+        int field = 0;
+
+        for (Car car : cars) {
+            field = hashCar(car, field);
+        }
+
+        fieldHashes[field] = hashVehicles();
+    }
+
+    /**
+     * Hashes the state of a car into the fields starting at the given index.
+     * @return the index of the field after the last field of the car.
+     */
+    private int hashCar(Car car, int field) {
+
+        VehicleControl vehicleControl = car.getVehicleControl();
+
+        fieldHashes[field++] = hash(HASH_OFFSET, vehicleControl.getPhysicsLocation(tempVec));
+        fieldHashes[field++] = hashRotation(HASH_OFFSET, vehicleControl.getPhysicsRotation(tempRot));
+        fieldHashes[field++] = hash(HASH_OFFSET, vehicleControl.getLinearVelocity(tempVec));
+        fieldHashes[field++] = hash(HASH_OFFSET, vehicleControl.getAngularVelocity(tempVec));
+
+        for (int i = 0; i < car.getNumWheels(); i++) {
+
+            Wheel wheel = car.getWheel(i);
+            VehicleWheel vehicleWheel = wheel.getVehicleWheel();
+
+            fieldHashes[field++] = hash(HASH_OFFSET, wheel.calculateSuspensionLength());
+
+            // the suspension is a raycast, so the contact point, normal and skid describe what it hit.
+            long contactHash = hash(HASH_OFFSET, vehicleWheel.getCollisionLocation(tempVec));
+            contactHash = hash(contactHash, vehicleWheel.getCollisionNormal(tempVec));
+            fieldHashes[field++] = hash(contactHash, vehicleWheel.getSkidInfo());
+
+            long rotationHash = hash(HASH_OFFSET, vehicleWheel.getDeltaRotation());
+            rotationHash = hash(rotationHash, wheel.getRotationDelta());
+            fieldHashes[field++] = hash(rotationHash, wheel.getSteeringAngle());
+        }
+
+        fieldHashes[field++] = hash(HASH_OFFSET, car.getEngine().getRevs());
+        fieldHashes[field++] = hash(HASH_OFFSET, car.getGearBox().getActiveGearNum());
+
+        return field;
+    }
+
+    /**
+     * Hashes the body of every vehicle in the physics space, including any added after the log started.
+     */
+    private long hashVehicles() {
+
+        int count = physicsSpace.getVehicleList().size();
+
+        if (vehicleHashes.length != count) {
+            vehicleHashes = new long[count];
+        }
+
+        int index = 0;
+
+        for (PhysicsVehicle physicsVehicle : physicsSpace.getVehicleList()) {
+
+            if (index == count) {
+                break;
+            }
+
+            long vehicleHash = hash(HASH_OFFSET, physicsVehicle.getPhysicsLocation(tempVec));
+            vehicleHash = hashRotation(vehicleHash, physicsVehicle.getPhysicsRotation(tempRot));
+            vehicleHash = hash(vehicleHash, physicsVehicle.getLinearVelocity(tempVec));
+            vehicleHashes[index++] = hash(vehicleHash, physicsVehicle.getAngularVelocity(tempVec));
+        }
+
+        // the space keeps its vehicles in no particular order, so the hashes are sorted before they are combined.
+        Arrays.sort(vehicleHashes, 0, index);
+
+        long hash = hash(HASH_OFFSET, index);
+
+        for (int i = 0; i < index; i++) {
+            hash = hash(hash, vehicleHashes[i]);
+        }
+
+        return hash;
+    }
+
+    private static long hashRotation(long hash, Quaternion value) {
+        hash = hash(hash, value.getX());
+        hash = hash(hash, value.getY());
+        hash = hash(hash, value.getZ());
+        return hash(hash, value.getW());
+    }
+
+    private static long hash(long hash, Vector3f value) {
+        hash = hash(hash, value.x);
+        hash = hash(hash, value.y);
+        return hash(hash, value.z);
+    }
+
+    private static long hash(long hash, float value) {
+        return hash(hash, Float.floatToIntBits(value));
+    }
+
+    private static long hash(long hash, int value) {
+
+        for (int i = 0; i < 4; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= HASH_PRIME;
+        }
+
+        return hash;
+    }
+
+    private static long hash(long hash, long value) {
+        hash = hash(hash, (int) value);
+        return hash(hash, (int) (value >>> 32));
+    }
+
+}
@@ -2,6 +2,8 @@ package com.jayfella.jme.vehicle.debug;
 
 import com.jayfella.jme.vehicle.Car;
 import com.jayfella.jme.vehicle.part.Wheel;
+import com.jayfella.jme.vehicle.scheduler.DeferredWorkState;
+import com.jayfella.jme.vehicle.scheduler.WorkPriority;
 import com.jayfella.jme.vehicle.tire.TireGraph;
 import com.jme3.app.Application;
 import com.jme3.app.SimpleApplication;
@@ -28,6 +30,11 @@ public class TyreDataState extends BaseAppState {
     // 3 needles per wheel.
     private Geometry[][] needles;
 
+    // redrawing a graph touches every pixel, so the redraws are deferred and spread over several frames.
+    private DeferredWorkState deferredWorkState;
+    private Runnable[] redrawTasks;
+    private boolean[] redrawPending;
+
     public TyreDataState(Car vehicle) {
 
         this.vehicle = vehicle;
@@ -46,15 +53,37 @@ public class TyreDataState extends BaseAppState {
     }
 
     private void drawGraph(int i) {
-        tireGraphs[i].drawGraph();
 
+        if (redrawPending[i]) {
+            return;
+        }
 
+        if (deferredWorkState != null) {
+            redrawPending[i] = true;
+            deferredWorkState.submit(WorkPriority.LOW, redrawTasks[i]);
+        }
+        else {
+            tireGraphs[i].drawGraph();
+        }
     }
 
     @Override
     protected void initialize(Application app) {
 
         guiNode = ((SimpleApplication)app).getGuiNode();
+        deferredWorkState = getState(DeferredWorkState.class);
+
+        redrawTasks = new Runnable[tireGraphs.length];
+        redrawPending = new boolean[tireGraphs.length];
+
+        for (int i = 0; i < tireGraphs.length; i++) {
+            final int index = i;
+
+            redrawTasks[i] = () -> {
+                redrawPending[index] = false;
+                tireGraphs[index].drawGraph();
+            };
+        }
 
         float space = 10;
 
@@ -122,7 +151,7 @@ public class TyreDataState extends BaseAppState {
 
         for (int i = 0; i < vehicle.getNumWheels(); i++) {
 
-            tireGraphs[i].drawGraph();
+            drawGraph(i);
 
             Wheel wheel = vehicle.getWheel(i);
 
@@ -1,6 +1,8 @@
 package com.jayfella.jme.vehicle.debug.parts;
 
 import com.jayfella.jme.vehicle.Vehicle;
+import com.jayfella.jme.vehicle.part.Gear;
+import com.jayfella.jme.vehicle.part.GearBox;
 import com.simsilica.lemur.RollupPanel;
 import com.simsilica.lemur.props.PropertyPanel;
 
@@ -8,8 +10,12 @@ public class GearboxEditor extends VehicleEditor {
 
     private final Vehicle vehicle;
 
+    // the bands the shift schedule was last built from, so we can tell when they have been edited.
+    private final float[] bands;
+
     public GearboxEditor(Vehicle vehicle) {
         this.vehicle = vehicle;
+        this.bands = new float[vehicle.getGearBox().getGearCount() * 2];
         addChild(createGearBoxRollup());
     }
 
@@ -22,6 +28,7 @@ public class GearboxEditor extends VehicleEditor {
             // propertyPanel.addFloatProperty("Wheel " + i, vehicle.getWheel(i).getBrake(), "strength", 0, 200, 0.1f);
             propertyPanel.addFloatProperty("Gear Start " + i, vehicle.getGearBox().getGear(i), "start", 0, 250, 0.1f);
             propertyPanel.addFloatProperty("Gear End " + i, vehicle.getGearBox().getGear(i), "end", 0, 250, 0.1f);
+            propertyPanel.addFloatProperty("Gear Ratio " + i, vehicle.getGearBox().getGear(i), "ratio", 0, 5, 0.01f);
 
         }
 
@@ -31,6 +38,23 @@ public class GearboxEditor extends VehicleEditor {
     @Override
     public void update(float tpf) {
 
+        GearBox gearBox = vehicle.getGearBox();
+        boolean changed = false;
+
+        for (int i = 0; i < gearBox.getGearCount(); i++) {
+
+            Gear gear = gearBox.getGear(i);
+
+            if (bands[i * 2] != gear.getStart() || bands[i * 2 + 1] != gear.getEnd()) {
+                bands[i * 2] = gear.getStart();
+                bands[i * 2 + 1] = gear.getEnd();
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            gearBox.rebuildShiftSchedule();
+        }
     }
 
 }
@@ -14,6 +14,7 @@ public abstract class Engine {
     private final String name;
 
     private AudioNode engineAudio;
+    private String engineAudioPath;
 
     // the total power of the engine. This will be distributed to the propellant(s).
     private float power;
@@ -46,6 +47,7 @@ public abstract class Engine {
     }
 
     public void setEngineAudio(AssetManager assetManager, String audioFile) {
+        this.engineAudioPath = audioFile;
         this.engineAudio = new AudioNode(assetManager, audioFile, AudioData.DataType.Buffer);
         this.engineAudio.setLooping(true);
         this.engineAudio.setPositional(true);
@@ -56,6 +58,10 @@ public abstract class Engine {
         return engineAudio;
     }
 
+    public String getEngineAudioPath() {
+        return engineAudioPath;
+    }
+
     public boolean isStarted() {
         return started;
     }
@@ -0,0 +1,69 @@
+package com.jayfella.jme.vehicle.event;
+
+/**
+ * Something that changed on a vehicle. Each event is published with an index and a value whose meaning depends on
+ * the event.
+ */
+public enum VehicleEvent {
+
+    /**
+     * The gearbox changed gear. The index is the new gear and the value is the previous gear.
+     */
+    GEAR_CHANGED,
+
+    /**
+     * The engine was started.
+     */
+    ENGINE_STARTED,
+
+    /**
+     * The engine was stopped.
+     */
+    ENGINE_STOPPED,
+
+    /**
+     * The horn was pressed.
+     */
+    HORN_PRESSED,
+
+    /**
+     * The parking brake was applied.
+     */
+    PARKING_BRAKE_APPLIED,
+
+    /**
+     * The parking brake was released.
+     */
+    PARKING_BRAKE_RELEASED,
+
+    /**
+     * A wheel left the ground. The index is the wheel.
+     */
+    WHEEL_CONTACT_LOST,
+
+    /**
+     * A wheel touched the ground again. The index is the wheel and the value is the load on its suspension.
+     */
+    WHEEL_CONTACT_REGAINED,
+
+    /**
+     * A wheel started to skid. The index is the wheel and the value is its skid info.
+     */
+    SKID_STARTED,
+
+    /**
+     * A wheel stopped skidding. The index is the wheel and the value is its skid info.
+     */
+    SKID_ENDED,
+
+    /**
+     * The vehicle went to sleep and stopped updating.
+     */
+    FELL_ASLEEP,
+
+    /**
+     * The vehicle woke up and started updating again.
+     */
+    WOKE_UP
+
+}
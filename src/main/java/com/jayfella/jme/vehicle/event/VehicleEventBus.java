@@ -0,0 +1,114 @@
+package com.jayfella.jme.vehicle.event;
+
+import java.util.Arrays;
+
+/**
+ * Publishes the events of a vehicle to the listeners that subscribed to them.
+ *
+ * Events carry primitive values and the listeners of each event are held in an array, so publishing an event
+ * doesn't allocate. Events are published on the thread that caused them, which is the render thread.
+ */
+public class VehicleEventBus {
+
+    private final VehicleEventListener[][] listeners;
+    private final int[] counts;
+
+    public VehicleEventBus() {
+
+        int eventCount = VehicleEvent.values().length;
+
+        listeners = new VehicleEventListener[eventCount][];
+        counts = new int[eventCount];
+
+        for (int i = 0; i < eventCount; i++) {
+            listeners[i] = new VehicleEventListener[2];
+        }
+    }
+
+    /**
+     * Subscribes a listener to an event.
+     * @param event    the event to listen for.
+     * @param listener the listener to notify.
+     */
+    public void subscribe(VehicleEvent event, VehicleEventListener listener) {
+
+        int ordinal = event.ordinal();
+
+        if (counts[ordinal] == listeners[ordinal].length) {
+            listeners[ordinal] = Arrays.copyOf(listeners[ordinal], counts[ordinal] * 2);
+        }
+
+        listeners[ordinal][counts[ordinal]++] = listener;
+    }
+
+    /**
+     * Subscribes a listener to several events.
+     * @param listener the listener to notify.
+     * @param events   the events to listen for.
+     */
+    public void subscribe(VehicleEventListener listener, VehicleEvent... events) {
+        for (VehicleEvent event : events) {
+            subscribe(event, listener);
+        }
+    }
+
+    /**
+     * Removes a listener from an event.
+     * @param event    the event the listener was subscribed to.
+     * @param listener the listener to remove.
+     */
+    public void unsubscribe(VehicleEvent event, VehicleEventListener listener) {
+
+        int ordinal = event.ordinal();
+        VehicleEventListener[] eventListeners = listeners[ordinal];
+
+        for (int i = 0; i < counts[ordinal]; i++) {
+
+            if (eventListeners[i] == listener) {
+                System.arraycopy(eventListeners, i + 1, eventListeners, i, counts[ordinal] - i - 1);
+                eventListeners[--counts[ordinal]] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes a listener from every event.
+     * @param listener the listener to remove.
+     */
+    public void unsubscribe(VehicleEventListener listener) {
+        for (VehicleEvent event : VehicleEvent.values()) {
+            unsubscribe(event, listener);
+        }
+    }
+
+    /**
+     * Whether anything is listening for an event, so the publisher can skip working out its values.
+     * @param event the event.
+     * @return true if at least one listener is subscribed.
+     */
+    public boolean hasListeners(VehicleEvent event) {
+        return counts[event.ordinal()] > 0;
+    }
+
+    public void publish(VehicleEvent event) {
+        publish(event, 0, 0);
+    }
+
+    /**
+     * Notifies every listener subscribed to an event.
+     * @param event the event.
+     * @param index the index of the event, such as a wheel or a gear.
+     * @param value the value of the event.
+     */
+    public void publish(VehicleEvent event, int index, float value) {
+
+        int ordinal = event.ordinal();
+        VehicleEventListener[] eventListeners = listeners[ordinal];
+
+        for (int i = 0; i < counts[ordinal]; i++) {
+            eventListeners[i].onVehicleEvent(event, index, value);
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.jayfella.jme.vehicle.event;
+
+/**
+ * Receives the events of a vehicle that it has subscribed to.
+ */
+public interface VehicleEventListener {
+
+    /**
+     * Called when an event is published.
+     * @param event the event.
+     * @param index the index of the event, such as a wheel or a gear.
+     * @param value the value of the event.
+     */
+    void onVehicleEvent(VehicleEvent event, int index, float value);
+
+}
@@ -0,0 +1,109 @@
+package com.jayfella.jme.vehicle.event;
+
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.PhysicsTickListener;
+import com.jme3.bullet.control.VehicleControl;
+import com.jme3.bullet.objects.VehicleWheel;
+
+/**
+ * Watches the wheels of a vehicle after every physics step and publishes an event when a wheel loses or regains
+ * contact with the ground, or starts or stops skidding.
+ */
+public class WheelEventMonitor implements PhysicsTickListener {
+
+    // the skid info below which a wheel is skidding. This is where the skid marks start to be drawn.
+    public static final float SKID_THRESHOLD = 0.75f;
+
+    private final VehicleControl vehicleControl;
+    private final VehicleEventBus eventBus;
+
+    private final boolean[] contact;
+    private final boolean[] skidding;
+
+    private int skiddingCount;
+
+    public WheelEventMonitor(VehicleControl vehicleControl, VehicleEventBus eventBus) {
+        this.vehicleControl = vehicleControl;
+        this.eventBus = eventBus;
+
+        int wheelCount = vehicleControl.getNumWheels();
+
+        this.contact = new boolean[wheelCount];
+        this.skidding = new boolean[wheelCount];
+
+        // the wheels are assumed to start on the ground, so a car dropped into the scene reports the first contact.
+        for (int i = 0; i < wheelCount; i++) {
+            contact[i] = true;
+        }
+    }
+
+    public boolean isInContact(int wheel) {
+        return contact[wheel];
+    }
+
+    public boolean isSkidding(int wheel) {
+        return skidding[wheel];
+    }
+
+    /**
+     * The number of wheels that are skidding.
+     * @return the number of skidding wheels.
+     */
+    public int getSkiddingCount() {
+        return skiddingCount;
+    }
+
+    /**
+     * Puts every wheel back on the ground and stops any skids, publishing the events so subscribers stay in step.
+     * Used when the vehicle is reset.
+     */
+    public void reset() {
+
+        for (int i = 0; i < contact.length; i++) {
+
+            if (skidding[i]) {
+                skidding[i] = false;
+                eventBus.publish(VehicleEvent.SKID_ENDED, i, 1);
+            }
+
+            if (!contact[i]) {
+                contact[i] = true;
+                eventBus.publish(VehicleEvent.WHEEL_CONTACT_REGAINED, i, 0);
+            }
+        }
+
+        skiddingCount = 0;
+    }
+
+    @Override
+    public void prePhysicsTick(PhysicsSpace space, float timeStep) {
+
+    }
+
+    @Override
+    public void physicsTick(PhysicsSpace space, float timeStep) {
+
+        for (int i = 0; i < contact.length; i++) {
+
+            VehicleWheel wheel = vehicleControl.getWheel(i);
+
+            float load = wheel.getWheelsSuspensionForce();
+            boolean inContact = load > 0;
+
+            if (inContact != contact[i]) {
+                contact[i] = inContact;
+                eventBus.publish(inContact ? VehicleEvent.WHEEL_CONTACT_REGAINED : VehicleEvent.WHEEL_CONTACT_LOST, i, load);
+            }
+
+            float skidInfo = wheel.getSkidInfo();
+            boolean isSkidding = inContact && skidInfo < SKID_THRESHOLD;
+
+            if (isSkidding != skidding[i]) {
+                skidding[i] = isSkidding;
+                skiddingCount += isSkidding ? 1 : -1;
+                eventBus.publish(isSkidding ? VehicleEvent.SKID_STARTED : VehicleEvent.SKID_ENDED, i, skidInfo);
+            }
+        }
+    }
+
+}
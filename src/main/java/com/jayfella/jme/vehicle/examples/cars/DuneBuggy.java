@@ -92,4 +92,11 @@ public class DuneBuggy extends Car {
 
     }
 
+    /**
+     * Creates an empty car for a prefab to restore into, without loading or building anything.
+     */
+    protected DuneBuggy(Application app, String name) {
+        super(app, name);
+    }
+
 }
@@ -8,6 +8,7 @@ import com.jayfella.jme.vehicle.examples.tyres.Tyre_01;
 import com.jayfella.jme.vehicle.examples.wheels.DarkAlloyWheel;
 import com.jayfella.jme.vehicle.examples.wheels.WheelModel;
 import com.jayfella.jme.vehicle.part.Brake;
+import com.jayfella.jme.vehicle.part.Differential;
 import com.jayfella.jme.vehicle.part.GearBox;
 import com.jme3.app.Application;
 import com.jme3.asset.AssetManager;
@@ -86,5 +87,15 @@ public class GTRNismo extends Car {
 
         build();
 
+        getDrivetrain().setDifferential(Differential.LIMITED_SLIP);
+
+    }
+
+    /**
+     * Creates an empty car for a prefab to restore into, without loading or building anything.
+     */
+    protected GTRNismo(Application app, String name) {
+        super(app, name);
     }
-}
\ No newline at end of file
+
+}
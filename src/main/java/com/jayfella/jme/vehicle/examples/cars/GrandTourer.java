@@ -93,4 +93,12 @@ public class GrandTourer extends Car {
         build();
 
     }
+
+    /**
+     * Creates an empty car for a prefab to restore into, without loading or building anything.
+     */
+    protected GrandTourer(Application app, String name) {
+        super(app, name);
+    }
+
 }
@@ -87,4 +87,12 @@ public class HatchBack extends Car {
         build();
 
     }
+
+    /**
+     * Creates an empty car for a prefab to restore into, without loading or building anything.
+     */
+    protected HatchBack(Application app, String name) {
+        super(app, name);
+    }
+
 }
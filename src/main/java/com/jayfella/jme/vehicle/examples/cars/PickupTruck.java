@@ -142,4 +142,12 @@ public class PickupTruck extends Car {
         // in the car implementation it initializes the skidmarks and smoke emitters for each wheel.
         build();
     }
+
+    /**
+     * Creates an empty car for a prefab to restore into, without loading or building anything.
+     */
+    protected PickupTruck(Application app, String name) {
+        super(app, name);
+    }
+
 }
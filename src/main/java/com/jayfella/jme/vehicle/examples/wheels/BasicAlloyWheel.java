@@ -7,8 +7,9 @@ public class BasicAlloyWheel extends WheelModel {
 
     public BasicAlloyWheel(AssetManager assetManager, float size) {
 
-        Spatial wheelSpatial = assetManager.loadModel("Models/Vehicles/Wheel/Wheel_1/wheel.j3o");
-        wheelSpatial.setMaterial(assetManager.loadMaterial("Materials/Vehicles/Wheel_1.j3m"));
+        Spatial wheelSpatial = WheelModelRegistry.getInstance().createInstance(assetManager,
+                "Models/Vehicles/Wheel/Wheel_1/wheel.j3o",
+                "Materials/Vehicles/Wheel_1.j3m");
         // wheelSpatial.setLocalScale(0.75f); // this makes it 1.0 wu in radius
         setSpatial(wheelSpatial);
         getWheelNode().setLocalScale(size);
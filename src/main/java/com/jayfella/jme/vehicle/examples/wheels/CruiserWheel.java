@@ -7,7 +7,9 @@ public class CruiserWheel extends WheelModel {
 
     public CruiserWheel(AssetManager assetManager, float size) {
 
-        Spatial wheelSpatial = assetManager.loadModel("Models/cruiser_wheel/cruiser_wheel.gltf.j3o");
+        Spatial wheelSpatial = WheelModelRegistry.getInstance().createInstance(assetManager,
+                "Models/cruiser_wheel/cruiser_wheel.gltf.j3o",
+                null);
 
         setSpatial(wheelSpatial);
         getWheelNode().setLocalScale(size);
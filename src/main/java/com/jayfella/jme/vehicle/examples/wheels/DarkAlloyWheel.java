@@ -7,7 +7,9 @@ public class DarkAlloyWheel extends WheelModel {
 
     public DarkAlloyWheel(AssetManager assetManager, float size) {
 
-        Spatial wheelSpatial = assetManager.loadModel("Models/dark_alloy/dark_alloy.gltf.j3o");
+        Spatial wheelSpatial = WheelModelRegistry.getInstance().createInstance(assetManager,
+                "Models/dark_alloy/dark_alloy.gltf.j3o",
+                null);
 
         setSpatial(wheelSpatial);
         getWheelNode().setLocalScale(size);
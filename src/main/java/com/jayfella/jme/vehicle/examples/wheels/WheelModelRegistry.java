@@ -0,0 +1,60 @@
+package com.jayfella.jme.vehicle.examples.wheels;
+
+import com.jme3.asset.AssetManager;
+import com.jme3.scene.Spatial;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads each wheel model once and hands out instances that share its meshes and materials.
+ *
+ * Loading a model through the asset manager shares its meshes but gives every instance its own copy of the materials,
+ * and loading a material gives a new material every time. Wheels created through the registry share both, so every
+ * wheel of a type is drawn with the same mesh buffers and material. Because the material is shared it must not be
+ * changed on a single wheel.
+ */
+public class WheelModelRegistry {
+
+    private static final WheelModelRegistry INSTANCE = new WheelModelRegistry();
+
+    public static WheelModelRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<String, Spatial> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an instance of a wheel model, loading the model the first time it is requested.
+     * @param assetManager the asset manager used to load the model.
+     * @param modelPath    the path of the model.
+     * @param materialPath the path of a material that replaces the material of the model, or null to keep it.
+     * @return a new instance of the model that shares its meshes and materials with every other instance.
+     */
+    public Spatial createInstance(AssetManager assetManager, String modelPath, String materialPath) {
+
+        String key = materialPath == null ? modelPath : modelPath + ":" + materialPath;
+
+        Spatial template = templates.computeIfAbsent(key, k -> {
+
+            Spatial model = assetManager.loadModel(modelPath);
+
+            if (materialPath != null) {
+                model.setMaterial(assetManager.loadMaterial(materialPath));
+            }
+
+            return model;
+        });
+
+        return template.clone(false);
+    }
+
+    public int getTemplateCount() {
+        return templates.size();
+    }
+
+    public void clear() {
+        templates.clear();
+    }
+
+}
@@ -3,11 +3,18 @@ package com.jayfella.jme.vehicle.gui;
 import com.jayfella.jme.vehicle.Car;
 import com.jayfella.jme.vehicle.Vehicle;
 import com.jayfella.jme.vehicle.debug.DebugTabState;
+import com.jayfella.jme.vehicle.debug.DeterminismState;
 import com.jayfella.jme.vehicle.debug.EnginePowerGraphState;
 import com.jayfella.jme.vehicle.debug.TyreDataState;
 import com.jayfella.jme.vehicle.debug.VehicleEditorState;
 import com.jayfella.jme.vehicle.examples.cars.*;
 import com.jayfella.jme.vehicle.input.KeyboardVehicleInputState;
+import com.jayfella.jme.vehicle.prefab.VehicleLoader;
+import com.jayfella.jme.vehicle.prefab.VehiclePool;
+import com.jayfella.jme.vehicle.scheduler.DeferredWorkState;
+import com.jayfella.jme.vehicle.scheduler.WorkPriority;
+import com.jayfella.jme.vehicle.telemetry.TelemetryRecorderState;
+import com.jme3.app.Application;
 import com.jme3.app.SimpleApplication;
 import com.jme3.bullet.PhysicsSpace;
 import com.jme3.math.Vector3f;
@@ -22,6 +29,11 @@ public class CarSelectorMenuState extends AnimatedMenuState {
     private final Node scene;
     private final PhysicsSpace physicsSpace;
 
+    // every selection creates a new menu, so the generation is shared between them.
+    private static int vehicleGeneration;
+
+    private VehicleLoader vehicleLoader;
+    private Class<? extends Car> vehicleType;
 
     public CarSelectorMenuState(Node scene, PhysicsSpace physicsSpace) {
         this.scene = scene;
@@ -30,6 +42,9 @@ public class CarSelectorMenuState extends AnimatedMenuState {
 
     @Override
     protected Button[] createItems() {
+
+        vehicleLoader = new VehicleLoader(getApplication());
+
         Button[] buttons = new Button[] {
                 new Button("Grand Tourer"),
                 new Button("GTR Nismo"),
@@ -39,13 +54,14 @@ public class CarSelectorMenuState extends AnimatedMenuState {
                 new Button("<< Back")
         };
 
-        buttons[0].addClickCommands(source -> setVehicle(new GrandTourer(getApplication())));
-        buttons[1].addClickCommands(source -> setVehicle(new GTRNismo(getApplication())));
-        buttons[2].addClickCommands(source -> setVehicle(new PickupTruck(getApplication())));
-        buttons[3].addClickCommands(source -> setVehicle(new HatchBack(getApplication())));
-        buttons[4].addClickCommands(source -> setVehicle(new DuneBuggy(getApplication())));
+        buttons[0].addClickCommands(source -> selectVehicle(GrandTourer.class));
+        buttons[1].addClickCommands(source -> selectVehicle(GTRNismo.class));
+        buttons[2].addClickCommands(source -> selectVehicle(PickupTruck.class));
+        buttons[3].addClickCommands(source -> selectVehicle(HatchBack.class));
+        buttons[4].addClickCommands(source -> selectVehicle(DuneBuggy.class));
 
         buttons[5].addClickCommands(source -> {
+            vehicleLoader.cancel();
             animateOut(() -> {
                 getStateManager().attach(new MainMenuState());
                 getStateManager().detach(this);
@@ -55,19 +71,47 @@ public class CarSelectorMenuState extends AnimatedMenuState {
         return buttons;
     }
 
+    /**
+     * Stops any work still waiting to set up the current vehicle. Called when the vehicle is taken out of the scene.
+     */
+    static void invalidateVehicle() {
+        vehicleGeneration++;
+    }
+
     private void addVehicle(Car vehicle) {
 
-        vehicle.showSpeedo(Vehicle.SpeedUnit.MPH);
-        vehicle.showTacho();
+        final int generation = ++vehicleGeneration;
+
+        // get the vehicle into the world and drivable first. The rest is spread over the next few frames.
         vehicle.attachToScene(scene, physicsSpace);
 
         vehicle.getVehicleControl().setPhysicsLocation(new Vector3f(0, 6, 0));
+        vehicle.getNode().setShadowMode(RenderQueue.ShadowMode.CastAndReceive);
 
         // add some controls
         KeyboardVehicleInputState inputState = new KeyboardVehicleInputState(vehicle);
         // XBoxJoystickVehicleInputState inputState = new XBoxJoystickVehicleInputState(vehicle);
         getStateManager().attach(inputState);
 
+        DeferredWorkState deferredWorkState = getState(DeferredWorkState.class);
+
+        // the vehicle may have been returned to the menu before the deferred work runs.
+        deferredWorkState.submit(WorkPriority.HIGH, () -> {
+            if (vehicleGeneration == generation) {
+                vehicle.showSpeedo(Vehicle.SpeedUnit.MPH);
+                vehicle.showTacho();
+            }
+        });
+
+        deferredWorkState.submit(WorkPriority.LOW, () -> {
+            if (vehicleGeneration == generation) {
+                addDebugStates(vehicle);
+            }
+        });
+    }
+
+    private void addDebugStates(Car vehicle) {
+
         // engine graph GUI for viewing torqe/power @ revs
         EnginePowerGraphState enginePowerGraphState = new EnginePowerGraphState(vehicle);
         enginePowerGraphState.setEnabled(false);
@@ -78,34 +122,62 @@ public class CarSelectorMenuState extends AnimatedMenuState {
         tyreDataState.setEnabled(false);
         getStateManager().attach(tyreDataState);
 
+        // hashes the physics state every tick so two runs can be compared for determinism.
+        DeterminismState determinismState = new DeterminismState(vehicle);
+        determinismState.setEnabled(false);
+        getStateManager().attach(determinismState);
+
+        // records the vehicle telemetry every tick to a memory-mapped file.
+        TelemetryRecorderState telemetryRecorderState = new TelemetryRecorderState(vehicle);
+        telemetryRecorderState.setEnabled(false);
+        getStateManager().attach(telemetryRecorderState);
+
         // the main vehicle editor to modify all areas of the vehicle real-time.
         VehicleEditorState vehicleEditorState = new VehicleEditorState(vehicle);
         getStateManager().attach(vehicleEditorState);
 
         // vehicle debug add-on to enable/disable debug screens.
-        DebugTabState debugTabState = new DebugTabState();
+        DebugTabState debugTabState = new DebugTabState(vehicle);
         getStateManager().attach(debugTabState);
 
         // the return to menu button.
         Button returnToMenuButton = new Button("Return to Main Menu");
         returnToMenuButton.setFontSize(16);
         ((TbtQuadBackgroundComponent)returnToMenuButton.getBackground()).setMargin(10, 5);
-        returnToMenuButton.addClickCommands(new ReturnToMenuClickCommand(vehicle));
+        returnToMenuButton.addClickCommands(new ReturnToMenuClickCommand(vehicle, vehicleType));
         returnToMenuButton.setLocalTranslation(
                 getApplication().getCamera().getWidth() - returnToMenuButton.getPreferredSize().x - 40,
                 getApplication().getCamera().getHeight() - 20,
                 1
         );
         ((SimpleApplication)getApplication()).getGuiNode().attachChild(returnToMenuButton);
+    }
 
-        vehicle.getNode().setShadowMode(RenderQueue.ShadowMode.CastAndReceive);
+    private void selectVehicle(Class<? extends Car> type) {
+
+        // a vehicle parked when we last returned to the menu can be used straight away.
+        Car parked = VehiclePool.getInstance().obtain(type);
 
+        if (parked != null) {
+            vehicleLoader.cancel();
+            setVehicle(type, parked);
+        }
+        else {
+            vehicleLoader.load(type, car -> setVehicle(type, car));
+        }
     }
 
-    private void setVehicle(Car newVehicle) {
+    private void setVehicle(Class<? extends Car> type, Car newVehicle) {
+        vehicleType = type;
         addVehicle(newVehicle);
         getStateManager().detach(this);
     }
 
+    @Override
+    protected void cleanup(Application app) {
+        super.cleanup(app);
+        vehicleLoader.shutdown();
+    }
+
 
 }
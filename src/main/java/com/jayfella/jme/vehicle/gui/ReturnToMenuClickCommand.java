@@ -2,10 +2,13 @@ package com.jayfella.jme.vehicle.gui;
 
 import com.jayfella.jme.vehicle.Car;
 import com.jayfella.jme.vehicle.debug.DebugTabState;
+import com.jayfella.jme.vehicle.debug.DeterminismState;
 import com.jayfella.jme.vehicle.debug.EnginePowerGraphState;
 import com.jayfella.jme.vehicle.debug.TyreDataState;
 import com.jayfella.jme.vehicle.debug.VehicleEditorState;
 import com.jayfella.jme.vehicle.input.KeyboardVehicleInputState;
+import com.jayfella.jme.vehicle.prefab.VehiclePool;
+import com.jayfella.jme.vehicle.telemetry.TelemetryRecorderState;
 import com.jme3.app.state.AppStateManager;
 import com.jme3.math.Vector3f;
 import com.simsilica.lemur.Button;
@@ -14,9 +17,11 @@ import com.simsilica.lemur.Command;
 public class ReturnToMenuClickCommand implements Command<Button> {
 
     private final Car vehicle;
+    private final Class<? extends Car> vehicleType;
 
-    public ReturnToMenuClickCommand(Car vehicle) {
+    public ReturnToMenuClickCommand(Car vehicle, Class<? extends Car> vehicleType) {
         this.vehicle = vehicle;
+        this.vehicleType = vehicleType;
     }
 
     @Override
@@ -24,6 +29,9 @@ public class ReturnToMenuClickCommand implements Command<Button> {
 
         AppStateManager stateManager = vehicle.getApplication().getStateManager();
 
+        // anything still queued to set up the vehicle must not run once it is parked.
+        CarSelectorMenuState.invalidateVehicle();
+
         KeyboardVehicleInputState inputState = stateManager.getState(KeyboardVehicleInputState.class);
         // XBoxJoystickVehicleInputState inputState = getState(XBoxJoystickVehicleInputState.class);
         if (inputState != null) {
@@ -40,6 +48,16 @@ public class ReturnToMenuClickCommand implements Command<Button> {
             stateManager.detach(tyreDataState);
         }
 
+        DeterminismState determinismState = stateManager.getState(DeterminismState.class);
+        if (determinismState != null) {
+            stateManager.detach(determinismState);
+        }
+
+        TelemetryRecorderState telemetryRecorderState = stateManager.getState(TelemetryRecorderState.class);
+        if (telemetryRecorderState != null) {
+            stateManager.detach(telemetryRecorderState);
+        }
+
         VehicleEditorState vehicleEditorState = stateManager.getState(VehicleEditorState.class);
         if (vehicleEditorState != null) {
             stateManager.detach(vehicleEditorState);
@@ -54,6 +72,9 @@ public class ReturnToMenuClickCommand implements Command<Button> {
         vehicle.removeSpeedo();
         vehicle.detachFromScene();
 
+        // park the vehicle so selecting it again doesn't have to build it.
+        VehiclePool.getInstance().park(vehicleType, vehicle);
+
         stateManager.attach(new MainMenuState());
         source.removeFromParent();
 
@@ -156,15 +156,15 @@ public class KeyboardVehicleInputState extends BaseAppState implements StateFunc
 
         if (turningLeft) {
             steeringForce = Math.min(steeringForce + (tpf * turnSpeed), maxSteerForce);
-            vehicle.steer(steeringForce);
+            vehicle.getCommandQueue().steer(steeringForce);
         }
         else if (turningRight) {
             steeringForce = Math.max(steeringForce - (tpf * turnSpeed), -maxSteerForce);
-            vehicle.steer(steeringForce);
+            vehicle.getCommandQueue().steer(steeringForce);
         }
         else {
             steeringForce = 0;
-            vehicle.steer(steeringForce);
+            vehicle.getCommandQueue().steer(steeringForce);
         }
     }
 
@@ -174,38 +174,38 @@ public class KeyboardVehicleInputState extends BaseAppState implements StateFunc
 
         // do braking first so it doesn't override engineBraking.
         if (braking) {
-            vehicle.brake(1);
+            vehicle.getCommandQueue().brake(1);
         }
         else {
-            vehicle.brake(0);
+            vehicle.getCommandQueue().brake(0);
         }
 
         if (accelerating) {
 
-            vehicle.removeEngineBraking();
+            vehicle.getCommandQueue().removeEngineBraking();
 
             if (vehicle.getSpeed(Vehicle.SpeedUnit.KMH) < vehicle.getGearBox().getMaxSpeed(Vehicle.SpeedUnit.KMH)) {
-                vehicle.accelerate(1);
+                vehicle.getCommandQueue().accelerate(1);
             }
             else {
-                vehicle.accelerate(0);
+                vehicle.getCommandQueue().accelerate(0);
             }
         }
         else {
             if (!braking) {
-                vehicle.applyEngineBraking();
+                vehicle.getCommandQueue().applyEngineBraking();
             }
 
-            vehicle.accelerate(0);
+            vehicle.getCommandQueue().accelerate(0);
         }
 
         if (reversing) {
 
             if (vehicle.getSpeed(Vehicle.SpeedUnit.KMH) > -40) {
-                vehicle.accelerate(-1);
+                vehicle.getCommandQueue().accelerate(-1);
             }
             else {
-                vehicle.accelerate(0);
+                vehicle.getCommandQueue().accelerate(0);
             }
 
         }
@@ -262,7 +262,7 @@ public class KeyboardVehicleInputState extends BaseAppState implements StateFunc
                 // vehicle.setParkingBrakeApplied(!vehicle.isParkingBrakeApplied());
             // }
             // vehicle.setParkingBrakeApplied(pressed);
-            vehicle.handbrake(pressed ? 1 : 0);
+            vehicle.getCommandQueue().handbrake(pressed ? 1 : 0);
 
         }
 
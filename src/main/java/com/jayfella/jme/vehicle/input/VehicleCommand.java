@@ -0,0 +1,18 @@
+package com.jayfella.jme.vehicle.input;
+
+/**
+ * A control input that is sent to a vehicle through a VehicleCommandQueue.
+ */
+public enum VehicleCommand {
+
+    ACCELERATE,
+    BRAKE,
+    HANDBRAKE,
+    STEER,
+
+    /**
+     * Applies engine braking when the value is positive and removes it otherwise.
+     */
+    ENGINE_BRAKING
+
+}
@@ -0,0 +1,140 @@
+package com.jayfella.jme.vehicle.input;
+
+import com.jayfella.jme.vehicle.Vehicle;
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.PhysicsTickListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Applies the commands sent to a vehicle once before every physics step.
+ *
+ * Input is sampled whenever a frame is drawn, which doesn't line up with physics steps. Commands are queued instead,
+ * and the latest command of each kind is the one in effect for the step, no matter how many frames passed.
+ */
+public class VehicleCommandDispatcher implements PhysicsTickListener, VehicleCommandQueue.Handler {
+
+    private final Vehicle vehicle;
+    private final VehicleCommandQueue inputQueue = new VehicleCommandQueue();
+    private final List<VehicleCommandQueue> queues = new CopyOnWriteArrayList<>();
+
+    private long tick;
+    private long lastCommandTick = -1;
+    private long lastInputTick = -1;
+
+    // the last value applied for each command, so repeated idle commands can be told apart from input.
+    private final float[] lastValues = new float[VehicleCommand.values().length];
+    private long lastCommandLatency;
+
+    public VehicleCommandDispatcher(Vehicle vehicle) {
+        this.vehicle = vehicle;
+        this.queues.add(inputQueue);
+    }
+
+    /**
+     * The queue used by the input states on the render thread.
+     * @return the input queue.
+     */
+    public VehicleCommandQueue getInputQueue() {
+        return inputQueue;
+    }
+
+    /**
+     * Creates a queue for another producer, such as an AI, replay or network thread.
+     * @return a new queue that is drained every physics tick.
+     */
+    public VehicleCommandQueue createQueue() {
+        VehicleCommandQueue queue = new VehicleCommandQueue();
+        queues.add(queue);
+        return queue;
+    }
+
+    public void removeQueue(VehicleCommandQueue queue) {
+        if (queue != inputQueue) {
+            queues.remove(queue);
+        }
+    }
+
+    /**
+     * The physics tick that last applied a command.
+     * @return the tick, or -1 if no command has been applied.
+     */
+    public long getLastCommandTick() {
+        return lastCommandTick;
+    }
+
+    /**
+     * The time between the last command being sent and being applied.
+     * @return the latency in nanoseconds.
+     */
+    public long getLastCommandLatency() {
+        return lastCommandLatency;
+    }
+
+    @Override
+    public void prePhysicsTick(PhysicsSpace space, float timeStep) {
+
+        for (VehicleCommandQueue queue : queues) {
+            queue.drain(this);
+        }
+
+        tick++;
+    }
+
+    @Override
+    public void physicsTick(PhysicsSpace space, float timeStep) {
+
+    }
+
+    /**
+     * The number of physics ticks this dispatcher has run.
+     * @return the current tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * The physics tick that last applied a command that changed the control state. Input states send every control,
+     * including engine braking, every frame whether it changed or not, so this is the tick someone last touched the
+     * controls.
+     * @return the tick, or -1 if no input has been applied.
+     */
+    public long getLastInputTick() {
+        return lastInputTick;
+    }
+
+    @Override
+    public void handle(VehicleCommand command, float value, long timestamp) {
+
+        int ordinal = command.ordinal();
+
+        // input wakes a sleeping vehicle before the command is applied.
+        // the input states resend every control each frame, so only a change of value is input.
+        if (value != lastValues[ordinal]) {
+            lastValues[ordinal] = value;
+            lastInputTick = tick;
+            vehicle.wake();
+        }
+
+        switch (command) {
+            case ACCELERATE: vehicle.accelerate(value); break;
+            case BRAKE: vehicle.brake(value); break;
+            case HANDBRAKE: vehicle.handbrake(value); break;
+            case STEER: vehicle.steer(value); break;
+            case ENGINE_BRAKING:
+                if (value > 0) {
+                    vehicle.applyEngineBraking();
+                }
+                else {
+                    vehicle.removeEngineBraking();
+                }
+                break;
+        }
+
+        lastCommandTick = tick;
+        lastCommandLatency = System.nanoTime() - timestamp;
+    }
+
+}
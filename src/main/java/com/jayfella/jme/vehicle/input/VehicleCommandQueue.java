@@ -0,0 +1,176 @@
+package com.jayfella.jme.vehicle.input;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free queue of vehicle commands with one producer and one consumer.
+ *
+ * The producer is whatever drives the vehicle - the input states on the render thread, an AI, a replay or the
+ * network - and the consumer is the physics tick, which applies the commands before each step. Each producer must
+ * use its own queue.
+ *
+ * Commands set the level of a control, so only the latest value of each one matters. When the queue is full, such as
+ * while the physics is paused or behind, new commands are coalesced into one slot per command instead of being
+ * dropped, and applied after the queue. A release is never lost, so a control can't get stuck.
+ */
+public class VehicleCommandQueue {
+
+    private static final VehicleCommand[] COMMANDS = VehicleCommand.values();
+
+    private final int mask;
+
+    private final byte[] commands;
+    private final float[] values;
+    private final long[] timestamps;
+
+    // the producer only writes the tail and the consumer only writes the head.
+    // the ordered writes publish the slot before the index that makes it visible.
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    // the latest value of each command that didn't fit in the queue, and a bit per command that has one.
+    private final AtomicIntegerArray overflowValues = new AtomicIntegerArray(COMMANDS.length);
+    private final AtomicLongArray overflowTimestamps = new AtomicLongArray(COMMANDS.length);
+    private final AtomicInteger overflowPending = new AtomicInteger();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    public VehicleCommandQueue() {
+        this(256);
+    }
+
+    /**
+     * Creates a command queue.
+     * @param capacity the amount of commands the queue can hold. Rounded up to a power of two.
+     */
+    public VehicleCommandQueue(int capacity) {
+
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+
+        mask = size - 1;
+        commands = new byte[size];
+        values = new float[size];
+        timestamps = new long[size];
+    }
+
+    /**
+     * Adds a command. Must only be called by the producer of this queue.
+     * @param command the command.
+     * @param value   the value of the command.
+     * @return false if the queue was full and the command replaced an earlier value of the same command.
+     */
+    public boolean offer(VehicleCommand command, float value) {
+
+        long currentTail = tail.get();
+
+        // once anything has overflowed, later commands must overflow too until it is drained, or they would be
+        // applied before the older overflowed values.
+        if (overflowPending.get() != 0 || currentTail - head.get() > mask) {
+
+            int ordinal = command.ordinal();
+
+            overflowValues.set(ordinal, Float.floatToIntBits(value));
+            overflowTimestamps.set(ordinal, System.nanoTime());
+            overflowPending.getAndUpdate(pending -> pending | (1 << ordinal));
+
+            coalescedCount.incrementAndGet();
+            return false;
+        }
+
+        int index = (int) (currentTail & mask);
+
+        commands[index] = (byte) command.ordinal();
+        values[index] = value;
+        timestamps[index] = System.nanoTime();
+
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    public boolean accelerate(float strength) {
+        return offer(VehicleCommand.ACCELERATE, strength);
+    }
+
+    public boolean brake(float strength) {
+        return offer(VehicleCommand.BRAKE, strength);
+    }
+
+    public boolean handbrake(float strength) {
+        return offer(VehicleCommand.HANDBRAKE, strength);
+    }
+
+    public boolean steer(float strength) {
+        return offer(VehicleCommand.STEER, strength);
+    }
+
+    public boolean applyEngineBraking() {
+        return offer(VehicleCommand.ENGINE_BRAKING, 1);
+    }
+
+    public boolean removeEngineBraking() {
+        return offer(VehicleCommand.ENGINE_BRAKING, 0);
+    }
+
+    /**
+     * Removes every command in the queue in the order they were added, followed by the latest value of any command
+     * that overflowed. Must only be called by the consumer.
+     * @param handler receives each command.
+     * @return the amount of commands removed.
+     */
+    public int drain(Handler handler) {
+
+        long currentHead = head.get();
+        long currentTail = tail.get();
+
+        for (long i = currentHead; i < currentTail; i++) {
+            int index = (int) (i & mask);
+            handler.handle(COMMANDS[commands[index]], values[index], timestamps[index]);
+        }
+
+        head.lazySet(currentTail);
+
+        int count = (int) (currentTail - currentHead);
+
+        // overflowed values are newer than everything that was in the queue.
+        int pending = overflowPending.getAndSet(0);
+
+        for (int ordinal = 0; pending != 0; ordinal++, pending >>>= 1) {
+
+            if ((pending & 1) != 0) {
+                float value = Float.intBitsToFloat(overflowValues.get(ordinal));
+                handler.handle(COMMANDS[ordinal], value, overflowTimestamps.get(ordinal));
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * The amount of commands that didn't fit in the queue and were coalesced with the latest value of their command.
+     * @return the amount of coalesced commands.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public interface Handler {
+
+        /**
+         * Called for each command that is drained.
+         * @param command   the command.
+         * @param value     the value of the command.
+         * @param timestamp the System.nanoTime() the command was added.
+         */
+        void handle(VehicleCommand command, float value, long timestamp);
+
+    }
+
+}
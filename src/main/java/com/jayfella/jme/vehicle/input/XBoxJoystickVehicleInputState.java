@@ -156,12 +156,12 @@ public class XBoxJoystickVehicleInputState extends BaseAppState implements State
             steeringForce = Math.min(steeringForce + (tpf * turnSpeed), maxSteerForce);
             // vehicle.getVehicleControl().steer(steeringValue);
             //vehicle.steer(steeringForce);
-            vehicle.steer(steeringForce);
+            vehicle.getCommandQueue().steer(steeringForce);
         }
         else if (turningRight) {
             steeringForce = Math.max(steeringForce - (tpf * turnSpeed), -maxSteerForce);
             //vehicle.getVehicleControl().steer(steeringForce);
-            vehicle.steer(steeringForce);
+            vehicle.getCommandQueue().steer(steeringForce);
         }
         else {
             //steeringForce = 0;
@@ -187,26 +187,26 @@ public class XBoxJoystickVehicleInputState extends BaseAppState implements State
 
         // do braking first so it doesn't override engineBraking.
         if (braking) {
-            vehicle.brake(1);
+            vehicle.getCommandQueue().brake(1);
         }
         else {
-            vehicle.brake(0);
+            vehicle.getCommandQueue().brake(0);
         }
 
         if (accelerating) {
 
-            vehicle.removeEngineBraking();
+            vehicle.getCommandQueue().removeEngineBraking();
 
             if (vehicle.getSpeed(Vehicle.SpeedUnit.KMH) < vehicle.getGearBox().getMaxSpeed(Vehicle.SpeedUnit.KMH)) {
-                vehicle.accelerate(1);
+                vehicle.getCommandQueue().accelerate(1);
             }
             else {
-                vehicle.accelerate(0);
+                vehicle.getCommandQueue().accelerate(0);
             }
         }
         else {
             if (!braking) {
-                vehicle.applyEngineBraking();
+                vehicle.getCommandQueue().applyEngineBraking();
             }
 
             //vehicle.accelerate(0);
@@ -215,10 +215,10 @@ public class XBoxJoystickVehicleInputState extends BaseAppState implements State
         if (reversing) {
 
             if (vehicle.getSpeed(Vehicle.SpeedUnit.KMH) > -40) {
-                vehicle.accelerate(-1);
+                vehicle.getCommandQueue().accelerate(-1);
             }
             else {
-                vehicle.accelerate(0);
+                vehicle.getCommandQueue().accelerate(0);
             }
 
         }
@@ -257,7 +257,7 @@ public class XBoxJoystickVehicleInputState extends BaseAppState implements State
                 // vehicle.setParkingBrakeApplied(!vehicle.isParkingBrakeApplied());
             // }
             // vehicle.setParkingBrakeApplied(pressed);
-            vehicle.handbrake(pressed ? 1 : 0);
+            vehicle.getCommandQueue().handbrake(pressed ? 1 : 0);
 
         }
 
@@ -295,23 +295,23 @@ public class XBoxJoystickVehicleInputState extends BaseAppState implements State
         float val = (float) value;
 
         if (func == F_TURN_ANALOG) {
-            vehicle.steer(val);
+            vehicle.getCommandQueue().steer(val);
         }
 
         if (func == F_MOVE_ANALOG) {
             if (val > deadzone_x) {
                 if (vehicle.getSpeed(Vehicle.SpeedUnit.KMH) < vehicle.getGearBox().getMaxSpeed(Vehicle.SpeedUnit.KMH)) {
-                    vehicle.accelerate(val);
-                    vehicle.brake(0);
+                    vehicle.getCommandQueue().accelerate(val);
+                    vehicle.getCommandQueue().brake(0);
                 }
             }
             else if (val < -deadzone_y) {
-                vehicle.accelerate(0);
+                vehicle.getCommandQueue().accelerate(0);
                 float brakeStrength = val * -1;
-                vehicle.brake(brakeStrength);
+                vehicle.getCommandQueue().brake(brakeStrength);
             }
             else {
-                vehicle.applyEngineBraking();
+                vehicle.getCommandQueue().applyEngineBraking();
             }
         }
 
@@ -0,0 +1,241 @@
+package com.jayfella.jme.vehicle.loading;
+
+import com.jme3.app.Application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads assets on a small pool of dedicated threads.
+ *
+ * Loads are queued by priority, so critical assets are never stuck behind cosmetic ones. A load may depend on other
+ * loads, and is only queued once they have finished. Progress is reported to listeners on the render thread, and
+ * work can be run on the render thread once every load of a priority has finished.
+ */
+public class AssetLoadingService {
+
+    private static final Logger LOGGER = Logger.getLogger(AssetLoadingService.class.getName());
+
+    private static class PrioritizedRunnable implements Runnable, Comparable<PrioritizedRunnable> {
+
+        private final LoadPriority priority;
+        private final long sequence;
+        private final Runnable runnable;
+
+        private PrioritizedRunnable(LoadPriority priority, long sequence, Runnable runnable) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            runnable.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedRunnable other) {
+
+            int result = priority.compareTo(other.priority);
+
+            // first in, first out within a priority.
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final Application app;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger[] submitted = new AtomicInteger[LoadPriority.values().length];
+    private final AtomicInteger[] completed = new AtomicInteger[LoadPriority.values().length];
+
+    private final List<LoadingListener> listeners = new CopyOnWriteArrayList<>();
+
+    // render thread only.
+    private final List<LoadPriority> waitingPriorities = new ArrayList<>();
+    private final List<Runnable> waitingRunnables = new ArrayList<>();
+
+    public AssetLoadingService(Application app) {
+        this(app, 2);
+    }
+
+    /**
+     * Creates a loading service.
+     * @param app         the application, used to report progress on the render thread.
+     * @param threadCount the amount of loads that may run at the same time.
+     */
+    public AssetLoadingService(Application app, int threadCount) {
+
+        this.app = app;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(threadCount, threadCount, 0, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "Asset Loader " + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (int i = 0; i < submitted.length; i++) {
+            submitted[i] = new AtomicInteger();
+            completed[i] = new AtomicInteger();
+        }
+    }
+
+    public void addListener(LoadingListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(LoadingListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Submits a load. May be called from any thread.
+     * @param name         the name of the load, shown in progress events.
+     * @param priority     the priority of the load.
+     * @param loader       loads the asset on a loading thread. It must not touch the scene.
+     * @param dependencies the loads that must finish before this one starts. If any fail, so does this one.
+     * @param <T>          the type of the loaded asset.
+     * @return the task.
+     */
+    public <T> LoadTask<T> submit(String name, LoadPriority priority, Supplier<T> loader, LoadTask<?>... dependencies) {
+
+        LoadTask<T> task = new LoadTask<>(name, priority);
+        submitted[priority.ordinal()].incrementAndGet();
+
+        task.getFuture().whenComplete((result, ex) -> {
+
+            if (ex != null && !task.isCancelled()) {
+                LOGGER.log(Level.WARNING, "Unable to load " + name, ex);
+            }
+
+            completed[priority.ordinal()].incrementAndGet();
+            fireProgress(task);
+        });
+
+        CompletableFuture<?>[] dependencyFutures = new CompletableFuture<?>[dependencies.length];
+
+        for (int i = 0; i < dependencies.length; i++) {
+            dependencyFutures[i] = dependencies[i].getFuture();
+        }
+
+        CompletableFuture.allOf(dependencyFutures).whenComplete((ignored, dependencyEx) -> {
+
+            if (dependencyEx != null) {
+                task.getFuture().completeExceptionally(dependencyEx);
+                return;
+            }
+
+            executor.execute(new PrioritizedRunnable(priority, sequence.getAndIncrement(), () -> {
+
+                // cancelled while it was queued.
+                if (task.isDone()) {
+                    return;
+                }
+
+                fireProgress(task);
+
+                try {
+                    task.getFuture().complete(loader.get());
+                } catch (Exception e) {
+                    task.getFuture().completeExceptionally(e);
+                }
+            }));
+        });
+
+        return task;
+    }
+
+    /**
+     * Runs work on the render thread once every load of the given priority and above that has been submitted so far
+     * has finished. Must be called from the render thread.
+     * @param priority the lowest priority to wait for.
+     * @param runnable the work to run.
+     */
+    public void whenLoaded(LoadPriority priority, Runnable runnable) {
+
+        if (isLoaded(priority)) {
+            runnable.run();
+        }
+        else {
+            waitingPriorities.add(priority);
+            waitingRunnables.add(runnable);
+        }
+    }
+
+    /**
+     * Checks whether every load of the given priority and above has finished.
+     * @param priority the lowest priority to check.
+     * @return true if the loads have finished.
+     */
+    public boolean isLoaded(LoadPriority priority) {
+
+        for (int i = 0; i <= priority.ordinal(); i++) {
+            if (completed[i].get() < submitted[i].get()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public int getSubmittedCount(LoadPriority priority) {
+        return submitted[priority.ordinal()].get();
+    }
+
+    public int getCompletedCount(LoadPriority priority) {
+        return completed[priority.ordinal()].get();
+    }
+
+    /**
+     * Stops the loading threads. Queued loads are never run.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void fireProgress(LoadTask<?> task) {
+
+        LoadPriority priority = task.getPriority();
+
+        int completedCount = completed[priority.ordinal()].get();
+        int submittedCount = submitted[priority.ordinal()].get();
+
+        app.enqueue(() -> {
+
+            for (LoadingListener listener : listeners) {
+                listener.onProgress(priority, task.getName(), completedCount, submittedCount);
+            }
+
+            runWaiting();
+        });
+    }
+
+    private void runWaiting() {
+
+        for (int i = 0; i < waitingPriorities.size(); i++) {
+
+            if (isLoaded(waitingPriorities.get(i))) {
+                waitingPriorities.remove(i);
+                Runnable runnable = waitingRunnables.remove(i);
+                i--;
+
+                runnable.run();
+            }
+        }
+    }
+
+}
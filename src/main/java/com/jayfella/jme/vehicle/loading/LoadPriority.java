@@ -0,0 +1,23 @@
+package com.jayfella.jme.vehicle.loading;
+
+/**
+ * The priority of an asset load. Queued loads of a higher priority always start before those of a lower priority.
+ */
+public enum LoadPriority {
+
+    /**
+     * Assets needed before anything can be shown, such as the track.
+     */
+    CRITICAL,
+
+    /**
+     * Assets needed to play, such as vehicles.
+     */
+    GAMEPLAY,
+
+    /**
+     * Assets that only improve how things look, such as the sky.
+     */
+    COSMETIC
+
+}
@@ -0,0 +1,51 @@
+package com.jayfella.jme.vehicle.loading;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An asset load submitted to the AssetLoadingService.
+ * @param <T> the type of the loaded asset.
+ */
+public class LoadTask<T> {
+
+    private final String name;
+    private final LoadPriority priority;
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+
+    LoadTask(String name, LoadPriority priority) {
+        this.name = name;
+        this.priority = priority;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LoadPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * The result of the load. It completes on a loading thread, so anything that touches the scene must be enqueued.
+     * @return the future result of the load.
+     */
+    public CompletableFuture<T> getFuture() {
+        return future;
+    }
+
+    /**
+     * Cancels the load if it hasn't started. Tasks that depend on it are cancelled too.
+     */
+    public void cancel() {
+        future.cancel(false);
+    }
+
+    public boolean isCancelled() {
+        return future.isCancelled();
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.jayfella.jme.vehicle.loading;
+
+/**
+ * Receives the progress of an AssetLoadingService. Called on the render thread.
+ */
+public interface LoadingListener {
+
+    /**
+     * Called when a load starts or finishes.
+     * @param priority  the priority of the load.
+     * @param name      the name of the load.
+     * @param completed the amount of loads of this priority that have finished, including failed and cancelled loads.
+     * @param total     the amount of loads of this priority that have been submitted.
+     */
+    void onProgress(LoadPriority priority, String name, int completed, int total);
+
+}
@@ -0,0 +1,291 @@
+package com.jayfella.jme.vehicle.mesh;
+
+import com.jme3.scene.Mesh;
+import com.jme3.scene.VertexBuffer;
+import com.jme3.util.BufferUtils;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A compact binary format for triangle meshes, laid out so the file can be mapped straight into vertex buffers.
+ *
+ * The file is little-endian, so the magic number 0x564D5348 ('VMSH') reads "HSMV" on disk:
+ * <pre>
+ * int   magic        0x564D5348
+ * int   version
+ * int   vertexCount
+ * int   indexCount
+ * int   flags        1 = normals, 2 = texture coordinates
+ * float positions    vertexCount * 3
+ * float normals      vertexCount * 3, if present
+ * float texCoords    vertexCount * 2, if present
+ * int   indices      indexCount
+ * </pre>
+ */
+public final class BinaryMesh {
+
+    public static final String EXTENSION = "vmesh";
+
+    private static final int MAGIC = 0x564D5348;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 20;
+
+    private static final int FLAG_NORMALS = 1;
+    private static final int FLAG_TEXCOORDS = 2;
+
+    private BinaryMesh() {
+
+    }
+
+    /**
+     * Maps a mesh file into memory. The vertex buffers are views of a private mapping, so nothing is copied until a
+     * page is written to, and writes never reach the file. jME doesn't accept read only buffers, so the file must be
+     * writable to be mapped. A file that isn't is mapped read only and copied.
+     * @param file the mesh file.
+     * @return the mesh.
+     * @throws IOException if the file could not be read or is not a mesh file.
+     */
+    public static Mesh map(File file) throws IOException {
+
+        if (!file.canWrite()) {
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+                return map(randomAccessFile.getChannel());
+            }
+        }
+
+        // a private mapping needs a channel that can read and write, even though the file is never written.
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+             FileChannel channel = randomAccessFile.getChannel()) {
+
+            // the mapping stays valid after the channel is closed.
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.PRIVATE, 0, channel.size());
+            return read(buffer);
+        }
+    }
+
+    /**
+     * Maps a mesh from a channel that may only be readable, such as one opened by an asset locator, and copies it into
+     * direct buffers in one go. The copy is needed because jME doesn't accept read only buffers.
+     * @param channel the channel to read. It is not closed.
+     * @return the mesh.
+     * @throws IOException if the channel could not be read or is not a mesh file.
+     */
+    public static Mesh map(FileChannel channel) throws IOException {
+
+        ByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+        ByteBuffer buffer = BufferUtils.createByteBuffer(mapping.capacity());
+        buffer.put(mapping);
+        buffer.flip();
+
+        return read(buffer);
+    }
+
+    /**
+     * Loads a mesh from a url. Files on disk are mapped, anything else, such as an entry in a jar, is read.
+     * @param url the url of the mesh file.
+     * @return the mesh.
+     * @throws IOException if the mesh could not be read or is not a mesh file.
+     */
+    public static Mesh load(URL url) throws IOException {
+
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return map(new File(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid mesh url: " + url, e);
+            }
+        }
+
+        try (InputStream inputStream = url.openStream()) {
+            return read(inputStream);
+        }
+    }
+
+    /**
+     * Reads a mesh from a stream into direct buffers. Used when the mesh can't be mapped, such as from inside a jar.
+     * @param inputStream the stream to read.
+     * @return the mesh.
+     * @throws IOException if the stream could not be read or is not a mesh file.
+     */
+    public static Mesh read(InputStream inputStream) throws IOException {
+
+        DataInputStream in = new DataInputStream(inputStream);
+
+        byte[] header = new byte[HEADER_SIZE];
+        in.readFully(header);
+
+        ByteBuffer headerBuffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+        checkHeader(headerBuffer);
+
+        int size = getBodySize(headerBuffer.getInt(8), headerBuffer.getInt(12), headerBuffer.getInt(16));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HEADER_SIZE + size);
+        buffer.put(header);
+
+        byte[] chunk = new byte[8192];
+
+        while (buffer.hasRemaining()) {
+            int count = Math.min(chunk.length, buffer.remaining());
+            in.readFully(chunk, 0, count);
+            buffer.put(chunk, 0, count);
+        }
+
+        buffer.flip();
+        return read(buffer);
+    }
+
+    private static Mesh read(ByteBuffer buffer) throws IOException {
+
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        checkHeader(buffer);
+
+        int vertexCount = buffer.getInt(8);
+        int indexCount = buffer.getInt(12);
+        int flags = buffer.getInt(16);
+
+        if (buffer.capacity() < HEADER_SIZE + getBodySize(vertexCount, indexCount, flags)) {
+            throw new IOException("Mesh file is truncated.");
+        }
+
+        Mesh mesh = new Mesh();
+        int offset = HEADER_SIZE;
+
+        mesh.setBuffer(VertexBuffer.Type.Position, 3, floats(buffer, offset, vertexCount * 3));
+        offset += vertexCount * 3 * 4;
+
+        if ((flags & FLAG_NORMALS) != 0) {
+            mesh.setBuffer(VertexBuffer.Type.Normal, 3, floats(buffer, offset, vertexCount * 3));
+            offset += vertexCount * 3 * 4;
+        }
+
+        if ((flags & FLAG_TEXCOORDS) != 0) {
+            mesh.setBuffer(VertexBuffer.Type.TexCoord, 2, floats(buffer, offset, vertexCount * 2));
+            offset += vertexCount * 2 * 4;
+        }
+
+        mesh.setBuffer(VertexBuffer.Type.Index, 3, ints(buffer, offset, indexCount));
+
+        mesh.updateBound();
+        mesh.updateCounts();
+
+        return mesh;
+    }
+
+    /**
+     * Writes the positions, normals, texture coordinates and indices of a mesh.
+     * @param mesh the mesh to write. It must have positions and indices.
+     * @param file the file to write to.
+     * @throws IOException if the file could not be written.
+     */
+    public static void write(Mesh mesh, File file) throws IOException {
+
+        FloatBuffer positions = (FloatBuffer) mesh.getBuffer(VertexBuffer.Type.Position).getData();
+        VertexBuffer normals = mesh.getBuffer(VertexBuffer.Type.Normal);
+        VertexBuffer texCoords = mesh.getBuffer(VertexBuffer.Type.TexCoord);
+        VertexBuffer indices = mesh.getBuffer(VertexBuffer.Type.Index);
+
+        int vertexCount = mesh.getVertexCount();
+        int indexCount = indices.getNumElements() * indices.getNumComponents();
+
+        int flags = 0;
+
+        if (normals != null) {
+            flags |= FLAG_NORMALS;
+        }
+
+        if (texCoords != null) {
+            flags |= FLAG_TEXCOORDS;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + getBodySize(vertexCount, indexCount, flags))
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(vertexCount);
+        buffer.putInt(indexCount);
+        buffer.putInt(flags);
+
+        putFloats(buffer, positions, vertexCount * 3);
+
+        if (normals != null) {
+            putFloats(buffer, (FloatBuffer) normals.getData(), vertexCount * 3);
+        }
+
+        if (texCoords != null) {
+            putFloats(buffer, (FloatBuffer) texCoords.getData(), vertexCount * 2);
+        }
+
+        // indices may be stored as bytes, shorts or ints depending on how many vertices there are.
+        for (int i = 0; i < indexCount; i++) {
+            buffer.putInt(mesh.getIndexBuffer().get(i));
+        }
+
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(buffer.array());
+        }
+    }
+
+    private static void checkHeader(ByteBuffer buffer) throws IOException {
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a mesh file.");
+        }
+
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported mesh file version: " + buffer.getInt(4));
+        }
+    }
+
+    private static int getBodySize(int vertexCount, int indexCount, int flags) {
+
+        int floatCount = vertexCount * 3;
+
+        if ((flags & FLAG_NORMALS) != 0) {
+            floatCount += vertexCount * 3;
+        }
+
+        if ((flags & FLAG_TEXCOORDS) != 0) {
+            floatCount += vertexCount * 2;
+        }
+
+        return (floatCount + indexCount) * 4;
+    }
+
+    private static FloatBuffer floats(ByteBuffer buffer, int offset, int count) {
+        return slice(buffer, offset, count * 4).asFloatBuffer();
+    }
+
+    private static IntBuffer ints(ByteBuffer buffer, int offset, int count) {
+        return slice(buffer, offset, count * 4).asIntBuffer();
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position(offset);
+        duplicate.limit(offset + length);
+
+        return duplicate.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void putFloats(ByteBuffer buffer, FloatBuffer data, int count) {
+        for (int i = 0; i < count; i++) {
+            buffer.putFloat(data.get(i));
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.jayfella.jme.vehicle.mesh;
+
+import com.jme3.asset.AssetInfo;
+import com.jme3.asset.AssetLoader;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Loads BinaryMesh files through the asset manager.
+ *
+ * Meshes are found by the asset manager's locators. When a locator opens a plain file, such as the FileLocator, the
+ * file is mapped and copied in one go. Anything else, such as an entry in a jar, is read from the stream.
+ *
+ * Register it with: assetManager.registerLoader(BinaryMeshLoader.class, BinaryMesh.EXTENSION);
+ */
+public class BinaryMeshLoader implements AssetLoader {
+
+    @Override
+    public Object load(AssetInfo assetInfo) throws IOException {
+
+        try (InputStream inputStream = assetInfo.openStream()) {
+
+            if (inputStream instanceof FileInputStream) {
+                return BinaryMesh.map(((FileInputStream) inputStream).getChannel());
+            }
+
+            return BinaryMesh.read(inputStream);
+        }
+    }
+
+}
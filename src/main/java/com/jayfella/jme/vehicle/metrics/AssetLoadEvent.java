@@ -0,0 +1,23 @@
+package com.jayfella.jme.vehicle.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event that spans the loading of an asset that was not already in the cache.
+ */
+@Name("com.jayfella.jme.vehicle.AssetLoad")
+@Label("Asset Load")
+@Category({ "jMonkeyEngine", "Assets" })
+@Description("An asset was loaded by the asset manager.")
+public class AssetLoadEvent extends jdk.jfr.Event {
+
+    @Label("Asset")
+    public String asset;
+
+    @Label("Type")
+    public String type;
+
+}
@@ -0,0 +1,58 @@
+package com.jayfella.jme.vehicle.metrics;
+
+import com.jme3.asset.AssetEventListener;
+import com.jme3.asset.AssetKey;
+import jdk.jfr.EventType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Commits a flight recorder event spanning each asset that is loaded by the asset manager.
+ * Only create this if {@link VehicleEvents#isAvailable()} returns true.
+ */
+public class AssetLoadRecorder implements AssetEventListener {
+
+    // assets may be loaded on any thread, and loading a model loads its textures, so keep the loads per thread.
+    private final ThreadLocal<Map<AssetKey, AssetLoadEvent>> loading = ThreadLocal.withInitial(HashMap::new);
+
+    private final EventType eventType = EventType.getEventType(AssetLoadEvent.class);
+
+    @Override
+    public void assetRequested(AssetKey key) {
+
+        // most requests are served from the cache, so don't create an event for each one unless a recording wants them.
+        if (!eventType.isEnabled()) {
+            return;
+        }
+
+        // a request that is served from the cache is never followed by a load, so this may replace a stale event.
+        AssetLoadEvent event = new AssetLoadEvent();
+        event.begin();
+        loading.get().put(key, event);
+    }
+
+    @Override
+    public void assetLoaded(AssetKey key) {
+
+        AssetLoadEvent event = loading.get().remove(key);
+
+        if (event == null) {
+            return;
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.asset = key.getName();
+            event.type = key.getExtension();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void assetDependencyNotFound(AssetKey parentKey, AssetKey dependentAssetKey) {
+
+    }
+
+}
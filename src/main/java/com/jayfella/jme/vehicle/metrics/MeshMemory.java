@@ -0,0 +1,59 @@
+package com.jayfella.jme.vehicle.metrics;
+
+import com.jme3.renderer.Renderer;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.VertexBuffer;
+import com.jme3.util.BufferUtils;
+
+/**
+ * Measures and releases the direct memory held by the buffers of a mesh.
+ */
+public final class MeshMemory {
+
+    private MeshMemory() {
+
+    }
+
+    public static long sizeOf(Mesh mesh) {
+
+        if (mesh == null) {
+            return 0;
+        }
+
+        long size = 0;
+
+        for (VertexBuffer vertexBuffer : mesh.getBufferList()) {
+            if (vertexBuffer.getData() != null) {
+                size += (long) vertexBuffer.getData().capacity() * vertexBuffer.getFormat().getComponentSize();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Deletes the GPU buffers of a mesh and frees its direct memory straight away instead of waiting for the GC.
+     * The mesh must not be used afterwards, so this must only be used on meshes that aren't shared.
+     * Must be called from the render thread.
+     * @param mesh     the mesh to release.
+     * @param renderer the renderer the mesh was uploaded with.
+     */
+    public static void release(Mesh mesh, Renderer renderer) {
+
+        if (mesh == null) {
+            return;
+        }
+
+        for (VertexBuffer vertexBuffer : mesh.getBufferList()) {
+
+            if (vertexBuffer.getId() != -1) {
+                renderer.deleteBuffer(vertexBuffer);
+            }
+
+            if (vertexBuffer.getData() != null) {
+                BufferUtils.destroyDirectBuffer(vertexBuffer.getData());
+            }
+        }
+    }
+
+}
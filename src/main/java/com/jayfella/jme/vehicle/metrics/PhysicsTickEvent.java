@@ -0,0 +1,20 @@
+package com.jayfella.jme.vehicle.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event that spans a single step of the physics space.
+ */
+@Name("com.jayfella.jme.vehicle.PhysicsTick")
+@Label("Physics Tick")
+@Category({ "jMonkeyEngine", "Vehicle" })
+@Description("The time taken to step the physics space.")
+public class PhysicsTickEvent extends jdk.jfr.Event {
+
+    @Label("Time Step")
+    public float timeStep;
+
+}
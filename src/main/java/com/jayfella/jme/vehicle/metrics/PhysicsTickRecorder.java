@@ -0,0 +1,43 @@
+package com.jayfella.jme.vehicle.metrics;
+
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.PhysicsTickListener;
+import jdk.jfr.EventType;
+
+/**
+ * Commits a flight recorder event spanning each step of a physics space. Only one is needed per space.
+ * Only create this if {@link VehicleEvents#isAvailable()} returns true.
+ */
+public class PhysicsTickRecorder implements PhysicsTickListener {
+
+    private final EventType eventType = EventType.getEventType(PhysicsTickEvent.class);
+    private PhysicsTickEvent event;
+
+    @Override
+    public void prePhysicsTick(PhysicsSpace space, float timeStep) {
+
+        // don't create an event for every step unless a recording wants them.
+        if (eventType.isEnabled()) {
+            event = new PhysicsTickEvent();
+            event.begin();
+        }
+    }
+
+    @Override
+    public void physicsTick(PhysicsSpace space, float timeStep) {
+
+        if (event == null) {
+            return;
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.timeStep = timeStep;
+            event.commit();
+        }
+
+        event = null;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.jayfella.jme.vehicle.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event that spans the rebuild of a skid mark mesh.
+ */
+@Name("com.jayfella.jme.vehicle.SkidMeshUpload")
+@Label("Skid Mesh Upload")
+@Category({ "jMonkeyEngine", "Vehicle" })
+@Description("The skid mark buffers were rebuilt and handed to the renderer.")
+public class SkidMeshUploadEvent extends jdk.jfr.Event {
+
+    @Label("Sections")
+    public int sections;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+
+}
@@ -0,0 +1,72 @@
+package com.jayfella.jme.vehicle.metrics;
+
+/**
+ * Commits flight recorder events for the vehicle simulation.
+ *
+ * The event classes are only touched when the running JVM ships with the flight recorder, so it's safe to call any
+ * of these methods on a runtime that was linked without the jdk.jfr module. When no recording is running the events are discarded by the JVM.
+ */
+public final class VehicleEvents {
+
+    private static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+    private VehicleEvents() {
+
+    }
+
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static void vehicleSpawned(String vehicleName, boolean spawned) {
+
+        if (!AVAILABLE) {
+            return;
+        }
+
+        VehicleSpawnEvent event = new VehicleSpawnEvent();
+        event.vehicle = vehicleName;
+        event.spawned = spawned;
+        event.commit();
+    }
+
+    /**
+     * Begins timing a skid mesh upload.
+     * @return the event to pass to {@link #endSkidMeshUpload}, or null if the flight recorder is unavailable.
+     */
+    public static SkidMeshUploadEvent beginSkidMeshUpload() {
+
+        if (!AVAILABLE) {
+            return null;
+        }
+
+        SkidMeshUploadEvent event = new SkidMeshUploadEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void endSkidMeshUpload(SkidMeshUploadEvent event, int sections, long bytes) {
+
+        if (event == null) {
+            return;
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.sections = sections;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+}
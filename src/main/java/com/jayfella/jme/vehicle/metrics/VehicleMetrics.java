@@ -0,0 +1,48 @@
+package com.jayfella.jme.vehicle.metrics;
+
+/**
+ * The values exposed over JMX. The values are sampled on the render thread by the VehicleMetricsState and read by the
+ * JMX thread, so they are only ever written as a whole.
+ */
+public class VehicleMetrics implements VehicleMetricsMBean {
+
+    private volatile int activeVehicles;
+    private volatile int skidSectionsInUse;
+    private volatile int particlesAlive;
+    private volatile int audioVoices;
+    private volatile long directMemoryBytes;
+
+    @Override
+    public int getActiveVehicles() {
+        return activeVehicles;
+    }
+
+    @Override
+    public int getSkidSectionsInUse() {
+        return skidSectionsInUse;
+    }
+
+    @Override
+    public int getParticlesAlive() {
+        return particlesAlive;
+    }
+
+    @Override
+    public int getAudioVoices() {
+        return audioVoices;
+    }
+
+    @Override
+    public long getDirectMemoryBytes() {
+        return directMemoryBytes;
+    }
+
+    void update(int activeVehicles, int skidSectionsInUse, int particlesAlive, int audioVoices, long directMemoryBytes) {
+        this.activeVehicles = activeVehicles;
+        this.skidSectionsInUse = skidSectionsInUse;
+        this.particlesAlive = particlesAlive;
+        this.audioVoices = audioVoices;
+        this.directMemoryBytes = directMemoryBytes;
+    }
+
+}
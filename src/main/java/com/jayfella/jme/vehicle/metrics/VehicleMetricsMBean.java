@@ -0,0 +1,22 @@
+package com.jayfella.jme.vehicle.metrics;
+
+/**
+ * Live gauges of the vehicle simulation exposed over JMX.
+ */
+public interface VehicleMetricsMBean {
+
+    int getActiveVehicles();
+
+    int getSkidSectionsInUse();
+
+    int getParticlesAlive();
+
+    int getAudioVoices();
+
+    /**
+     * The amount of direct memory held by the skid mark and particle meshes of all active vehicles.
+     * @return the size in bytes.
+     */
+    long getDirectMemoryBytes();
+
+}
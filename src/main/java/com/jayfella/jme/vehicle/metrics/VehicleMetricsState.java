@@ -0,0 +1,122 @@
+package com.jayfella.jme.vehicle.metrics;
+
+import com.jayfella.jme.vehicle.Car;
+import com.jayfella.jme.vehicle.Vehicle;
+import com.jme3.app.Application;
+import com.jme3.app.state.BaseAppState;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Samples the state of every active vehicle and publishes it as a JMX MBean named
+ * "com.jayfella.jme.vehicle:type=VehicleMetrics".
+ */
+public class VehicleMetricsState extends BaseAppState {
+
+    public static final String OBJECT_NAME = "com.jayfella.jme.vehicle:type=VehicleMetrics";
+
+    // the scene graph can only be read on the render thread, so sample it a few times a second rather than on demand.
+    private static final float SAMPLE_INTERVAL = 0.5f;
+
+    private final VehicleMetrics metrics = new VehicleMetrics();
+    private final List<Vehicle> vehicles = new ArrayList<>();
+
+    private ObjectName objectName;
+    private float time;
+
+    public VehicleMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void addVehicle(Vehicle vehicle) {
+        if (!vehicles.contains(vehicle)) {
+            vehicles.add(vehicle);
+        }
+    }
+
+    public void removeVehicle(Vehicle vehicle) {
+        vehicles.remove(vehicle);
+    }
+
+    @Override
+    protected void initialize(Application app) {
+
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            objectName = new ObjectName(OBJECT_NAME);
+
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(metrics, objectName);
+            }
+
+        } catch (JMException e) {
+            e.printStackTrace();
+            objectName = null;
+        }
+    }
+
+    @Override
+    protected void cleanup(Application app) {
+
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (JMException e) {
+                e.printStackTrace();
+            }
+
+            objectName = null;
+        }
+    }
+
+    @Override
+    protected void onEnable() {
+
+    }
+
+    @Override
+    protected void onDisable() {
+
+    }
+
+    @Override
+    public void update(float tpf) {
+
+        time += tpf;
+
+        if (time < SAMPLE_INTERVAL) {
+            return;
+        }
+
+        time = 0;
+
+        int skidSections = 0;
+        int particles = 0;
+        int audioVoices = 0;
+        long directMemory = 0;
+
+        for (int i = 0; i < vehicles.size(); i++) {
+
+            Vehicle vehicle = vehicles.get(i);
+            audioVoices += vehicle.getPlayingAudioCount();
+
+            if (vehicle instanceof Car) {
+                Car car = (Car) vehicle;
+
+                skidSections += car.getSkidMarks().getSectionsInUse();
+                particles += car.getSmokeEmitter().getParticlesAlive();
+
+                directMemory += car.getSkidMarks().getDirectMemoryBytes();
+                directMemory += car.getSmokeEmitter().getDirectMemoryBytes();
+            }
+        }
+
+        metrics.update(vehicles.size(), skidSections, particles, audioVoices, directMemory);
+    }
+
+}
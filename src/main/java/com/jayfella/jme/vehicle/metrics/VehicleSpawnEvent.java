@@ -0,0 +1,24 @@
+package com.jayfella.jme.vehicle.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event that is committed when a vehicle is added to or removed from the scene.
+ */
+@Name("com.jayfella.jme.vehicle.VehicleSpawn")
+@Label("Vehicle Spawn")
+@Category({ "jMonkeyEngine", "Vehicle" })
+@Description("A vehicle was added to or removed from the scene.")
+public class VehicleSpawnEvent extends jdk.jfr.Event {
+
+    @Label("Vehicle")
+    public String vehicle;
+
+    @Label("Spawned")
+    @Description("True if the vehicle was added to the scene, false if it was removed.")
+    public boolean spawned;
+
+}
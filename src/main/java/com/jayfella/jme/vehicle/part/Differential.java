@@ -0,0 +1,23 @@
+package com.jayfella.jme.vehicle.part;
+
+/**
+ * How the drivetrain splits the force of an axle between its two wheels.
+ */
+public enum Differential {
+
+    /**
+     * Both wheels always get the same force, so a wheel that loses grip spins freely.
+     */
+    OPEN,
+
+    /**
+     * Force moves towards the slower wheel as the wheels spin apart, up to the torque bias ratio.
+     */
+    LIMITED_SLIP,
+
+    /**
+     * Force moves towards the slower wheel until both spin together, as if the axle were solid.
+     */
+    LOCKED
+
+}
@@ -0,0 +1,231 @@
+package com.jayfella.jme.vehicle.part;
+
+import com.jayfella.jme.vehicle.Car;
+import com.jayfella.jme.vehicle.Vehicle;
+import com.jayfella.jme.vehicle.engine.Engine;
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.PhysicsTickListener;
+import com.jme3.math.FastMath;
+
+/**
+ * Delivers the engine output to the wheels once per physics step.
+ *
+ * The engine is evaluated once, multiplied by the ratio of the active gear, the final drive and the clutch, and then
+ * split between the wheels. The acceleration force of each wheel sets its share, and wheels are paired into axles
+ * in the order they were added (front left, front right, rear left, rear right) so the differential can move force
+ * between the two wheels of an axle.
+ */
+public class Drivetrain implements PhysicsTickListener {
+
+    private final Car car;
+    private final float[] wheelForces;
+
+    private float finalDrive = 1;
+
+    private Differential differential = Differential.OPEN;
+    private float torqueBiasRatio = 2;
+
+    // the force moved between the wheels of an axle per radian per second they spin apart.
+    private float lockingStiffness = 200;
+
+    // how far the clutch is engaged, from 0 (open) to 1 (closed).
+    private float clutch = 1;
+
+    // how long the clutch takes to close again after a gear change, in seconds.
+    private float shiftTime = 0;
+    private float shiftTimer;
+    private int lastGear = -1;
+
+    private float outputForce;
+
+    public Drivetrain(Car car) {
+        this.car = car;
+        this.wheelForces = new float[car.getNumWheels()];
+    }
+
+    public float getFinalDrive() {
+        return finalDrive;
+    }
+
+    /**
+     * Sets the ratio applied after the gearbox. The engine power is already tuned as a force at the wheels, so a
+     * final drive of 1 delivers it unchanged.
+     * @param finalDrive the final drive ratio.
+     */
+    public void setFinalDrive(float finalDrive) {
+        this.finalDrive = finalDrive;
+    }
+
+    public Differential getDifferential() {
+        return differential;
+    }
+
+    public void setDifferential(Differential differential) {
+        this.differential = differential;
+    }
+
+    public float getTorqueBiasRatio() {
+        return torqueBiasRatio;
+    }
+
+    /**
+     * Sets how many times more force a limited slip differential can give the slower wheel of an axle.
+     * @param torqueBiasRatio the ratio. 1 behaves like an open differential.
+     */
+    public void setTorqueBiasRatio(float torqueBiasRatio) {
+        this.torqueBiasRatio = Math.max(1, torqueBiasRatio);
+    }
+
+    public float getLockingStiffness() {
+        return lockingStiffness;
+    }
+
+    /**
+     * Sets how quickly a limited slip or locked differential reacts to the wheels of an axle spinning apart.
+     * @param lockingStiffness the force moved per radian per second of difference.
+     */
+    public void setLockingStiffness(float lockingStiffness) {
+        this.lockingStiffness = Math.max(0, lockingStiffness);
+    }
+
+    public float getClutch() {
+        return clutch;
+    }
+
+    /**
+     * Sets how far the clutch is engaged.
+     * @param clutch 0 disconnects the engine, 1 connects it fully.
+     */
+    public void setClutch(float clutch) {
+        this.clutch = FastMath.clamp(clutch, 0, 1);
+    }
+
+    public float getShiftTime() {
+        return shiftTime;
+    }
+
+    /**
+     * Sets how long the clutch takes to close again after a gear change. Zero changes gear instantly.
+     * @param shiftTime the time in seconds.
+     */
+    public void setShiftTime(float shiftTime) {
+        this.shiftTime = Math.max(0, shiftTime);
+
+        // a shift that is under way finishes within the new time.
+        shiftTimer = Math.min(shiftTimer, this.shiftTime);
+    }
+
+    /**
+     * The force that left the gearbox in the last physics step, before it was split between the wheels.
+     * @return the force in newtons.
+     */
+    public float getOutputForce() {
+        return outputForce;
+    }
+
+    /**
+     * The driving force given to a wheel in the last physics step.
+     * @param wheel the index of the wheel.
+     * @return the force in newtons.
+     */
+    public float getWheelForce(int wheel) {
+        return wheelForces[wheel];
+    }
+
+    @Override
+    public void prePhysicsTick(PhysicsSpace space, float timeStep) {
+
+        Engine engine = car.getEngine();
+        GearBox gearBox = car.getGearBox();
+
+        // the clutch opens while the gearbox changes gear and closes again over the shift time.
+        int gear = gearBox.getActiveGearNum();
+
+        if (gear != lastGear) {
+            shiftTimer = lastGear == -1 ? 0 : shiftTime;
+            lastGear = gear;
+        }
+
+        float engagement = clutch;
+
+        // with no shift time the gear change is instant and the clutch stays engaged.
+        if (shiftTimer > 0 && shiftTime > 0) {
+            engagement *= 1.0f - shiftTimer / shiftTime;
+            shiftTimer -= timeStep;
+        }
+        else {
+            shiftTimer = 0;
+        }
+
+        float throttle = car.getAccelerationForce();
+
+        if (engine.isStarted() && throttle != 0) {
+
+            // so the faster we go, the less force the vehicle can apply.
+            // this simulates making it harder to accelerate at higher speeds
+            // realistically this makes it difficult to achieve the max speed.
+            float speedRatio = 1.0f - (car.getSpeed(Vehicle.SpeedUnit.KMH) / gearBox.getMaxSpeed(Vehicle.SpeedUnit.KMH));
+            speedRatio = Math.max(0.25f, speedRatio);
+
+            outputForce = engine.getPowerOutputAtRevs() * throttle * speedRatio
+                    * gearBox.getActiveGear().getRatio() * finalDrive * engagement;
+        }
+        else {
+            outputForce = 0;
+        }
+
+        int wheelCount = wheelForces.length;
+
+        for (int i = 0; i < wheelCount; i += 2) {
+
+            if (i + 1 < wheelCount) {
+                splitAxle(i, i + 1);
+            }
+            else {
+                wheelForces[i] = outputForce * car.getWheel(i).getAccelerationForce();
+            }
+        }
+
+        // we always set every wheel because the wheel could be "broken down" over time.
+        for (int i = 0; i < wheelCount; i++) {
+            car.getWheel(i).setDriveForce(wheelForces[i]);
+        }
+    }
+
+    private void splitAxle(int leftIndex, int rightIndex) {
+
+        Wheel left = car.getWheel(leftIndex);
+        Wheel right = car.getWheel(rightIndex);
+
+        float leftForce = outputForce * left.getAccelerationForce();
+        float rightForce = outputForce * right.getAccelerationForce();
+
+        if (differential != Differential.OPEN && leftForce != 0 && rightForce != 0) {
+
+            float axleForce = Math.abs(leftForce + rightForce);
+
+            // the most force that can move to the slower wheel.
+            float maxTransfer = differential == Differential.LOCKED
+                    ? axleForce * 0.5f
+                    : axleForce * 0.5f * (torqueBiasRatio - 1) / (torqueBiasRatio + 1);
+
+            float stiffness = differential == Differential.LOCKED ? lockingStiffness * 10 : lockingStiffness;
+
+            // move force away from the wheel that spins faster in the direction it is driven.
+            float spinDifference = left.getAngularVelocity() - right.getAngularVelocity();
+            float transfer = FastMath.clamp(stiffness * spinDifference, -maxTransfer, maxTransfer);
+
+            leftForce -= transfer;
+            rightForce += transfer;
+        }
+
+        wheelForces[leftIndex] = leftForce;
+        wheelForces[rightIndex] = rightForce;
+    }
+
+    @Override
+    public void physicsTick(PhysicsSpace space, float timeStep) {
+
+    }
+
+}
@@ -5,6 +5,9 @@ public class Gear {
     private float start;
     private float end;
 
+    // multiplies the engine output in this gear.
+    private float ratio = 1;
+
     public Gear(float start, float end) {
         this.start = start;
         this.end = end;
@@ -25,4 +28,17 @@ public class Gear {
     public void setEnd(float end) {
         this.end = end;
     }
+
+    public float getRatio() {
+        return ratio;
+    }
+
+    /**
+     * Sets the ratio of this gear. The engine power is already tuned as a force at the wheels, so a ratio of 1
+     * delivers it unchanged.
+     * @param ratio the gear ratio.
+     */
+    public void setRatio(float ratio) {
+        this.ratio = ratio;
+    }
 }
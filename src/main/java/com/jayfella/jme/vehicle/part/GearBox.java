@@ -2,6 +2,9 @@ package com.jayfella.jme.vehicle.part;
 
 import com.jayfella.jme.vehicle.Vehicle;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.jayfella.jme.vehicle.Vehicle.KMH_TO_MPH;
 
 public class GearBox {
@@ -9,6 +12,9 @@ public class GearBox {
     private int activeGear;
     private Gear[] gears;
 
+    private ShiftSchedule shiftSchedule;
+    private final List<GearChangeListener> gearChangeListeners = new ArrayList<>();
+
     public GearBox(int gearCount) {
         this.gears = new Gear[gearCount];
 
@@ -28,6 +34,7 @@ public class GearBox {
 
     public void setGears(Gear[] gears) {
         this.gears = gears;
+        rebuildShiftSchedule();
     }
 
     public Gear getGear(int gearNum) {
@@ -36,6 +43,7 @@ public class GearBox {
 
     public void setGear(int gearNum, Gear gear) {
         this.gears[gearNum] = gear;
+        rebuildShiftSchedule();
     }
 
     public void setGear(int gearNum, float start, float end) {
@@ -44,6 +52,8 @@ public class GearBox {
 
         gear.setStart(start);
         gear.setEnd(end);
+
+        rebuildShiftSchedule();
     }
 
     public Gear getActiveGear() {
@@ -55,7 +65,47 @@ public class GearBox {
     }
 
     public void setActiveGearNum(int activeGear) {
+
+        if (activeGear == this.activeGear) {
+            return;
+        }
+
+        int previousGear = this.activeGear;
         this.activeGear = activeGear;
+
+        for (int i = 0; i < gearChangeListeners.size(); i++) {
+            gearChangeListeners.get(i).gearChanged(this, previousGear, activeGear);
+        }
+    }
+
+    public void addGearChangeListener(GearChangeListener listener) {
+        gearChangeListeners.add(listener);
+    }
+
+    public void removeGearChangeListener(GearChangeListener listener) {
+        gearChangeListeners.remove(listener);
+    }
+
+    /**
+     * The schedule an automatic gearbox uses to choose gears. It is built the first time it is needed.
+     * @return the shift schedule of this gearbox.
+     */
+    public ShiftSchedule getShiftSchedule() {
+
+        if (shiftSchedule == null) {
+            shiftSchedule = new ShiftSchedule(this);
+        }
+
+        return shiftSchedule;
+    }
+
+    /**
+     * Rebuilds the shift schedule from the gears. Must be called when a gear is edited directly.
+     */
+    public void rebuildShiftSchedule() {
+        if (shiftSchedule != null) {
+            shiftSchedule.rebuild();
+        }
     }
 
     public int getGearCount() {
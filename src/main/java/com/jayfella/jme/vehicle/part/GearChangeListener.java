@@ -0,0 +1,16 @@
+package com.jayfella.jme.vehicle.part;
+
+/**
+ * Notified when a gearbox changes gear.
+ */
+public interface GearChangeListener {
+
+    /**
+     * Called after the active gear of the gearbox has changed.
+     * @param gearBox  the gearbox that changed gear.
+     * @param fromGear the previous gear number.
+     * @param toGear   the new gear number.
+     */
+    void gearChanged(GearBox gearBox, int fromGear, int toGear);
+
+}
@@ -0,0 +1,150 @@
+package com.jayfella.jme.vehicle.part;
+
+import com.jayfella.jme.vehicle.Vehicle;
+import com.jme3.math.FastMath;
+
+/**
+ * Chooses the gear of an automatic gearbox from the speed and the throttle.
+ *
+ * The schedule is built once from the speed bands of the gearbox into a table of gears indexed by throttle and
+ * speed, so choosing a gear is a lookup rather than a search. Each gear shifts up at the end of its band at full
+ * throttle and earlier as the throttle is lifted, and only shifts down once the speed drops a margin below the
+ * point it shifted up at, so the gearbox doesn't hunt between two gears at the edge of a band.
+ */
+public class ShiftSchedule {
+
+    // the number of throttle positions the table is built for.
+    private static final int THROTTLE_STEPS = 5;
+
+    // the speed covered by each entry of the table, in km/h.
+    private static final float SPEED_STEP = 1.0f;
+
+    private final GearBox gearBox;
+
+    private float hysteresis = 3.0f;
+
+    private float[][] upshiftSpeeds;
+    private float[][] downshiftSpeeds;
+    private float[] lowestSpeeds;
+    private byte[][] gears;
+
+    public ShiftSchedule(GearBox gearBox) {
+        this.gearBox = gearBox;
+        rebuild();
+    }
+
+    public float getHysteresis() {
+        return hysteresis;
+    }
+
+    /**
+     * Sets how far below the upshift speed the speed must drop before shifting down again.
+     * @param hysteresis the margin in km/h.
+     */
+    public void setHysteresis(float hysteresis) {
+        this.hysteresis = Math.max(0, hysteresis);
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the table from the speed bands of the gearbox. Must be called after the gears have changed.
+     */
+    public void rebuild() {
+
+        int gearCount = gearBox.getGearCount();
+        int speedSteps = (int) (gearBox.getMaxSpeed(Vehicle.SpeedUnit.KMH) / SPEED_STEP) + 2;
+
+        upshiftSpeeds = new float[THROTTLE_STEPS][gearCount];
+        downshiftSpeeds = new float[THROTTLE_STEPS][gearCount];
+        lowestSpeeds = new float[gearCount];
+
+        for (int i = 0; i < gearCount; i++) {
+            lowestSpeeds[i] = gearBox.getGear(i).getStart();
+        }
+        gears = new byte[THROTTLE_STEPS][speedSteps];
+
+        for (int row = 0; row < THROTTLE_STEPS; row++) {
+
+            float throttle = row / (float) (THROTTLE_STEPS - 1);
+
+            for (int i = 0; i < gearCount; i++) {
+
+                Gear gear = gearBox.getGear(i);
+
+                if (i == gearCount - 1) {
+                    // the top gear never shifts up.
+                    upshiftSpeeds[row][i] = Float.MAX_VALUE;
+                }
+                else {
+                    // with a light throttle shift up halfway into the overlap with the next gear.
+                    float nextStart = Math.min(gearBox.getGear(i + 1).getStart(), gear.getEnd());
+                    float lightShift = nextStart + (gear.getEnd() - nextStart) * 0.5f;
+                    upshiftSpeeds[row][i] = FastMath.interpolateLinear(throttle, lightShift, gear.getEnd());
+                }
+
+                downshiftSpeeds[row][i] = i == 0
+                        ? -Float.MAX_VALUE
+                        : upshiftSpeeds[row][i - 1] - hysteresis;
+
+                if (i > 0) {
+                    lowestSpeeds[i] = Math.max(0, Math.min(lowestSpeeds[i], downshiftSpeeds[row][i]));
+                }
+            }
+
+            // the gear to select from scratch is the first gear whose upshift speed hasn't been reached.
+            for (int step = 0; step < speedSteps; step++) {
+
+                float speed = step * SPEED_STEP;
+                int selected = 0;
+
+                while (selected < gearCount - 1 && speed > upshiftSpeeds[row][selected]) {
+                    selected++;
+                }
+
+                gears[row][step] = (byte) selected;
+            }
+        }
+    }
+
+    /**
+     * The lowest speed a gear is held at before shifting down. The hysteresis holds a gear a little below the start of
+     * its band, so the revs of a gear should be measured from here rather than from the start of the band.
+     * @param gear the gear.
+     * @return the speed in km/h.
+     */
+    public float getLowestSpeed(int gear) {
+        return lowestSpeeds[gear];
+    }
+
+    /**
+     * Chooses the gear for the given speed and throttle.
+     * @param currentGear the gear the gearbox is in now.
+     * @param speed       the speed of the vehicle in km/h.
+     * @param throttle    the throttle from 0 to 1.
+     * @return the gear the gearbox should be in.
+     */
+    public int getGear(int currentGear, float speed, float throttle) {
+
+        int row = Math.round(FastMath.clamp(throttle, 0, 1) * (THROTTLE_STEPS - 1));
+
+        byte[] table = gears[row];
+        int step = (int) (Math.max(0, speed) / SPEED_STEP);
+        int gear = table[Math.min(step, table.length - 1)];
+
+        if (currentGear < 0 || currentGear >= upshiftSpeeds[row].length) {
+            return gear;
+        }
+
+        // stay in the current gear until the speed leaves the range between its shift points.
+        // the table is coarser than the shift points, so make sure leaving the range always shifts.
+        if (speed > upshiftSpeeds[row][currentGear]) {
+            return Math.max(gear, currentGear + 1);
+        }
+        else if (speed < downshiftSpeeds[row][currentGear]) {
+            return Math.min(gear, currentGear - 1);
+        }
+
+        return currentGear;
+    }
+
+}
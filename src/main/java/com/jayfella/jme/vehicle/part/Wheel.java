@@ -32,6 +32,7 @@ public class Wheel {
 
     private PajeckaTireModel tireModel;
 
+    // the rotation beyond rolling with the ground in the last physics step.
     private float rotationDelta;
 
     // simulates degradation. 1.0 = full grip the tyre allows, 0.0 = the tyre is dead.
@@ -111,7 +112,20 @@ public class Wheel {
     // public void setBrakeForce(float brakeForce) { this.brakeForce = brakeForce; }
 
     public void accelerate(float strength) {
-        vehicleControl.accelerate(wheelIndex, accelerationForce * strength);
+        setDriveForce(accelerationForce * strength);
+    }
+
+    /**
+     * Sets the driving force of the wheel directly, such as from the drivetrain.
+     * @param driveForce the driving force.
+     */
+    public void setDriveForce(float driveForce) {
+        this.driveForce = driveForce;
+        vehicleControl.accelerate(wheelIndex, driveForce);
+    }
+
+    public float getDriveForce() {
+        return driveForce;
     }
 
     /**
@@ -120,7 +134,7 @@ public class Wheel {
      */
     public void brake(float strength) {
         this.brakeStrength = strength;
-        vehicleControl.brake(wheelIndex, brake.getStrength() * strength);
+        setBrakeForce(brake.getStrength() * strength);
     }
 
     public float getBrakeStrength() {
@@ -134,7 +148,16 @@ public class Wheel {
      * @param brakeStrength the strength of the brake force at 1 (100%).
      */
     public void brake(float strength, float brakeStrength) {
-        vehicleControl.brake(wheelIndex, brakeStrength * strength);
+        setBrakeForce(brakeStrength * strength);
+    }
+
+    /**
+     * Sets the braking force of the wheel directly, such as for engine braking.
+     * @param brakeForce the braking force.
+     */
+    public void setBrakeForce(float brakeForce) {
+        this.brakeForce = brakeForce;
+        vehicleControl.brake(wheelIndex, brakeForce);
     }
 
     public Brake getBrake() {
@@ -187,81 +210,266 @@ public class Wheel {
         return this.vehicleWheel;
     }
 
+    private final Quaternion tempChassisRot = new Quaternion();
+    private final Vector3f tempHardPoint = new Vector3f();
+    private final Vector3f tempContact = new Vector3f();
+
+    /**
+     * Calculates the current length of the suspension from the point it connects to the chassis to the wheel hub.
+     * When the wheel is not touching the ground the suspension is at its rest length.
+     * @return the current length of the suspension in world units.
+     */
+    public float calculateSuspensionLength() {
+
+        // the raycast starts at the connection point and ends at the contact point on the surface of the tyre.
+        vehicleControl.getPhysicsRotation(tempChassisRot);
+        tempChassisRot.mult(vehicleWheel.getLocation(), tempHardPoint);
+        tempHardPoint.addLocal(vehicleControl.getPhysicsLocation(tempContact));
+
+        vehicleWheel.getCollisionLocation(tempContact);
+
+        return tempHardPoint.distance(tempContact) - vehicleWheel.getRadius();
+    }
+
+    /**
+     * Calculates how far the suspension is compressed from its rest length.
+     * @return the compression in world units, 0 when the wheel is at rest or in the air.
+     */
+    public float calculateSuspensionCompression() {
+        return Math.max(0, vehicleWheel.getRestLength() - calculateSuspensionLength());
+    }
+
 
     // Pacejka
-    // LATERAL
-    // the slip angle is the angle between the direction in which a wheel is pointing
-    // and the direction in which the vehicle is traveling.
-    public float calculateLateralSlipAngle() {
+    // the slip is kept as a state that is advanced every physics tick. The tyre carcass has to deflect before it
+    // produces force, so the slip follows the contact patch velocity with a lag set by the relaxation length.
+    // this keeps the slip smooth near standstill, where the instantaneous slip is undefined, and lets the physics
+    // run at larger timesteps.
 
-        Quaternion wheelRot = vehicleControl.getPhysicsRotation().mult(
-                new Quaternion().fromAngles(new float[]{0, getSteeringAngle(), 0}));
+    // how far the tyre rolls before the slip builds up, in world units.
+    private float lateralRelaxationLength = 0.5f;
+    private float longitudinalRelaxationLength = 0.3f;
 
-        Vector3f wheelDir = wheelRot.getRotationColumn(2);
+    // the slip decays at least this fast, in world units per second, so it settles when the vehicle stops.
+    private float minRelaxationSpeed = 1.0f;
 
-        Vector3f vehicleTravel;
+    // the wheel spin is integrated from the drive, brake and tyre forces.
+    private float inertia = 1.2f;
+    private float longitudinalStiffness = 10f;
 
-        if (vehicleControl.getCurrentVehicleSpeedKmHour() < 5) {
-            vehicleTravel = vehicleControl.getPhysicsRotation().getRotationColumn(2);
-        }
-        else {
-            vehicleTravel = vehicleControl.getLinearVelocity().normalizeLocal();
-            vehicleTravel.setY(0);
-        }
+    private float driveForce;
+    private float brakeForce;
 
-        float minAngle = 0.1f;
+    private float angularVelocity;
+    private float spinAngle;
 
-        float angle = minAngle + wheelDir.angleBetween(vehicleTravel);
-        // System.out.println(getVehicleWheel().getWheelSpatial().getName() + ": " + angle * FastMath.RAD_TO_DEG);
+    // tan of the slip angle and the slip ratio.
+    private float lateralSlip;
+    private float longitudinalSlip;
 
-        // angle = Math.max(0.1f, angle);
-        angle = FastMath.clamp(angle, 0, FastMath.QUARTER_PI);
+    private final Vector3f tempVelocity = new Vector3f();
+    private final Vector3f tempAngular = new Vector3f();
+    private final Vector3f tempOffset = new Vector3f();
+    private final Vector3f tempDirection = new Vector3f();
+    private final Quaternion tempWheelRot = new Quaternion();
+    private final Quaternion tempSteerRot = new Quaternion();
 
-        return angle;
+    public float getLateralRelaxationLength() {
+        return lateralRelaxationLength;
+    }
 
+    public void setLateralRelaxationLength(float lateralRelaxationLength) {
+        this.lateralRelaxationLength = lateralRelaxationLength;
     }
 
-    // the slip angle for this is how much force is being applied to the tyre (acceleration force).
-    // how much rotation has been applied as a result of acceleration.
-    public float calculateLongitudinalSlipAngle() {
+    public float getLongitudinalRelaxationLength() {
+        return longitudinalRelaxationLength;
+    }
+
+    public void setLongitudinalRelaxationLength(float longitudinalRelaxationLength) {
+        this.longitudinalRelaxationLength = longitudinalRelaxationLength;
+    }
+
+    public float getMinRelaxationSpeed() {
+        return minRelaxationSpeed;
+    }
+
+    public void setMinRelaxationSpeed(float minRelaxationSpeed) {
+        this.minRelaxationSpeed = minRelaxationSpeed;
+    }
+
+    public float getInertia() {
+        return inertia;
+    }
+
+    /**
+     * Sets the rotational inertia of the wheel, tyre and anything that spins with them.
+     * @param inertia the inertia in kg m^2.
+     */
+    public void setInertia(float inertia) {
+        this.inertia = inertia;
+    }
+
+    public float getLongitudinalStiffness() {
+        return longitudinalStiffness;
+    }
+
+    /**
+     * Sets how much force the tyre produces per unit of slip ratio, per newton of load.
+     * @param longitudinalStiffness the stiffness.
+     */
+    public void setLongitudinalStiffness(float longitudinalStiffness) {
+        this.longitudinalStiffness = longitudinalStiffness;
+    }
+
+    /**
+     * The speed the wheel spins at.
+     * @return the angular velocity in radians per second. Positive is forward.
+     */
+    public float getAngularVelocity() {
+        return angularVelocity;
+    }
+
+    /**
+     * Sets the speed the wheel spins at, such as to match the ground when a vehicle is created already moving.
+     * @param angularVelocity the angular velocity in radians per second. Positive is forward.
+     */
+    public void setAngularVelocity(float angularVelocity) {
+        this.angularVelocity = angularVelocity;
+    }
+
+    /**
+     * The angle the wheel has spun beyond rolling with the ground. Used to draw wheelspin and locked wheels.
+     * @return the angle in radians, between -PI and PI.
+     */
+    public float getSpinAngle() {
+        return spinAngle;
+    }
+
+    /**
+     * Advances the spin and the slip of the wheel by one physics step.
+     * @param timeStep the length of the physics step in seconds.
+     */
+    public void updatePhysics(float timeStep) {
+
+        // the velocity of the contact patch.
+        vehicleControl.getLinearVelocity(tempVelocity);
+        vehicleControl.getAngularVelocity(tempAngular);
+
+        vehicleWheel.getCollisionLocation(tempOffset);
+        tempOffset.subtractLocal(vehicleControl.getPhysicsLocation(tempDirection));
+        tempVelocity.addLocal(tempAngular.crossLocal(tempOffset));
+
+        vehicleControl.getPhysicsRotation(tempWheelRot);
+        tempWheelRot.multLocal(tempSteerRot.fromAngleNormalAxis(getSteeringAngle(), Vector3f.UNIT_Y));
+
+        float forwardSpeed = tempVelocity.dot(tempWheelRot.mult(Vector3f.UNIT_Z, tempDirection));
+        float lateralSpeed = tempVelocity.dot(tempWheelRot.mult(Vector3f.UNIT_X, tempDirection));
+
+        float load = Math.max(0, vehicleWheel.getWheelsSuspensionForce());
+
+        // the tyre is in the air, so nothing drives the slip and it relaxes back to zero.
+        if (load <= 0) {
+            lateralSpeed = 0;
+        }
+
+        updateAngularVelocity(timeStep, forwardSpeed, load);
+        updateSlip(timeStep, forwardSpeed, lateralSpeed);
+    }
+
+    private void updateAngularVelocity(float timeStep, float forwardSpeed, float load) {
+
+        float radius = vehicleWheel.getRadius();
+        float slipSpeed = Math.abs(forwardSpeed) + minRelaxationSpeed;
+
+        // the tyre force pulls the surface speed towards the ground speed: F = k * (wR - vx) / |vx|.
+        // it is solved implicitly so a stiff tyre doesn't make the wheel oscillate.
+        float stiffness = longitudinalStiffness * load / slipSpeed;
+        float driveTorque = driveForce * radius;
+        float brakeTorque = brakeForce * radius;
+
+        float velocity = (angularVelocity + timeStep / inertia
+                * (driveTorque - Math.signum(angularVelocity) * brakeTorque + stiffness * radius * forwardSpeed))
+                / (1 + timeStep / inertia * stiffness * radius * radius);
+
+        // the tyre can't push harder than its friction allows, so past that the wheel spins up or locks.
+        float maxTyreForce = Math.max(0, getFriction()) * load;
+        float tyreForce = stiffness * (velocity * radius - forwardSpeed);
+
+        if (Math.abs(tyreForce) > maxTyreForce) {
 
-        // the rotation of the wheel as if it were just following a moving vehicle.
-        // that is to say a wheel that is rolling without slip.
-        float normalRot = vehicleWheel.getDeltaRotation();// * 0.5f;
+            tyreForce = Math.signum(tyreForce) * maxTyreForce;
+            velocity = angularVelocity + timeStep / inertia * (driveTorque - tyreForce * radius);
 
-        // the rotation applied via wheelspin
-        float wheelSpinRot = getRotationDelta();// * 1.5f;
+            // the brake slows the wheel down but never spins it backwards.
+            float brakeChange = timeStep / inertia * brakeTorque;
 
-        // combined rotation of normal roll + wheelspin
-        float rot = wheelSpinRot + normalRot;
+            if (Math.abs(velocity) <= brakeChange) {
+                velocity = 0;
+            }
+            else {
+                velocity -= Math.signum(velocity) * brakeChange;
+            }
+        }
+
+        angularVelocity = velocity;
+
+        rotationDelta = (angularVelocity - forwardSpeed / radius) * timeStep;
+
+        spinAngle += rotationDelta;
 
-        // System.out.println(getVehicleWheel().getWheelSpatial().getName() + ": " + rot);
+        if (spinAngle > FastMath.PI) {
+            spinAngle -= FastMath.TWO_PI;
+        }
+        else if (spinAngle < -FastMath.PI) {
+            spinAngle += FastMath.TWO_PI;
+        }
+    }
 
+    // the slip is integrated implicitly, so it stays stable however large the step is.
+    private void updateSlip(float timeStep, float forwardSpeed, float lateralSpeed) {
 
-        float vel = vehicleControl.getLinearVelocity().length();
+        // the speed of the tyre surface relative to the ground.
+        float spinSpeed = angularVelocity * vehicleWheel.getRadius() - forwardSpeed;
 
-        float minAngle = 0.1f;
+        float relaxationSpeed = Math.abs(forwardSpeed) + minRelaxationSpeed;
 
-        float angle = rot / vel;
-        angle *= 10;
-        //angle += minAngle;
+        // backward euler of: length * dSlip/dt + |vx| * slip = driving velocity
+        lateralSlip = (lateralSlip + timeStep * -lateralSpeed / lateralRelaxationLength)
+                / (1 + timeStep * relaxationSpeed / lateralRelaxationLength);
 
-        //result = FastMath.QUARTER_PI - result;
-        // return result + 0.1f;
-        // float slip = 1.0f - vehicleWheel.getSkidInfo();
-        // slip *= FastMath.QUARTER_PI;
-        //return slip;
+        longitudinalSlip = (longitudinalSlip + timeStep * spinSpeed / longitudinalRelaxationLength)
+                / (1 + timeStep * relaxationSpeed / longitudinalRelaxationLength);
+    }
+
+    /**
+     * Clears the slip and spin state. Used when the vehicle is reset or teleported.
+     */
+    public void resetSlip() {
+        lateralSlip = 0;
+        longitudinalSlip = 0;
+        angularVelocity = 0;
+        rotationDelta = 0;
+    }
+
+    // LATERAL
+    // the slip angle is the angle between the direction in which a wheel is pointing
+    // and the direction in which the vehicle is traveling.
+    public float calculateLateralSlipAngle() {
+
+        float angle = Math.abs(FastMath.atan(lateralSlip));
+        angle = FastMath.clamp(angle, 0, FastMath.QUARTER_PI);
 
-        angle = FastMath.clamp(angle, 0, FastMath.TWO_PI);
         return angle;
     }
 
-    public float getRotationDelta() {
-        return rotationDelta;
+    // the longitudinal slip ratio. How much faster the tyre surface moves than the ground beneath it.
+    public float calculateLongitudinalSlipAngle() {
+        return FastMath.clamp(Math.abs(longitudinalSlip), 0, 1);
     }
 
-    public void setRotationDelta(float rotationDelta) {
-        this.rotationDelta = rotationDelta;
+    public float getRotationDelta() {
+        return rotationDelta;
     }
 
 
@@ -0,0 +1,37 @@
+package com.jayfella.jme.vehicle.part;
+
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.PhysicsTickListener;
+
+import java.util.List;
+
+/**
+ * Advances the spin and tyre slip of every wheel of a vehicle once per physics step.
+ */
+public class WheelIntegrator implements PhysicsTickListener {
+
+    private final List<Wheel> wheels;
+
+    public WheelIntegrator(List<Wheel> wheels) {
+        this.wheels = wheels;
+    }
+
+    public void reset() {
+        for (Wheel wheel : wheels) {
+            wheel.resetSlip();
+        }
+    }
+
+    @Override
+    public void prePhysicsTick(PhysicsSpace space, float timeStep) {
+
+    }
+
+    @Override
+    public void physicsTick(PhysicsSpace space, float timeStep) {
+        for (Wheel wheel : wheels) {
+            wheel.updatePhysics(timeStep);
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.jayfella.jme.vehicle.part;
+
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.PhysicsTickListener;
+import com.jme3.bullet.control.VehicleControl;
+
+/**
+ * Measures the normal load on each wheel from the force its suspension applied in the last physics step.
+ *
+ * The raw force jumps from step to step as the suspension settles, so it is smoothed with an exponential filter.
+ * The loads are only written during the physics tick, so reading them never does any work.
+ */
+public class WheelLoadSensor implements PhysicsTickListener {
+
+    private final VehicleControl vehicleControl;
+    private final float[] loads;
+
+    // how quickly the smoothed load follows the suspension force, in seconds.
+    private float timeConstant = 0.05f;
+
+    private boolean hasLoad;
+
+    public WheelLoadSensor(VehicleControl vehicleControl) {
+        this.vehicleControl = vehicleControl;
+        this.loads = new float[vehicleControl.getNumWheels()];
+    }
+
+    /**
+     * The smoothed normal load on a wheel.
+     * @param wheel the index of the wheel.
+     * @return the load in newtons. Zero when the wheel is off the ground.
+     */
+    public float getLoad(int wheel) {
+        return loads[wheel];
+    }
+
+    /**
+     * The smoothed normal load on every wheel, indexed by wheel. The array is updated in place every physics tick.
+     * @return the loads in newtons.
+     */
+    public float[] getLoads() {
+        return loads;
+    }
+
+    public float getTimeConstant() {
+        return timeConstant;
+    }
+
+    /**
+     * Sets how quickly the loads follow the suspension. Zero uses the raw force of each step.
+     * @param timeConstant the time constant in seconds.
+     */
+    public void setTimeConstant(float timeConstant) {
+        this.timeConstant = Math.max(0, timeConstant);
+    }
+
+    /**
+     * Forgets the smoothed loads, so the next tick starts from the raw force. Used when the vehicle is teleported.
+     */
+    public void reset() {
+        hasLoad = false;
+    }
+
+    @Override
+    public void prePhysicsTick(PhysicsSpace space, float timeStep) {
+
+    }
+
+    @Override
+    public void physicsTick(PhysicsSpace space, float timeStep) {
+
+        float blend = hasLoad ? timeStep / (timeConstant + timeStep) : 1;
+
+        for (int i = 0; i < loads.length; i++) {
+            float force = vehicleControl.getWheel(i).getWheelsSuspensionForce();
+            loads[i] += (force - loads[i]) * blend;
+        }
+
+        hasLoad = true;
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.jayfella.jme.vehicle.prefab;
+
+import com.jayfella.jme.vehicle.Car;
+import com.jayfella.jme.vehicle.gui.LoadingState;
+import com.jme3.app.Application;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Creates cars in the background so the frame doesn't freeze while they load.
+ *
+ * Everything that doesn't touch the scene - loading assets, building collision shapes and setting up the parts -
+ * is done on a background thread. The car is then handed to the render thread to be added to the scene.
+ * Only one car is loaded at a time. Starting a new load cancels the previous one.
+ */
+public class VehicleLoader {
+
+    private final Application app;
+    private final VehiclePrefabCache prefabCache;
+
+    // a single thread so two cars never load at the same time.
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Vehicle Loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Task current;
+    private boolean showBackground;
+
+    public VehicleLoader(Application app) {
+        this(app, VehiclePrefabCache.getInstance());
+    }
+
+    public VehicleLoader(Application app, VehiclePrefabCache prefabCache) {
+        this.app = app;
+        this.prefabCache = prefabCache;
+    }
+
+    /**
+     * Loads a car in the background, cancelling any car that is currently loading.
+     * Must be called from the render thread.
+     * @param type     the type of car to load.
+     * @param onLoaded called on the render thread with the loaded car, unless the load is cancelled.
+     * @return the task loading the car.
+     */
+    public Task load(Class<? extends Car> type, Consumer<Car> onLoaded) {
+
+        cancel();
+
+        Task task = new Task(type);
+        current = task;
+
+        setLoadingEnabled(true);
+        task.setProgress("Loading " + type.getSimpleName() + "...");
+
+        CompletableFuture
+                .supplyAsync(() -> create(task), executor)
+                .whenComplete((car, ex) -> app.enqueue(() -> {
+
+                    if (ex != null && !(ex.getCause() instanceof CancellationException)) {
+                        ex.printStackTrace();
+                    }
+
+                    // a newer load owns the loading screen now. a car that was built before the load was cancelled
+                    // is parked, so it isn't leaked and the next load of this type can use it.
+                    if (task.isCancelled() || current != task) {
+
+                        if (car != null) {
+                            VehiclePool.getInstance().park(task.type, car);
+                        }
+
+                        return;
+                    }
+
+                    current = null;
+                    setLoadingEnabled(false);
+
+                    if (car != null) {
+                        onLoaded.accept(car);
+                    }
+                }));
+
+        return task;
+    }
+
+    private Car create(Task task) {
+
+        task.checkCancelled();
+        task.setProgress("Reading prefab...");
+
+        VehiclePrefab prefab = prefabCache.getPrefab(app, task.type);
+
+        task.checkCancelled();
+
+        if (prefab != null) {
+            task.setProgress("Creating " + prefab.getName() + "...");
+            return prefab.instantiate(app);
+        }
+
+        task.setProgress("Loading models...");
+        Car car = VehiclePrefabCache.construct(app, task.type);
+
+        // once the car exists it's always returned, so a cancelled load can park it rather than drop it.
+        if (task.isCancelled()) {
+            return car;
+        }
+
+        task.setProgress("Saving prefab...");
+        prefabCache.putPrefab(task.type, VehiclePrefab.fromCar(car));
+
+        task.setProgress("Adding " + car.getName() + "...");
+
+        return car;
+    }
+
+    /**
+     * Cancels the car that is currently loading, if any.
+     * Must be called from the render thread.
+     */
+    public void cancel() {
+
+        Task task = current;
+
+        if (task != null) {
+            task.cancel();
+            current = null;
+            setLoadingEnabled(false);
+        }
+    }
+
+    public boolean isLoading() {
+        return current != null;
+    }
+
+    /**
+     * Stops the background thread. Any car that is loading is cancelled.
+     */
+    public void shutdown() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    private void setLoadingEnabled(boolean enabled) {
+
+        LoadingState loadingState = app.getStateManager().getState(LoadingState.class);
+
+        if (loadingState == null || !loadingState.isInitialized() || loadingState.isEnabled() == enabled) {
+            return;
+        }
+
+        // hide the background so the scene and the selector can still be seen (and clicked) while we load.
+        if (enabled) {
+            showBackground = loadingState.isShowBackground();
+            loadingState.setShowBackground(false);
+        }
+        else {
+            loadingState.setShowBackground(showBackground);
+        }
+
+        loadingState.setEnabled(enabled);
+    }
+
+    /**
+     * A car being loaded by a VehicleLoader.
+     */
+    public class Task {
+
+        private final Class<? extends Car> type;
+        private volatile boolean cancelled;
+
+        private Task(Class<? extends Car> type) {
+            this.type = type;
+        }
+
+        public Class<? extends Car> getType() {
+            return type;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Cancels the load. The background work stops at the next step and the car is never added. If the car was
+         * already built it is parked in the VehiclePool.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void checkCancelled() {
+            if (cancelled) {
+                throw new CancellationException();
+            }
+        }
+
+        private void setProgress(String text) {
+
+            app.enqueue(() -> {
+
+                LoadingState loadingState = app.getStateManager().getState(LoadingState.class);
+
+                if (!cancelled && loadingState != null && loadingState.isInitialized()) {
+                    loadingState.setText(text);
+                }
+            });
+        }
+
+    }
+
+}
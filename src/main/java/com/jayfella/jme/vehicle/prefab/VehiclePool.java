@@ -0,0 +1,100 @@
+package com.jayfella.jme.vehicle.prefab;
+
+import com.jayfella.jme.vehicle.Car;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parks vehicles that have been removed from the scene so they can be used again instead of building a new one.
+ *
+ * Only a few vehicles of each type are kept. When the pool is full the vehicle that has been parked the longest is
+ * disposed, so swapping vehicles repeatedly never holds on to more than that.
+ * The pool is only used from the render thread.
+ */
+public class VehiclePool {
+
+    private static final VehiclePool INSTANCE = new VehiclePool(1);
+
+    public static VehiclePool getInstance() {
+        return INSTANCE;
+    }
+
+    private final int maxParkedPerType;
+    private final Map<Class<? extends Car>, ArrayDeque<Car>> parked = new HashMap<>();
+
+    public VehiclePool(int maxParkedPerType) {
+        this.maxParkedPerType = maxParkedPerType;
+    }
+
+    /**
+     * Takes a parked vehicle out of the pool.
+     * @param type the type of vehicle.
+     * @return a vehicle that is ready to be added to the scene, or null if none of this type are parked.
+     */
+    public Car obtain(Class<? extends Car> type) {
+
+        ArrayDeque<Car> vehicles = parked.get(type);
+
+        if (vehicles == null || vehicles.isEmpty()) {
+            return null;
+        }
+
+        Car vehicle = vehicles.pollLast();
+        vehicle.reset();
+
+        return vehicle;
+    }
+
+    /**
+     * Parks a vehicle so it can be used again. The vehicle is removed from the scene if it is still in it.
+     * @param type    the type of vehicle.
+     * @param vehicle the vehicle to park.
+     */
+    public void park(Class<? extends Car> type, Car vehicle) {
+
+        if (vehicle.isAttachedToScene()) {
+            vehicle.detachFromScene();
+        }
+
+        if (maxParkedPerType < 1) {
+            vehicle.dispose();
+            return;
+        }
+
+        ArrayDeque<Car> vehicles = parked.computeIfAbsent(type, k -> new ArrayDeque<>());
+
+        while (vehicles.size() >= maxParkedPerType) {
+            vehicles.pollFirst().dispose();
+        }
+
+        vehicles.addLast(vehicle);
+    }
+
+    public int getParkedCount() {
+
+        int count = 0;
+
+        for (ArrayDeque<Car> vehicles : parked.values()) {
+            count += vehicles.size();
+        }
+
+        return count;
+    }
+
+    /**
+     * Disposes every parked vehicle.
+     */
+    public void clear() {
+
+        for (ArrayDeque<Car> vehicles : parked.values()) {
+            for (Car vehicle : vehicles) {
+                vehicle.dispose();
+            }
+        }
+
+        parked.clear();
+    }
+
+}
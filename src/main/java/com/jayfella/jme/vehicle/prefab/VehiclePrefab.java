@@ -0,0 +1,346 @@
+package com.jayfella.jme.vehicle.prefab;
+
+import com.jayfella.jme.vehicle.Car;
+import com.jayfella.jme.vehicle.Vehicle;
+import com.jayfella.jme.vehicle.engine.Engine;
+import com.jayfella.jme.vehicle.part.Differential;
+import com.jayfella.jme.vehicle.part.Drivetrain;
+import com.jayfella.jme.vehicle.part.Gear;
+import com.jayfella.jme.vehicle.part.GearBox;
+import com.jme3.app.Application;
+import com.jme3.asset.AssetManager;
+import com.jme3.bounding.BoundingBox;
+import com.jme3.bullet.collision.shapes.CollisionShape;
+import com.jme3.export.InputCapsule;
+import com.jme3.export.JmeExporter;
+import com.jme3.export.JmeImporter;
+import com.jme3.export.OutputCapsule;
+import com.jme3.export.Savable;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+
+/**
+ * A fully built car stored as a Savable so it can be written with the BinaryExporter and restored without
+ * running the car's constructor again.
+ *
+ * Instantiating a prefab clones the chassis and wheel models without cloning their meshes, and reuses the
+ * collision shape, so every car created from the same prefab shares its meshes, materials and shape.
+ */
+public class VehiclePrefab implements Savable {
+
+    private String name;
+    private String carClass;
+
+    private Spatial chassis;
+    private CollisionShape collisionShape;
+    private float mass;
+
+    private Vector3f hoodCamLocation;
+    private ArrayList<WheelPrefab> wheels;
+
+    private float[] gearStarts;
+    private float[] gearEnds;
+    private float[] gearRatios;
+
+    private float finalDrive;
+    private String differential;
+    private float torqueBiasRatio;
+    private float lockingStiffness;
+    private float shiftTime;
+
+    private String engineClass;
+    private float enginePower;
+    private float engineMaxRevs;
+    private float engineBraking;
+    private String engineAudio;
+
+    private String hornAudio;
+
+    /**
+     * Used by the BinaryImporter.
+     */
+    public VehiclePrefab() {
+
+    }
+
+    /**
+     * Creates a prefab from a car that has been built but not added to the scene.
+     * @param car the car to create the prefab from.
+     * @return a prefab of the car.
+     */
+    public static VehiclePrefab fromCar(Car car) {
+
+        VehiclePrefab prefab = new VehiclePrefab();
+
+        prefab.name = car.getName();
+        prefab.carClass = car.getClass().getName();
+
+        prefab.chassis = car.getChassis().clone(false);
+        prefab.collisionShape = car.getVehicleControl().getCollisionShape();
+        prefab.mass = car.getVehicleControl().getMass();
+
+        prefab.hoodCamLocation = car.getHoodCamLocation().clone();
+
+        prefab.wheels = new ArrayList<>();
+        for (int i = 0; i < car.getNumWheels(); i++) {
+            prefab.wheels.add(new WheelPrefab(car.getWheel(i)));
+        }
+
+        GearBox gearBox = car.getGearBox();
+        prefab.gearStarts = new float[gearBox.getGearCount()];
+        prefab.gearEnds = new float[gearBox.getGearCount()];
+        prefab.gearRatios = new float[gearBox.getGearCount()];
+
+        for (int i = 0; i < gearBox.getGearCount(); i++) {
+            Gear gear = gearBox.getGear(i);
+            prefab.gearStarts[i] = gear.getStart();
+            prefab.gearEnds[i] = gear.getEnd();
+            prefab.gearRatios[i] = gear.getRatio();
+        }
+
+        Drivetrain drivetrain = car.getDrivetrain();
+        prefab.finalDrive = drivetrain.getFinalDrive();
+        prefab.differential = drivetrain.getDifferential().name();
+        prefab.torqueBiasRatio = drivetrain.getTorqueBiasRatio();
+        prefab.lockingStiffness = drivetrain.getLockingStiffness();
+        prefab.shiftTime = drivetrain.getShiftTime();
+
+        Engine engine = car.getEngine();
+        prefab.engineClass = engine.getClass().getName();
+        prefab.enginePower = engine.getPower();
+        prefab.engineMaxRevs = engine.getMaxRevs();
+        prefab.engineBraking = engine.getBraking();
+        prefab.engineAudio = engine.getEngineAudioPath();
+
+        prefab.hornAudio = car.getHornAudioPath();
+
+        return prefab;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Creates a new car from this prefab. The car is built but not added to the scene.
+     * @param app the application the car belongs to.
+     * @return a new car.
+     */
+    public Car instantiate(Application app) {
+
+        AssetManager assetManager = app.getAssetManager();
+
+        Car car = createCar(app);
+
+        car.setChassis(chassis.clone(false), mass, collisionShape);
+
+        for (WheelPrefab wheel : wheels) {
+            wheel.addTo(car);
+        }
+
+        car.setHoodCamLocation(hoodCamLocation);
+
+        GearBox gearBox = new GearBox(gearStarts.length);
+        for (int i = 0; i < gearStarts.length; i++) {
+            gearBox.setGear(i, gearStarts[i], gearEnds[i]);
+
+            if (gearRatios != null) {
+                gearBox.getGear(i).setRatio(gearRatios[i]);
+            }
+        }
+        car.setGearBox(gearBox);
+
+        Engine engine = createEngine(car);
+        engine.setPower(enginePower);
+        engine.setMaxRevs(engineMaxRevs);
+        engine.setBraking(engineBraking);
+
+        if (engineAudio != null) {
+            engine.setEngineAudio(assetManager, engineAudio);
+        }
+
+        car.setEngine(engine);
+
+        if (hornAudio != null) {
+            car.setHornAudio(assetManager, hornAudio);
+        }
+
+        car.build();
+
+        // the drivetrain is created when the car is built.
+        if (differential != null) {
+            Drivetrain drivetrain = car.getDrivetrain();
+            drivetrain.setFinalDrive(finalDrive);
+            drivetrain.setDifferential(Differential.valueOf(differential));
+            drivetrain.setTorqueBiasRatio(torqueBiasRatio);
+            drivetrain.setLockingStiffness(lockingStiffness);
+            drivetrain.setShiftTime(shiftTime);
+        }
+
+        return car;
+    }
+
+    /**
+     * Creates a model of the car without any physics, with the wheels at the rest length of their suspension.
+     * The model shares its meshes and materials with the prefab, and its origin is where a car built from this
+     * prefab would have it. The chassis is the first child, followed by the wheels in order.
+     * @return a new model of the car.
+     */
+    public Node createModel() {
+
+        Node model = new Node(name);
+        model.attachChild(chassis.clone(false));
+
+        for (WheelPrefab wheel : wheels) {
+
+            Spatial wheelModel = wheel.getModel().clone(false);
+            Vector3f connectionPoint = wheel.getConnectionPoint();
+
+            wheelModel.setLocalTranslation(connectionPoint.x, connectionPoint.y - wheel.getRestLength(), connectionPoint.z);
+            model.attachChild(wheelModel);
+        }
+
+        return model;
+    }
+
+    /**
+     * The height of the origin of the car above the ground when its suspension is at rest.
+     * @return the height in world units.
+     */
+    public float getRideHeight() {
+
+        float rideHeight = 0;
+
+        for (WheelPrefab wheel : wheels) {
+
+            // the wheel radius is worked out the same way as when the wheel is added to a car.
+            float radius = ((BoundingBox) wheel.getModel().getWorldBound()).getZExtent();
+            float bottom = wheel.getConnectionPoint().y - wheel.getRestLength() - radius;
+
+            rideHeight = Math.max(rideHeight, -bottom);
+        }
+
+        return rideHeight;
+    }
+
+    /**
+     * The distance between the front and rear wheels.
+     * @return the wheel base in world units.
+     */
+    public float getWheelBase() {
+
+        float front = -Float.MAX_VALUE;
+        float rear = Float.MAX_VALUE;
+
+        for (WheelPrefab wheel : wheels) {
+            front = Math.max(front, wheel.getConnectionPoint().z);
+            rear = Math.min(rear, wheel.getConnectionPoint().z);
+        }
+
+        return front - rear;
+    }
+
+    private Car createCar(Application app) {
+
+        if (carClass == null || carClass.equals(Car.class.getName())) {
+            return new Car(app, name);
+        }
+
+        // subclasses restore through a constructor that doesn't build the car, so the car keeps its type.
+        try {
+            Class<?> type = Class.forName(carClass);
+            Constructor<?> constructor = type.getDeclaredConstructor(Application.class, String.class);
+            constructor.setAccessible(true);
+            return (Car) constructor.newInstance(app, name);
+        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create car: " + carClass, e);
+        }
+    }
+
+    private Engine createEngine(Car car) {
+
+        // engines hold their power graph in code, so we only store the type and create a new one.
+        try {
+            Class<?> type = Class.forName(engineClass);
+            return (Engine) type.getConstructor(Vehicle.class).newInstance(car);
+        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create engine: " + engineClass, e);
+        }
+    }
+
+    @Override
+    public void write(JmeExporter ex) throws IOException {
+
+        OutputCapsule capsule = ex.getCapsule(this);
+
+        capsule.write(name, "name", null);
+        capsule.write(carClass, "carClass", null);
+
+        capsule.write(chassis, "chassis", null);
+        capsule.write(collisionShape, "collisionShape", null);
+        capsule.write(mass, "mass", 0);
+
+        capsule.write(hoodCamLocation, "hoodCamLocation", null);
+        capsule.writeSavableArrayList(wheels, "wheels", null);
+
+        capsule.write(gearStarts, "gearStarts", null);
+        capsule.write(gearEnds, "gearEnds", null);
+        capsule.write(gearRatios, "gearRatios", null);
+
+        capsule.write(finalDrive, "finalDrive", 1);
+        capsule.write(differential, "differential", null);
+        capsule.write(torqueBiasRatio, "torqueBiasRatio", 2);
+        capsule.write(lockingStiffness, "lockingStiffness", 200);
+        capsule.write(shiftTime, "shiftTime", 0);
+
+        capsule.write(engineClass, "engineClass", null);
+        capsule.write(enginePower, "enginePower", 0);
+        capsule.write(engineMaxRevs, "engineMaxRevs", 0);
+        capsule.write(engineBraking, "engineBraking", 0);
+        capsule.write(engineAudio, "engineAudio", null);
+
+        capsule.write(hornAudio, "hornAudio", null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void read(JmeImporter im) throws IOException {
+
+        InputCapsule capsule = im.getCapsule(this);
+
+        name = capsule.readString("name", null);
+        carClass = capsule.readString("carClass", null);
+
+        chassis = (Spatial) capsule.readSavable("chassis", null);
+        collisionShape = (CollisionShape) capsule.readSavable("collisionShape", null);
+        mass = capsule.readFloat("mass", 0);
+
+        hoodCamLocation = (Vector3f) capsule.readSavable("hoodCamLocation", null);
+        wheels = capsule.readSavableArrayList("wheels", null);
+
+        gearStarts = capsule.readFloatArray("gearStarts", null);
+        gearEnds = capsule.readFloatArray("gearEnds", null);
+        gearRatios = capsule.readFloatArray("gearRatios", null);
+
+        finalDrive = capsule.readFloat("finalDrive", 1);
+        differential = capsule.readString("differential", null);
+        torqueBiasRatio = capsule.readFloat("torqueBiasRatio", 2);
+        lockingStiffness = capsule.readFloat("lockingStiffness", 200);
+        shiftTime = capsule.readFloat("shiftTime", 0);
+
+        engineClass = capsule.readString("engineClass", null);
+        enginePower = capsule.readFloat("enginePower", 0);
+        engineMaxRevs = capsule.readFloat("engineMaxRevs", 0);
+        engineBraking = capsule.readFloat("engineBraking", 0);
+        engineAudio = capsule.readString("engineAudio", null);
+
+        hornAudio = capsule.readString("hornAudio", null);
+    }
+
+}
@@ -0,0 +1,295 @@
+package com.jayfella.jme.vehicle.prefab;
+
+import com.jayfella.jme.vehicle.Car;
+import com.jayfella.jme.vehicle.cache.DiskCache;
+import com.jme3.app.Application;
+import com.jme3.export.Savable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Creates cars from prefabs, keeping the prefabs in memory and on disk.
+ *
+ * The first time a car is requested it is built using its constructor and a prefab is created from it.
+ * Every time after that the car is created from the prefab, which shares the meshes, materials and collision
+ * shape of the first car and doesn't need to load anything.
+ */
+public class VehiclePrefabCache {
+
+    private static final Logger LOGGER = Logger.getLogger(VehiclePrefabCache.class.getName());
+
+    // change this when the prefab format changes. the key also holds a hash of the car's class, the part classes it
+    // uses and the assets they load, so editing a car, an engine or a model doesn't need a new version.
+    private static final int VERSION = 3;
+
+    // the key of each type of car. the class files and assets don't change while the game is running.
+    private static final Map<Class<? extends Car>, String> KEYS = new ConcurrentHashMap<>();
+
+    private static final VehiclePrefabCache INSTANCE = new VehiclePrefabCache(new DiskCache(new File("cache", "prefabs")));
+
+    public static VehiclePrefabCache getInstance() {
+        return INSTANCE;
+    }
+
+    private final DiskCache diskCache;
+    private final Map<String, VehiclePrefab> prefabs = new ConcurrentHashMap<>();
+
+    public VehiclePrefabCache(DiskCache diskCache) {
+        this.diskCache = diskCache;
+    }
+
+    /**
+     * Creates a car, using a prefab if one exists.
+     * @param app  the application the car belongs to.
+     * @param type the type of car. It must have a constructor that accepts an Application.
+     * @return a new car that has been built but not added to the scene.
+     */
+    public Car create(Application app, Class<? extends Car> type) {
+
+        VehiclePrefab prefab = getPrefab(app, type);
+
+        if (prefab != null) {
+            return prefab.instantiate(app);
+        }
+
+        Car car = construct(app, type);
+
+        // the prefab takes its own copy of the scene graph so the car we return can be used as normal.
+        putPrefab(type, VehiclePrefab.fromCar(car));
+
+        return car;
+    }
+
+    /**
+     * Returns the prefab of a car if it is in memory or on disk.
+     * @param app  the application used to load the prefab.
+     * @param type the type of car.
+     * @return the prefab, or null if the car has never been built.
+     */
+    public VehiclePrefab getPrefab(Application app, Class<? extends Car> type) {
+
+        String key = createKey(type);
+
+        VehiclePrefab prefab = prefabs.get(key);
+
+        if (prefab != null) {
+            return prefab;
+        }
+
+        Savable savable = diskCache.load(key, app.getAssetManager());
+
+        if (savable instanceof VehiclePrefab) {
+            prefab = (VehiclePrefab) savable;
+            prefabs.put(key, prefab);
+        }
+
+        return prefab;
+    }
+
+    /**
+     * Stores the prefab of a car in memory and on disk.
+     * @param type   the type of car.
+     * @param prefab the prefab of the car.
+     */
+    public void putPrefab(Class<? extends Car> type, VehiclePrefab prefab) {
+        String key = createKey(type);
+        diskCache.save(key, prefab);
+        prefabs.put(key, prefab);
+    }
+
+    public void clear() {
+        prefabs.clear();
+    }
+
+    /**
+     * Creates a car using its constructor, without using a prefab.
+     * @param app  the application the car belongs to.
+     * @param type the type of car. It must have a constructor that accepts an Application.
+     * @return a new car.
+     */
+    public static Car construct(Application app, Class<? extends Car> type) {
+
+        try {
+            return type.getConstructor(Application.class).newInstance(app);
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("Unable to create car: " + type.getName(), e);
+        }
+    }
+
+    private static String createKey(Class<? extends Car> type) {
+        return KEYS.computeIfAbsent(type, t -> "v" + VERSION + ":" + t.getName() + ":" + hashSources(t));
+    }
+
+    /**
+     * Hashes everything a car is built from: the compiled class of the car, the classes of the parts it uses, such as
+     * the engine, tyres and wheels, and the contents of the assets they load.
+     *
+     * The parts and assets are found by reading the constant pool of each class file. Classes are followed if they
+     * are in the same package tree as the car's package (e.g. examples.engines for examples.cars), and a string
+     * constant is treated as an asset if the class loader can find a resource of that name.
+     * @param type the type of car.
+     * @return the hash.
+     */
+    private static long hashSources(Class<? extends Car> type) {
+
+        ClassLoader classLoader = type.getClassLoader();
+        String packageName = type.getName().substring(0, type.getName().lastIndexOf('.'));
+        String root = packageName.substring(0, Math.max(0, packageName.lastIndexOf('.'))).replace('.', '/') + "/";
+
+        // sorted so the hash doesn't depend on the order things were found in.
+        Set<String> classes = new TreeSet<>();
+        Set<String> assets = new TreeSet<>();
+
+        Deque<String> pending = new ArrayDeque<>();
+        pending.add(type.getName().replace('.', '/'));
+
+        while (!pending.isEmpty()) {
+
+            String name = pending.poll();
+
+            if (!classes.add(name)) {
+                continue;
+            }
+
+            byte[] bytes = readResource(classLoader, name + ".class");
+
+            if (bytes == null) {
+                continue;
+            }
+
+            try {
+                readConstants(bytes, className -> {
+                    if (className.startsWith(root) && !classes.contains(className)) {
+                        pending.add(className);
+                    }
+                }, string -> {
+                    if (string.indexOf('/') > 0 && string.indexOf('.') > 0 && classLoader.getResource(string) != null) {
+                        assets.add(string);
+                    }
+                });
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Unable to read class file: " + name, e);
+            }
+        }
+
+        CRC32 crc = new CRC32();
+
+        for (String name : classes) {
+            update(crc, name, readResource(classLoader, name + ".class"));
+        }
+
+        for (String name : assets) {
+            update(crc, name, readResource(classLoader, name));
+        }
+
+        return crc.getValue();
+    }
+
+    private static void update(CRC32 crc, String name, byte[] bytes) {
+
+        crc.update(name.getBytes(StandardCharsets.UTF_8));
+
+        if (bytes != null) {
+            crc.update(bytes);
+        }
+    }
+
+    private static byte[] readResource(ClassLoader classLoader, String name) {
+
+        try (InputStream in = classLoader.getResourceAsStream(name)) {
+
+            if (in == null) {
+                return null;
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+
+            return out.toByteArray();
+
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Unable to read resource: " + name, e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the class and string constants of a class file.
+     * @param bytes    the class file.
+     * @param classes  receives the internal name of each class the file refers to.
+     * @param strings  receives each string literal in the file.
+     * @throws IOException if the class file is malformed.
+     */
+    private static void readConstants(byte[] bytes, Consumer<String> classes, Consumer<String> strings) throws IOException {
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file");
+        }
+
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+
+        int count = in.readUnsignedShort();
+        String[] utf8 = new String[count];
+        int[] classIndices = new int[count];
+        int[] stringIndices = new int[count];
+        int classCount = 0;
+        int stringCount = 0;
+
+        for (int i = 1; i < count; i++) {
+
+            int tag = in.readUnsignedByte();
+
+            switch (tag) {
+                case 1: utf8[i] = in.readUTF(); break;
+                case 7: classIndices[classCount++] = in.readUnsignedShort(); break;
+                case 8: stringIndices[stringCount++] = in.readUnsignedShort(); break;
+                case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18: in.skipBytes(4); break;
+                case 5: case 6: in.skipBytes(8); i++; break; // longs and doubles take two slots.
+                case 15: in.skipBytes(3); break;
+                case 16: case 19: case 20: in.skipBytes(2); break;
+                default: throw new IOException("Unknown constant pool tag: " + tag);
+            }
+        }
+
+        for (int i = 0; i < classCount; i++) {
+            String name = utf8[classIndices[i]];
+
+            // array types are written as descriptors, e.g. [Lcom/example/Part;
+            if (name != null && name.charAt(0) != '[') {
+                classes.accept(name);
+            }
+        }
+
+        for (int i = 0; i < stringCount; i++) {
+            if (utf8[stringIndices[i]] != null) {
+                strings.accept(utf8[stringIndices[i]]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,244 @@
+package com.jayfella.jme.vehicle.prefab;
+
+import com.jayfella.jme.vehicle.Car;
+import com.jayfella.jme.vehicle.part.Brake;
+import com.jayfella.jme.vehicle.part.Suspension;
+import com.jayfella.jme.vehicle.part.Wheel;
+import com.jayfella.jme.vehicle.tire.PajeckaTireModel;
+import com.jayfella.jme.vehicle.tire.TyreSettings;
+import com.jme3.bullet.objects.VehicleWheel;
+import com.jme3.export.InputCapsule;
+import com.jme3.export.JmeExporter;
+import com.jme3.export.JmeImporter;
+import com.jme3.export.OutputCapsule;
+import com.jme3.export.Savable;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Spatial;
+
+import java.io.IOException;
+
+/**
+ * The layout and parameters of a single wheel of a VehiclePrefab.
+ */
+public class WheelPrefab implements Savable {
+
+    private Spatial model;
+    private Vector3f connectionPoint;
+
+    private boolean steering;
+    private boolean steeringFlipped;
+    private float maxSteerAngle;
+
+    private float brakeStrength;
+    private float friction;
+    private float accelerationForce;
+
+    private float restLength;
+    private float stiffness;
+    private float maxForce;
+    private float compression;
+    private float dampness;
+
+    // the values the physics wheel ends up with. cars can set these on the VehicleWheel directly, so they are
+    // applied after the suspension rather than worked out from it.
+    private float radius;
+    private float rollInfluence;
+    private float maxSuspensionTravelCm;
+    private float maxSuspensionForce;
+    private float suspensionStiffness;
+    private float dampingCompression;
+    private float dampingRelaxation;
+
+    private String tyreName;
+    private float tyreMaxLoad;
+    private float[] lateral;
+    private float[] longitudinal;
+    private float[] alignMoment;
+
+    /**
+     * Used by the BinaryImporter.
+     */
+    public WheelPrefab() {
+
+    }
+
+    /**
+     * Records the current state of a wheel.
+     * @param wheel the wheel to record.
+     */
+    public WheelPrefab(Wheel wheel) {
+
+        this.model = wheel.getVehicleWheel().getWheelSpatial().clone(false);
+        this.connectionPoint = wheel.getVehicleWheel().getLocation().clone();
+
+        this.steering = wheel.isSteering();
+        this.steeringFlipped = wheel.isSteeringFlipped();
+        this.maxSteerAngle = wheel.getMaxSteerAngle();
+
+        this.brakeStrength = wheel.getBrake().getStrength();
+        this.friction = wheel.getFriction();
+        this.accelerationForce = wheel.getAccelerationForce();
+
+        Suspension suspension = wheel.getSuspension();
+        this.restLength = suspension.getRestLength();
+        this.stiffness = suspension.getStiffness();
+        this.maxForce = suspension.getMaxForce();
+        this.compression = suspension.getCompression();
+        this.dampness = suspension.getDampness();
+
+        VehicleWheel vehicleWheel = wheel.getVehicleWheel();
+        this.radius = vehicleWheel.getRadius();
+        this.rollInfluence = vehicleWheel.getRollInfluence();
+        this.maxSuspensionTravelCm = vehicleWheel.getMaxSuspensionTravelCm();
+        this.maxSuspensionForce = vehicleWheel.getMaxSuspensionForce();
+        this.suspensionStiffness = vehicleWheel.getSuspensionStiffness();
+        this.dampingCompression = vehicleWheel.getWheelsDampingCompression();
+        this.dampingRelaxation = vehicleWheel.getWheelsDampingRelaxation();
+
+        PajeckaTireModel tireModel = wheel.getTireModel();
+        this.tyreName = tireModel.getName();
+        this.tyreMaxLoad = tireModel.getMaxLoad();
+        this.lateral = toArray(tireModel.getLateral());
+        this.longitudinal = toArray(tireModel.getLongitudinal());
+        this.alignMoment = toArray(tireModel.getAlignMoment());
+    }
+
+    public Spatial getModel() {
+        return model;
+    }
+
+    public Vector3f getConnectionPoint() {
+        return connectionPoint;
+    }
+
+    public float getRestLength() {
+        return restLength;
+    }
+
+    /**
+     * Adds this wheel to a car. The wheel model shares its meshes and materials with the prefab.
+     * @param car the car to add the wheel to.
+     * @return the wheel that was added.
+     */
+    public Wheel addTo(Car car) {
+
+        Wheel wheel = car.addWheel(model.clone(false), connectionPoint.clone(), steering, steeringFlipped, new Brake(brakeStrength));
+
+        wheel.setMaxSteerAngle(maxSteerAngle);
+        wheel.setFriction(friction);
+        wheel.setAccelerationForce(accelerationForce);
+
+        Suspension suspension = wheel.getSuspension();
+        suspension.setRestLength(restLength);
+        suspension.setStiffness(stiffness);
+        suspension.setMaxForce(maxForce);
+        suspension.setCompression(compression);
+        suspension.setDampness(dampness);
+
+        VehicleWheel vehicleWheel = wheel.getVehicleWheel();
+        vehicleWheel.setRadius(radius);
+        vehicleWheel.setRollInfluence(rollInfluence);
+        vehicleWheel.setMaxSuspensionTravelCm(maxSuspensionTravelCm);
+        vehicleWheel.setMaxSuspensionForce(maxSuspensionForce);
+        vehicleWheel.setSuspensionStiffness(suspensionStiffness);
+        vehicleWheel.setWheelsDampingCompression(dampingCompression);
+        vehicleWheel.setWheelsDampingRelaxation(dampingRelaxation);
+
+        wheel.setTireModel(new PajeckaTireModel(tyreName,
+                toSettings(lateral),
+                toSettings(longitudinal),
+                toSettings(alignMoment),
+                tyreMaxLoad));
+
+        return wheel;
+    }
+
+    private static float[] toArray(TyreSettings settings) {
+        return new float[] {
+                settings.getSlipAngleCoefficientC(),
+                settings.getSlipAngleCoefficientB(),
+                settings.getSlipAngleCoefficientE(),
+                settings.getLoadCoefficientKA(),
+                settings.getLoadCoefficientKB()
+        };
+    }
+
+    private static TyreSettings toSettings(float[] values) {
+        return new TyreSettings(values[0], values[1], values[2], values[3], values[4]);
+    }
+
+    @Override
+    public void write(JmeExporter ex) throws IOException {
+
+        OutputCapsule capsule = ex.getCapsule(this);
+
+        capsule.write(model, "model", null);
+        capsule.write(connectionPoint, "connectionPoint", null);
+
+        capsule.write(steering, "steering", false);
+        capsule.write(steeringFlipped, "steeringFlipped", false);
+        capsule.write(maxSteerAngle, "maxSteerAngle", 0);
+
+        capsule.write(brakeStrength, "brakeStrength", 0);
+        capsule.write(friction, "friction", 1);
+        capsule.write(accelerationForce, "accelerationForce", 0);
+
+        capsule.write(restLength, "restLength", 0);
+        capsule.write(stiffness, "stiffness", 0);
+        capsule.write(maxForce, "maxForce", 0);
+        capsule.write(compression, "compression", 0);
+        capsule.write(dampness, "dampness", 0);
+
+        capsule.write(radius, "radius", 0);
+        capsule.write(rollInfluence, "rollInfluence", 0);
+        capsule.write(maxSuspensionTravelCm, "maxSuspensionTravelCm", 0);
+        capsule.write(maxSuspensionForce, "maxSuspensionForce", 0);
+        capsule.write(suspensionStiffness, "suspensionStiffness", 0);
+        capsule.write(dampingCompression, "dampingCompression", 0);
+        capsule.write(dampingRelaxation, "dampingRelaxation", 0);
+
+        capsule.write(tyreName, "tyreName", null);
+        capsule.write(tyreMaxLoad, "tyreMaxLoad", 0);
+        capsule.write(lateral, "lateral", null);
+        capsule.write(longitudinal, "longitudinal", null);
+        capsule.write(alignMoment, "alignMoment", null);
+    }
+
+    @Override
+    public void read(JmeImporter im) throws IOException {
+
+        InputCapsule capsule = im.getCapsule(this);
+
+        model = (Spatial) capsule.readSavable("model", null);
+        connectionPoint = (Vector3f) capsule.readSavable("connectionPoint", null);
+
+        steering = capsule.readBoolean("steering", false);
+        steeringFlipped = capsule.readBoolean("steeringFlipped", false);
+        maxSteerAngle = capsule.readFloat("maxSteerAngle", 0);
+
+        brakeStrength = capsule.readFloat("brakeStrength", 0);
+        friction = capsule.readFloat("friction", 1);
+        accelerationForce = capsule.readFloat("accelerationForce", 0);
+
+        restLength = capsule.readFloat("restLength", 0);
+        stiffness = capsule.readFloat("stiffness", 0);
+        maxForce = capsule.readFloat("maxForce", 0);
+        compression = capsule.readFloat("compression", 0);
+        dampness = capsule.readFloat("dampness", 0);
+
+        radius = capsule.readFloat("radius", 0);
+        rollInfluence = capsule.readFloat("rollInfluence", 0);
+        maxSuspensionTravelCm = capsule.readFloat("maxSuspensionTravelCm", 0);
+        maxSuspensionForce = capsule.readFloat("maxSuspensionForce", 0);
+        suspensionStiffness = capsule.readFloat("suspensionStiffness", 0);
+        dampingCompression = capsule.readFloat("dampingCompression", 0);
+        dampingRelaxation = capsule.readFloat("dampingRelaxation", 0);
+
+        tyreName = capsule.readString("tyreName", null);
+        tyreMaxLoad = capsule.readFloat("tyreMaxLoad", 0);
+        lateral = capsule.readFloatArray("lateral", null);
+        longitudinal = capsule.readFloatArray("longitudinal", null);
+        alignMoment = capsule.readFloatArray("alignMoment", null);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.jayfella.jme.vehicle.profiling;
+
+import com.jme3.renderer.RenderManager;
+import com.jme3.renderer.ViewPort;
+import com.jme3.scene.control.AbstractControl;
+
+/**
+ * Ends the frame of a profiler. Controls are updated after the app states each frame, so everything the states
+ * accumulated this frame is recorded together.
+ */
+public class ProfilerFrameControl extends AbstractControl {
+
+    private final VehicleProfiler profiler;
+
+    public ProfilerFrameControl(VehicleProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    protected void controlUpdate(float tpf) {
+        profiler.endFrame();
+    }
+
+    @Override
+    protected void controlRender(RenderManager rm, ViewPort vp) {
+
+    }
+
+}
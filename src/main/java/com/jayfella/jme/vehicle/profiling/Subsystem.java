@@ -0,0 +1,29 @@
+package com.jayfella.jme.vehicle.profiling;
+
+/**
+ * The parts of a vehicle that are timed by the VehicleProfiler.
+ */
+public enum Subsystem {
+
+    TYRE_MODEL("Tyre Model"),
+    GEARBOX("Gearbox"),
+    AUDIO("Audio"),
+    SKID_MARKS("Skid Marks"),
+    SMOKE("Smoke"),
+    WHEEL_SPIN("Wheel Spin"),
+    HUD("HUD"),
+
+    // the tick listeners of the vehicle parts, not the bullet step itself which is shared by every vehicle.
+    PHYSICS_TICK("Physics Tick");
+
+    private final String displayName;
+
+    Subsystem(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+}
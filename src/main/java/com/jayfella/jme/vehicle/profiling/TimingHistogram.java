@@ -0,0 +1,115 @@
+package com.jayfella.jme.vehicle.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds.
+ *
+ * Values are grouped into power-of-two ranges that are each split into 8 linear buckets, so any recorded value is
+ * reported within about 12% of its real value. Recording never allocates and may be done from any thread.
+ */
+public class TimingHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // anything longer than ~18 minutes is clamped. If a frame takes that long we have bigger problems.
+    private static final long MAX_VALUE = (1L << 40) - 1;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration.
+     * @param nanos the duration in nanoseconds.
+     */
+    public void record(long nanos) {
+
+        long value = Math.max(0, Math.min(nanos, MAX_VALUE));
+
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+
+        long currentMax = max.get();
+
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the duration that the given percentage of recorded values were equal to or less than.
+     * @param percentile the percentile in the range 0 - 100.
+     * @return the duration in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getPercentile(double percentile) {
+
+        // the counts are read individually, so the total is calculated from them rather than the total count.
+        long total = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(total * (percentile / 100.0)));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+
+            if (seen >= target) {
+                return Math.min(bucketUpperValue(i), getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    public void reset() {
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+
+        totalCount.set(0);
+        max.set(0);
+    }
+
+    private static int bucketIndex(long value) {
+
+        if (value < SUB_BUCKETS * 2) {
+            return (int) value;
+        }
+
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    private static long bucketUpperValue(int index) {
+
+        if (index < SUB_BUCKETS * 2) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKETS - 1;
+        long top = SUB_BUCKETS + index % SUB_BUCKETS;
+
+        return ((top + 1) << shift) - 1;
+    }
+
+}
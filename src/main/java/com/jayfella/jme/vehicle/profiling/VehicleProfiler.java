@@ -0,0 +1,71 @@
+package com.jayfella.jme.vehicle.profiling;
+
+/**
+ * Holds a timing histogram for each subsystem of a single vehicle.
+ */
+public class VehicleProfiler {
+
+    private final TimingHistogram[] histograms = new TimingHistogram[Subsystem.values().length];
+
+    // time added this frame by subsystems made of several parts, recorded as one sample at the end of the frame.
+    private final long[] frameNanos = new long[Subsystem.values().length];
+
+    public VehicleProfiler() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new TimingHistogram();
+        }
+    }
+
+    public TimingHistogram getHistogram(Subsystem subsystem) {
+        return histograms[subsystem.ordinal()];
+    }
+
+    /**
+     * Records the time taken by a subsystem.
+     * @param subsystem the subsystem that was timed.
+     * @param startNanos the value of System.nanoTime() when the work started.
+     */
+    public void record(Subsystem subsystem, long startNanos) {
+        histograms[subsystem.ordinal()].record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records the time taken by a subsystem whose work was split up, such as across the two halves of a tick.
+     * @param subsystem the subsystem that was timed.
+     * @param nanos     the total time taken in nanoseconds.
+     */
+    public void recordNanos(Subsystem subsystem, long nanos) {
+        histograms[subsystem.ordinal()].record(nanos);
+    }
+
+    /**
+     * Adds the time taken by one part of a subsystem to this frame, such as one gauge of the HUD. The parts are
+     * recorded as a single sample when the frame ends.
+     * @param subsystem the subsystem that was timed.
+     * @param startNanos the value of System.nanoTime() when the work started.
+     */
+    public void accumulate(Subsystem subsystem, long startNanos) {
+        frameNanos[subsystem.ordinal()] += System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Records the time accumulated by each subsystem this frame. Called once per frame by the ProfilerFrameControl.
+     */
+    public void endFrame() {
+
+        for (int i = 0; i < frameNanos.length; i++) {
+
+            if (frameNanos[i] > 0) {
+                histograms[i].record(frameNanos[i]);
+                frameNanos[i] = 0;
+            }
+        }
+    }
+
+    public void reset() {
+        for (TimingHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.jayfella.jme.vehicle.scheduler;
+
+import com.jayfella.jme.vehicle.profiling.TimingHistogram;
+import com.jme3.app.Application;
+import com.jme3.app.state.BaseAppState;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs work that doesn't need to finish in the frame that requested it.
+ *
+ * Work is submitted with a priority and run on the render thread within a per-frame time budget, so bursts of work
+ * are spread over several frames instead of causing a hitch. At least one task is run every frame so work always
+ * makes progress. Work that has waited longer than the starvation limit is run before higher priority work and is
+ * counted as starved.
+ *
+ * Work may be submitted from any thread.
+ */
+public class DeferredWorkState extends BaseAppState {
+
+    private static class DeferredTask {
+
+        private final Runnable runnable;
+        private final long submitFrame;
+
+        private DeferredTask(Runnable runnable, long submitFrame) {
+            this.runnable = runnable;
+            this.submitFrame = submitFrame;
+        }
+    }
+
+    private final Queue<DeferredTask>[] queues;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final TimingHistogram frameTimes = new TimingHistogram();
+
+    private float budgetMillis = 2.0f;
+    private int starvationFrames = 30;
+
+    private volatile long frame;
+
+    private long starvedCount;
+    private long maxWaitFrames;
+
+    @SuppressWarnings("unchecked")
+    public DeferredWorkState() {
+
+        queues = new Queue[WorkPriority.values().length];
+
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Submits work to be run on the render thread in a later frame.
+     * @param priority the priority of the work.
+     * @param runnable the work to run.
+     */
+    public void submit(WorkPriority priority, Runnable runnable) {
+        queues[priority.ordinal()].add(new DeferredTask(runnable, frame));
+        pendingCount.incrementAndGet();
+    }
+
+    public float getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    /**
+     * Sets the amount of time deferred work may take each frame.
+     * @param budgetMillis the budget in milliseconds.
+     */
+    public void setBudgetMillis(float budgetMillis) {
+        this.budgetMillis = budgetMillis;
+    }
+
+    public int getStarvationFrames() {
+        return starvationFrames;
+    }
+
+    /**
+     * Sets the amount of frames work may wait before it is considered starved and run ahead of higher priorities.
+     * @param starvationFrames the amount of frames.
+     */
+    public void setStarvationFrames(int starvationFrames) {
+        this.starvationFrames = starvationFrames;
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * The total amount of work that waited longer than the starvation limit.
+     * @return the amount of starved work.
+     */
+    public long getStarvedCount() {
+        return starvedCount;
+    }
+
+    /**
+     * The longest amount of frames any work has waited before it was run.
+     * @return the amount of frames.
+     */
+    public long getMaxWaitFrames() {
+        return maxWaitFrames;
+    }
+
+    /**
+     * The time spent running deferred work each frame.
+     * @return the histogram of frame times in nanoseconds.
+     */
+    public TimingHistogram getFrameTimes() {
+        return frameTimes;
+    }
+
+    @Override
+    protected void initialize(Application app) {
+
+    }
+
+    @Override
+    protected void cleanup(Application app) {
+
+    }
+
+    @Override
+    protected void onEnable() {
+
+    }
+
+    @Override
+    protected void onDisable() {
+
+    }
+
+    @Override
+    public void update(float tpf) {
+
+        frame++;
+
+        if (pendingCount.get() == 0) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        long budgetNanos = (long) (budgetMillis * 1_000_000);
+
+        do {
+
+            DeferredTask task = pollNext();
+
+            if (task == null) {
+                break;
+            }
+
+            pendingCount.decrementAndGet();
+
+            long waited = frame - task.submitFrame;
+            maxWaitFrames = Math.max(maxWaitFrames, waited);
+
+            if (waited > starvationFrames) {
+                starvedCount++;
+            }
+
+            try {
+                task.runnable.run();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+
+        } while (System.nanoTime() - start < budgetNanos);
+
+        frameTimes.record(System.nanoTime() - start);
+    }
+
+    private DeferredTask pollNext() {
+
+        // starved work goes first. only this thread polls, so the head we peek is the head we poll.
+        for (int i = queues.length - 1; i >= 0; i--) {
+            DeferredTask head = queues[i].peek();
+
+            if (head != null && frame - head.submitFrame > starvationFrames) {
+                return queues[i].poll();
+            }
+        }
+
+        for (Queue<DeferredTask> queue : queues) {
+            DeferredTask task = queue.poll();
+
+            if (task != null) {
+                return task;
+            }
+        }
+
+        return null;
+    }
+
+}
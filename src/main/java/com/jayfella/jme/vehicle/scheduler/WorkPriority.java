@@ -0,0 +1,24 @@
+package com.jayfella.jme.vehicle.scheduler;
+
+/**
+ * The priority of deferred work. Higher priorities are always run first unless lower priority work has been
+ * waiting long enough to be considered starved.
+ */
+public enum WorkPriority {
+
+    /**
+     * Work the player will notice if it's late, such as spawning the vehicle they selected.
+     */
+    HIGH,
+
+    /**
+     * Work that should happen soon, such as HUD text and skid mark uploads.
+     */
+    NORMAL,
+
+    /**
+     * Work that can wait, such as redrawing debug graphs.
+     */
+    LOW
+
+}
@@ -0,0 +1,329 @@
+package com.jayfella.jme.vehicle.shape;
+
+import com.jme3.bullet.collision.shapes.CollisionShape;
+import com.jme3.bullet.collision.shapes.CompoundCollisionShape;
+import com.jme3.bullet.collision.shapes.HullCollisionShape;
+import com.jme3.bullet.util.CollisionShapeFactory;
+import com.jme3.math.FastMath;
+import com.jme3.math.Transform;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Mesh;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+import com.jme3.scene.VertexBuffer;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Builds simplified collision shapes for a vehicle chassis.
+ *
+ * Vertices are gathered in the space of the chassis, including its scale but not its translation or rotation,
+ * the same as the CollisionShapeFactory. Hulls are reduced to the points that are furthest along a fixed set of
+ * directions, which keeps them small enough for bullet to collide with quickly.
+ */
+public final class ChassisShapeBuilder {
+
+    private static final Logger LOGGER = Logger.getLogger(ChassisShapeBuilder.class.getName());
+
+    public static final String PROXY_NAME = "collision";
+
+    // bullet recommends hulls of no more than 100 vertices.
+    private static final int MAX_HULL_POINTS = 100;
+
+    // vertices closer than this are merged.
+    private static final float WELD_DISTANCE = 0.01f;
+
+    private static final int SLAB_COUNT = 4;
+    private static final float SLAB_OVERLAP = 0.05f;
+
+    private static final Vector3f[] DIRECTIONS = createDirections(MAX_HULL_POINTS);
+
+    private ChassisShapeBuilder() {
+
+    }
+
+    public static CollisionShape build(Spatial chassis, ChassisShapeStrategy strategy) {
+
+        switch (strategy) {
+            case CONVEX_HULL: return createHull(gatherPoints(chassis, chassis));
+            case SLAB_HULLS: return createSlabHulls(gatherPoints(chassis, chassis));
+            case PROXY_MESH: return createProxyShape(chassis);
+            case DYNAMIC_MESH: return CollisionShapeFactory.createDynamicMeshShape(chassis);
+            default: throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+    }
+
+    /**
+     * Finds the collision proxy of a model.
+     * @param chassis the model to search.
+     * @return the proxy, or null if the model doesn't have one.
+     */
+    public static Spatial findProxy(Spatial chassis) {
+
+        if (!(chassis instanceof Node)) {
+            return null;
+        }
+
+        Spatial[] result = new Spatial[1];
+
+        chassis.breadthFirstTraversal(spatial -> {
+            if (result[0] == null && spatial != chassis && PROXY_NAME.equalsIgnoreCase(spatial.getName())) {
+                result[0] = spatial;
+            }
+        });
+
+        return result[0];
+    }
+
+    private static CollisionShape createProxyShape(Spatial chassis) {
+
+        Spatial proxy = findProxy(chassis);
+
+        if (proxy == null) {
+            LOGGER.warning("No collision proxy named '" + PROXY_NAME + "' found in " + chassis.getName() + ", using a convex hull.");
+            return createHull(gatherPoints(chassis, chassis));
+        }
+
+        CompoundCollisionShape compoundShape = new CompoundCollisionShape();
+
+        List<Geometry> geometries = new ArrayList<>();
+        proxy.depthFirstTraversal(spatial -> {
+            if (spatial instanceof Geometry) {
+                geometries.add((Geometry) spatial);
+            }
+        });
+
+        for (Geometry geometry : geometries) {
+            float[] points = gatherPoints(geometry, chassis);
+
+            if (points.length >= 12) {
+                compoundShape.addChildShape(createHull(points), Vector3f.ZERO);
+            }
+        }
+
+        return compoundShape;
+    }
+
+    private static CollisionShape createSlabHulls(float[] points) {
+
+        Vector3f min = new Vector3f(Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY);
+        Vector3f max = new Vector3f(Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY);
+
+        for (int i = 0; i < points.length; i += 3) {
+            min.set(Math.min(min.x, points[i]), Math.min(min.y, points[i + 1]), Math.min(min.z, points[i + 2]));
+            max.set(Math.max(max.x, points[i]), Math.max(max.y, points[i + 1]), Math.max(max.z, points[i + 2]));
+        }
+
+        // cut along the longest axis, which is the length of the vehicle.
+        Vector3f extent = max.subtract(min);
+        int axis = extent.x > extent.y ? (extent.x > extent.z ? 0 : 2) : (extent.y > extent.z ? 1 : 2);
+
+        float start = min.get(axis);
+        float width = extent.get(axis) / SLAB_COUNT;
+
+        CompoundCollisionShape compoundShape = new CompoundCollisionShape();
+
+        for (int slab = 0; slab < SLAB_COUNT; slab++) {
+
+            // overlap the slabs a little so there are no gaps between them.
+            float from = start + slab * width - SLAB_OVERLAP;
+            float to = start + (slab + 1) * width + SLAB_OVERLAP;
+
+            float[] slabPoints = new float[points.length];
+            int count = 0;
+
+            for (int i = 0; i < points.length; i += 3) {
+                float value = points[i + axis];
+
+                if (value >= from && value <= to) {
+                    slabPoints[count++] = points[i];
+                    slabPoints[count++] = points[i + 1];
+                    slabPoints[count++] = points[i + 2];
+                }
+            }
+
+            // a hull needs at least 4 points.
+            if (count >= 12) {
+                float[] trimmed = new float[count];
+                System.arraycopy(slabPoints, 0, trimmed, 0, count);
+                compoundShape.addChildShape(createHull(trimmed), Vector3f.ZERO);
+            }
+        }
+
+        return compoundShape;
+    }
+
+    private static HullCollisionShape createHull(float[] points) {
+        return new HullCollisionShape(reduce(points));
+    }
+
+    /**
+     * Reduces a point cloud to the points furthest along each of a fixed set of directions.
+     * Every point returned is on the convex hull of the input.
+     */
+    private static float[] reduce(float[] points) {
+
+        int pointCount = points.length / 3;
+
+        if (pointCount <= MAX_HULL_POINTS) {
+            return points;
+        }
+
+        Set<Integer> selected = new HashSet<>();
+
+        for (Vector3f dir : DIRECTIONS) {
+
+            int best = 0;
+            float bestDot = Float.NEGATIVE_INFINITY;
+
+            for (int i = 0; i < pointCount; i++) {
+                float dot = points[i * 3] * dir.x + points[i * 3 + 1] * dir.y + points[i * 3 + 2] * dir.z;
+
+                if (dot > bestDot) {
+                    bestDot = dot;
+                    best = i;
+                }
+            }
+
+            selected.add(best);
+        }
+
+        float[] result = new float[selected.size() * 3];
+        int index = 0;
+
+        for (int i : selected) {
+            result[index++] = points[i * 3];
+            result[index++] = points[i * 3 + 1];
+            result[index++] = points[i * 3 + 2];
+        }
+
+        return result;
+    }
+
+    /**
+     * Gathers the vertices of every geometry in the given spatial, welding any that are very close together.
+     * @param spatial the spatial to gather vertices from.
+     * @param chassis the root of the chassis, whose space the vertices are returned in.
+     * @return the vertices as x, y, z triplets.
+     */
+    private static float[] gatherPoints(Spatial spatial, Spatial chassis) {
+
+        Spatial proxy = findProxy(chassis);
+
+        List<Float> points = new ArrayList<>();
+        Set<Long> welded = new HashSet<>();
+
+        Vector3f vertex = new Vector3f();
+
+        spatial.depthFirstTraversal(child -> {
+
+            if (!(child instanceof Geometry)) {
+                return;
+            }
+
+            // the proxy is never part of the hull of the visual model.
+            if (proxy != null && !isDescendant(spatial, proxy) && isDescendant(child, proxy)) {
+                return;
+            }
+
+            Mesh mesh = ((Geometry) child).getMesh();
+            FloatBuffer positions = mesh.getFloatBuffer(VertexBuffer.Type.Position);
+
+            if (positions == null) {
+                return;
+            }
+
+            Transform transform = getTransform(child, chassis);
+
+            for (int i = 0; i < mesh.getVertexCount(); i++) {
+
+                vertex.set(positions.get(i * 3), positions.get(i * 3 + 1), positions.get(i * 3 + 2));
+                transform.transformVector(vertex, vertex);
+
+                if (welded.add(quantize(vertex))) {
+                    points.add(vertex.x);
+                    points.add(vertex.y);
+                    points.add(vertex.z);
+                }
+            }
+
+        });
+
+        float[] result = new float[points.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = points.get(i);
+        }
+
+        return result;
+    }
+
+    private static boolean isDescendant(Spatial spatial, Spatial ancestor) {
+
+        for (Spatial parent = spatial; parent != null; parent = parent.getParent()) {
+            if (parent == ancestor) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * The transform of a spatial relative to the chassis. Only the scale of the chassis is applied.
+     */
+    private static Transform getTransform(Spatial spatial, Spatial chassis) {
+
+        Transform transform = new Transform();
+
+        for (Spatial current = spatial; current != null; current = current.getParent()) {
+
+            if (current == chassis) {
+                Transform scale = new Transform();
+                scale.setScale(chassis.getLocalScale());
+                transform.combineWithParent(scale);
+                break;
+            }
+
+            transform.combineWithParent(current.getLocalTransform());
+        }
+
+        return transform;
+    }
+
+    private static long quantize(Vector3f vertex) {
+
+        long x = Math.round(vertex.x / WELD_DISTANCE) & 0x1FFFFF;
+        long y = Math.round(vertex.y / WELD_DISTANCE) & 0x1FFFFF;
+        long z = Math.round(vertex.z / WELD_DISTANCE) & 0x1FFFFF;
+
+        return x | (y << 21) | (z << 42);
+    }
+
+    /**
+     * Evenly spread directions over a sphere using the golden angle.
+     */
+    private static Vector3f[] createDirections(int count) {
+
+        Vector3f[] directions = new Vector3f[count];
+        float goldenAngle = FastMath.PI * (3 - FastMath.sqrt(5));
+
+        for (int i = 0; i < count; i++) {
+
+            float y = 1 - (i / (float) (count - 1)) * 2;
+            float radius = FastMath.sqrt(1 - y * y);
+            float theta = goldenAngle * i;
+
+            directions[i] = new Vector3f(FastMath.cos(theta) * radius, y, FastMath.sin(theta) * radius);
+        }
+
+        return directions;
+    }
+
+}
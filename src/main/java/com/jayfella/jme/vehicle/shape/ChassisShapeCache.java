@@ -0,0 +1,103 @@
+package com.jayfella.jme.vehicle.shape;
+
+import com.jayfella.jme.vehicle.cache.DiskCache;
+import com.jayfella.jme.vehicle.cache.MeshHash;
+import com.jme3.asset.AssetKey;
+import com.jme3.asset.AssetManager;
+import com.jme3.bullet.collision.shapes.CollisionShape;
+import com.jme3.export.Savable;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Spatial;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches chassis collision shapes in memory and on disk so they are only built once per model.
+ *
+ * Shapes are keyed on the asset the chassis was loaded from, a hash of its meshes, the strategy used and the scale of
+ * the chassis, so a model that is edited on disk gets a new shape. A chassis that wasn't loaded from an asset can't
+ * be identified, so its shape is built every time.
+ */
+public class ChassisShapeCache {
+
+    // change this when the way shapes are built changes so old shapes on disk are no longer used.
+    private static final int VERSION = 1;
+
+    private static final ChassisShapeCache INSTANCE = new ChassisShapeCache(new DiskCache(new File("cache", "chassis-shapes")));
+
+    public static ChassisShapeCache getInstance() {
+        return INSTANCE;
+    }
+
+    private final DiskCache diskCache;
+    private final Map<String, CollisionShape> shapes = new ConcurrentHashMap<>();
+
+    public ChassisShapeCache(DiskCache diskCache) {
+        this.diskCache = diskCache;
+    }
+
+    /**
+     * Returns the collision shape of a chassis, building it if it hasn't been built before.
+     * Shapes are shared between every vehicle that uses the same model, so they must not be modified.
+     * @param assetManager the asset manager used to read shapes from disk.
+     * @param chassis      the chassis model, with its scale already set.
+     * @param strategy     how the shape should be built.
+     * @return the collision shape of the chassis.
+     */
+    public CollisionShape getShape(AssetManager assetManager, Spatial chassis, ChassisShapeStrategy strategy) {
+
+        CollisionShape shape = getShape(assetManager, chassis, strategy, chassis.getKey());
+
+        // the proxy is never rendered, even if the shape came from the cache.
+        if (strategy == ChassisShapeStrategy.PROXY_MESH) {
+
+            Spatial proxy = ChassisShapeBuilder.findProxy(chassis);
+
+            if (proxy != null) {
+                proxy.removeFromParent();
+            }
+        }
+
+        return shape;
+    }
+
+    private CollisionShape getShape(AssetManager assetManager, Spatial chassis, ChassisShapeStrategy strategy, AssetKey<?> assetKey) {
+
+        if (assetKey == null) {
+            return ChassisShapeBuilder.build(chassis, strategy);
+        }
+
+        String key = createKey(assetKey, MeshHash.hash(chassis), strategy, chassis.getLocalScale());
+
+        CollisionShape shape = shapes.get(key);
+
+        if (shape != null) {
+            return shape;
+        }
+
+        Savable savable = diskCache.load(key, assetManager);
+
+        if (savable instanceof CollisionShape) {
+            shape = (CollisionShape) savable;
+        }
+        else {
+            shape = ChassisShapeBuilder.build(chassis, strategy);
+            diskCache.save(key, shape);
+        }
+
+        shapes.put(key, shape);
+        return shape;
+    }
+
+    public void clear() {
+        shapes.clear();
+    }
+
+    private static String createKey(AssetKey<?> assetKey, int meshHash, ChassisShapeStrategy strategy, Vector3f scale) {
+        return "v" + VERSION + ":" + assetKey.getName() + ":" + Integer.toHexString(meshHash) + ":" + strategy + ":"
+                + scale.x + "," + scale.y + "," + scale.z;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.jayfella.jme.vehicle.shape;
+
+/**
+ * How the collision shape of a vehicle chassis is created from its model.
+ */
+public enum ChassisShapeStrategy {
+
+    /**
+     * A single convex hull around the whole model. The cheapest shape to collide with.
+     */
+    CONVEX_HULL,
+
+    /**
+     * The model is cut into four equal slabs along its length and each slab is wrapped in a convex hull. This follows
+     * the profile of the body, such as an open cab or a spoiler, more closely than a single hull. It is a fixed cut,
+     * not a convex decomposition, so concave parts within a slab are still filled in.
+     */
+    SLAB_HULLS,
+
+    /**
+     * A low detail mesh supplied by the author as a child of the model named "collision". Each geometry of the proxy
+     * is wrapped in a convex hull and the proxy is removed from the rendered model. If the model has no proxy a single
+     * convex hull is used instead.
+     */
+    PROXY_MESH,
+
+    /**
+     * A hull around every geometry of the model, as created by the CollisionShapeFactory.
+     * This is slow to build and slow to collide with on detailed models. It is the default, since the other
+     * strategies change the shape the car collides with and so how it handles.
+     */
+    DYNAMIC_MESH
+
+}
@@ -1,5 +1,8 @@
 package com.jayfella.jme.vehicle.skid;
 
+import com.jayfella.jme.vehicle.metrics.MeshMemory;
+import com.jayfella.jme.vehicle.metrics.SkidMeshUploadEvent;
+import com.jayfella.jme.vehicle.metrics.VehicleEvents;
 import com.jme3.asset.AssetManager;
 import com.jme3.material.Material;
 import com.jme3.math.ColorRGBA;
@@ -41,6 +44,7 @@ public class SkidMarkManager {
     }
 
     int markIndex;
+    int sectionsInUse;
     MarkSection[] skidmarks;
     Mesh marksMesh;
     // MeshRenderer mr;
@@ -100,10 +104,24 @@ public class SkidMarkManager {
         return geometry;
     }
 
+    public Mesh getMesh() {
+        return marksMesh;
+    }
+
+    /**
+     * The number of sections that have been used. This only goes up until the buffer wraps around.
+     * @return the number of sections in use.
+     */
+    public int getSectionsInUse() {
+        return sectionsInUse;
+    }
+
     protected void update() {
         if (!meshUpdated) return;
         meshUpdated = false;
 
+        SkidMeshUploadEvent uploadEvent = VehicleEvents.beginSkidMeshUpload();
+
         // Reassign the mesh if it's changed this frame
         // marksMesh.vertices = vertices;
         // marksMesh.normals = normals;
@@ -140,6 +158,8 @@ public class SkidMarkManager {
 
         geometry.updateModelBound();
 
+        VehicleEvents.endSkidMeshUpload(uploadEvent, sectionsInUse, MeshMemory.sizeOf(marksMesh));
+
         if (!haveSetBounds) {
             // Could use RecalculateBounds here each frame instead, but it uses about 0.1-0.2ms each time
             // Save time by just making the mesh bounds huge, so the skidmarks will always draw
@@ -200,6 +220,7 @@ public class SkidMarkManager {
         int curIndex = markIndex;
         // Update circular index
         markIndex = ++markIndex % MAX_MARKS;
+        sectionsInUse = Math.min(sectionsInUse + 1, MAX_MARKS);
 
         return curIndex;
     }
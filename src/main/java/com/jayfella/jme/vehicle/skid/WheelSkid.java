@@ -43,7 +43,20 @@ public class WheelSkid {
             lastSkid = -1;
         }
 
+    }
+
+    /**
+     * Whether or not skid marks have been added since the mesh was last updated.
+     * @return true if the mesh needs to be updated.
+     */
+    public boolean isMeshUpdateNeeded() {
+        return manager.meshUpdated;
+    }
 
+    /**
+     * Uploads any skid marks that have been added to the mesh.
+     */
+    public void updateMesh() {
         manager.update();
     }
 
@@ -0,0 +1,119 @@
+package com.jayfella.jme.vehicle.telemetry;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A preallocated ring buffer of telemetry samples. Each channel is stored in its own primitive array so sampling
+ * a row never allocates. A single thread writes samples, any number of threads may read rows that have been committed.
+ */
+public class TelemetryBuffer {
+
+    private final String[] channelNames;
+    private final int capacity;
+
+    private final long[] ticks;
+    private final float[][] samples;
+
+    // the number of rows committed since the buffer was created.
+    private volatile long rowCount;
+
+    public TelemetryBuffer(String[] channelNames, int capacity) {
+        this.channelNames = channelNames.clone();
+        this.capacity = capacity;
+
+        this.ticks = new long[capacity];
+        this.samples = new float[channelNames.length][capacity];
+    }
+
+    public int getChannelCount() {
+        return channelNames.length;
+    }
+
+    public String getChannelName(int channel) {
+        return channelNames[channel];
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * The total amount of rows committed. Only the last {@link #getCapacity()} rows are retained.
+     * @return the total amount of rows committed.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * The oldest row that is still held in the buffer.
+     * @return the oldest row that can be read.
+     */
+    public long getOldestRow() {
+        return Math.max(0, rowCount - capacity);
+    }
+
+    /**
+     * Sets the value of a channel in the row that is currently being written.
+     * @param channel the channel index.
+     * @param value   the sampled value.
+     */
+    public void set(int channel, float value) {
+        samples[channel][(int) (rowCount % capacity)] = value;
+    }
+
+    /**
+     * Commits the row that is currently being written and moves on to the next row.
+     * @param tick the physics tick the row was sampled at.
+     */
+    public void commit(long tick) {
+        ticks[(int) (rowCount % capacity)] = tick;
+        rowCount = rowCount + 1;
+    }
+
+    public long getTick(long row) {
+        return ticks[(int) (row % capacity)];
+    }
+
+    public float get(int channel, long row) {
+        return samples[channel][(int) (row % capacity)];
+    }
+
+    public void clear() {
+        rowCount = 0;
+    }
+
+    /**
+     * Writes every row still held in the buffer as comma separated values, oldest first.
+     * @param writer the writer to write to.
+     * @throws IOException if the writer could not be written to.
+     */
+    public void writeCsv(Writer writer) throws IOException {
+
+        writer.write("tick");
+
+        for (String channelName : channelNames) {
+            writer.write(',');
+            writer.write(channelName);
+        }
+
+        writer.write(System.lineSeparator());
+
+        long end = rowCount;
+
+        for (long row = Math.max(0, end - capacity); row < end; row++) {
+
+            writer.write(Long.toString(getTick(row)));
+
+            for (int channel = 0; channel < channelNames.length; channel++) {
+                writer.write(',');
+                writer.write(Float.toString(get(channel, row)));
+            }
+
+            writer.write(System.lineSeparator());
+        }
+
+    }
+
+}
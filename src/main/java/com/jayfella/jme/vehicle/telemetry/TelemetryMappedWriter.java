@@ -0,0 +1,214 @@
+package com.jayfella.jme.vehicle.telemetry;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies the rows of a TelemetryBuffer into a memory-mapped file on a background thread.
+ *
+ * The file is a ring of the same capacity as the buffer so it never grows. All values are little-endian.
+ *
+ * <pre>
+ * int    magic          'VTLM'
+ * int    version
+ * int    channelCount
+ * int    capacity       rows held in the file
+ * long   rowCount       total rows flushed, updated after the rows it covers are written
+ * int    dataOffset     the offset of the first row
+ * int    rowSize        16 + channelCount * 4, rounded up to a multiple of 8
+ * ...    channel names  short length followed by UTF-8 bytes
+ * ...    rows           long sequence, long tick, then a float per channel. row n is stored at n % capacity
+ * </pre>
+ *
+ * Once the ring wraps, a row can be overwritten while a reader is reading it, so each row carries a sequence number.
+ * The writer sets it to -1, writes the row, then sets it to the row number n. A reader reads the sequence, then the
+ * row, then the sequence again, and only keeps the row if both reads returned n.
+ */
+public class TelemetryMappedWriter implements Closeable {
+
+    public static final int MAGIC = 0x4d4c5456; // "VTLM" when read little-endian.
+    public static final int VERSION = 2;
+
+    private static final int ROW_COUNT_OFFSET = 16;
+
+    // the sequences need ordered stores, which a plain put on a mapped buffer doesn't give.
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final TelemetryBuffer buffer;
+    private final File file;
+
+    private final RandomAccessFile randomAccessFile;
+    private final MappedByteBuffer mappedBuffer;
+
+    private final int dataOffset;
+    private final int rowSize;
+
+    private long flushedRows;
+    private long droppedRows;
+
+    private ScheduledExecutorService executor;
+
+    public TelemetryMappedWriter(TelemetryBuffer buffer, File file) throws IOException {
+        this.buffer = buffer;
+        this.file = file;
+
+        int channelCount = buffer.getChannelCount();
+
+        byte[][] names = new byte[channelCount][];
+        int namesSize = 0;
+
+        for (int i = 0; i < channelCount; i++) {
+            names[i] = buffer.getChannelName(i).getBytes(StandardCharsets.UTF_8);
+            namesSize += 2 + names[i].length;
+        }
+
+        // keep the rows aligned to 8 bytes so the sequences can be written atomically.
+        int headerSize = 32 + namesSize;
+        this.dataOffset = (headerSize + 7) & ~7;
+        this.rowSize = (16 + channelCount * 4 + 7) & ~7;
+
+        long fileSize = dataOffset + (long) rowSize * buffer.getCapacity();
+
+        randomAccessFile = new RandomAccessFile(file, "rw");
+        randomAccessFile.setLength(fileSize);
+
+        mappedBuffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        mappedBuffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        mappedBuffer.putInt(0, MAGIC);
+        mappedBuffer.putInt(4, VERSION);
+        mappedBuffer.putInt(8, channelCount);
+        mappedBuffer.putInt(12, buffer.getCapacity());
+        mappedBuffer.putLong(ROW_COUNT_OFFSET, 0);
+        mappedBuffer.putInt(24, dataOffset);
+        mappedBuffer.putInt(28, rowSize);
+
+        int position = 32;
+
+        for (byte[] name : names) {
+            mappedBuffer.putShort(position, (short) name.length);
+            position += 2;
+
+            for (byte b : name) {
+                mappedBuffer.put(position++, b);
+            }
+        }
+
+        // no row has been written yet, and a zeroed row would otherwise look like row 0.
+        for (int row = 0; row < buffer.getCapacity(); row++) {
+            mappedBuffer.putLong(dataOffset + row * rowSize, -1L);
+        }
+
+        flushedRows = buffer.getRowCount();
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * The amount of rows that were overwritten in the buffer before they could be flushed.
+     * @return the amount of rows lost.
+     */
+    public long getDroppedRows() {
+        return droppedRows;
+    }
+
+    /**
+     * Starts flushing the buffer periodically on a background thread.
+     * @param periodMillis the time between flushes in milliseconds.
+     */
+    public void start(long periodMillis) {
+
+        if (executor != null) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Telemetry Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        executor.scheduleAtFixedRate(this::flush, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Copies every row committed since the last flush into the file.
+     */
+    public synchronized void flush() {
+
+        long rowCount = buffer.getRowCount();
+
+        // the recorder lapped us, skip the rows that have been overwritten.
+        long oldest = rowCount - buffer.getCapacity();
+
+        if (flushedRows < oldest) {
+            droppedRows += oldest - flushedRows;
+            flushedRows = oldest;
+        }
+
+        if (flushedRows == rowCount) {
+            return;
+        }
+
+        int channelCount = buffer.getChannelCount();
+        int capacity = buffer.getCapacity();
+
+        for (long row = flushedRows; row < rowCount; row++) {
+
+            int rowOffset = dataOffset + (int) (row % capacity) * rowSize;
+
+            // mark the row as being written before any of it changes.
+            LONGS.setOpaque(mappedBuffer, rowOffset, -1L);
+            VarHandle.storeStoreFence();
+
+            int position = rowOffset + 8;
+
+            mappedBuffer.putLong(position, buffer.getTick(row));
+            position += 8;
+
+            for (int channel = 0; channel < channelCount; channel++) {
+                mappedBuffer.putFloat(position, buffer.get(channel, row));
+                position += 4;
+            }
+
+            LONGS.setRelease(mappedBuffer, rowOffset, row);
+        }
+
+        flushedRows = rowCount;
+        LONGS.setRelease(mappedBuffer, ROW_COUNT_OFFSET, flushedRows);
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (executor != null) {
+            executor.shutdown();
+
+            try {
+                executor.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            executor = null;
+        }
+
+        flush();
+        mappedBuffer.force();
+        randomAccessFile.close();
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.jayfella.jme.vehicle.telemetry;
+
+import com.jayfella.jme.vehicle.Car;
+import com.jayfella.jme.vehicle.part.Wheel;
+import com.jme3.app.Application;
+import com.jme3.app.state.BaseAppState;
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.PhysicsTickListener;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records the state of a vehicle every physics tick into a ring buffer.
+ * While enabled the buffer is flushed to a memory-mapped file on a background thread so the physics tick never waits
+ * on the disk. The buffer can be exported as CSV at any time.
+ */
+public class TelemetryRecorderState extends BaseAppState implements PhysicsTickListener {
+
+    private static final Logger LOGGER = Logger.getLogger(TelemetryRecorderState.class.getName());
+
+    // one minute at 60 ticks per second.
+    public static final int DEFAULT_CAPACITY = 60 * 60;
+
+    private static final long FLUSH_PERIOD_MILLIS = 100;
+
+    private static final int SPEED = 0;
+    private static final int REVS = 1;
+    private static final int GEAR = 2;
+    private static final int WHEEL_START = 3;
+
+    private static final int LATERAL_SLIP = 0;
+    private static final int LONGITUDINAL_SLIP = 1;
+    private static final int FRICTION = 2;
+    private static final int SKID = 3;
+    private static final int COMPRESSION = 4;
+    private static final int LOAD = 5;
+    private static final int WHEEL_CHANNELS = 6;
+
+    private final Car vehicle;
+    private final int capacity;
+    private final File outputFile;
+
+    private TelemetryBuffer buffer;
+    private TelemetryMappedWriter writer;
+
+    private PhysicsSpace physicsSpace;
+    private long tick;
+
+    public TelemetryRecorderState(Car vehicle) {
+        this(vehicle, DEFAULT_CAPACITY, new File("telemetry-" + System.currentTimeMillis() + ".bin"));
+    }
+
+    public TelemetryRecorderState(Car vehicle, int capacity, File outputFile) {
+        this.vehicle = vehicle;
+        this.capacity = capacity;
+        this.outputFile = outputFile;
+    }
+
+    public TelemetryBuffer getBuffer() {
+        return buffer;
+    }
+
+    public File getOutputFile() {
+        return outputFile;
+    }
+
+    @Override
+    protected void initialize(Application app) {
+
+        int wheelCount = vehicle.getNumWheels();
+
+        String[] channelNames = new String[WHEEL_START + wheelCount * WHEEL_CHANNELS];
+
+        channelNames[SPEED] = "speed";
+        channelNames[REVS] = "engine.revs";
+        channelNames[GEAR] = "gearbox.activeGear";
+
+        for (int i = 0; i < wheelCount; i++) {
+
+            String prefix = "wheel[" + i + "].";
+            int start = WHEEL_START + i * WHEEL_CHANNELS;
+
+            channelNames[start + LATERAL_SLIP] = prefix + "lateralSlip";
+            channelNames[start + LONGITUDINAL_SLIP] = prefix + "longitudinalSlip";
+            channelNames[start + FRICTION] = prefix + "friction";
+            channelNames[start + SKID] = prefix + "skid";
+            channelNames[start + COMPRESSION] = prefix + "compression";
+            channelNames[start + LOAD] = prefix + "load";
+        }
+
+        buffer = new TelemetryBuffer(channelNames, capacity);
+    }
+
+    @Override
+    protected void cleanup(Application app) {
+
+    }
+
+    @Override
+    protected void onEnable() {
+
+        // every time we are enabled we start a new recording.
+        tick = 0;
+        buffer.clear();
+
+        try {
+            writer = new TelemetryMappedWriter(buffer, outputFile);
+            writer.start(FLUSH_PERIOD_MILLIS);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Unable to start recording telemetry to " + outputFile, e);
+            writer = null;
+        }
+
+        physicsSpace = vehicle.getVehicleControl().getPhysicsSpace();
+
+        if (physicsSpace != null) {
+            physicsSpace.addTickListener(this);
+        }
+    }
+
+    @Override
+    protected void onDisable() {
+
+        if (physicsSpace != null) {
+            physicsSpace.removeTickListener(this);
+            physicsSpace = null;
+        }
+
+        if (writer != null) {
+            try {
+                writer.close();
+
+                if (writer.getDroppedRows() > 0) {
+                    LOGGER.log(Level.WARNING, "Telemetry dropped {0} rows.", writer.getDroppedRows());
+                }
+
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Unable to close the telemetry recording " + outputFile, e);
+            }
+
+            writer = null;
+        }
+    }
+
+    /**
+     * Writes every row still held in the ring buffer to the given file as comma separated values.
+     * @param file the file to write to.
+     */
+    public void exportCsv(File file) {
+
+        if (buffer == null) {
+            return;
+        }
+
+        try (Writer csvWriter = new BufferedWriter(new FileWriter(file))) {
+            buffer.writeCsv(csvWriter);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Unable to export telemetry to " + file, e);
+        }
+    }
+
+    @Override
+    public void prePhysicsTick(PhysicsSpace space, float timeStep) {
+
+    }
+
+    @Override
+    public void physicsTick(PhysicsSpace space, float timeStep) {
+
+        buffer.set(SPEED, vehicle.getSpeed(Car.SpeedUnit.KMH));
+        buffer.set(REVS, vehicle.getEngine().getRevs());
+        buffer.set(GEAR, vehicle.getGearBox().getActiveGearNum());
+
+        for (int i = 0; i < vehicle.getNumWheels(); i++) {
+
+            Wheel wheel = vehicle.getWheel(i);
+            int start = WHEEL_START + i * WHEEL_CHANNELS;
+
+            buffer.set(start + LATERAL_SLIP, wheel.calculateLateralSlipAngle());
+            buffer.set(start + LONGITUDINAL_SLIP, wheel.calculateLongitudinalSlipAngle());
+            buffer.set(start + FRICTION, wheel.getFriction());
+            buffer.set(start + SKID, wheel.getVehicleWheel().getSkidInfo());
+            buffer.set(start + COMPRESSION, wheel.calculateSuspensionCompression());
+            buffer.set(start + LOAD, wheel.getTireModel().getLoad());
+        }
+
+        buffer.commit(tick++);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.jayfella.jme.vehicle.terrain;
+
+import com.jme3.math.Vector3f;
+
+/**
+ * Answers questions about the ground without casting rays into the physics space.
+ */
+public interface GroundQuery {
+
+    /**
+     * Checks whether a point lies over the ground.
+     * @param x the world x coordinate.
+     * @param z the world z coordinate.
+     * @return true if the ground covers the point.
+     */
+    boolean contains(float x, float z);
+
+    /**
+     * Gets the height of the ground.
+     * @param x the world x coordinate.
+     * @param z the world z coordinate.
+     * @return the world height of the ground, or NaN if the ground doesn't cover the point.
+     */
+    float getHeight(float x, float z);
+
+    /**
+     * Gets the normal of the ground.
+     * @param x     the world x coordinate.
+     * @param z     the world z coordinate.
+     * @param store where to store the normal, or null to create a new vector.
+     * @return the normal of the ground, or straight up if the ground doesn't cover the point.
+     */
+    Vector3f getNormal(float x, float z, Vector3f store);
+
+    /**
+     * Gets the height and the normal of the ground together. Queries that have to search for the ground, such as
+     * casting a ray, should override this to search once.
+     * @param x           the world x coordinate.
+     * @param z           the world z coordinate.
+     * @param normalStore where to store the normal. Set to straight up if the ground doesn't cover the point.
+     * @return the world height of the ground, or NaN if the ground doesn't cover the point.
+     */
+    default float sample(float x, float z, Vector3f normalStore) {
+        getNormal(x, z, normalStore);
+        return getHeight(x, z);
+    }
+
+}
@@ -0,0 +1,258 @@
+package com.jayfella.jme.vehicle.terrain;
+
+import com.jme3.asset.AssetManager;
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.collision.shapes.HeightfieldCollisionShape;
+import com.jme3.bullet.control.RigidBodyControl;
+import com.jme3.material.Material;
+import com.jme3.math.Vector3f;
+import com.jme3.renderer.Camera;
+import com.jme3.scene.Node;
+import com.jme3.terrain.geomipmap.TerrainLodControl;
+import com.jme3.terrain.geomipmap.TerrainQuad;
+import com.jme3.terrain.heightmap.AbstractHeightMap;
+import com.jme3.terrain.heightmap.ImageBasedHeightMap;
+import com.jme3.texture.Texture;
+
+/**
+ * A terrain built from a square heightmap.
+ *
+ * The terrain is drawn by a TerrainQuad and collides using a HeightfieldCollisionShape, which is far smaller than a
+ * mesh shape of the same ground and only tests the cells under a body. Heights and normals are read from a copy of
+ * the heightmap, so they can be queried from any thread.
+ *
+ * The terrain is centered on the location of its node. The node is expected to be attached to an unmoved parent,
+ * such as the root node, and must not be rotated or scaled.
+ */
+public class HeightfieldTerrain implements GroundQuery {
+
+    private static final int PATCH_SIZE = 65;
+
+    private final Node node;
+    private final TerrainQuad terrainQuad;
+    private final RigidBodyControl rigidBodyControl;
+
+    private final float[] heights;
+    private final int size;
+    private final Vector3f scale;
+
+    // the world location of the first height, updated when the terrain is moved.
+    private volatile float originX;
+    private volatile float originY;
+    private volatile float originZ;
+
+    /**
+     * Creates a terrain.
+     * @param name    the name of the terrain.
+     * @param heights the heights, row by row along the z axis. The size must be (2^n + 1) squared.
+     * @param scale   the distance between heights on the x and z axis, and the height multiplier on the y axis.
+     */
+    public HeightfieldTerrain(String name, float[] heights, Vector3f scale) {
+
+        this.size = (int) Math.sqrt(heights.length);
+
+        if (size * size != heights.length || Integer.bitCount(size - 1) != 1) {
+            throw new IllegalArgumentException("The heightmap must be (2^n + 1) squared: " + heights.length);
+        }
+
+        this.heights = heights.clone();
+        this.scale = scale.clone();
+
+        node = new Node(name);
+
+        terrainQuad = new TerrainQuad(name, Math.min(PATCH_SIZE, size), size, this.heights);
+        terrainQuad.setLocalScale(this.scale);
+        node.attachChild(terrainQuad);
+
+        // the collision shape is centered in the same way as the TerrainQuad.
+        rigidBodyControl = new RigidBodyControl(new HeightfieldCollisionShape(this.heights, this.scale), 0);
+        node.addControl(rigidBodyControl);
+
+        updateOrigin();
+    }
+
+    /**
+     * Creates a terrain from a greyscale image.
+     * @param assetManager the asset manager used to load the image.
+     * @param imagePath    the path of the image. The size must be 2^n + 1 pixels or 2^n pixels, which is padded.
+     * @param scale        the distance between heights on the x and z axis, and the height multiplier on the y axis.
+     * @return the terrain.
+     */
+    public static HeightfieldTerrain fromImage(AssetManager assetManager, String imagePath, Vector3f scale) {
+
+        Texture texture = assetManager.loadTexture(imagePath);
+
+        AbstractHeightMap heightMap = new ImageBasedHeightMap(texture.getImage());
+        heightMap.load();
+
+        float[] heights = heightMap.getHeightMap();
+        int size = heightMap.getSize();
+
+        // a 2^n image is padded by repeating the last row and column.
+        if (Integer.bitCount(size) == 1) {
+
+            float[] padded = new float[(size + 1) * (size + 1)];
+
+            for (int z = 0; z <= size; z++) {
+                for (int x = 0; x <= size; x++) {
+                    padded[z * (size + 1) + x] = heights[Math.min(z, size - 1) * size + Math.min(x, size - 1)];
+                }
+            }
+
+            heights = padded;
+        }
+
+        return new HeightfieldTerrain(imagePath, heights, scale);
+    }
+
+    public Node getNode() {
+        return node;
+    }
+
+    public TerrainQuad getTerrainQuad() {
+        return terrainQuad;
+    }
+
+    public RigidBodyControl getRigidBodyControl() {
+        return rigidBodyControl;
+    }
+
+    public void setMaterial(Material material) {
+        terrainQuad.setMaterial(material);
+    }
+
+    /**
+     * Adds level of detail to the terrain, based on the distance to the camera.
+     * @param camera the camera that views the terrain.
+     */
+    public void addLod(Camera camera) {
+        terrainQuad.addControl(new TerrainLodControl(terrainQuad, camera));
+    }
+
+    public void attach(Node parent, PhysicsSpace physicsSpace) {
+        parent.attachChild(node);
+        physicsSpace.add(rigidBodyControl);
+    }
+
+    public void detach(PhysicsSpace physicsSpace) {
+        physicsSpace.remove(rigidBodyControl);
+        node.removeFromParent();
+    }
+
+    /**
+     * Moves the terrain.
+     * @param location the world location of the center of the terrain.
+     */
+    public void setLocation(Vector3f location) {
+        node.setLocalTranslation(location);
+        rigidBodyControl.setPhysicsLocation(location);
+        updateOrigin();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public float getWidth() {
+        return (size - 1) * scale.x;
+    }
+
+    public float getLength() {
+        return (size - 1) * scale.z;
+    }
+
+    private void updateOrigin() {
+
+        Vector3f location = node.getLocalTranslation();
+        float halfSize = (size - 1) * 0.5f;
+
+        originX = location.x - halfSize * scale.x;
+        originY = location.y;
+        originZ = location.z - halfSize * scale.z;
+    }
+
+    @Override
+    public boolean contains(float x, float z) {
+
+        float gridX = (x - originX) / scale.x;
+        float gridZ = (z - originZ) / scale.z;
+
+        return gridX >= 0 && gridZ >= 0 && gridX <= size - 1 && gridZ <= size - 1;
+    }
+
+    @Override
+    public float getHeight(float x, float z) {
+
+        float gridX = (x - originX) / scale.x;
+        float gridZ = (z - originZ) / scale.z;
+
+        if (gridX < 0 || gridZ < 0 || gridX > size - 1 || gridZ > size - 1) {
+            return Float.NaN;
+        }
+
+        int col = Math.min((int) gridX, size - 2);
+        int row = Math.min((int) gridZ, size - 2);
+
+        float u = gridX - col;
+        float v = gridZ - row;
+
+        float topLeft = heights[row * size + col];
+        float topRight = heights[row * size + col + 1];
+        float bottomLeft = heights[(row + 1) * size + col];
+        float bottomRight = heights[(row + 1) * size + col + 1];
+
+        // each cell is split from top-right to bottom-left, the same as the terrain mesh and the collision shape.
+        float height;
+
+        if (u + v <= 1) {
+            height = topLeft + (topRight - topLeft) * u + (bottomLeft - topLeft) * v;
+        }
+        else {
+            height = bottomRight + (bottomLeft - bottomRight) * (1 - u) + (topRight - bottomRight) * (1 - v);
+        }
+
+        return originY + height * scale.y;
+    }
+
+    @Override
+    public Vector3f getNormal(float x, float z, Vector3f store) {
+
+        if (store == null) {
+            store = new Vector3f();
+        }
+
+        float gridX = (x - originX) / scale.x;
+        float gridZ = (z - originZ) / scale.z;
+
+        if (gridX < 0 || gridZ < 0 || gridX > size - 1 || gridZ > size - 1) {
+            return store.set(Vector3f.UNIT_Y);
+        }
+
+        int col = Math.min((int) gridX, size - 2);
+        int row = Math.min((int) gridZ, size - 2);
+
+        float u = gridX - col;
+        float v = gridZ - row;
+
+        float topLeft = heights[row * size + col] * scale.y;
+        float topRight = heights[row * size + col + 1] * scale.y;
+        float bottomLeft = heights[(row + 1) * size + col] * scale.y;
+        float bottomRight = heights[(row + 1) * size + col + 1] * scale.y;
+
+        // the slope of the triangle along x and z.
+        float dx;
+        float dz;
+
+        if (u + v <= 1) {
+            dx = (topRight - topLeft) / scale.x;
+            dz = (bottomLeft - topLeft) / scale.z;
+        }
+        else {
+            dx = (bottomRight - bottomLeft) / scale.x;
+            dz = (bottomRight - topRight) / scale.z;
+        }
+
+        return store.set(-dx, 1, -dz).normalizeLocal();
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.jayfella.jme.vehicle.terrain;
+
+import com.jme3.collision.CollisionResult;
+import com.jme3.collision.CollisionResults;
+import com.jme3.math.Ray;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Spatial;
+
+/**
+ * Answers ground queries by casting a ray down onto the meshes of a model, such as a track.
+ *
+ * The ray is tested against the bounding volume hierarchy jMonkey builds for each mesh, so a query only tests the
+ * triangles under the point. The results and ray are reused, so queries must only be made from the render thread.
+ */
+public class MeshGroundQuery implements GroundQuery {
+
+    private final Spatial ground;
+    private final float top;
+
+    private final Ray ray = new Ray();
+    private final CollisionResults results = new CollisionResults();
+
+    /**
+     * Creates a ground query over a model.
+     * @param ground the model to query. Its world transform must be up to date.
+     * @param top    the height rays are cast down from. Must be above the highest point of the ground.
+     */
+    public MeshGroundQuery(Spatial ground, float top) {
+        this.ground = ground;
+        this.top = top;
+
+        ray.getDirection().set(0, -1, 0);
+    }
+
+    private CollisionResult cast(float x, float z) {
+
+        ray.getOrigin().set(x, top, z);
+        ray.setLimit(Float.POSITIVE_INFINITY);
+
+        results.clear();
+        ground.collideWith(ray, results);
+
+        return results.size() > 0 ? results.getClosestCollision() : null;
+    }
+
+    @Override
+    public boolean contains(float x, float z) {
+        return cast(x, z) != null;
+    }
+
+    @Override
+    public float getHeight(float x, float z) {
+        CollisionResult result = cast(x, z);
+        return result == null ? Float.NaN : result.getContactPoint().y;
+    }
+
+    @Override
+    public Vector3f getNormal(float x, float z, Vector3f store) {
+
+        if (store == null) {
+            store = new Vector3f();
+        }
+
+        CollisionResult result = cast(x, z);
+
+        if (result == null || result.getContactNormal() == null) {
+            return store.set(Vector3f.UNIT_Y);
+        }
+
+        return store.set(result.getContactNormal());
+    }
+
+    @Override
+    public float sample(float x, float z, Vector3f normalStore) {
+
+        CollisionResult result = cast(x, z);
+
+        if (result == null) {
+            normalStore.set(Vector3f.UNIT_Y);
+            return Float.NaN;
+        }
+
+        if (result.getContactNormal() == null) {
+            normalStore.set(Vector3f.UNIT_Y);
+        }
+        else {
+            normalStore.set(result.getContactNormal());
+        }
+
+        return result.getContactPoint().y;
+    }
+
+}
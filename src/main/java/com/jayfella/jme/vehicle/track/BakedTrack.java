@@ -0,0 +1,55 @@
+package com.jayfella.jme.vehicle.track;
+
+import com.jme3.bullet.collision.shapes.CollisionShape;
+import com.jme3.export.InputCapsule;
+import com.jme3.export.JmeExporter;
+import com.jme3.export.JmeImporter;
+import com.jme3.export.OutputCapsule;
+import com.jme3.export.Savable;
+import com.jme3.scene.Node;
+
+import java.io.IOException;
+
+/**
+ * A track that has been batched and had its collision shape built, ready to be added to the scene.
+ */
+public class BakedTrack implements Savable {
+
+    private Node scene;
+    private CollisionShape collisionShape;
+
+    /**
+     * Used by the BinaryImporter.
+     */
+    public BakedTrack() {
+
+    }
+
+    public BakedTrack(Node scene, CollisionShape collisionShape) {
+        this.scene = scene;
+        this.collisionShape = collisionShape;
+    }
+
+    public Node getScene() {
+        return scene;
+    }
+
+    public CollisionShape getCollisionShape() {
+        return collisionShape;
+    }
+
+    @Override
+    public void write(JmeExporter ex) throws IOException {
+        OutputCapsule capsule = ex.getCapsule(this);
+        capsule.write(scene, "scene", null);
+        capsule.write(collisionShape, "collisionShape", null);
+    }
+
+    @Override
+    public void read(JmeImporter im) throws IOException {
+        InputCapsule capsule = im.getCapsule(this);
+        scene = (Node) capsule.readSavable("scene", null);
+        collisionShape = (CollisionShape) capsule.readSavable("collisionShape", null);
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.jayfella.jme.vehicle.track;
+
+/**
+ * Creates the tiles of a streamed track.
+ *
+ * Tiles are created on a background thread, so a source must not touch the scene. Tile (0, 0) covers the area from
+ * the world origin to (tileSize, tileSize) on the x and z axis, and the scene and collision shape of a tile are
+ * positioned relative to that corner.
+ */
+public interface TileSource {
+
+    /**
+     * Creates a tile.
+     * @param x the column of the tile.
+     * @param z the row of the tile.
+     * @return the tile, or null if the track has no tile there.
+     */
+    BakedTrack createTile(int x, int z);
+
+}
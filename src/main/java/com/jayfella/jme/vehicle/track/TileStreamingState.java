@@ -0,0 +1,326 @@
+package com.jayfella.jme.vehicle.track;
+
+import com.jayfella.jme.vehicle.scheduler.DeferredWorkState;
+import com.jayfella.jme.vehicle.scheduler.WorkPriority;
+import com.jme3.app.Application;
+import com.jme3.app.state.BaseAppState;
+import com.jme3.bullet.BulletAppState;
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.bullet.control.RigidBodyControl;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Streams the tiles of a track around a target, usually the player vehicle.
+ *
+ * Tiles within the load radius of the target are created on background threads, including their collision shapes.
+ * Finished tiles are added to the scene and the physics space a few at a time as deferred work, so a burst of tiles
+ * doesn't cause a hitch. Tiles are removed the same way once they are further away than the unload radius, which is
+ * larger than the load radius so a target driving along a tile edge doesn't load and unload the same tiles over and
+ * over.
+ */
+public class TileStreamingState extends BaseAppState {
+
+    private static class Tile {
+
+        private final int x;
+        private final int z;
+
+        private CompletableFuture<BakedTrack> future;
+        private Node scene;
+        private RigidBodyControl rigidBodyControl;
+
+        private boolean attached;
+
+        // read by the loading threads.
+        private volatile boolean removed;
+
+        private Tile(int x, int z) {
+            this.x = x;
+            this.z = z;
+        }
+    }
+
+    private final Node parent;
+    private final TileSource tileSource;
+    private final float tileSize;
+
+    // created when the state is initialized, so the state can be detached and attached again.
+    private ExecutorService executor;
+
+    private final Map<Long, Tile> tiles = new HashMap<>();
+
+    private Spatial target;
+
+    private int loadRadius = 2;
+    private int unloadRadius = 3;
+
+    private int centerX = Integer.MIN_VALUE;
+    private int centerZ = Integer.MIN_VALUE;
+
+    private PhysicsSpace physicsSpace;
+    private DeferredWorkState deferredWorkState;
+
+    /**
+     * Creates a tile streamer.
+     * @param parent     the node the tiles are attached to. It should not be moved.
+     * @param tileSource creates the tiles.
+     * @param tileSize   the width and length of a tile in world units.
+     */
+    public TileStreamingState(Node parent, TileSource tileSource, float tileSize) {
+        this.parent = parent;
+        this.tileSource = tileSource;
+        this.tileSize = tileSize;
+    }
+
+    public Spatial getTarget() {
+        return target;
+    }
+
+    /**
+     * Sets the spatial the tiles are streamed around.
+     * @param target the spatial to stream around, or null to keep the current tiles.
+     */
+    public void setTarget(Spatial target) {
+        this.target = target;
+    }
+
+    public int getLoadRadius() {
+        return loadRadius;
+    }
+
+    public int getUnloadRadius() {
+        return unloadRadius;
+    }
+
+    /**
+     * Sets how far tiles are streamed from the tile the target is on.
+     * @param loadRadius   the amount of tiles in each direction that are loaded.
+     * @param unloadRadius the amount of tiles in each direction that are kept. Must be at least the load radius.
+     */
+    public void setRadius(int loadRadius, int unloadRadius) {
+        this.loadRadius = loadRadius;
+        this.unloadRadius = Math.max(loadRadius, unloadRadius);
+
+        // refresh the tiles on the next update.
+        centerX = Integer.MIN_VALUE;
+    }
+
+    /**
+     * The amount of tiles that are loaded or loading.
+     * @return the amount of tiles.
+     */
+    public int getTileCount() {
+        return tiles.size();
+    }
+
+    public int getAttachedTileCount() {
+
+        int count = 0;
+
+        for (Tile tile : tiles.values()) {
+            if (tile.attached) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    protected void initialize(Application app) {
+        physicsSpace = getState(BulletAppState.class).getPhysicsSpace();
+        deferredWorkState = getState(DeferredWorkState.class);
+
+        executor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "Tile Streaming");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // load the tiles around the target on the next update.
+        centerX = Integer.MIN_VALUE;
+    }
+
+    @Override
+    protected void cleanup(Application app) {
+
+        // the state is going away, so the tiles are removed straight away instead of over the next few frames.
+        for (Tile tile : tiles.values()) {
+            cancelTile(tile);
+            detachTile(tile);
+        }
+
+        tiles.clear();
+        executor.shutdownNow();
+        executor = null;
+    }
+
+    @Override
+    protected void onEnable() {
+
+    }
+
+    @Override
+    protected void onDisable() {
+
+    }
+
+    @Override
+    public void update(float tpf) {
+
+        if (target == null) {
+            return;
+        }
+
+        Vector3f location = target.getWorldTranslation();
+
+        int x = (int) Math.floor(location.x / tileSize);
+        int z = (int) Math.floor(location.z / tileSize);
+
+        // the tiles only change when the target moves onto another tile.
+        if (x == centerX && z == centerZ) {
+            return;
+        }
+
+        centerX = x;
+        centerZ = z;
+
+        Iterator<Tile> iterator = tiles.values().iterator();
+
+        while (iterator.hasNext()) {
+            Tile tile = iterator.next();
+
+            if (Math.abs(tile.x - centerX) > unloadRadius || Math.abs(tile.z - centerZ) > unloadRadius) {
+                iterator.remove();
+                removeTile(tile);
+            }
+        }
+
+        // load the nearest tiles first.
+        List<Tile> missing = new ArrayList<>();
+
+        for (int tileZ = centerZ - loadRadius; tileZ <= centerZ + loadRadius; tileZ++) {
+            for (int tileX = centerX - loadRadius; tileX <= centerX + loadRadius; tileX++) {
+
+                if (!tiles.containsKey(getKey(tileX, tileZ))) {
+                    missing.add(new Tile(tileX, tileZ));
+                }
+            }
+        }
+
+        missing.sort((a, b) -> Integer.compare(getDistance(a), getDistance(b)));
+
+        for (Tile tile : missing) {
+            tiles.put(getKey(tile.x, tile.z), tile);
+            loadTile(tile);
+        }
+    }
+
+    private void loadTile(Tile tile) {
+
+        tile.future = CompletableFuture.supplyAsync(() -> {
+
+            // the tile may have been removed while it was waiting.
+            if (tile.removed) {
+                return null;
+            }
+
+            BakedTrack bakedTrack = tileSource.createTile(tile.x, tile.z);
+
+            if (bakedTrack != null) {
+                Vector3f location = new Vector3f(tile.x * tileSize, 0, tile.z * tileSize);
+
+                bakedTrack.getScene().setLocalTranslation(location);
+
+                RigidBodyControl rigidBodyControl = new RigidBodyControl(bakedTrack.getCollisionShape(), 0);
+                bakedTrack.getScene().addControl(rigidBodyControl);
+            }
+
+            return bakedTrack;
+
+        }, executor);
+
+        tile.future.whenComplete((bakedTrack, ex) -> {
+
+            if (ex != null) {
+
+                // removed tiles are cancelled, which isn't an error.
+                if (!tile.removed) {
+                    ex.printStackTrace();
+                }
+
+                return;
+            }
+
+            if (bakedTrack == null) {
+                return;
+            }
+
+            // adding a tile to the physics space rebuilds part of the broadphase, so tiles are added a few per frame.
+            deferredWorkState.submit(WorkPriority.NORMAL, () -> attachTile(tile, bakedTrack));
+        });
+    }
+
+    private void attachTile(Tile tile, BakedTrack bakedTrack) {
+
+        if (tile.removed || !isInitialized()) {
+            return;
+        }
+
+        tile.scene = bakedTrack.getScene();
+        tile.rigidBodyControl = tile.scene.getControl(RigidBodyControl.class);
+
+        parent.attachChild(tile.scene);
+        physicsSpace.add(tile.rigidBodyControl);
+
+        tile.attached = true;
+    }
+
+    private void removeTile(Tile tile) {
+
+        cancelTile(tile);
+
+        // removing a tile from the physics space rebuilds part of the broadphase too, so it is spread out the same way.
+        if (tile.attached) {
+            deferredWorkState.submit(WorkPriority.NORMAL, () -> detachTile(tile));
+        }
+    }
+
+    private void cancelTile(Tile tile) {
+
+        tile.removed = true;
+
+        if (tile.future != null) {
+            tile.future.cancel(false);
+        }
+    }
+
+    private void detachTile(Tile tile) {
+
+        if (tile.attached) {
+            physicsSpace.remove(tile.rigidBodyControl);
+            tile.scene.removeFromParent();
+            tile.attached = false;
+        }
+    }
+
+    private int getDistance(Tile tile) {
+        return Math.max(Math.abs(tile.x - centerX), Math.abs(tile.z - centerZ));
+    }
+
+    private static long getKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xffffffffL);
+    }
+
+}
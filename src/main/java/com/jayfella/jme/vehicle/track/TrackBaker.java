@@ -0,0 +1,51 @@
+package com.jayfella.jme.vehicle.track;
+
+import com.jme3.bullet.collision.shapes.CollisionShape;
+import com.jme3.bullet.util.CollisionShapeFactory;
+import com.jme3.renderer.queue.RenderQueue;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+import jme3tools.optimize.GeometryBatchFactory;
+
+/**
+ * Turns a track model into a BakedTrack.
+ *
+ * Static geometry is batched by material so the track is drawn with a handful of geometries instead of one per
+ * object. The collision shape is then built from the batched meshes, so each batch becomes one mesh shape.
+ */
+public final class TrackBaker {
+
+    private TrackBaker() {
+
+    }
+
+    /**
+     * Bakes a track. The model is modified, so it should not be used afterwards.
+     * @param track the track model, with its materials already set.
+     * @return the baked track.
+     */
+    public static BakedTrack bake(Spatial track) {
+
+        Node scene;
+
+        if (track instanceof Node) {
+            scene = (Node) track;
+        }
+        else {
+            scene = new Node(track.getName());
+            scene.attachChild(track);
+        }
+
+        // batching moves every geometry into the space of the root, with one geometry per material.
+        GeometryBatchFactory.optimize(scene);
+
+        // the whole track casts and receives, so it's only set once on the root.
+        scene.depthFirstTraversal(spatial -> spatial.setShadowMode(RenderQueue.ShadowMode.Inherit));
+        scene.setShadowMode(RenderQueue.ShadowMode.CastAndReceive);
+
+        CollisionShape collisionShape = CollisionShapeFactory.createMeshShape(scene);
+
+        return new BakedTrack(scene, collisionShape);
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.jayfella.jme.vehicle.track;
+
+import com.jayfella.jme.vehicle.cache.DiskCache;
+import com.jayfella.jme.vehicle.cache.MeshHash;
+import com.jme3.asset.AssetManager;
+import com.jme3.export.Savable;
+import com.jme3.scene.Spatial;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Stores baked tracks on disk so a track is only baked the first time it is loaded.
+ *
+ * The collision shape is saved with its BVH, so loading a baked track doesn't rebuild it.
+ * Tracks are keyed on their name and a hash of the source meshes, so a track model that is edited on disk is baked
+ * again. The source model is still loaded each time to hash it, but batching and building the shape are skipped.
+ */
+public class TrackCache {
+
+    // change this when the way tracks are baked changes so old tracks are no longer used.
+    private static final int VERSION = 1;
+
+    private static final TrackCache INSTANCE = new TrackCache(new DiskCache(new File("cache", "tracks")));
+
+    public static TrackCache getInstance() {
+        return INSTANCE;
+    }
+
+    private final DiskCache diskCache;
+
+    // the key each track was last loaded with, so it can be invalidated by name.
+    private final Map<String, String> keys = new ConcurrentHashMap<>();
+
+    public TrackCache(DiskCache diskCache) {
+        this.diskCache = diskCache;
+    }
+
+    /**
+     * Loads a baked track, baking it first if it isn't in the cache.
+     * @param assetManager the asset manager used to load the textures and materials of the track.
+     * @param name         the name of the track. Each track must have a different name.
+     * @param source       creates the track model. It is hashed to find the baked track and baked if it isn't found.
+     * @return the baked track.
+     */
+    public BakedTrack getTrack(AssetManager assetManager, String name, Supplier<Spatial> source) {
+
+        Spatial model = source.get();
+
+        String key = "v" + VERSION + ":" + name + ":" + Integer.toHexString(MeshHash.hash(model));
+        keys.put(name, key);
+
+        Savable savable = diskCache.load(key, assetManager);
+
+        if (savable instanceof BakedTrack) {
+            return (BakedTrack) savable;
+        }
+
+        BakedTrack track = TrackBaker.bake(model);
+        diskCache.save(key, track);
+
+        return track;
+    }
+
+    /**
+     * Removes a baked track from the cache so it is baked again the next time it is loaded.
+     * Only a track that has been loaded since the game started can be removed.
+     * @param name the name of the track.
+     */
+    public void invalidate(String name) {
+
+        String key = keys.remove(name);
+
+        if (key != null) {
+            diskCache.getFile(key).delete();
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.jayfella.jme.vehicle.traffic;
+
+import com.jme3.math.Vector3f;
+
+import java.util.List;
+
+/**
+ * A closed loop of waypoints on the ground that traffic drives around.
+ *
+ * Only the x and z coordinates are used. The height of a traffic vehicle always comes from the ground.
+ */
+public class TrafficPath {
+
+    private final float[] xs;
+    private final float[] zs;
+
+    // the distance along the path to the start of each segment, with the length of the loop at the end.
+    private final float[] distances;
+
+    public TrafficPath(List<Vector3f> waypoints) {
+
+        if (waypoints.size() < 2) {
+            throw new IllegalArgumentException("A path needs at least two waypoints.");
+        }
+
+        int count = waypoints.size();
+
+        xs = new float[count];
+        zs = new float[count];
+        distances = new float[count + 1];
+
+        for (int i = 0; i < count; i++) {
+            xs[i] = waypoints.get(i).x;
+            zs[i] = waypoints.get(i).z;
+        }
+
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            float dx = xs[next] - xs[i];
+            float dz = zs[next] - zs[i];
+            distances[i + 1] = distances[i] + (float) Math.sqrt(dx * dx + dz * dz);
+        }
+    }
+
+    public int getWaypointCount() {
+        return xs.length;
+    }
+
+    /**
+     * The length of the loop.
+     * @return the length in world units.
+     */
+    public float getLength() {
+        return distances[xs.length];
+    }
+
+    /**
+     * Wraps a distance into the loop.
+     * @param distance any distance along the path.
+     * @return the same point as a distance between zero and the length of the loop.
+     */
+    public float wrap(float distance) {
+
+        float length = getLength();
+        distance %= length;
+
+        return distance < 0 ? distance + length : distance;
+    }
+
+    /**
+     * Finds the segment a distance lies on. The search starts at a hint, so following a vehicle along the path by
+     * passing the segment it was last on is constant time.
+     * @param distance a distance between zero and the length of the loop.
+     * @param hint     the segment to start searching from.
+     * @return the index of the segment.
+     */
+    public int findSegment(float distance, int hint) {
+
+        int count = xs.length;
+        int segment = hint < 0 || hint >= count ? 0 : hint;
+
+        for (int i = 0; i < count; i++) {
+
+            if (distance >= distances[segment] && distance < distances[segment + 1]) {
+                return segment;
+            }
+
+            segment = (segment + 1) % count;
+        }
+
+        return count - 1;
+    }
+
+    /**
+     * Gets the point at a distance along the path.
+     * @param distance a distance between zero and the length of the loop.
+     * @param segment  the segment the distance lies on.
+     * @param store    where to store the point. Only x and z are set.
+     * @return the point.
+     */
+    public Vector3f getPoint(float distance, int segment, Vector3f store) {
+
+        int next = (segment + 1) % xs.length;
+        float segmentLength = distances[segment + 1] - distances[segment];
+        float t = segmentLength > 0 ? (distance - distances[segment]) / segmentLength : 0;
+
+        store.x = xs[segment] + (xs[next] - xs[segment]) * t;
+        store.z = zs[segment] + (zs[next] - zs[segment]) * t;
+
+        return store;
+    }
+
+    /**
+     * Finds the point on the path closest to a position, such as where a car that left the path rejoins it.
+     * @param x the world x coordinate.
+     * @param z the world z coordinate.
+     * @return the distance along the path of the closest point.
+     */
+    public float findDistance(float x, float z) {
+
+        int count = xs.length;
+
+        float closestDistance = 0;
+        float closestSquared = Float.MAX_VALUE;
+
+        for (int i = 0; i < count; i++) {
+
+            int next = (i + 1) % count;
+
+            float segmentX = xs[next] - xs[i];
+            float segmentZ = zs[next] - zs[i];
+            float lengthSquared = segmentX * segmentX + segmentZ * segmentZ;
+
+            float t = lengthSquared > 0 ? ((x - xs[i]) * segmentX + (z - zs[i]) * segmentZ) / lengthSquared : 0;
+            t = Math.max(0, Math.min(1, t));
+
+            float dx = xs[i] + segmentX * t - x;
+            float dz = zs[i] + segmentZ * t - z;
+            float distanceSquared = dx * dx + dz * dz;
+
+            if (distanceSquared < closestSquared) {
+                closestSquared = distanceSquared;
+                closestDistance = distances[i] + (distances[i + 1] - distances[i]) * t;
+            }
+        }
+
+        return wrap(closestDistance);
+    }
+
+}
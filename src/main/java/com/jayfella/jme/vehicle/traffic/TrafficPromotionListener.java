@@ -0,0 +1,26 @@
+package com.jayfella.jme.vehicle.traffic;
+
+import com.jayfella.jme.vehicle.Car;
+
+/**
+ * Notified when a traffic vehicle is replaced by a fully simulated car, and when the car is returned to the traffic.
+ */
+public interface TrafficPromotionListener {
+
+    /**
+     * Called after the car has been added to the scene in place of the traffic vehicle.
+     * @param trafficVehicle the traffic vehicle that was removed.
+     * @param car            the car that replaced it.
+     */
+    void vehiclePromoted(TrafficVehicle trafficVehicle, Car car);
+
+    /**
+     * Called after the car has been disposed and the traffic vehicle has taken its place again.
+     * @param car            the car that was removed. It can't be used any more.
+     * @param trafficVehicle the traffic vehicle that replaced it.
+     */
+    default void vehicleDemoted(Car car, TrafficVehicle trafficVehicle) {
+
+    }
+
+}
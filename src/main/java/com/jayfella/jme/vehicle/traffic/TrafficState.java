@@ -0,0 +1,606 @@
+package com.jayfella.jme.vehicle.traffic;
+
+import com.jayfella.jme.vehicle.Car;
+import com.jayfella.jme.vehicle.Vehicle;
+import com.jayfella.jme.vehicle.WheelInstancingState;
+import com.jayfella.jme.vehicle.part.GearBox;
+import com.jayfella.jme.vehicle.part.Wheel;
+import com.jayfella.jme.vehicle.terrain.GroundQuery;
+import com.jme3.app.Application;
+import com.jme3.app.state.BaseAppState;
+import com.jme3.bullet.BulletAppState;
+import com.jme3.bullet.PhysicsSpace;
+import com.jme3.math.FastMath;
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Drives background traffic along paths without bullet.
+ *
+ * Each vehicle follows its path with a kinematic bicycle model steered towards a point ahead of it on the path.
+ * The state of every vehicle is held in arrays indexed by slot, so updating the traffic is a single loop over
+ * primitives that doesn't allocate. Vehicles are placed on the ground using a ground query, such as a heightfield
+ * or a mesh, rather than casting rays into the physics space.
+ *
+ * A traffic vehicle is replaced by a full car built from its prefab when it comes within the promote distance of a
+ * focus, usually the player vehicle, or when it touches a focus or a promoted car. Traffic vehicles have no physics
+ * bodies, so they are promoted before anything can hit them and the collision happens between full cars. A promoted
+ * car is returned to the traffic once it is beyond the demote distance of every focus, so the amount of full cars
+ * stays bounded by what is near the focuses. Promotion builds a car, so only a few are promoted each frame.
+ */
+public class TrafficState extends BaseAppState {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Node parent;
+
+    private PhysicsSpace physicsSpace;
+    private WheelInstancingState instancingState;
+    private GroundQuery ground;
+
+    private final List<Spatial> focuses = new ArrayList<>();
+    private final List<TrafficPromotionListener> promotionListeners = new ArrayList<>();
+    private final List<Promotion> promotions = new ArrayList<>();
+
+    private float promoteDistance = 40;
+    private float demoteDistance = 60;
+    private float collisionDistance = 4;
+    private int maxPromotionsPerFrame = 1;
+
+    private float lookaheadTime = 0.8f;
+    private float minLookahead = 4;
+    private float maxSteerAngle = 0.6f;
+    private float acceleration = 3;
+    private float deceleration = 6;
+
+    // the state of each vehicle, indexed by slot.
+    private int count;
+    private TrafficVehicle[] vehicles = new TrafficVehicle[INITIAL_CAPACITY];
+    private TrafficPath[] paths = new TrafficPath[INITIAL_CAPACITY];
+    private int[] segments = new int[INITIAL_CAPACITY];
+    private float[] distances = new float[INITIAL_CAPACITY];
+    private float[] xs = new float[INITIAL_CAPACITY];
+    private float[] ys = new float[INITIAL_CAPACITY];
+    private float[] zs = new float[INITIAL_CAPACITY];
+    private float[] headings = new float[INITIAL_CAPACITY];
+    private float[] speeds = new float[INITIAL_CAPACITY];
+    private float[] targetSpeeds = new float[INITIAL_CAPACITY];
+
+    private final Vector3f tempTarget = new Vector3f();
+    private final Vector3f tempForward = new Vector3f();
+    private final Vector3f tempNormal = new Vector3f();
+    private final Quaternion tempRotation = new Quaternion();
+
+    /**
+     * Creates a traffic state.
+     * @param parent the node the traffic and promoted cars are attached to. It should not be moved.
+     */
+    public TrafficState(Node parent) {
+        this.parent = parent;
+    }
+
+    public GroundQuery getGround() {
+        return ground;
+    }
+
+    /**
+     * Sets the ground the traffic drives on.
+     * @param ground the ground, or null to drive at a height of zero.
+     */
+    public void setGround(GroundQuery ground) {
+        this.ground = ground;
+    }
+
+    /**
+     * Adds a spatial that promotes traffic near it to full cars, such as the player vehicle.
+     * @param focus the spatial.
+     */
+    public void addFocus(Spatial focus) {
+        focuses.add(focus);
+    }
+
+    public void removeFocus(Spatial focus) {
+        focuses.remove(focus);
+    }
+
+    public void addPromotionListener(TrafficPromotionListener listener) {
+        promotionListeners.add(listener);
+    }
+
+    public void removePromotionListener(TrafficPromotionListener listener) {
+        promotionListeners.remove(listener);
+    }
+
+    public float getPromoteDistance() {
+        return promoteDistance;
+    }
+
+    /**
+     * Sets how close to a focus traffic is promoted to full cars.
+     * @param promoteDistance the distance in world units. Zero only promotes vehicles that touch a focus.
+     */
+    public void setPromoteDistance(float promoteDistance) {
+        this.promoteDistance = Math.max(0, promoteDistance);
+    }
+
+    public float getDemoteDistance() {
+        return demoteDistance;
+    }
+
+    /**
+     * Sets how far from every focus a promoted car must be before it returns to the traffic. It is never less than
+     * the promote distance, so a car isn't promoted and demoted over and over.
+     * @param demoteDistance the distance in world units.
+     */
+    public void setDemoteDistance(float demoteDistance) {
+        this.demoteDistance = Math.max(0, demoteDistance);
+    }
+
+    public float getCollisionDistance() {
+        return collisionDistance;
+    }
+
+    /**
+     * Sets how close a traffic vehicle and a focus or promoted car must be to count as touching.
+     * @param collisionDistance the distance between their origins in world units.
+     */
+    public void setCollisionDistance(float collisionDistance) {
+        this.collisionDistance = Math.max(0, collisionDistance);
+    }
+
+    public int getMaxPromotionsPerFrame() {
+        return maxPromotionsPerFrame;
+    }
+
+    /**
+     * Sets how many vehicles can be promoted, and how many can be demoted, in a single frame. The rest are done in
+     * the following frames.
+     * @param maxPromotionsPerFrame the amount of vehicles.
+     */
+    public void setMaxPromotionsPerFrame(int maxPromotionsPerFrame) {
+        this.maxPromotionsPerFrame = Math.max(1, maxPromotionsPerFrame);
+    }
+
+    public float getMaxSteerAngle() {
+        return maxSteerAngle;
+    }
+
+    public void setMaxSteerAngle(float maxSteerAngle) {
+        this.maxSteerAngle = maxSteerAngle;
+    }
+
+    /**
+     * The amount of vehicles in the traffic.
+     * @return the amount of vehicles.
+     */
+    public int getVehicleCount() {
+        return count;
+    }
+
+    public TrafficVehicle getVehicle(int index) {
+        return vehicles[index];
+    }
+
+    /**
+     * The amount of traffic vehicles that are currently full cars.
+     * @return the amount of promoted cars.
+     */
+    public int getPromotedCount() {
+        return promotions.size();
+    }
+
+    public Car getPromotedCar(int index) {
+        return promotions.get(index).car;
+    }
+
+    /**
+     * Adds a vehicle to the traffic.
+     * @param vehicle     the vehicle to add. Must not already be in the traffic.
+     * @param path        the path the vehicle follows.
+     * @param distance    the distance along the path to start at.
+     * @param targetSpeed the speed the vehicle drives at on a straight, in meters per second.
+     */
+    public void add(TrafficVehicle vehicle, TrafficPath path, float distance, float targetSpeed) {
+
+        if (vehicle.isInTraffic()) {
+            throw new IllegalArgumentException("The vehicle is already in the traffic.");
+        }
+
+        if (count == vehicles.length) {
+            grow();
+        }
+
+        int i = count++;
+
+        vehicle.index = i;
+        vehicles[i] = vehicle;
+        paths[i] = path;
+
+        distances[i] = path.wrap(distance);
+        segments[i] = path.findSegment(distances[i], 0);
+
+        // start on the path, facing along it.
+        path.getPoint(distances[i], segments[i], tempTarget);
+        xs[i] = tempTarget.x;
+        zs[i] = tempTarget.z;
+        ys[i] = 0;
+
+        float ahead = path.wrap(distances[i] + 1);
+        path.getPoint(ahead, path.findSegment(ahead, segments[i]), tempTarget);
+        headings[i] = FastMath.atan2(tempTarget.x - xs[i], tempTarget.z - zs[i]);
+
+        speeds[i] = targetSpeed;
+        targetSpeeds[i] = targetSpeed;
+
+        parent.attachChild(vehicle.getModel());
+
+        if (instancingState != null) {
+            addWheels(vehicle);
+        }
+
+        place(i);
+    }
+
+    /**
+     * Removes a vehicle from the traffic and the scene.
+     * @param vehicle the vehicle to remove.
+     */
+    public void remove(TrafficVehicle vehicle) {
+
+        if (!vehicle.isInTraffic()) {
+            return;
+        }
+
+        int i = vehicle.index;
+        int last = --count;
+
+        // move the last vehicle into the empty slot so the arrays stay packed.
+        vehicles[i] = vehicles[last];
+        paths[i] = paths[last];
+        segments[i] = segments[last];
+        distances[i] = distances[last];
+        xs[i] = xs[last];
+        ys[i] = ys[last];
+        zs[i] = zs[last];
+        headings[i] = headings[last];
+        speeds[i] = speeds[last];
+        targetSpeeds[i] = targetSpeeds[last];
+        vehicles[i].index = i;
+
+        vehicles[last] = null;
+        paths[last] = null;
+
+        vehicle.index = -1;
+        vehicle.getModel().removeFromParent();
+
+        if (instancingState != null) {
+            removeWheels(vehicle);
+        }
+    }
+
+    /**
+     * Replaces a traffic vehicle with a full car built from its prefab, moving at the same speed with its engine
+     * running in a gear that suits the speed. The car returns to the traffic when it is far from every focus.
+     * @param vehicle the vehicle to promote. Must be in the traffic.
+     * @return the car that replaced it.
+     */
+    public Car promote(TrafficVehicle vehicle) {
+
+        if (!vehicle.isInTraffic()) {
+            throw new IllegalArgumentException("The vehicle is not in the traffic.");
+        }
+
+        int i = vehicle.index;
+
+        tempTarget.set(xs[i], ys[i] + vehicle.getRideHeight(), zs[i]);
+        tempRotation.set(vehicle.getModel().getLocalRotation());
+
+        float speed = speeds[i];
+        Promotion promotion = new Promotion(vehicle, paths[i], targetSpeeds[i]);
+
+        remove(vehicle);
+
+        Car car = vehicle.getPrefab().instantiate(getApplication());
+        car.attachToScene(parent, physicsSpace);
+        car.setLocation(tempTarget);
+        car.setRotation(tempRotation);
+        car.getVehicleControl().setLinearVelocity(tempRotation.mult(Vector3f.UNIT_Z, tempForward).multLocal(speed));
+
+        // the wheels roll with the ground, otherwise they grab the road and the car lurches on its first tick.
+        for (int w = 0; w < car.getNumWheels(); w++) {
+            Wheel wheel = car.getWheel(w);
+            wheel.setAngularVelocity(speed / wheel.getVehicleWheel().getRadius());
+        }
+
+        GearBox gearBox = car.getGearBox();
+        gearBox.setActiveGearNum(gearBox.getShiftSchedule().getGear(-1, speed * 3.6f, 0));
+        car.startEngine();
+
+        promotion.car = car;
+        promotions.add(promotion);
+
+        for (TrafficPromotionListener listener : promotionListeners) {
+            listener.vehiclePromoted(vehicle, car);
+        }
+
+        return car;
+    }
+
+    /**
+     * Returns a promoted car to the traffic. The car is disposed and its traffic vehicle rejoins its path at the
+     * closest point, at the speed the car was moving.
+     * @param car the car to demote. Must have been promoted by this state.
+     * @return the traffic vehicle that replaced it.
+     */
+    public TrafficVehicle demote(Car car) {
+
+        Promotion promotion = null;
+
+        for (int p = 0; p < promotions.size(); p++) {
+            if (promotions.get(p).car == car) {
+                promotion = promotions.remove(p);
+                break;
+            }
+        }
+
+        if (promotion == null) {
+            throw new IllegalArgumentException("The car was not promoted from the traffic.");
+        }
+
+        Vector3f location = car.getNode().getWorldTranslation();
+        float distance = promotion.path.findDistance(location.x, location.z);
+        float speed = Math.max(0, car.getSpeed(Vehicle.SpeedUnit.KMH) / 3.6f);
+
+        car.dispose();
+
+        add(promotion.vehicle, promotion.path, distance, promotion.targetSpeed);
+        speeds[promotion.vehicle.index] = speed;
+
+        for (TrafficPromotionListener listener : promotionListeners) {
+            listener.vehicleDemoted(car, promotion.vehicle);
+        }
+
+        return promotion.vehicle;
+    }
+
+    private void grow() {
+
+        int capacity = vehicles.length * 2;
+
+        vehicles = Arrays.copyOf(vehicles, capacity);
+        paths = Arrays.copyOf(paths, capacity);
+        segments = Arrays.copyOf(segments, capacity);
+        distances = Arrays.copyOf(distances, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        zs = Arrays.copyOf(zs, capacity);
+        headings = Arrays.copyOf(headings, capacity);
+        speeds = Arrays.copyOf(speeds, capacity);
+        targetSpeeds = Arrays.copyOf(targetSpeeds, capacity);
+    }
+
+    // the chassis is the first child of the model, followed by the wheels.
+    private void addWheels(TrafficVehicle vehicle) {
+        for (int i = 1; i < vehicle.getModel().getQuantity(); i++) {
+            instancingState.addWheel(vehicle.getModel().getChild(i));
+        }
+    }
+
+    private void removeWheels(TrafficVehicle vehicle) {
+        for (int i = 1; i < vehicle.getModel().getQuantity(); i++) {
+            instancingState.removeWheel(vehicle.getModel().getChild(i));
+        }
+    }
+
+    @Override
+    protected void initialize(Application app) {
+        physicsSpace = getState(BulletAppState.class).getPhysicsSpace();
+        instancingState = getState(WheelInstancingState.class);
+
+        // vehicles added before we were attached are drawn as normal until now.
+        if (instancingState != null) {
+            for (int i = 0; i < count; i++) {
+                addWheels(vehicles[i]);
+            }
+        }
+    }
+
+    @Override
+    protected void cleanup(Application app) {
+
+        for (Promotion promotion : promotions) {
+            promotion.car.dispose();
+        }
+
+        promotions.clear();
+
+        while (count > 0) {
+            remove(vehicles[count - 1]);
+        }
+    }
+
+    @Override
+    protected void onEnable() {
+
+    }
+
+    @Override
+    protected void onDisable() {
+
+    }
+
+    @Override
+    public void update(float tpf) {
+
+        int promoted = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            drive(i, tpf);
+            place(i);
+
+            if (promoted < maxPromotionsPerFrame && (isNearFocus(i) || isTouchingPromoted(i))) {
+
+                promote(vehicles[i]);
+                promoted++;
+
+                // the last vehicle was moved into this slot, so update it too.
+                i--;
+            }
+        }
+
+        int demoted = 0;
+
+        // cars promoted this frame are near a focus, so they are never demoted straight away.
+        for (int p = promotions.size() - 1; p >= 0 && demoted < maxPromotionsPerFrame; p--) {
+
+            Car car = promotions.get(p).car;
+
+            if (!isNearFocus(car.getNode().getWorldTranslation(), Math.max(demoteDistance, promoteDistance))) {
+                demote(car);
+                demoted++;
+            }
+        }
+    }
+
+    private void drive(int i, float tpf) {
+
+        TrafficPath path = paths[i];
+        float speed = speeds[i];
+
+        // the vehicle stays close to its path, so its progress along it is the distance it travelled.
+        distances[i] = path.wrap(distances[i] + speed * tpf);
+        segments[i] = path.findSegment(distances[i], segments[i]);
+
+        float lookahead = Math.max(minLookahead, speed * lookaheadTime);
+        float targetDistance = path.wrap(distances[i] + lookahead);
+        path.getPoint(targetDistance, path.findSegment(targetDistance, segments[i]), tempTarget);
+
+        float sin = FastMath.sin(headings[i]);
+        float cos = FastMath.cos(headings[i]);
+
+        // pure pursuit: the arc that reaches the target point, relative to the vehicle.
+        float dx = tempTarget.x - xs[i];
+        float dz = tempTarget.z - zs[i];
+        float distanceSquared = Math.max(dx * dx + dz * dz, 0.01f);
+        float lateral = dx * cos - dz * sin;
+        float curvature = 2 * lateral / distanceSquared;
+
+        float wheelBase = vehicles[i].getWheelBase();
+        float steer = FastMath.clamp(FastMath.atan(curvature * wheelBase), -maxSteerAngle, maxSteerAngle);
+
+        // slow down for corners.
+        float desiredSpeed = targetSpeeds[i] / (1 + 4 * Math.abs(steer));
+
+        if (speed < desiredSpeed) {
+            speed = Math.min(desiredSpeed, speed + acceleration * tpf);
+        }
+        else {
+            speed = Math.max(desiredSpeed, speed - deceleration * tpf);
+        }
+
+        // the kinematic bicycle model, about the rear axle.
+        headings[i] += speed / wheelBase * FastMath.tan(steer) * tpf;
+        xs[i] += FastMath.sin(headings[i]) * speed * tpf;
+        zs[i] += FastMath.cos(headings[i]) * speed * tpf;
+
+        speeds[i] = speed;
+    }
+
+    private void place(int i) {
+
+        tempForward.set(FastMath.sin(headings[i]), 0, FastMath.cos(headings[i]));
+
+        if (ground != null) {
+
+            float height = ground.sample(xs[i], zs[i], tempNormal);
+
+            if (!Float.isNaN(height)) {
+                ys[i] = height;
+            }
+
+            // tilt the vehicle to the slope of the ground.
+            float along = tempForward.dot(tempNormal);
+            tempForward.subtractLocal(tempNormal.x * along, tempNormal.y * along, tempNormal.z * along);
+        }
+        else {
+            tempNormal.set(Vector3f.UNIT_Y);
+        }
+
+        tempRotation.lookAt(tempForward, tempNormal);
+
+        Node model = vehicles[i].getModel();
+        model.setLocalTranslation(xs[i], ys[i] + vehicles[i].getRideHeight(), zs[i]);
+        model.setLocalRotation(tempRotation);
+    }
+
+    private boolean isNearFocus(int i) {
+        return isNearFocus(xs[i], zs[i], Math.max(promoteDistance, collisionDistance));
+    }
+
+    private boolean isNearFocus(Vector3f location, float distance) {
+        return isNearFocus(location.x, location.z, distance);
+    }
+
+    private boolean isNearFocus(float x, float z, float distance) {
+
+        float distanceSquared = distance * distance;
+
+        for (int f = 0; f < focuses.size(); f++) {
+
+            Vector3f location = focuses.get(f).getWorldTranslation();
+
+            float dx = location.x - x;
+            float dz = location.z - z;
+
+            if (dx * dx + dz * dz <= distanceSquared) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // promoted cars have physics bodies the traffic would drive through, so touching one promotes the vehicle too.
+    private boolean isTouchingPromoted(int i) {
+
+        float distanceSquared = collisionDistance * collisionDistance;
+
+        for (int p = 0; p < promotions.size(); p++) {
+
+            Vector3f location = promotions.get(p).car.getNode().getWorldTranslation();
+
+            float dx = location.x - xs[i];
+            float dz = location.z - zs[i];
+
+            if (dx * dx + dz * dz <= distanceSquared) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static class Promotion {
+
+        private final TrafficVehicle vehicle;
+        private final TrafficPath path;
+        private final float targetSpeed;
+
+        private Car car;
+
+        private Promotion(TrafficVehicle vehicle, TrafficPath path, float targetSpeed) {
+            this.vehicle = vehicle;
+            this.path = path;
+            this.targetSpeed = targetSpeed;
+        }
+
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.jayfella.jme.vehicle.traffic;
+
+import com.jayfella.jme.vehicle.prefab.VehiclePrefab;
+import com.jme3.scene.Node;
+
+/**
+ * A background vehicle that is drawn but not simulated by bullet.
+ *
+ * The motion of every traffic vehicle is held in arrays by the TrafficState. This object only ties those arrays to
+ * the model that is drawn and the prefab used to build a full car when the vehicle is promoted.
+ */
+public class TrafficVehicle {
+
+    private final VehiclePrefab prefab;
+    private final Node model;
+
+    private final float rideHeight;
+    private final float wheelBase;
+
+    // the slot of this vehicle in the traffic state, or -1 when it isn't in the traffic.
+    int index = -1;
+
+    public TrafficVehicle(VehiclePrefab prefab) {
+        this.prefab = prefab;
+        this.model = prefab.createModel();
+
+        this.rideHeight = prefab.getRideHeight();
+        this.wheelBase = Math.max(0.5f, prefab.getWheelBase());
+    }
+
+    public VehiclePrefab getPrefab() {
+        return prefab;
+    }
+
+    /**
+     * The model that is drawn. It shares its meshes and materials with every other vehicle of the same prefab.
+     * @return the model.
+     */
+    public Node getModel() {
+        return model;
+    }
+
+    public float getRideHeight() {
+        return rideHeight;
+    }
+
+    public float getWheelBase() {
+        return wheelBase;
+    }
+
+    /**
+     * Whether the vehicle is driving in the traffic. False once it has been removed or promoted.
+     * @return true if the vehicle is in the traffic.
+     */
+    public boolean isInTraffic() {
+        return index >= 0;
+    }
+
+}
@@ -338,14 +338,42 @@ public class VehicleThirdPersonCamera implements VehicleCamera, AnalogListener,
 
         Vector3f direction = rotation.mult(Vector3f.UNIT_Z);
 
+        Vector3f focusLocation = getFocusLocation().add(offset);
+
         if (followVehicle) {
-            Vector3f loc = direction.mult(zoomDistance).add(focusPoint.getWorldTranslation().add(offset));
+            Vector3f loc = direction.mult(zoomDistance).add(focusLocation);
             cam.setLocation(loc);
         }
 
-        cam.lookAt(focusPoint.getWorldTranslation().add(offset), Vector3f.UNIT_Y);
+        cam.lookAt(focusLocation, Vector3f.UNIT_Y);
+    }
+
+    private boolean isFocusInterpolated() {
+        return focusPoint == vehicle.getNode() && vehicle.isInterpolationEnabled();
+    }
+
+    // the camera is updated before the vehicle node is moved, so it reads the interpolated transform directly.
+    private Vector3f getFocusLocation() {
+
+        if (isFocusInterpolated()) {
+            return vehicle.getInterpolationControl().getLocation(focusLocation);
+        }
+
+        return focusPoint.getWorldTranslation();
     }
 
+    private Quaternion getFocusRotation() {
+
+        if (isFocusInterpolated()) {
+            return vehicle.getInterpolationControl().getRotation(focusRotation);
+        }
+
+        return focusPoint.getLocalRotation();
+    }
+
+    private final Vector3f focusLocation = new Vector3f();
+    private final Quaternion focusRotation = new Quaternion();
+
     @Override
     public void enableInputMappings() {
         registerInput();
@@ -382,7 +410,7 @@ public class VehicleThirdPersonCamera implements VehicleCamera, AnalogListener,
         angles[1] = viewAngles[1];
 
         if (followVehicleRotation) {
-            float[] focusRot = focusPoint.getLocalRotation().toAngles(null);
+            float[] focusRot = getFocusRotation().toAngles(null);
             angles[1] += (focusRot[1] + FastMath.PI);
         }
 